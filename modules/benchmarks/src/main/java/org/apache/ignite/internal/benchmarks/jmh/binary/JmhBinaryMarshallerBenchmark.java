@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.marshaller.Marshaller;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS;
+
+/**
+ * Compares marshalling and unmarshalling of a wide POJO by BinaryMarshaller with generic and specialized
+ * field accessors.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JmhBinaryMarshallerBenchmark {
+    /** Whether to use field accessors specialized for the field types. */
+    @Param({"false", "true"})
+    private boolean specialized;
+
+    /** Node. */
+    private IgniteEx node;
+
+    /** Marshaller. */
+    private Marshaller marsh;
+
+    /** Object to marshal. */
+    private WidePojo obj;
+
+    /** Marshalled object. */
+    private byte[] bytes;
+
+    /**
+     * Starts a node.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // Every parameter combination is run in a separate JVM, so the property is read with the value set here.
+        System.setProperty(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS, String.valueOf(specialized));
+
+        node = (IgniteEx)Ignition.start(new IgniteConfiguration()
+            .setIgniteInstanceName("jmh-binary")
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder(true))));
+
+        marsh = node.configuration().getMarshaller();
+
+        obj = new WidePojo(1);
+
+        bytes = marsh.marshal(obj);
+    }
+
+    /**
+     * Stops the node.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Ignition.stopAll(true);
+
+        System.clearProperty(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS);
+    }
+
+    /**
+     * @return Marshalled object.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public byte[] marshal() throws IgniteCheckedException {
+        return marsh.marshal(obj);
+    }
+
+    /**
+     * @return Unmarshalled object.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public WidePojo unmarshal() throws IgniteCheckedException {
+        return marsh.unmarshal(bytes, null);
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JmhBinaryMarshallerBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * POJO with many fields of fixed types.
+     */
+    public static class WidePojo {
+        /** */
+        private Integer id;
+
+        /** */
+        private Long longVal;
+
+        /** */
+        private Double doubleVal;
+
+        /** */
+        private Boolean boolVal;
+
+        /** */
+        private String name;
+
+        /** */
+        private String descr;
+
+        /** */
+        private String city;
+
+        /** */
+        private String country;
+
+        /** */
+        private UUID uuid;
+
+        /** */
+        private Date created;
+
+        /** */
+        private Timestamp updated;
+
+        /** */
+        private BigDecimal amount;
+
+        /** */
+        private byte[] payload;
+
+        /** */
+        private int[] counters;
+
+        /** */
+        private String[] tags;
+
+        /** */
+        private TimeUnit unit;
+
+        /**
+         * @param id ID.
+         */
+        WidePojo(int id) {
+            this.id = id;
+
+            longVal = (long)id;
+            doubleVal = (double)id;
+            boolVal = true;
+            name = "name-" + id;
+            descr = "description-" + id;
+            city = "city-" + id;
+            country = "country-" + id;
+            uuid = UUID.randomUUID();
+            created = new Date();
+            updated = new Timestamp(System.currentTimeMillis());
+            amount = BigDecimal.valueOf(id, 2);
+            payload = new byte[64];
+            counters = new int[] {1, 2, 3, 4};
+            tags = new String[] {"a", "b", "c"};
+            unit = TimeUnit.SECONDS;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.processors.cache.persistence.file.AsyncFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.IoUringFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.logger.NullLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Compares file IO implementations on page store like workload: random page reads and writes and large
+ * sequential writes of adjacent pages, as done by checkpoint with coalesced writes and by WAL.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JmhFileIOBenchmark {
+    /** Page size. */
+    private static final int PAGE_SIZE = 4096;
+
+    /** File size. */
+    private static final long FILE_SIZE = 256L * 1024 * 1024;
+
+    /** Size of a large sequential write. */
+    private static final int LARGE_WRITE_SIZE = 1024 * 1024;
+
+    /** File IO factory. */
+    @Param({"RANDOM_ACCESS", "ASYNC", "IO_URING"})
+    private String factory;
+
+    /** Directory with the test file. */
+    private File dir;
+
+    /** IO factory. */
+    private FileIOFactory ioFactory;
+
+    /** File IO shared by all threads. */
+    private FileIO io;
+
+    /**
+     * Buffers of a benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+        /** Page buffer. */
+        final ByteBuffer page = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+        /** Large buffer. */
+        final ByteBuffer large = ByteBuffer.allocateDirect(LARGE_WRITE_SIZE).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Creates the test file.
+     *
+     * @throws IOException If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        switch (factory) {
+            case "RANDOM_ACCESS":
+                ioFactory = new RandomAccessFileIOFactory();
+
+                break;
+
+            case "ASYNC":
+                ioFactory = new AsyncFileIOFactory();
+
+                break;
+
+            case "IO_URING":
+                ioFactory = new IoUringFileIOFactory(new NullLogger(), new RandomAccessFileIOFactory());
+
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown factory: " + factory);
+        }
+
+        dir = Files.createTempDirectory("jmh-file-io").toFile();
+
+        io = ioFactory.create(new File(dir, "part.bin"), CREATE, READ, WRITE);
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(LARGE_WRITE_SIZE);
+
+        for (long pos = 0; pos < FILE_SIZE; pos += LARGE_WRITE_SIZE) {
+            buf.clear();
+
+            io.writeFully(buf, pos);
+        }
+
+        io.force();
+    }
+
+    /**
+     * Removes the test file.
+     *
+     * @throws IOException If failed.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        io.close();
+
+        if (ioFactory instanceof IoUringFileIOFactory)
+            ((IoUringFileIOFactory)ioFactory).stop();
+
+        U.delete(dir);
+    }
+
+    /**
+     * Reads a random page.
+     *
+     * @param bufs Thread buffers.
+     * @return Number of read bytes.
+     * @throws IOException If failed.
+     */
+    @Benchmark
+    public int readPage(Buffers bufs) throws IOException {
+        bufs.page.clear();
+
+        return io.readFully(bufs.page, randomPage() * PAGE_SIZE);
+    }
+
+    /**
+     * Writes a random page.
+     *
+     * @param bufs Thread buffers.
+     * @return Number of written bytes.
+     * @throws IOException If failed.
+     */
+    @Benchmark
+    public int writePage(Buffers bufs) throws IOException {
+        bufs.page.clear();
+
+        return io.writeFully(bufs.page, randomPage() * PAGE_SIZE);
+    }
+
+    /**
+     * Writes a number of adjacent pages at a random position.
+     *
+     * @param bufs Thread buffers.
+     * @return Number of written bytes.
+     * @throws IOException If failed.
+     */
+    @Benchmark
+    public int writeAdjacentPages(Buffers bufs) throws IOException {
+        bufs.large.clear();
+
+        long pos = ThreadLocalRandom.current().nextLong(FILE_SIZE / LARGE_WRITE_SIZE) * LARGE_WRITE_SIZE;
+
+        return io.writeFully(bufs.large, pos);
+    }
+
+    /**
+     * @return Random page index.
+     */
+    private static long randomPage() {
+        return ThreadLocalRandom.current().nextLong(FILE_SIZE / PAGE_SIZE);
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JmhFileIOBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.pagemem;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures throughput of acquiring and releasing pages which are already loaded to the persistent page memory,
+ * i.e. the page replacement hash table lookup path shared by all the threads touching the same segments.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(32)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JmhPageMemoryAcquireBenchmark {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** Data region size. */
+    private static final long REGION_SIZE = 512L * 1024 * 1024;
+
+    /** Page replacement mode. */
+    @Param({"CLOCK", "RANDOM_LRU", "SEGMENTED_LRU", "TWO_QUEUE"})
+    private String replacementMode;
+
+    /** Number of pages acquired by the benchmark. */
+    @Param({"1024", "65536"})
+    private int pagesCnt;
+
+    /** Work directory. */
+    private File workDir;
+
+    /** Node. */
+    private IgniteEx node;
+
+    /** Page memory. */
+    private PageMemory pageMem;
+
+    /** Cache group ID. */
+    private int grpId;
+
+    /** Allocated page IDs. */
+    private long[] pageIds;
+
+    /**
+     * Starts a node and allocates pages.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workDir = Files.createTempDirectory("jmh-page-mem").toFile();
+
+        node = (IgniteEx)Ignition.start(configuration());
+
+        node.cluster().state(ClusterState.ACTIVE);
+
+        node.getOrCreateCache(new CacheConfiguration<>(CACHE_NAME));
+
+        grpId = CU.cacheId(CACHE_NAME);
+
+        IgniteCacheDatabaseSharedManager db = node.context().cache().context().database();
+
+        pageMem = db.dataRegion(null).pageMemory();
+
+        pageIds = new long[pagesCnt];
+
+        db.checkpointReadLock();
+
+        try {
+            for (int i = 0; i < pagesCnt; i++)
+                pageIds[i] = pageMem.allocatePage(grpId, 0, PageIdAllocator.FLAG_DATA);
+        }
+        finally {
+            db.checkpointReadUnlock();
+        }
+    }
+
+    /**
+     * Stops the node.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Ignition.stopAll(true);
+
+        U.delete(workDir);
+    }
+
+    /**
+     * Acquires and releases a random loaded page.
+     *
+     * @return Page pointer.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public long acquirePage() throws IgniteCheckedException {
+        long pageId = pageIds[ThreadLocalRandom.current().nextInt(pagesCnt)];
+
+        long page = pageMem.acquirePage(grpId, pageId);
+
+        pageMem.releasePage(grpId, pageId, page);
+
+        return page;
+    }
+
+    /**
+     * @return Node configuration.
+     */
+    private IgniteConfiguration configuration() {
+        IgniteConfiguration cfg = new IgniteConfiguration();
+
+        cfg.setIgniteInstanceName("jmh-page-mem");
+        cfg.setWorkDirectory(workDir.getAbsolutePath());
+
+        cfg.setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder(true)));
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.NONE)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)
+                .setMaxSize(REGION_SIZE)
+                .setPageReplacementMode(PageReplacementMode.valueOf(replacementMode))));
+
+        return cfg;
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JmhPageMemoryAcquireBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.DateString;
+import org.apache.ignite.internal.processors.query.calcite.exec.ArrayRowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.BatchPredicate;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.BatchProjection;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.NoOpIoTracker;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.NoOpMemoryTracker;
+import org.apache.ignite.internal.processors.query.calcite.prepare.BaseQueryContext;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares row by row and batch evaluation of filter and projection expressions of the Calcite-based SQL engine
+ * on TPC-H lineitem-like rows.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class JmhSqlExpressionsBenchmark {
+    /** Size of batch, the same as default size of the execution nodes buffer. */
+    private static final int BATCH_SIZE = 512;
+
+    /** Batches count. */
+    private static final int BATCHES_CNT = 64;
+
+    /** Days since epoch for 1994-01-01. */
+    private static final int SHIP_DATE_FROM = 8766;
+
+    /** Batches of rows: l_quantity, l_extendedprice, l_discount, l_tax, l_shipdate. */
+    private final Object[][][] batches = new Object[BATCHES_CNT][BATCH_SIZE][];
+
+    /** Q6 predicate. */
+    private Predicate<Object[]> pred;
+
+    /** Q6 predicate. */
+    private BatchPredicate<Object[]> batchPred;
+
+    /** Q1 projection. */
+    private Function<Object[], Object[]> prj;
+
+    /** Q1 projection. */
+    private BatchProjection<Object[]> batchPrj;
+
+    /** Selection vector. */
+    private final int[] sel = new int[BATCH_SIZE];
+
+    /** Output rows. */
+    private final Object[][] out = new Object[BATCH_SIZE][];
+
+    /**
+     * Compiles expressions and generates rows.
+     */
+    @Setup
+    public void setup() {
+        ExecutionContext<Object[]> ctx = new ExecutionContext<>(
+            BaseQueryContext.builder().build(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            ArrayRowHandler.INSTANCE,
+            NoOpMemoryTracker.INSTANCE,
+            NoOpIoTracker.INSTANCE,
+            null,
+            0,
+            null
+        );
+
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RexBuilder rb = new RexBuilder(tf);
+
+        RelDataType rowType = tf.builder()
+            .add("L_QUANTITY", tf.createTypeWithNullability(tf.createSqlType(SqlTypeName.DOUBLE), true))
+            .add("L_EXTENDEDPRICE", tf.createTypeWithNullability(tf.createSqlType(SqlTypeName.DOUBLE), true))
+            .add("L_DISCOUNT", tf.createTypeWithNullability(tf.createSqlType(SqlTypeName.DOUBLE), true))
+            .add("L_TAX", tf.createTypeWithNullability(tf.createSqlType(SqlTypeName.DOUBLE), true))
+            .add("L_SHIPDATE", tf.createTypeWithNullability(tf.createSqlType(SqlTypeName.DATE), true))
+            .build();
+
+        RexNode qty = rb.makeInputRef(rowType.getFieldList().get(0).getType(), 0);
+        RexNode price = rb.makeInputRef(rowType.getFieldList().get(1).getType(), 1);
+        RexNode discount = rb.makeInputRef(rowType.getFieldList().get(2).getType(), 2);
+        RexNode tax = rb.makeInputRef(rowType.getFieldList().get(3).getType(), 3);
+        RexNode shipDate = rb.makeInputRef(rowType.getFieldList().get(4).getType(), 4);
+
+        // l_shipdate >= date '1994-01-01' and l_shipdate < date '1995-01-01'
+        // and l_discount between 0.05 and 0.07 and l_quantity < 24
+        RexNode cond = rb.makeCall(SqlStdOperatorTable.AND,
+            rb.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, shipDate,
+                rb.makeDateLiteral(new DateString("1994-01-01"))),
+            rb.makeCall(SqlStdOperatorTable.LESS_THAN, shipDate,
+                rb.makeDateLiteral(new DateString("1995-01-01"))),
+            rb.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, discount,
+                rb.makeApproxLiteral(new BigDecimal("0.05"), discount.getType())),
+            rb.makeCall(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, discount,
+                rb.makeApproxLiteral(new BigDecimal("0.07"), discount.getType())),
+            rb.makeCall(SqlStdOperatorTable.LESS_THAN, qty,
+                rb.makeApproxLiteral(BigDecimal.valueOf(24), qty.getType())));
+
+        // l_quantity, l_extendedprice * (1 - l_discount), l_extendedprice * (1 - l_discount) * (1 + l_tax)
+        RexNode one = rb.makeApproxLiteral(BigDecimal.ONE, discount.getType());
+        RexNode discPrice = rb.makeCall(SqlStdOperatorTable.MULTIPLY, price,
+            rb.makeCall(SqlStdOperatorTable.MINUS, one, discount));
+        RexNode charge = rb.makeCall(SqlStdOperatorTable.MULTIPLY, discPrice,
+            rb.makeCall(SqlStdOperatorTable.PLUS, one, tax));
+
+        List<RexNode> projects = List.of(qty, discPrice, charge);
+
+        ExpressionFactory<Object[]> factory = ctx.expressionFactory();
+
+        pred = factory.predicate(cond, rowType);
+        batchPred = factory.batchPredicate(cond, rowType);
+        prj = factory.project(projects, rowType);
+        batchPrj = factory.batchProject(projects, rowType);
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (Object[][] batch : batches) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch[i] = new Object[] {
+                    (double)rnd.nextInt(1, 51),
+                    rnd.nextDouble(900, 100_000),
+                    rnd.nextInt(0, 11) / 100d,
+                    rnd.nextInt(0, 9) / 100d,
+                    SHIP_DATE_FROM - 365 + rnd.nextInt(365 * 7)
+                };
+            }
+        }
+    }
+
+    /**
+     * Filter rows one by one.
+     */
+    @Benchmark
+    public int filterRow() {
+        int cnt = 0;
+
+        for (Object[][] batch : batches) {
+            for (Object[] row : batch) {
+                if (pred.test(row))
+                    cnt++;
+            }
+        }
+
+        return cnt;
+    }
+
+    /**
+     * Filter rows by batches.
+     */
+    @Benchmark
+    public int filterBatch() {
+        int cnt = 0;
+
+        for (Object[][] batch : batches)
+            cnt += batchPred.test(batch, sel, BATCH_SIZE);
+
+        return cnt;
+    }
+
+    /**
+     * Project rows one by one.
+     */
+    @Benchmark
+    public void projectRow(Blackhole bh) {
+        for (Object[][] batch : batches) {
+            for (Object[] row : batch)
+                bh.consume(prj.apply(row));
+        }
+    }
+
+    /**
+     * Project rows by batches.
+     */
+    @Benchmark
+    public void projectBatch(Blackhole bh) {
+        for (Object[][] batch : batches) {
+            batchPrj.apply(batch, out, BATCH_SIZE);
+
+            bh.consume(out);
+        }
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        final Options options = new OptionsBuilder()
+            .include(JmhSqlExpressionsBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+}
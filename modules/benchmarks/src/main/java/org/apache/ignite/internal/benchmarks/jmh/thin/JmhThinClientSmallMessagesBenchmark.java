@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.thin;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ignite.client.IgniteClientFuture;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+/**
+ * Throughput of small messages pipelined by the thin client to a single local server node.
+ * <p>
+ * Every invocation sends a batch of asynchronous requests without waiting for responses, so requests are queued
+ * in the client NIO session and written to the socket in batches.
+ */
+public class JmhThinClientSmallMessagesBenchmark extends JmhThinClientAbstractBenchmark {
+    /** Requests sent without waiting for responses. */
+    private static final int BATCH_SIZE = 128;
+
+    /** Small cache value. */
+    private static final byte[] SMALL_PAYLOAD = new byte[16];
+
+    /**
+     * Pipelined small puts benchmark.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void putAsync() throws Exception {
+        IgniteClientFuture<?>[] futs = new IgniteClientFuture[BATCH_SIZE];
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < BATCH_SIZE; i++)
+            futs[i] = cache.putAsync(rnd.nextInt(CNT), SMALL_PAYLOAD);
+
+        for (IgniteClientFuture<?> fut : futs)
+            fut.get();
+    }
+
+    /**
+     * Pipelined small gets benchmark.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void getAsync() throws Exception {
+        IgniteClientFuture<?>[] futs = new IgniteClientFuture[BATCH_SIZE];
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < BATCH_SIZE; i++)
+            futs[i] = cache.getAsync(rnd.nextInt(CNT));
+
+        for (IgniteClientFuture<?> fut : futs)
+            fut.get();
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner runner = JmhIdeBenchmarkRunner.create()
+                .forks(1)
+                .threads(4)
+                .benchmarks(JmhThinClientSmallMessagesBenchmark.class.getSimpleName())
+                .jvmArguments("-Xms4g", "-Xmx4g", "-D" + PROP_DATA_NODES + "=1");
+
+        runner
+                .benchmarkModes(Mode.Throughput)
+                .run();
+
+        runner
+                .benchmarkModes(Mode.AverageTime)
+                .outputTimeUnit(TimeUnit.MICROSECONDS)
+                .run();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.wal;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.record.MetastoreDataRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE;
+
+/**
+ * Measures throughput of logging records to WAL in {@link WALMode#LOG_ONLY} mode by many concurrent threads.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class JmhWalLogBenchmark {
+    /** Size of the record value in bytes. */
+    @Param({"64", "512", "4096"})
+    private int valSize;
+
+    /** Max size of records serialized before the space for them is reserved in WAL buffer, {@code 0} to disable. */
+    @Param({"0", "65536"})
+    private int preSerializationMaxSize;
+
+    /** Work directory. */
+    private File workDir;
+
+    /** Node. */
+    private IgniteEx node;
+
+    /** WAL manager. */
+    private IgniteWriteAheadLogManager wal;
+
+    /** Record value. */
+    private byte[] val;
+
+    /**
+     * Starts a node.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // Every parameter combination is run in a separate JVM, so the property is read with the value set here.
+        System.setProperty(IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE, String.valueOf(preSerializationMaxSize));
+
+        workDir = Files.createTempDirectory("jmh-wal").toFile();
+
+        node = (IgniteEx)Ignition.start(configuration());
+
+        node.cluster().state(ClusterState.ACTIVE);
+
+        wal = node.context().cache().context().wal();
+
+        val = new byte[valSize];
+    }
+
+    /**
+     * Stops the node.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Ignition.stopAll(true);
+
+        U.delete(workDir);
+
+        System.clearProperty(IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE);
+    }
+
+    /**
+     * Logs a record.
+     *
+     * @return WAL pointer.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public WALPointer log() throws IgniteCheckedException {
+        return wal.log(new MetastoreDataRecord("key", val));
+    }
+
+    /**
+     * @return Node configuration.
+     */
+    private IgniteConfiguration configuration() {
+        IgniteConfiguration cfg = new IgniteConfiguration();
+
+        cfg.setIgniteInstanceName("jmh-wal");
+        cfg.setWorkDirectory(workDir.getAbsolutePath());
+
+        cfg.setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder(true)));
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)));
+
+        return cfg;
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JmhWalLogBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.calcite;
 import org.apache.ignite.internal.processors.query.QueryEngine;
 import org.apache.ignite.internal.processors.query.QueryEngineConfigurationEx;
 import org.apache.ignite.internal.processors.query.calcite.CalciteQueryProcessor;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.lang.IgniteExperimental;
 
 /**
@@ -36,6 +37,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private static final long DFLT_QUERY_MEMORY_QUOTA = 0L;
 
+    /** Default query plan cache size. */
+    public static final int DFLT_PLAN_CACHE_SIZE = 1024;
+
     /** */
     private boolean isDflt;
 
@@ -45,6 +49,15 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private long qryMemoryQuota = DFLT_QUERY_MEMORY_QUOTA;
 
+    /** */
+    private boolean spillToDiskEnabled;
+
+    /** */
+    private int planCacheSize = DFLT_PLAN_CACHE_SIZE;
+
+    /** */
+    private int planCacheWarmUpSize;
+
     /** {@inheritDoc} */
     @Override public String engineName() {
         return ENGINE_NAME;
@@ -108,4 +121,77 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
 
         return this;
     }
+
+    /**
+     * Gets flag indicating whether rows of sort, hash aggregate and table spool operators are offloaded to disk
+     * when memory quota is exceeded instead of failing the query.
+     *
+     * @return Spill to disk flag.
+     */
+    public boolean isSpillToDiskEnabled() {
+        return spillToDiskEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether rows of sort, hash aggregate and table spool operators are offloaded to disk
+     * when memory quota is exceeded instead of failing the query. Has no effect if neither global nor per-query
+     * memory quota is set. Spill files are stored in the node work directory.
+     *
+     * @param spillToDiskEnabled Spill to disk flag.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setSpillToDiskEnabled(boolean spillToDiskEnabled) {
+        this.spillToDiskEnabled = spillToDiskEnabled;
+
+        return this;
+    }
+
+    /**
+     * Gets maximum count of query plans kept in the plan cache.
+     *
+     * @return Plan cache size.
+     */
+    public int getPlanCacheSize() {
+        return planCacheSize;
+    }
+
+    /**
+     * Sets maximum count of query plans kept in the plan cache. Least recently used plans are evicted when
+     * the cache is full.
+     *
+     * @param planCacheSize Plan cache size.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setPlanCacheSize(int planCacheSize) {
+        A.ensure(planCacheSize > 0, "planCacheSize > 0");
+
+        this.planCacheSize = planCacheSize;
+
+        return this;
+    }
+
+    /**
+     * Gets count of the most used query plans which are saved on node stop and planned again on node start.
+     *
+     * @return Plan cache warm-up size, {@code 0} if warm-up is disabled.
+     */
+    public int getPlanCacheWarmUpSize() {
+        return planCacheWarmUpSize;
+    }
+
+    /**
+     * Sets count of the most used query plans which are saved on node stop and planned again on node start
+     * (or on cluster activation), so hot statements are not planned on user requests after restart. Queries are
+     * saved in the node work directory. {@code 0} disables warm-up.
+     *
+     * @param planCacheWarmUpSize Plan cache warm-up size.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setPlanCacheWarmUpSize(int planCacheWarmUpSize) {
+        A.ensure(planCacheWarmUpSize >= 0, "planCacheWarmUpSize >= 0");
+
+        this.planCacheWarmUpSize = planCacheWarmUpSize;
+
+        return this;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -49,6 +50,7 @@ import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.calcite.tools.FrameworkConfig;
 import org.apache.calcite.tools.Frameworks;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.SystemProperty;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.QueryCancelledException;
@@ -59,6 +61,7 @@ import org.apache.ignite.events.SqlQueryExecutionEvent;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.GridProcessorAdapter;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
+import org.apache.ignite.internal.processors.cluster.ChangeGlobalStateFinishMessage;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.query.GridQueryFieldMetadata;
 import org.apache.ignite.internal.processors.query.IgniteSQLException;
@@ -86,16 +89,19 @@ import org.apache.ignite.internal.processors.query.calcite.metadata.AffinityServ
 import org.apache.ignite.internal.processors.query.calcite.metadata.MappingService;
 import org.apache.ignite.internal.processors.query.calcite.metadata.MappingServiceImpl;
 import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.processors.query.calcite.prepare.BaseQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.prepare.CacheKey;
 import org.apache.ignite.internal.processors.query.calcite.prepare.ExplainPlan;
 import org.apache.ignite.internal.processors.query.calcite.prepare.FieldsMetadata;
 import org.apache.ignite.internal.processors.query.calcite.prepare.IgniteConvertletTable;
 import org.apache.ignite.internal.processors.query.calcite.prepare.IgniteTypeCoercion;
 import org.apache.ignite.internal.processors.query.calcite.prepare.MultiStepPlan;
+import org.apache.ignite.internal.processors.query.calcite.prepare.PlanningContext;
 import org.apache.ignite.internal.processors.query.calcite.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlan;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCache;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCacheImpl;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCacheWarmUp;
 import org.apache.ignite.internal.processors.query.calcite.schema.SchemaHolder;
 import org.apache.ignite.internal.processors.query.calcite.schema.SchemaHolderImpl;
 import org.apache.ignite.internal.processors.query.calcite.sql.IgniteSqlAlterUser;
@@ -116,6 +122,8 @@ import org.apache.ignite.internal.processors.query.calcite.util.LifecycleAware;
 import org.apache.ignite.internal.processors.query.calcite.util.Service;
 import org.apache.ignite.internal.processors.security.SecurityUtils;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.getLong;
@@ -230,15 +238,29 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
     /** */
     private volatile boolean started;
 
+    /** Query plan cache warm-up, {@code null} if warm-up is disabled. */
+    private volatile QueryPlanCacheWarmUp planCacheWarmUp;
+
     /**
      * @param ctx Kernal context.
      */
     public CalciteQueryProcessor(GridKernalContext ctx) {
         super(ctx);
 
+        QueryEngineConfiguration[] qryEnginesCfg = ctx.config().getSqlConfiguration().getQueryEnginesConfiguration();
+
+        if (F.isEmpty(qryEnginesCfg))
+            cfg = new CalciteQueryEngineConfiguration();
+        else {
+            cfg = (CalciteQueryEngineConfiguration)Arrays.stream(qryEnginesCfg)
+                .filter(c -> c instanceof CalciteQueryEngineConfiguration)
+                .findAny()
+                .orElse(new CalciteQueryEngineConfiguration());
+        }
+
         failureProcessor = ctx.failure();
         schemaHolder = new SchemaHolderImpl(ctx);
-        qryPlanCache = new QueryPlanCacheImpl(ctx);
+        qryPlanCache = new QueryPlanCacheImpl(ctx, cfg.getPlanCacheSize());
         parserMetrics = new QueryParserMetricsHolder(ctx.metric());
         mailboxRegistry = new MailboxRegistryImpl(ctx);
         taskExecutor = new QueryTaskExecutorImpl(ctx);
@@ -251,17 +273,6 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         timeoutSvc = new TimeoutServiceImpl(ctx);
         qryReg = new QueryRegistryImpl(ctx);
 
-        QueryEngineConfiguration[] qryEnginesCfg = ctx.config().getSqlConfiguration().getQueryEnginesConfiguration();
-
-        if (F.isEmpty(qryEnginesCfg))
-            cfg = new CalciteQueryEngineConfiguration();
-        else {
-            cfg = (CalciteQueryEngineConfiguration)Arrays.stream(qryEnginesCfg)
-                .filter(c -> c instanceof CalciteQueryEngineConfiguration)
-                .findAny()
-                .orElse(new CalciteQueryEngineConfiguration());
-        }
-
         distrCfg = new DistributedCalciteConfiguration(ctx, log);
     }
 
@@ -359,6 +370,9 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         );
 
         started = true;
+
+        if (cfg.getPlanCacheWarmUpSize() > 0 && !ctx.clientNode())
+            startPlanCacheWarmUp(active);
     }
 
     /** {@inheritDoc} */
@@ -366,6 +380,11 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         if (started) {
             started = false;
 
+            QueryPlanCacheWarmUp warmUp = planCacheWarmUp;
+
+            if (warmUp != null)
+                warmUp.save(qryPlanCache.mostUsedKeys(cfg.getPlanCacheWarmUpSize()));
+
             onStop(
                 qryReg,
                 executionSvc,
@@ -381,6 +400,109 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         }
     }
 
+    /**
+     * Plans stored queries in background as soon as the cluster is active.
+     *
+     * @param active Cluster activity flag.
+     */
+    private void startPlanCacheWarmUp(boolean active) {
+        try {
+            File dir = U.resolveWorkDirectory(ctx.config().getWorkDirectory(), QueryPlanCacheWarmUp.WARM_UP_DIR, false);
+
+            planCacheWarmUp = new QueryPlanCacheWarmUp(
+                new File(dir, U.maskForFileName(ctx.discovery().consistentId().toString())), log);
+        }
+        catch (IgniteCheckedException e) {
+            U.warn(log, "Query plan cache warm-up is disabled, failed to resolve work directory", e);
+
+            return;
+        }
+
+        if (active)
+            warmUpPlanCache();
+        else {
+            AtomicBoolean done = new AtomicBoolean();
+
+            ctx.discovery().setCustomEventListener(ChangeGlobalStateFinishMessage.class, (topVer, snd, msg) -> {
+                if (msg.state().active() && done.compareAndSet(false, true))
+                    warmUpPlanCache();
+            });
+        }
+    }
+
+    /** */
+    private void warmUpPlanCache() {
+        List<QueryPlanCacheWarmUp.Query> qrys = planCacheWarmUp.load();
+
+        if (qrys.isEmpty())
+            return;
+
+        new IgniteThread(ctx.igniteInstanceName(), "calcite-plan-cache-warm-up", () -> {
+            int cnt = 0;
+
+            for (QueryPlanCacheWarmUp.Query qry : qrys) {
+                if (!started)
+                    return;
+
+                if (warmUpPlan(qry))
+                    cnt++;
+            }
+
+            if (log.isInfoEnabled())
+                log.info("Query plan cache warmed up [plans=" + cnt + ", stored=" + qrys.size() + ']');
+        }).start();
+    }
+
+    /**
+     * @param qry Stored query.
+     * @return {@code True} if the query plan is added to the cache.
+     */
+    private boolean warmUpPlan(QueryPlanCacheWarmUp.Query qry) {
+        try {
+            SchemaPlus schema = schemaHolder.schema(qry.schemaName());
+
+            if (schema == null)
+                return false;
+
+            SqlNodeList qryList = Commons.parse(qry.sql(), FRAMEWORK_CONFIG.getParserConfig());
+
+            if (qryList.size() != 1)
+                return false;
+
+            boolean isLocal = qry.flags() != null && qry.flags().get(0);
+            boolean forcedJoinOrder = qry.flags() != null && qry.flags().get(1);
+
+            BaseQueryContext baseCtx = BaseQueryContext.builder()
+                .frameworkConfig(
+                    Frameworks.newConfigBuilder(FRAMEWORK_CONFIG)
+                        .defaultSchema(schema)
+                        .build()
+                )
+                .local(isLocal)
+                .forcedJoinOrder(forcedJoinOrder)
+                .logger(log)
+                .build();
+
+            PlanningContext pctx = PlanningContext.builder()
+                .parentContext(baseCtx)
+                .query(qry.sql())
+                .parameters(qry.params())
+                .plannerTimeout(queryPlannerTimeout)
+                .build();
+
+            qryPlanCache.queryPlan(new CacheKey(schema.getName(), qry.sql(), qry.flags(), qry.params()),
+                () -> prepareSvc.prepareSingle(qryList.get(0), pctx));
+
+            return true;
+        }
+        catch (Exception e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to warm up query plan [qry=" + qry.sql() + ", err=" + e.getMessage() + ']');
+
+            return false;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public List<FieldsQueryCursor<List<?>>> query(
         @Nullable QueryContext qryCtx,
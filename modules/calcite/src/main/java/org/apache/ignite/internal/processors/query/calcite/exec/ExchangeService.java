@@ -59,6 +59,17 @@ public interface ExchangeService extends Service {
      */
     void closeInbox(UUID nodeId, UUID qryId, long fragmentId, long exchangeId) throws IgniteCheckedException;
 
+    /**
+     * Sends a runtime join filter to a fragment producing the join probe side.
+     * @param nodeId Target node ID.
+     * @param qryId Query ID.
+     * @param fragmentId Target (probe side) fragment ID.
+     * @param exchangeId Exchange ID.
+     * @param filter Runtime filter.
+     */
+    void sendRuntimeFilter(UUID nodeId, UUID qryId, long fragmentId, long exchangeId, RuntimeFilter filter)
+        throws IgniteCheckedException;
+
     /**
      * Sends cancel request.
      * @param nodeId Target node ID.
@@ -39,6 +39,7 @@ import org.apache.ignite.internal.processors.query.calcite.message.MessageType;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchAcknowledgeMessage;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchMessage;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryCloseMessage;
+import org.apache.ignite.internal.processors.query.calcite.message.RuntimeFilterMessage;
 import org.apache.ignite.internal.processors.query.calcite.metadata.FragmentDescription;
 import org.apache.ignite.internal.processors.query.calcite.prepare.BaseQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.util.AbstractService;
@@ -169,6 +170,12 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         messageService().send(nodeId, new InboxCloseMessage(qryId, fragmentId, exchangeId));
     }
 
+    /** {@inheritDoc} */
+    @Override public void sendRuntimeFilter(UUID nodeId, UUID qryId, long fragmentId, long exchangeId,
+        RuntimeFilter filter) throws IgniteCheckedException {
+        messageService().send(nodeId, new RuntimeFilterMessage(qryId, fragmentId, exchangeId, filter));
+    }
+
     /** {@inheritDoc} */
     @Override public void sendError(UUID nodeId, UUID qryId, long fragmentId, Throwable err) throws IgniteCheckedException {
         messageService().send(nodeId, new ErrorMessage(qryId, fragmentId, err));
@@ -194,6 +201,7 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         messageService().register((n, m) -> onMessage(n, (QueryBatchAcknowledgeMessage)m), MessageType.QUERY_ACKNOWLEDGE_MESSAGE);
         messageService().register((n, m) -> onMessage(n, (QueryBatchMessage)m), MessageType.QUERY_BATCH_MESSAGE);
         messageService().register((n, m) -> onMessage(n, (QueryCloseMessage)m), MessageType.QUERY_CLOSE_MESSAGE);
+        messageService().register((n, m) -> onMessage(n, (RuntimeFilterMessage)m), MessageType.RUNTIME_FILTER_MESSAGE);
     }
 
     /** {@inheritDoc} */
@@ -281,6 +289,29 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         }
     }
 
+    /** */
+    protected void onMessage(UUID nodeId, RuntimeFilterMessage msg) {
+        Outbox<?> outbox = mailboxRegistry().outbox(msg.queryId(), msg.exchangeId());
+
+        if (outbox != null) {
+            try {
+                outbox.onRuntimeFilter(nodeId, msg.filter());
+            }
+            catch (Throwable e) {
+                outbox.onError(e);
+
+                throw new IgniteException("Unexpected exception", e);
+            }
+        }
+        else if (log.isDebugEnabled()) {
+            log.debug("Stale runtime filter message received: [" +
+                "nodeId=" + nodeId + ", " +
+                "queryId=" + msg.queryId() + ", " +
+                "fragmentId=" + msg.fragmentId() + ", " +
+                "exchangeId=" + msg.exchangeId() + "]");
+        }
+    }
+
     /** */
     protected void onMessage(UUID nodeId, QueryBatchMessage msg) {
         Inbox<?> inbox = mailboxRegistry().inbox(msg.queryId(), msg.exchangeId());
@@ -360,6 +391,7 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
             null,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             ImmutableMap.of());
     }
@@ -50,6 +50,7 @@ import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
 import org.apache.ignite.internal.util.lang.RunnableX;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.checkRange;
 
@@ -102,6 +103,9 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
     /** */
     private final IoTracker ioTracker;
 
+    /** */
+    private final SpillManager spillMgr;
+
     /** */
     private final long timeout;
 
@@ -129,6 +133,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         RowHandler<Row> handler,
         MemoryTracker qryMemoryTracker,
         IoTracker ioTracker,
+        @Nullable SpillManager spillMgr,
         long timeout,
         Map<String, Object> params
     ) {
@@ -143,6 +148,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         this.handler = handler;
         this.qryMemoryTracker = qryMemoryTracker;
         this.ioTracker = ioTracker;
+        this.spillMgr = spillMgr;
         this.params = params;
         this.timeout = timeout;
 
@@ -308,7 +314,26 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         if (isCancelled())
             return;
 
-        executor.execute(qryId, fragmentId(), () -> {
+        executor.execute(qryId, fragmentId(), wrap(task, onError));
+    }
+
+    /**
+     * Executes a query task in a thread next to the fragment one. Tasks with the same index are executed sequentially.
+     *
+     * @param idx Task index, tasks with index {@code 0} are executed in the fragment thread.
+     * @param task Query task.
+     * @see QueryTaskExecutor#execute(UUID, long, int, Runnable)
+     */
+    public void execute(int idx, RunnableX task, Consumer<Throwable> onError) {
+        if (isCancelled())
+            return;
+
+        executor.execute(qryId, fragmentId(), idx, wrap(task, onError));
+    }
+
+    /** */
+    private Runnable wrap(RunnableX task, Consumer<Throwable> onError) {
+        return () -> {
             try {
                 if (!isCancelled())
                     task.run();
@@ -318,7 +343,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
 
                 throw new IgniteException("Unexpected exception", e);
             }
-        });
+        };
     }
 
     /**
@@ -363,6 +388,13 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         return ioTracker;
     }
 
+    /**
+     * @return Manager of files to offload rows to, or {@code null} if spilling to disk is disabled.
+     */
+    public @Nullable SpillManager spillManager() {
+        return spillMgr;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -37,6 +38,8 @@ import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.QueryCancelledException;
 import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
 import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.events.CacheQueryReadEvent;
 import org.apache.ignite.events.EventType;
 import org.apache.ignite.internal.GridKernalContext;
@@ -47,6 +50,8 @@ import org.apache.ignite.internal.processors.cache.CacheObjectUtils;
 import org.apache.ignite.internal.processors.cache.CacheObjectValueContext;
 import org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager;
 import org.apache.ignite.internal.processors.cache.QueryCursorImpl;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
 import org.apache.ignite.internal.processors.cache.query.CacheQueryType;
 import org.apache.ignite.internal.processors.cache.query.GridCacheQueryType;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
@@ -105,6 +110,8 @@ import org.apache.ignite.internal.processors.security.SecurityUtils;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+import org.apache.ignite.marshaller.MarshallerUtils;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Collections.singletonList;
@@ -186,6 +193,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
     /** */
     private MemoryTracker memoryTracker;
 
+    /** Manager of spill files, {@code null} if spilling to disk is disabled. */
+    private SpillManager spillMgr;
+
     /**
      * @param ctx Kernal.
      */
@@ -441,9 +451,39 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         memoryTracker = cfg.getGlobalMemoryQuota() > 0 ? new GlobalMemoryTracker(cfg.getGlobalMemoryQuota()) :
             NoOpMemoryTracker.INSTANCE;
 
+        if (cfg.isSpillToDiskEnabled())
+            spillMgr = createSpillManager(ctx);
+
         init();
     }
 
+    /** */
+    private SpillManager createSpillManager(GridKernalContext ctx) {
+        IgniteConfiguration igniteCfg = ctx.config();
+
+        @SuppressWarnings("deprecation")
+        Marshaller marsh = igniteCfg.getMarshaller();
+
+        if (marsh == null) // Stubbed context doesn't have a marshaller
+            marsh = MarshallerUtils.jdkMarshaller(ctx.igniteInstanceName());
+
+        DataStorageConfiguration dsCfg = igniteCfg.getDataStorageConfiguration();
+
+        FileIOFactory ioFactory = dsCfg == null ? new RandomAccessFileIOFactory() : dsCfg.getFileIOFactory();
+
+        String nodeDir = U.maskForFileName(ctx.igniteInstanceName() == null ? "default" : ctx.igniteInstanceName());
+
+        try {
+            File dir = U.resolveWorkDirectory(igniteCfg.getWorkDirectory(),
+                SpillManager.SPILL_DIR + File.separator + nodeDir, true);
+
+            return new SpillManager(dir, ioFactory, marsh, U.resolveClassLoader(igniteCfg));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to initialize SQL spill directory", e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void init() {
         messageService().register((n, m) -> onMessage(n, (QueryStartRequest)m), MessageType.QUERY_START_REQUEST);
@@ -460,6 +500,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         eventManager().removeDiscoveryEventListener(discoLsnr, EventType.EVT_NODE_FAILED, EventType.EVT_NODE_LEFT);
 
         iteratorsHolder().tearDown();
+
+        if (spillMgr != null)
+            spillMgr.cleanup();
     }
 
     /** */
@@ -608,6 +651,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
             handler,
             qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
             createIoTracker(locNodeId, qry.localQueryId()),
+            spillMgr,
             timeout,
             qryParams);
 
@@ -815,6 +859,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
                 createIoTracker(nodeId, msg.originatingQryId()),
+                spillMgr,
                 msg.timeout(),
                 Commons.parametersMap(msg.parameters())
             );
@@ -28,26 +28,35 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Intersect;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowBound;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.BatchPredicate;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.BatchProjection;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowPartition;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.AbstractSetOpNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.CollectNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.CorrelatedNestedLoopJoinNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.FilterNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashAggregateNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashJoinNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Inbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.IndexSpoolNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.IntersectNode;
@@ -58,6 +67,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.rel.ModifyNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.NestedLoopJoinNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Node;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Outbox;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.ParallelScanNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ProjectNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ScanNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ScanStorageNode;
@@ -65,6 +75,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.rel.SortAggregat
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.SortNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.UnionAllNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.WindowNode;
 import org.apache.ignite.internal.processors.query.calcite.metadata.AffinityService;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
@@ -73,6 +84,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.IgniteCorrelatedN
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteExchange;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteFilter;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexBound;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexCount;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
@@ -93,6 +105,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableSpool;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTrimExchange;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteUnionAll;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteValues;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteColocatedHashAggregate;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteColocatedSortAggregate;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteMapHashAggregate;
@@ -113,6 +126,7 @@ import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
 import org.apache.ignite.internal.util.typedef.F;
 
 import static org.apache.calcite.rel.RelDistribution.Type.HASH_DISTRIBUTED;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS;
 import static org.apache.ignite.internal.processors.query.calcite.util.TypeUtils.combinedRowType;
 
 /**
@@ -138,6 +152,9 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
     /** */
     private final ExpressionFactory<Row> expressionFactory;
 
+    /** Whether filters and projections are evaluated over batches of rows. */
+    private final boolean vectorized = IgniteSystemProperties.getBoolean(IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS);
+
     /**
      * @param ctx Root context.
      * @param affSrvc Affinity service.
@@ -181,9 +198,18 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
 
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteFilter rel) {
-        Predicate<Row> pred = expressionFactory.predicate(rel.getCondition(), rel.getRowType());
+        FilterNode<Row> node;
+
+        if (vectorized) {
+            BatchPredicate<Row> pred = expressionFactory.batchPredicate(rel.getCondition(), rel.getRowType());
+
+            node = new FilterNode<>(ctx, rel.getRowType(), pred);
+        }
+        else {
+            Predicate<Row> pred = expressionFactory.predicate(rel.getCondition(), rel.getRowType());
 
-        FilterNode<Row> node = new FilterNode<>(ctx, rel.getRowType(), pred);
+            node = new FilterNode<>(ctx, rel.getRowType(), pred);
+        }
 
         Node<Row> input = visit(rel.getInput());
 
@@ -211,9 +237,18 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
 
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteProject rel) {
-        Function<Row, Row> prj = expressionFactory.project(rel.getProjects(), rel.getInput().getRowType());
+        ProjectNode<Row> node;
 
-        ProjectNode<Row> node = new ProjectNode<>(ctx, rel.getRowType(), prj);
+        if (vectorized) {
+            BatchProjection<Row> prj = expressionFactory.batchProject(rel.getProjects(), rel.getInput().getRowType());
+
+            node = new ProjectNode<>(ctx, rel.getRowType(), prj);
+        }
+        else {
+            Function<Row, Row> prj = expressionFactory.project(rel.getProjects(), rel.getInput().getRowType());
+
+            node = new ProjectNode<>(ctx, rel.getRowType(), prj);
+        }
 
         Node<Row> input = visit(rel.getInput());
 
@@ -290,6 +325,32 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         return node;
     }
 
+    /** {@inheritDoc} */
+    @Override public Node<Row> visit(IgniteHashJoin rel) {
+        RelDataType outType = rel.getRowType();
+        RelDataType leftType = rel.getLeft().getRowType();
+        RelDataType rightType = rel.getRight().getRowType();
+        JoinRelType joinType = rel.getJoinType();
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        BiPredicate<Row, Row> nonEquiCond = null;
+
+        if (!joinInfo.isEqui()) {
+            RelDataType rowType = combinedRowType(ctx.getTypeFactory(), leftType, rightType);
+
+            nonEquiCond = expressionFactory.biPredicate(joinInfo.getRemaining(rel.getCluster().getRexBuilder()), rowType);
+        }
+
+        Node<Row> node = HashJoinNode.create(ctx, outType, leftType, rightType, joinType, joinInfo, nonEquiCond);
+
+        Node<Row> leftInput = visit(rel.getLeft());
+        Node<Row> rightInput = visit(rel.getRight());
+
+        node.register(F.asList(leftInput, rightInput));
+
+        return node;
+    }
+
     /** */
     private boolean hasExchange(RelNode rel) {
         if (rel instanceof IgniteReceiver)
@@ -494,6 +555,22 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
 
         ColocationGroup group = ctx.group(rel.sourceId());
 
+        // Correlated expressions depend on the fragment thread state, so such scans aren't parallelized.
+        boolean hasCorrelation = (condition != null && RexUtils.hasCorrelation(condition))
+            || (projects != null && RexUtils.hasCorrelation(projects));
+
+        if (rel.parallelism() > 1 && !hasCorrelation) {
+            List<Iterable<Row>> srcs = tbl.scan(ctx, group, requiredColunms, rel.parallelism());
+
+            if (srcs.size() > 1) {
+                return new ParallelScanNode<>(tbl.name(), ctx, rowType, srcs,
+                    condition == null ? null : () -> expressionFactory.predicate(condition, rowType),
+                    projects == null ? null : () -> expressionFactory.project(projects, rowType));
+            }
+
+            return new ScanStorageNode<>(tbl.name(), ctx, rowType, F.first(srcs), filters, prj);
+        }
+
         Iterable<Row> rowsIter = tbl.scan(ctx, group, requiredColunms);
 
         return new ScanStorageNode<>(tbl.name(), ctx, rowType, rowsIter, filters, prj);
@@ -550,6 +627,38 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         return node;
     }
 
+    /** {@inheritDoc} */
+    @Override public Node<Row> visit(IgniteWindow rel) {
+        RelDataType rowType = rel.getRowType();
+
+        List<RelFieldCollation> collation = rel.collation().getFieldCollations();
+        int grpCnt = rel.getGroupSet().cardinality();
+
+        Comparator<Row> partCmp = grpCnt == 0 ? null :
+            expressionFactory.comparator(RelCollations.of(collation.subList(0, grpCnt)));
+
+        Comparator<Row> peerCmp = grpCnt == collation.size() ? null :
+            expressionFactory.comparator(RelCollations.of(collation.subList(grpCnt, collation.size())));
+
+        WindowNode<Row> node = new WindowNode<>(
+            ctx,
+            rowType,
+            partCmp,
+            peerCmp,
+            expressionFactory.windowFunctionsFactory(rel.getAggCallList(), rel.getInput().getRowType()),
+            ctx.rowHandler().factory(ctx.getTypeFactory(), rowType),
+            rel.isRows(),
+            windowBound(rel.getLowerBound()),
+            windowBound(rel.getUpperBound())
+        );
+
+        Node<Row> input = visit(rel.getInput());
+
+        node.register(input);
+
+        return node;
+    }
+
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteTableSpool rel) {
         TableSpoolNode<Row> node = new TableSpoolNode<>(ctx, rel.getRowType(), rel.readType == Spool.Type.LAZY);
@@ -850,6 +959,22 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         throw new AssertionError();
     }
 
+    /**
+     * @param bound Window frame bound.
+     * @return Frame bound offset relative to the current row.
+     */
+    private static long windowBound(RexWindowBound bound) {
+        if (bound.isUnbounded())
+            return bound.isPreceding() ? WindowPartition.UNBOUNDED_PRECEDING : WindowPartition.UNBOUNDED_FOLLOWING;
+
+        if (bound.isCurrentRow())
+            return 0;
+
+        long offset = ((RexLiteral)bound.getOffset()).getValueAs(Long.class);
+
+        return bound.isPreceding() ? -offset : offset;
+    }
+
     /** */
     private Node<Row> visit(RelNode rel) {
         return visit((IgniteRel)rel);
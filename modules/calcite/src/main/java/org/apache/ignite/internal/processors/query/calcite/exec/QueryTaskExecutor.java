@@ -32,4 +32,16 @@ public interface QueryTaskExecutor extends Service {
      * @param qryTask Query task.
      */
     void execute(UUID qryId, long fragmentId, Runnable qryTask);
+
+    /**
+     * Executes a query task in a thread next to the one responsible for particular query fragment. Allows to split
+     * the work of a single fragment between several threads. Tasks with the same index are executed sequentially,
+     * tasks with index {@code 0} are executed in the fragment thread.
+     *
+     * @param qryId Query ID.
+     * @param fragmentId Fragment ID.
+     * @param idx Index of the task within the fragment.
+     * @param qryTask Query task.
+     */
+    void execute(UUID qryId, long fragmentId, int idx, Runnable qryTask);
 }
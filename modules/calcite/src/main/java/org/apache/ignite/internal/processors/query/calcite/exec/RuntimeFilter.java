@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import com.google.common.collect.ImmutableSet;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runtime join filter. Built from the join keys of the build side of a hash join and applied to the probe side
+ * rows before they are sent to the join, so rows that can't match any build side row are dropped early.
+ * Consists of a bloom filter over the join keys and, for a single integral key, of a range of key values.
+ * <p>
+ * Key values are hashed with {@link Object#hashCode()}, so only values of types with a hash code defined by
+ * the value are supported: the hash code must be the same on all nodes.
+ */
+public class RuntimeFilter {
+    /** Count of hash functions of the bloom filter. */
+    private static final int HASH_FUNCTIONS = 3;
+
+    /** Count of bloom filter bits per key. */
+    private static final int BITS_PER_KEY = 10;
+
+    /** Count of rows to test before deciding whether the filter is selective enough. */
+    private static final int SAMPLE_SIZE = 1024;
+
+    /** The filter is switched off if it passes more than this share of sampled rows. */
+    private static final double MAX_PASS_RATIO = 0.9;
+
+    /** Types with a hash code defined by the value. */
+    private static final Set<Class<?>> SUPPORTED_TYPES = ImmutableSet.of(
+        Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigDecimal.class, String.class, UUID.class, Date.class, Time.class, Timestamp.class,
+        LocalDate.class, LocalTime.class, LocalDateTime.class
+    );
+
+    /** Probe side key fields. */
+    private final int[] keys;
+
+    /** Bloom filter bits, the length is a power of two. */
+    private final long[] bits;
+
+    /** Min and max key values, or {@code null} if there is no range restriction. */
+    private final @Nullable long[] range;
+
+    /**
+     * @param keys Probe side key fields.
+     * @param bits Bloom filter bits.
+     * @param range Min and max key values, or {@code null}.
+     */
+    public RuntimeFilter(int[] keys, long[] bits, @Nullable long[] range) {
+        assert Long.bitCount(bits.length) == 1 : bits.length;
+        assert range == null || (keys.length == 1 && range.length == 2);
+
+        this.keys = keys;
+        this.bits = bits;
+        this.range = range;
+    }
+
+    /**
+     * Builds the filter for the given build side keys.
+     *
+     * @param probeKeys Probe side key fields.
+     * @param buildKeys Distinct build side keys, all fields are not null.
+     * @return Filter or {@code null} if some key values can't be used in the filter.
+     */
+    public static @Nullable RuntimeFilter build(int[] probeKeys, Collection<GroupKey> buildKeys) {
+        int words = Math.max(1, Integer.highestOneBit(Math.max(1, buildKeys.size() * BITS_PER_KEY / Long.SIZE)) << 1);
+
+        long[] bits = new long[words];
+
+        boolean integral = probeKeys.length == 1;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (GroupKey key : buildKeys) {
+            Object[] fields = key.fields();
+
+            for (Object val : fields) {
+                if (!SUPPORTED_TYPES.contains(val.getClass()))
+                    return null;
+            }
+
+            set(bits, hash(fields));
+
+            if (integral) {
+                if (isIntegral(fields[0])) {
+                    long val = ((Number)fields[0]).longValue();
+
+                    min = Math.min(min, val);
+                    max = Math.max(max, val);
+                }
+                else
+                    integral = false;
+            }
+        }
+
+        return new RuntimeFilter(probeKeys, bits, integral && !buildKeys.isEmpty() ? new long[] {min, max} : null);
+    }
+
+    /** @return Probe side key fields. */
+    public int[] keys() {
+        return keys;
+    }
+
+    /** @return Bloom filter bits. */
+    public long[] bits() {
+        return bits;
+    }
+
+    /** @return Min and max key values, or {@code null} if there is no range restriction. */
+    public @Nullable long[] range() {
+        return range;
+    }
+
+    /**
+     * Creates a predicate testing probe side rows. The predicate stops filtering if it turns out that the filter
+     * passes almost all rows.
+     *
+     * @param hnd Row handler.
+     * @return Predicate returning {@code false} for rows which definitely have no matching build side rows.
+     */
+    public <Row> Predicate<Row> predicate(RowHandler<Row> hnd) {
+        return new Predicate<Row>() {
+            /** */
+            private final Object[] vals = new Object[keys.length];
+
+            /** */
+            private int tested;
+
+            /** */
+            private int passed;
+
+            /** */
+            private boolean disabled;
+
+            @Override public boolean test(Row row) {
+                if (disabled)
+                    return true;
+
+                boolean res = mightContain(hnd, row, vals);
+
+                if (tested < SAMPLE_SIZE) {
+                    tested++;
+
+                    if (res)
+                        passed++;
+
+                    if (tested == SAMPLE_SIZE && passed > SAMPLE_SIZE * MAX_PASS_RATIO)
+                        disabled = true;
+                }
+
+                return res;
+            }
+        };
+    }
+
+    /** */
+    private <Row> boolean mightContain(RowHandler<Row> hnd, Row row, Object[] vals) {
+        for (int i = 0; i < keys.length; i++) {
+            Object val = hnd.get(keys[i], row);
+
+            // NULL never matches.
+            if (val == null)
+                return false;
+
+            // Values of other types can't be filtered.
+            if (!SUPPORTED_TYPES.contains(val.getClass()))
+                return true;
+
+            vals[i] = val;
+        }
+
+        if (range != null && isIntegral(vals[0])) {
+            long val = ((Number)vals[0]).longValue();
+
+            if (val < range[0] || val > range[1])
+                return false;
+        }
+
+        return get(bits, hash(vals));
+    }
+
+    /** */
+    private static boolean isIntegral(Object val) {
+        return val instanceof Integer || val instanceof Long || val instanceof Short || val instanceof Byte;
+    }
+
+    /** */
+    private static long hash(Object[] vals) {
+        long h = 1;
+
+        for (Object val : vals)
+            h = 31 * h + val.hashCode();
+
+        // Finalization step of MurmurHash3, spreads bits of the combined hash code.
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /** */
+    private static void set(long[] bits, long hash) {
+        int h1 = (int)hash;
+        int h2 = (int)(hash >>> 32);
+        int mask = bits.length * Long.SIZE - 1;
+
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & mask;
+
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /** */
+    private static boolean get(long[] bits, long hash) {
+        int h1 = (int)hash;
+        int h2 = (int)(hash >>> 32);
+        int mask = bits.length * Long.SIZE - 1;
+
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & mask;
+
+            if ((bits[bit >>> 6] & (1L << bit)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+}
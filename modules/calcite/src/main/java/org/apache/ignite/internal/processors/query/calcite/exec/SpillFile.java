@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.query.calcite.message.MarshallingContext;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Append-only temporary file of rows. Rows are marshalled the same way as rows sent between nodes.
+ * Rows can be read any number of times, rows can be appended while the file is being read.
+ */
+public class SpillFile<Row> implements AutoCloseable {
+    /** Write buffer size. */
+    private static final int WRITE_BUF_SIZE = 64 * 1024;
+
+    /** Read buffer size. Several files can be read simultaneously (e.g. on merge), so it is kept smaller. */
+    private static final int READ_BUF_SIZE = 8 * 1024;
+
+    /** */
+    private final File file;
+
+    /** */
+    private final FileIO io;
+
+    /** */
+    private final MarshallingContext marshCtx;
+
+    /** */
+    private final DataOutputStream out;
+
+    /** Count of written rows. */
+    private int size;
+
+    /** Count of rows flushed to the file. */
+    private int flushed;
+
+    /**
+     * @param file File.
+     * @param io File I/O.
+     * @param marshCtx Rows marshalling context.
+     */
+    SpillFile(File file, FileIO io, MarshallingContext marshCtx) {
+        this.file = file;
+        this.io = io;
+        this.marshCtx = marshCtx;
+
+        out = new DataOutputStream(new BufferedOutputStream(new OutputStream() {
+            /** {@inheritDoc} */
+            @Override public void write(int b) throws IOException {
+                write(new byte[] {(byte)b}, 0, 1);
+            }
+
+            /** {@inheritDoc} */
+            @Override public void write(byte[] b, int off, int len) throws IOException {
+                io.writeFully(b, off, len);
+            }
+        }, WRITE_BUF_SIZE));
+    }
+
+    /**
+     * Appends row to the file.
+     *
+     * @param row Row.
+     */
+    public void add(Row row) throws IOException, IgniteCheckedException {
+        byte[] bytes = marshCtx.marshal(row);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+
+        size++;
+    }
+
+    /**
+     * @return Count of written rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Iterator over rows of the file.
+     */
+    public Iterator<Row> iterator() {
+        return new RowsIterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        U.closeQuiet(io);
+
+        U.delete(file);
+    }
+
+    /** */
+    private class RowsIterator implements Iterator<Row> {
+        /** */
+        private final DataInputStream in;
+
+        /** Count of read rows. */
+        private int read;
+
+        /** */
+        private RowsIterator() {
+            in = new DataInputStream(new BufferedInputStream(new InputStream() {
+                /** Read position. */
+                private long pos;
+
+                /** {@inheritDoc} */
+                @Override public int read() throws IOException {
+                    byte[] b = new byte[1];
+
+                    return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+                }
+
+                /** {@inheritDoc} */
+                @Override public int read(byte[] b, int off, int len) throws IOException {
+                    int read = io.read(ByteBuffer.wrap(b, off, len), pos);
+
+                    if (read > 0)
+                        pos += read;
+
+                    return read;
+                }
+            }, READ_BUF_SIZE));
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNext() {
+            return read < size;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Row next() {
+            if (read >= size)
+                throw new NoSuchElementException();
+
+            try {
+                if (read >= flushed) {
+                    out.flush();
+
+                    flushed = size;
+                }
+
+                byte[] bytes = new byte[in.readInt()];
+
+                in.readFully(bytes);
+
+                read++;
+
+                return marshCtx.unmarshal(bytes);
+            }
+            catch (IOException | IgniteCheckedException e) {
+                throw new IgniteException("Failed to read spilled rows [file=" + file + ']', e);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.query.calcite.message.MarshallingContext;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+
+/**
+ * Creates temporary files to offload rows of execution nodes when the query memory quota is exceeded.
+ */
+public class SpillManager implements MarshallingContext {
+    /** Name of the spill directory inside the node work directory. */
+    public static final String SPILL_DIR = "sql_spill";
+
+    /** Directory of the spill files. */
+    private final File dir;
+
+    /** */
+    private final FileIOFactory ioFactory;
+
+    /** */
+    private final Marshaller marsh;
+
+    /** */
+    private final ClassLoader clsLdr;
+
+    /** */
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /**
+     * @param dir Directory of the spill files.
+     * @param ioFactory File I/O factory.
+     * @param marsh Rows marshaller.
+     * @param clsLdr Class loader.
+     */
+    public SpillManager(File dir, FileIOFactory ioFactory, Marshaller marsh, ClassLoader clsLdr) {
+        this.dir = dir;
+        this.ioFactory = ioFactory;
+        this.marsh = marsh;
+        this.clsLdr = clsLdr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Marshaller marshaller() {
+        return marsh;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClassLoader classLoader() {
+        return clsLdr;
+    }
+
+    /**
+     * Creates new spill file. The file is deleted on close.
+     *
+     * @return Spill file.
+     * @throws IOException If failed.
+     */
+    public <Row> SpillFile<Row> createFile() throws IOException {
+        File file = new File(dir, "spill-" + fileIdGen.incrementAndGet() + ".bin");
+
+        return new SpillFile<>(file, ioFactory.create(file), this);
+    }
+
+    /** Removes all the spill files. */
+    public void cleanup() {
+        U.delete(dir);
+    }
+}
@@ -61,7 +61,7 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
     /** */
     private final AffinityTopologyVersion topVer;
 
-    /** */
+    /** Partitions to scan, {@code null} to scan all partitions of a replicated cache. */
     private final int[] parts;
 
     /** */
@@ -131,13 +131,13 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
         }
 
         List<GridDhtLocalPartition> toReserve;
-        if (cctx.isReplicated()) {
+        if (cctx.isReplicated() && parts == null) {
             int partsCnt = cctx.affinity().partitions();
             toReserve = new ArrayList<>(partsCnt);
             for (int i = 0; i < partsCnt; i++)
                 toReserve.add(top.localPartition(i));
         }
-        else if (cctx.isPartitioned()) {
+        else if (cctx.isReplicated() || cctx.isPartitioned()) {
             assert parts != null;
 
             toReserve = new ArrayList<>(parts.length);
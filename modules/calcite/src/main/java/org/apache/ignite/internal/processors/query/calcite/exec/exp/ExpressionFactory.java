@@ -32,6 +32,7 @@ import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowFunction;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
 
 /**
@@ -45,6 +46,15 @@ public interface ExpressionFactory<Row> {
         RelDataType rowType
     );
 
+    /**
+     * Creates a factory of window functions.
+     *
+     * @param calls Window aggregate calls.
+     * @param rowType Input row type.
+     * @return Window functions factory.
+     */
+    Supplier<List<WindowFunction<Row>>> windowFunctionsFactory(List<AggregateCall> calls, RelDataType rowType);
+
     /**
      * Creates a comparator for given data type and collations. Mainly used for sorted exchange.
      *
@@ -89,6 +99,24 @@ public interface ExpressionFactory<Row> {
      */
     Function<Row, Row> project(List<RexNode> projects, RelDataType rowType);
 
+    /**
+     * Creates a Filter predicate evaluated over batches of rows.
+     *
+     * @param filter Filter expression.
+     * @param rowType Input row type.
+     * @return Batch filter predicate.
+     */
+    BatchPredicate<Row> batchPredicate(RexNode filter, RelDataType rowType);
+
+    /**
+     * Creates a Project function evaluated over batches of rows.
+     *
+     * @param projects Projection expressions.
+     * @param rowType Input row type.
+     * @return Batch project function.
+     */
+    BatchProjection<Row> batchProject(List<RexNode> projects, RelDataType rowType);
+
     /**
      * Creates a Values relational node rows source.
      *
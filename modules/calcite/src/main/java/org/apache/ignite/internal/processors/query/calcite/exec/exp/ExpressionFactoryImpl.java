@@ -60,6 +60,7 @@ import org.apache.calcite.rex.RexProgram;
 import org.apache.calcite.rex.RexProgramBuilder;
 import org.apache.calcite.rex.RexShuttle;
 import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.runtime.SqlFunctions;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.validate.SqlConformance;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
@@ -69,6 +70,8 @@ import org.apache.ignite.internal.processors.query.calcite.exec.exp.RexToLixTran
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorsFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowFunction;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowFunctionsFactory;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.ExactBounds;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.MultiBounds;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.RangeBounds;
@@ -139,6 +142,14 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         return new AccumulatorsFactory<>(ctx, type, calls, rowType);
     }
 
+    /** {@inheritDoc} */
+    @Override public Supplier<List<WindowFunction<Row>>> windowFunctionsFactory(
+        List<AggregateCall> calls,
+        RelDataType rowType
+    ) {
+        return new WindowFunctionsFactory<>(ctx, calls, rowType);
+    }
+
     /** {@inheritDoc} */
     @Override public Comparator<Row> comparator(RelCollation collation) {
         if (collation == null || collation.getFieldCollations().isEmpty())
@@ -265,6 +276,24 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         return new ProjectImpl(scalar(projects, rowType), ctx.rowHandler().factory(typeFactory, RexUtil.types(projects)));
     }
 
+    /** {@inheritDoc} */
+    @Override public BatchPredicate<Row> batchPredicate(RexNode filter, RelDataType rowType) {
+        ImmutableList<RexNode> nodes = ImmutableList.of(filter);
+
+        SelectionScalar scalar = (SelectionScalar)SCALAR_CACHE.computeIfAbsent("selection:" + digest(nodes, rowType, false),
+            k -> compileBatch(nodes, rowType, true));
+
+        return (rows, sel, cnt) -> scalar.execute(ctx, rows, sel, cnt);
+    }
+
+    /** {@inheritDoc} */
+    @Override public BatchProjection<Row> batchProject(List<RexNode> projects, RelDataType rowType) {
+        BatchScalar scalar = (BatchScalar)SCALAR_CACHE.computeIfAbsent("batch:" + digest(projects, rowType, false),
+            k -> compileBatch(projects, rowType, false));
+
+        return new BatchProjectImpl(scalar, ctx.rowHandler().factory(typeFactory, RexUtil.types(projects)));
+    }
+
     /** {@inheritDoc} */
     @Override public Supplier<Row> rowSource(List<RexNode> values) {
         return new ValuesImpl(scalar(values, null), ctx.rowHandler().factory(typeFactory,
@@ -544,6 +573,112 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         return Commons.compile(clazz, Expressions.toString(F.asList(decl), "\n", false));
     }
 
+    /**
+     * Compiles expressions to a loop over a batch of rows, so the whole batch is evaluated by a single call.
+     *
+     * @param nodes Expressions.
+     * @param type Input row type.
+     * @param selection If {@code true}, a single condition is compiled to {@link SelectionScalar},
+     *      otherwise projections are compiled to {@link BatchScalar}.
+     * @return Scalar.
+     */
+    private Scalar compileBatch(List<RexNode> nodes, RelDataType type, boolean selection) {
+        assert !selection || nodes.size() == 1;
+
+        RexProgramBuilder programBuilder = new RexProgramBuilder(type, rexBuilder);
+
+        for (RexNode node : nodes)
+            programBuilder.addProject(node, null);
+
+        RexProgram program = programBuilder.getProgram();
+
+        BlockBuilder builder = new BlockBuilder();
+
+        ParameterExpression ctx_ =
+            Expressions.parameter(ExecutionContext.class, "ctx");
+
+        ParameterExpression in_ =
+            Expressions.parameter(Object[].class, "in");
+
+        ParameterExpression out_ = selection ?
+            Expressions.parameter(int[].class, "sel") :
+            Expressions.parameter(Object[].class, "out");
+
+        ParameterExpression cnt_ =
+            Expressions.parameter(int.class, "cnt");
+
+        ParameterExpression i_ =
+            Expressions.parameter(int.class, "i");
+
+        ParameterExpression in1_ =
+            Expressions.parameter(Object.class, "in1");
+
+        ParameterExpression selected_ =
+            Expressions.parameter(int.class, "selected");
+
+        builder.add(
+            Expressions.declare(Modifier.FINAL, DataContext.ROOT, Expressions.convert_(ctx_, DataContext.class)));
+
+        Expression hnd_ = builder.append("hnd",
+            Expressions.call(ctx_,
+                IgniteMethod.CONTEXT_ROW_HANDLER.method()));
+
+        // Correlated variables don't change within a batch, so they are read once before the loop.
+        Function1<String, InputGetter> correlates = new CorrelatesBuilder(builder, ctx_, hnd_).build(nodes);
+
+        BlockBuilder loop = new BlockBuilder(true, builder);
+
+        loop.add(Expressions.declare(Modifier.FINAL, in1_, Expressions.arrayIndex(in_, i_)));
+
+        List<Expression> projects = RexToLixTranslator.translateProjects(program, typeFactory, conformance,
+            loop, null, ctx_, new FieldGetter(hnd_, in1_, type), correlates);
+
+        assert nodes.size() == projects.size();
+
+        if (selection) {
+            Expression cond = projects.get(0);
+
+            if (cond.getType() != boolean.class)
+                cond = Expressions.call(SqlFunctions.class, "isTrue", EnumUtils.convert(cond, Boolean.class));
+
+            builder.add(Expressions.declare(0, selected_, Expressions.constant(0)));
+
+            loop.add(
+                Expressions.ifThen(cond,
+                    Expressions.statement(
+                        Expressions.assign(Expressions.arrayIndex(out_, Expressions.postIncrementAssign(selected_)), i_))));
+        }
+        else {
+            Expression outRow_ = loop.append("outRow", Expressions.arrayIndex(out_, i_));
+
+            for (int i = 0; i < projects.size(); i++) {
+                loop.add(
+                    Expressions.statement(
+                        Expressions.call(hnd_,
+                            IgniteMethod.ROW_HANDLER_SET.method(),
+                            Expressions.constant(i), outRow_, projects.get(i))));
+            }
+        }
+
+        builder.add(
+            Expressions.for_(
+                Expressions.declare(0, i_, Expressions.constant(0)),
+                Expressions.lessThan(i_, cnt_),
+                Expressions.preIncrementAssign(i_),
+                loop.toBlock()));
+
+        if (selection)
+            builder.add(Expressions.return_(null, selected_));
+
+        MethodDeclaration decl = Expressions.methodDecl(
+            Modifier.PUBLIC, selection ? int.class : void.class, "execute",
+            ImmutableList.of(ctx_, in_, out_, cnt_), builder.toBlock());
+
+        Class<? extends Scalar> clazz = selection ? SelectionScalar.class : BatchScalar.class;
+
+        return Commons.compile(clazz, Expressions.toString(F.asList(decl), "\n", false));
+    }
+
     /** */
     private String digest(List<RexNode> nodes, RelDataType type, boolean biParam) {
         StringBuilder b = new StringBuilder();
@@ -668,6 +803,32 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         }
     }
 
+    /** */
+    private class BatchProjectImpl implements BatchProjection<Row> {
+        /** */
+        private final BatchScalar scalar;
+
+        /** */
+        private final RowFactory<Row> factory;
+
+        /**
+         * @param scalar Scalar.
+         * @param factory Row factory.
+         */
+        private BatchProjectImpl(BatchScalar scalar, RowFactory<Row> factory) {
+            this.scalar = scalar;
+            this.factory = factory;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void apply(Row[] in, Row[] out, int cnt) {
+            for (int i = 0; i < cnt; i++)
+                out[i] = factory.create();
+
+            scalar.execute(ctx, in, out, cnt);
+        }
+    }
+
     /** */
     private class ValuesImpl implements Supplier<Row> {
         /** */
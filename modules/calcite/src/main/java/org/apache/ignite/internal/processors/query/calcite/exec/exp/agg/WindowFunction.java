@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
+
+/**
+ * Window function evaluated over a partition of rows.
+ */
+public interface WindowFunction<Row> {
+    /**
+     * Evaluates the function for a row of the partition. The function is called for the rows of a partition
+     * in the order they follow in the partition.
+     *
+     * @param part Partition.
+     * @param idx Index of the current row within the partition.
+     * @return Function value for the row.
+     */
+    Object call(WindowPartition<Row> part, int idx);
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+import org.apache.ignite.internal.util.typedef.F;
+
+/**
+ * Creates window functions for window aggregate calls. Ranking and offset functions are evaluated over
+ * the partition, aggregate functions are evaluated with {@link Accumulators} over the frame of the current row.
+ */
+public class WindowFunctionsFactory<Row> implements Supplier<List<WindowFunction<Row>>> {
+    /** */
+    private final ExecutionContext<Row> ctx;
+
+    /** */
+    private final RelDataType inputRowType;
+
+    /** */
+    private final List<Supplier<WindowFunction<Row>>> prototypes;
+
+    /** */
+    public WindowFunctionsFactory(
+        ExecutionContext<Row> ctx,
+        List<AggregateCall> calls,
+        RelDataType inputRowType
+    ) {
+        this.ctx = ctx;
+        this.inputRowType = inputRowType;
+
+        prototypes = Commons.transform(calls, this::prototype);
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<WindowFunction<Row>> get() {
+        return Commons.transform(prototypes, Supplier::get);
+    }
+
+    /** */
+    private Supplier<WindowFunction<Row>> prototype(AggregateCall call) {
+        IgniteTypeFactory typeFactory = ctx.getTypeFactory();
+
+        RelDataType bigint = typeFactory.createSqlType(SqlTypeName.BIGINT);
+        RelDataType dbl = typeFactory.createSqlType(SqlTypeName.DOUBLE);
+
+        switch (call.getAggregation().getKind()) {
+            case ROW_NUMBER: {
+                Function<Object, Object> cast = AccumulatorsFactory.cast(bigint, call.getType());
+
+                return () -> (part, idx) -> cast.apply(idx + 1L);
+            }
+
+            case RANK: {
+                Function<Object, Object> cast = AccumulatorsFactory.cast(bigint, call.getType());
+
+                return () -> (part, idx) -> cast.apply(part.peerStart(idx) + 1L);
+            }
+
+            case DENSE_RANK: {
+                Function<Object, Object> cast = AccumulatorsFactory.cast(bigint, call.getType());
+
+                return () -> (part, idx) -> cast.apply(part.peerGroup(idx) + 1L);
+            }
+
+            case PERCENT_RANK: {
+                Function<Object, Object> cast = AccumulatorsFactory.cast(dbl, call.getType());
+
+                return () -> (part, idx) -> cast.apply(part.size() == 1 ? 0d :
+                    (double)part.peerStart(idx) / (part.size() - 1));
+            }
+
+            case CUME_DIST: {
+                Function<Object, Object> cast = AccumulatorsFactory.cast(dbl, call.getType());
+
+                return () -> (part, idx) -> cast.apply((double)part.peerEnd(idx) / part.size());
+            }
+
+            case NTILE: {
+                Function<Object, Object> cast = AccumulatorsFactory.cast(bigint, call.getType());
+                int arg = call.getArgList().get(0);
+
+                return () -> (part, idx) -> cast.apply(ntile(part, idx, arg));
+            }
+
+            case LAG:
+            case LEAD:
+                return offsetFunction(call);
+
+            case FIRST_VALUE:
+            case LAST_VALUE:
+                return valueFunction(call);
+
+            default: {
+                AccumulatorsFactory<Row> accFactory =
+                    new AccumulatorsFactory<>(ctx, AggregateType.SINGLE, F.asList(call), inputRowType);
+
+                // Distinct and sorted accumulators apply collected rows on every end() call, so can't be reused.
+                boolean incremental = !call.isDistinct() && call.getCollation().getFieldCollations().isEmpty();
+
+                return () -> new AggregateFunction<>(() -> F.first(accFactory.get()), incremental);
+            }
+        }
+    }
+
+    /** */
+    private Supplier<WindowFunction<Row>> offsetFunction(AggregateCall call) {
+        List<Integer> args = call.getArgList();
+
+        int arg = args.get(0);
+        int offsetArg = args.size() > 1 ? args.get(1) : -1;
+        int dfltArg = args.size() > 2 ? args.get(2) : -1;
+
+        Function<Object, Object> cast = AccumulatorsFactory.cast(type(arg), call.getType());
+        Function<Object, Object> dfltCast = dfltArg >= 0 ? AccumulatorsFactory.cast(type(dfltArg), call.getType()) : null;
+
+        int dir = call.getAggregation().getKind() == SqlKind.LAG ? -1 : 1;
+        boolean ignoreNulls = call.ignoreNulls();
+
+        return () -> (part, idx) -> {
+            long offset = 1;
+
+            if (offsetArg >= 0) {
+                Object val = part.get(idx, offsetArg);
+
+                if (val == null)
+                    return null;
+
+                offset = ((Number)val).longValue();
+            }
+
+            int step = offset < 0 ? -dir : dir;
+            long remaining = Math.abs(offset);
+            int pos = idx;
+
+            while (remaining > 0) {
+                pos += step;
+
+                if (pos < 0 || pos >= part.size())
+                    return dfltCast == null ? null : dfltCast.apply(part.get(idx, dfltArg));
+
+                if (!ignoreNulls || part.get(pos, arg) != null)
+                    remaining--;
+            }
+
+            return cast.apply(part.get(pos, arg));
+        };
+    }
+
+    /** */
+    private Supplier<WindowFunction<Row>> valueFunction(AggregateCall call) {
+        int arg = call.getArgList().get(0);
+
+        Function<Object, Object> cast = AccumulatorsFactory.cast(type(arg), call.getType());
+
+        boolean first = call.getAggregation().getKind() == SqlKind.FIRST_VALUE;
+        boolean ignoreNulls = call.ignoreNulls();
+
+        return () -> (part, idx) -> {
+            int start = part.frameStart(idx);
+            int end = part.frameEnd(idx);
+
+            for (int i = 0; i < end - start; i++) {
+                Object val = part.get(first ? start + i : end - 1 - i, arg);
+
+                if (val != null || !ignoreNulls)
+                    return cast.apply(val);
+            }
+
+            return null;
+        };
+    }
+
+    /** */
+    private RelDataType type(int field) {
+        return inputRowType.getFieldList().get(field).getType();
+    }
+
+    /** */
+    private static <Row> long ntile(WindowPartition<Row> part, int idx, int arg) {
+        Object val = part.get(idx, arg);
+
+        if (val == null)
+            throw new IllegalArgumentException("Argument of NTILE must not be null.");
+
+        long buckets = ((Number)val).longValue();
+
+        if (buckets <= 0)
+            throw new IllegalArgumentException("Argument of NTILE must be greater than 0.");
+
+        // The first (size % buckets) buckets contain one more row than the rest.
+        long size = part.size();
+        long small = size / buckets;
+        long rem = size % buckets;
+        long bigRows = rem * (small + 1);
+
+        return 1 + (idx < bigRows ? idx / (small + 1) : rem + (idx - bigRows) / small);
+    }
+
+    /** Aggregate over the frame of the current row. */
+    private static class AggregateFunction<Row> implements WindowFunction<Row> {
+        /** */
+        private final Supplier<AccumulatorWrapper<Row>> accFactory;
+
+        /** Whether rows can be added to the accumulator after its result was taken. */
+        private final boolean incremental;
+
+        /** */
+        private AccumulatorWrapper<Row> acc;
+
+        /** Index of the first accumulated row. */
+        private int start;
+
+        /** Index next to the last accumulated row. */
+        private int end;
+
+        /** */
+        private Object res;
+
+        /** */
+        private AggregateFunction(Supplier<AccumulatorWrapper<Row>> accFactory, boolean incremental) {
+            this.accFactory = accFactory;
+            this.incremental = incremental;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            int frameStart = part.frameStart(idx);
+            int frameEnd = Math.max(part.frameEnd(idx), frameStart);
+
+            if (acc != null && frameStart == start && frameEnd == end)
+                return res;
+
+            // While the frame start stays in place, rows entering the frame are added to the same accumulator.
+            // Otherwise, the frame is aggregated from scratch.
+            if (acc == null || !incremental || frameStart != start || frameEnd < end) {
+                acc = accFactory.get();
+                start = end = frameStart;
+            }
+
+            while (end < frameEnd)
+                acc.add(part.row(end++));
+
+            return res = acc.end();
+        }
+    }
+}
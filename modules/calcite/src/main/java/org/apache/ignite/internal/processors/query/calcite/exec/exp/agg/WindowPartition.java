@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
+
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+
+/**
+ * Rows of a window partition sorted by the order keys of the window, with peer groups and frame bounds of each row.
+ */
+public class WindowPartition<Row> {
+    /** Frame bound offset for UNBOUNDED PRECEDING. */
+    public static final long UNBOUNDED_PRECEDING = Long.MIN_VALUE;
+
+    /** Frame bound offset for UNBOUNDED FOLLOWING. */
+    public static final long UNBOUNDED_FOLLOWING = Long.MAX_VALUE;
+
+    /** */
+    private final List<Row> rows;
+
+    /** */
+    private final RowHandler<Row> hnd;
+
+    /** Whether frame bounds are physical offsets (ROWS) or peer group bounds (RANGE). */
+    private final boolean rowsFrame;
+
+    /** */
+    private final long lowerBound;
+
+    /** */
+    private final long upperBound;
+
+    /** Peer group of each row. */
+    private final int[] peerGrps;
+
+    /** Index of the first row of each peer group followed by the partition size. */
+    private final int[] peerGrpStarts;
+
+    /**
+     * @param rows Rows of the partition.
+     * @param hnd Row handler.
+     * @param peerCmp Comparator of the order keys, or {@code null} if all rows of the partition are peers.
+     * @param rowsFrame {@code True} for ROWS frame, {@code false} for RANGE frame.
+     * @param lowerBound Frame lower bound offset relative to the current row.
+     * @param upperBound Frame upper bound offset relative to the current row.
+     */
+    public WindowPartition(
+        List<Row> rows,
+        RowHandler<Row> hnd,
+        Comparator<Row> peerCmp,
+        boolean rowsFrame,
+        long lowerBound,
+        long upperBound
+    ) {
+        assert upperBound != UNBOUNDED_PRECEDING && lowerBound != UNBOUNDED_FOLLOWING;
+        assert rowsFrame || ((lowerBound == UNBOUNDED_PRECEDING || lowerBound == 0) &&
+            (upperBound == UNBOUNDED_FOLLOWING || upperBound == 0)) : "Unsupported RANGE frame";
+
+        this.rows = rows;
+        this.hnd = hnd;
+        this.rowsFrame = rowsFrame;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+
+        peerGrps = new int[rows.size()];
+
+        int[] starts = new int[rows.size() + 1];
+        int grps = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (i == 0 || (peerCmp != null && peerCmp.compare(rows.get(i - 1), rows.get(i)) != 0))
+                starts[grps++] = i;
+
+            peerGrps[i] = grps - 1;
+        }
+
+        starts[grps] = rows.size();
+
+        peerGrpStarts = starts;
+    }
+
+    /** @return Number of rows in the partition. */
+    public int size() {
+        return rows.size();
+    }
+
+    /** @return Row of the partition. */
+    public Row row(int idx) {
+        return rows.get(idx);
+    }
+
+    /** @return Field value of a row of the partition. */
+    public Object get(int idx, int field) {
+        return hnd.get(field, rows.get(idx));
+    }
+
+    /** @return Zero based number of the peer group of the row. */
+    public int peerGroup(int idx) {
+        return peerGrps[idx];
+    }
+
+    /** @return Index of the first peer of the row. */
+    public int peerStart(int idx) {
+        return peerGrpStarts[peerGrps[idx]];
+    }
+
+    /** @return Index next to the last peer of the row. */
+    public int peerEnd(int idx) {
+        return peerGrpStarts[peerGrps[idx] + 1];
+    }
+
+    /** @return Index of the first row of the row frame. */
+    public int frameStart(int idx) {
+        if (lowerBound == UNBOUNDED_PRECEDING)
+            return 0;
+
+        if (!rowsFrame)
+            return peerStart(idx);
+
+        return (int)Math.min(Math.max(idx + lowerBound, 0), rows.size());
+    }
+
+    /** @return Index next to the last row of the row frame. The frame is empty if it's not greater than the frame start. */
+    public int frameEnd(int idx) {
+        if (upperBound == UNBOUNDED_FOLLOWING)
+            return rows.size();
+
+        if (!rowsFrame)
+            return peerEnd(idx);
+
+        return (int)Math.min(Math.max(idx + upperBound + 1, 0), rows.size());
+    }
+}
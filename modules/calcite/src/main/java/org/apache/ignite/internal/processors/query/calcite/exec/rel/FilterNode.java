@@ -18,20 +18,35 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.function.Predicate;
 
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.BatchPredicate;
 import org.apache.ignite.internal.util.typedef.F;
 
 /**
- *
+ * Filters input rows. Predicate is either evaluated per row, or over batches of input rows if created with
+ * a {@link BatchPredicate}.
  */
 public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row>, Downstream<Row> {
     /** */
     private final Predicate<Row> pred;
 
+    /** */
+    private final BatchPredicate<Row> batchPred;
+
+    /** Rows waiting for the batch predicate. */
+    private final Row[] batch;
+
+    /** Selection vector. */
+    private final int[] sel;
+
+    /** */
+    private int batchCnt;
+
     /** */
     private final Deque<Row> inBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
 
@@ -52,6 +67,24 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
         super(ctx, rowType);
 
         this.pred = pred;
+
+        batchPred = null;
+        batch = null;
+        sel = null;
+    }
+
+    /**
+     * @param ctx Execution context.
+     * @param batchPred Batch predicate.
+     */
+    public FilterNode(ExecutionContext<Row> ctx, RelDataType rowType, BatchPredicate<Row> batchPred) {
+        super(ctx, rowType);
+
+        this.batchPred = batchPred;
+
+        pred = null;
+        batch = (Row[])new Object[IN_BUFFER_SIZE];
+        sel = new int[IN_BUFFER_SIZE];
     }
 
     /** {@inheritDoc} */
@@ -76,8 +109,17 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
 
         waiting--;
 
-        if (pred.test(row))
-            inBuf.add(row);
+        if (batchPred == null) {
+            if (pred.test(row))
+                inBuf.add(row);
+        }
+        else {
+            batch[batchCnt++] = row;
+
+            // Evaluate the batch once all the requested rows are received.
+            if (batchCnt == batch.length || waiting == 0)
+                filterBatch();
+        }
 
         filter();
     }
@@ -91,6 +133,9 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
 
         waiting = -1;
 
+        if (batchCnt > 0)
+            filterBatch();
+
         filter();
     }
 
@@ -107,6 +152,26 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
         requested = 0;
         waiting = 0;
         inBuf.clear();
+
+        if (batch != null) {
+            Arrays.fill(batch, 0, batchCnt, null);
+
+            batchCnt = 0;
+        }
+    }
+
+    /** */
+    private void filterBatch() {
+        int cnt = batchCnt;
+
+        batchCnt = 0;
+
+        int selected = batchPred.test(batch, sel, cnt);
+
+        for (int i = 0; i < selected; i++)
+            inBuf.add(batch[sel[i]]);
+
+        Arrays.fill(batch, 0, cnt, null);
     }
 
     /** */
@@ -31,19 +31,29 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.Accumulator;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.negate;
 
 /**
- *
+ * Hash aggregate node.
+ * If spilling to disk is enabled and the memory quota is exceeded, groups collected so far are kept in memory and
+ * rows of the other groups are offloaded to disk partitioned by the group key hash. Partitions are aggregated one by
+ * one after the in-memory groups are emitted. Only single grouping with non-empty key on MAP and SINGLE phases
+ * can be spilled.
  */
 public class HashAggregateNode<Row> extends AggregateNode<Row> {
+    /** Count of partitions to offload rows to. */
+    private static final int SPILL_PARTITIONS = 16;
+
     /** */
     private final ImmutableBitSet grpSet;
 
@@ -59,6 +69,9 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     /** */
     private boolean inLoop;
 
+    /** Partitions of offloaded input rows, {@code null} if nothing is spilled. */
+    private List<SpillFile<Row>> parts;
+
     /**
      * @param ctx Execution context.
      */
@@ -122,6 +135,15 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting--;
 
+        if (parts != null) {
+            spill(row);
+
+            if (waiting == 0)
+                source().request(waiting = IN_BUFFER_SIZE);
+
+            return;
+        }
+
         boolean groupingsChanged = false;
 
         for (Grouping grouping : groupings) {
@@ -147,8 +169,18 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         // aggregations (all redundant columns are dropped by optimizer earlier), so, just calculating the size of the
         // whole row we have close to real memory consumption by row referenced objects (except service structures).
         // Also we can guess size of service structures required by grouping and use it as constant row overhead.
-        if (hasAggAccum || groupingsChanged)
-            nodeMemoryTracker.onRowAdded(row);
+        if (hasAggAccum || groupingsChanged) {
+            if (!canSpill())
+                nodeMemoryTracker.onRowAdded(row);
+            else if (!nodeMemoryTracker.tryRowAdded(row)) {
+                SpillManager spillMgr = context().spillManager();
+
+                parts = new ArrayList<>(SPILL_PARTITIONS);
+
+                for (int i = 0; i < SPILL_PARTITIONS; i++)
+                    parts.add(spillMgr.createFile());
+            }
+        }
 
         if (waiting == 0)
             source().request(waiting = IN_BUFFER_SIZE);
@@ -171,9 +203,82 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         requested = 0;
         waiting = 0;
         groupings.forEach(Grouping::reset);
+        closeParts();
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeParts();
+
+        super.closeInternal();
+    }
+
+    /** */
+    private boolean canSpill() {
+        return context().spillManager() != null && type != AggregateType.REDUCE && groupings.size() == 1
+            && !groupings.get(0).grpFields.isEmpty();
+    }
+
+    /**
+     * Adds row to the group if it is already in memory, otherwise offloads row to the partition of its group.
+     * Note, memory consumed by in-memory groups is not tracked anymore.
+     */
+    private void spill(Row row) throws Exception {
+        Grouping grouping = groupings.get(0);
+
+        GroupKey grpKey = grouping.groupKey(row);
+
+        if (grouping.groups.containsKey(grpKey))
+            grouping.addOnMapper(grpKey, row);
+        else
+            parts.get(U.safeAbs(grpKey.hashCode()) % parts.size()).add(row);
+    }
+
+    /**
+     * Aggregates the next offloaded partition in memory.
+     *
+     * @return {@code False} if there are no more partitions.
+     */
+    private boolean restorePartition() throws Exception {
+        if (parts == null)
+            return false;
+
+        nodeMemoryTracker.reset();
+
+        Grouping grouping = groupings.get(0);
+
+        while (!parts.isEmpty()) {
+            try (SpillFile<Row> part = parts.remove(parts.size() - 1)) {
+                if (part.size() == 0)
+                    continue;
+
+                for (Iterator<Row> it = part.iterator(); it.hasNext(); ) {
+                    checkState();
+
+                    Row row = it.next();
+
+                    grouping.add(row);
+
+                    nodeMemoryTracker.onRowAdded(row);
+                }
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** */
+    private void closeParts() {
+        if (parts != null) {
+            parts.forEach(U::closeQuiet);
+
+            parts = null;
+        }
+    }
+
     /** */
     private void flush() throws Exception {
         if (isClosed())
@@ -188,7 +293,16 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         inLoop = true;
         try {
-            while (requested > 0 && !groupingsQueue.isEmpty()) {
+            while (requested > 0) {
+                if (groupingsQueue.isEmpty()) {
+                    if (!restorePartition())
+                        break;
+
+                    groupingsQueue = groupingsQueue();
+
+                    continue;
+                }
+
                 Grouping grouping = groupingsQueue.peek();
 
                 int toSnd = Math.min(requested, IN_BUFFER_SIZE - processed);
@@ -292,14 +406,22 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         }
 
         /** */
-        private void addOnMapper(Row row) {
+        private GroupKey groupKey(Row row) {
             GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
 
             for (Integer field : grpFields)
                 b.add(handler.get(field, row));
 
-            GroupKey grpKey = b.build();
+            return b.build();
+        }
 
+        /** */
+        private void addOnMapper(Row row) {
+            addOnMapper(groupKey(row), row);
+        }
+
+        /** */
+        private void addOnMapper(GroupKey grpKey, Row row) {
             List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(grpKey, this::create);
 
             for (AccumulatorWrapper<Row> wrapper : wrappers)
@@ -0,0 +1,595 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash join node. Materializes the right (build) input into an on-heap hash table keyed by the equi-join keys
+ * and then streams the left (probe) input through it. Order of the left input is preserved.
+ */
+public abstract class HashJoinNode<Row> extends MemoryTrackingNode<Row> {
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    protected static final int NOT_WAITING = -1;
+
+    /** Maximum count of distinct build side keys to build a runtime filter for the probe side. */
+    static final int RUNTIME_FILTER_MAX_KEYS = 100_000;
+
+    /** */
+    protected final RowHandler<Row> handler;
+
+    /** Left (probe side) key fields. */
+    private final int[] leftKeys;
+
+    /** Right (build side) key fields. */
+    private final int[] rightKeys;
+
+    /** Additional non-equi condition, or {@code null} if the join is a pure equi-join. */
+    @Nullable protected final BiPredicate<Row, Row> nonEquiCond;
+
+    /** Build side rows grouped by the join key. */
+    private final Map<GroupKey, List<Row>> hashStore = new HashMap<>();
+
+    /** */
+    protected int requested;
+
+    /** */
+    protected int waitingLeft;
+
+    /** */
+    protected int waitingRight;
+
+    /** */
+    protected final Deque<Row> leftInBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** */
+    protected boolean inLoop;
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Output row type.
+     * @param joinInfo Join keys.
+     * @param nonEquiCond Non-equi part of the join condition.
+     */
+    private HashJoinNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        JoinInfo joinInfo,
+        @Nullable BiPredicate<Row, Row> nonEquiCond
+    ) {
+        super(ctx, rowType, HASH_MAP_ROW_OVERHEAD);
+
+        assert !F.isEmpty(joinInfo.leftKeys) && joinInfo.leftKeys.size() == joinInfo.rightKeys.size();
+
+        leftKeys = joinInfo.leftKeys.toIntArray();
+        rightKeys = joinInfo.rightKeys.toIntArray();
+        this.nonEquiCond = nonEquiCond;
+
+        handler = ctx.rowHandler();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop)
+            context().execute(this::doJoin, this::onError);
+    }
+
+    /** */
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        hashStore.clear();
+        leftInBuf.clear();
+
+        nodeMemoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx == 0)
+            return new Downstream<Row>() {
+                /** {@inheritDoc} */
+                @Override public void push(Row row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        else if (idx == 1)
+            return new Downstream<Row>() {
+                /** {@inheritDoc} */
+                @Override public void push(Row row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    /** */
+    private void pushLeft(Row row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        leftInBuf.add(row);
+
+        join();
+    }
+
+    /** */
+    private void pushRight(Row row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        GroupKey key = key(row, rightKeys);
+
+        // Rows with NULL keys never match anything, there is no need to keep them.
+        if (key != null) {
+            hashStore.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+
+            nodeMemoryTracker.onRowAdded(row);
+        }
+
+        if (waitingRight == 0)
+            rightSource().request(waitingRight = IN_BUFFER_SIZE);
+    }
+
+    /** */
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        join();
+    }
+
+    /** */
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        sendRuntimeFilter();
+
+        join();
+    }
+
+    /**
+     * Sends a filter of the build side keys to the remote fragments producing the probe side, so rows which can't
+     * be joined are dropped before they are sent over the network.
+     */
+    private void sendRuntimeFilter() {
+        if (!runtimeFilterApplicable() || !(leftSource() instanceof Inbox) || hashStore.size() > RUNTIME_FILTER_MAX_KEYS)
+            return;
+
+        RuntimeFilter filter = RuntimeFilter.build(leftKeys, hashStore.keySet());
+
+        if (filter != null)
+            ((Inbox<Row>)leftSource()).sendRuntimeFilter(filter);
+    }
+
+    /**
+     * @return {@code True} if probe side rows without matching build side rows can be dropped by the join.
+     */
+    protected boolean runtimeFilterApplicable() {
+        return false;
+    }
+
+    /** */
+    protected Node<Row> leftSource() {
+        return sources().get(0);
+    }
+
+    /** */
+    protected Node<Row> rightSource() {
+        return sources().get(1);
+    }
+
+    /**
+     * @param left Left row.
+     * @return Build side rows having the same join key as the given left row.
+     */
+    protected List<Row> lookup(Row left) {
+        GroupKey key = key(left, leftKeys);
+
+        if (key == null)
+            return Collections.emptyList();
+
+        List<Row> rows = hashStore.get(key);
+
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    /**
+     * @param left Left row.
+     * @param right Right row from the same hash bucket.
+     * @return {@code True} if the rows satisfy the whole join condition.
+     */
+    protected boolean matches(Row left, Row right) {
+        return nonEquiCond == null || nonEquiCond.test(left, right);
+    }
+
+    /**
+     * @return Key of the row or {@code null} if any of key fields is {@code null}, since NULL = NULL is not true.
+     */
+    private @Nullable GroupKey key(Row row, int[] keys) {
+        GroupKey.Builder b = GroupKey.builder(keys.length);
+
+        for (int field : keys) {
+            Object val = handler.get(field, row);
+
+            if (val == null)
+                return null;
+
+            b.add(val);
+        }
+
+        return b.build();
+    }
+
+    /** Requests more rows from the inputs and completes the join if both inputs are drained. */
+    protected void requestOrEnd(boolean leftInProgress) throws Exception {
+        if (waitingRight == 0)
+            rightSource().request(waitingRight = IN_BUFFER_SIZE);
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty())
+            leftSource().request(waitingLeft = IN_BUFFER_SIZE);
+
+        if (requested > 0 && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && !leftInProgress
+            && leftInBuf.isEmpty()) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    /** */
+    protected abstract void join() throws Exception;
+
+    /** */
+    @NotNull public static <Row> HashJoinNode<Row> create(ExecutionContext<Row> ctx, RelDataType outputRowType,
+        RelDataType leftRowType, RelDataType rightRowType, JoinRelType joinType, JoinInfo joinInfo,
+        @Nullable BiPredicate<Row, Row> nonEquiCond) {
+        switch (joinType) {
+            case INNER:
+                return new InnerJoin<>(ctx, outputRowType, joinInfo, nonEquiCond);
+
+            case LEFT: {
+                RowHandler.RowFactory<Row> rightRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rightRowType);
+
+                return new LeftJoin<>(ctx, outputRowType, joinInfo, nonEquiCond, rightRowFactory);
+            }
+
+            case SEMI:
+                return new SemiJoin<>(ctx, outputRowType, joinInfo, nonEquiCond);
+
+            case ANTI:
+                return new AntiJoin<>(ctx, outputRowType, joinInfo, nonEquiCond);
+
+            default:
+                throw new IllegalStateException("Join type \"" + joinType + "\" is not supported by hash join");
+        }
+    }
+
+    /** */
+    private static class InnerJoin<Row> extends HashJoinNode<Row> {
+        /** */
+        private Row left;
+
+        /** */
+        private List<Row> rightRows = Collections.emptyList();
+
+        /** */
+        private int rightIdx;
+
+        /** */
+        public InnerJoin(ExecutionContext<Row> ctx, RelDataType rowType, JoinInfo joinInfo,
+            @Nullable BiPredicate<Row, Row> nonEquiCond) {
+            super(ctx, rowType, joinInfo, nonEquiCond);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void rewindInternal() {
+            left = null;
+            rightRows = Collections.emptyList();
+            rightIdx = 0;
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean runtimeFilterApplicable() {
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                        checkState();
+
+                        if (left == null) {
+                            left = leftInBuf.remove();
+                            rightRows = lookup(left);
+                            rightIdx = 0;
+                        }
+
+                        while (requested > 0 && rightIdx < rightRows.size()) {
+                            Row right = rightRows.get(rightIdx++);
+
+                            if (!matches(left, right))
+                                continue;
+
+                            requested--;
+                            downstream().push(handler.concat(left, right));
+                        }
+
+                        if (rightIdx == rightRows.size())
+                            left = null;
+                    }
+                }
+                finally {
+                    inLoop = false;
+                }
+            }
+
+            requestOrEnd(left != null);
+        }
+    }
+
+    /** */
+    private static class LeftJoin<Row> extends HashJoinNode<Row> {
+        /** Right row factory. */
+        private final RowHandler.RowFactory<Row> rightRowFactory;
+
+        /** Whether current left row was matched or not. */
+        private boolean matched;
+
+        /** */
+        private Row left;
+
+        /** */
+        private List<Row> rightRows = Collections.emptyList();
+
+        /** */
+        private int rightIdx;
+
+        /** */
+        public LeftJoin(
+            ExecutionContext<Row> ctx,
+            RelDataType rowType,
+            JoinInfo joinInfo,
+            @Nullable BiPredicate<Row, Row> nonEquiCond,
+            RowHandler.RowFactory<Row> rightRowFactory
+        ) {
+            super(ctx, rowType, joinInfo, nonEquiCond);
+
+            this.rightRowFactory = rightRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void rewindInternal() {
+            matched = false;
+            left = null;
+            rightRows = Collections.emptyList();
+            rightIdx = 0;
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                        checkState();
+
+                        if (left == null) {
+                            left = leftInBuf.remove();
+                            rightRows = lookup(left);
+                            rightIdx = 0;
+                            matched = false;
+                        }
+
+                        while (requested > 0 && rightIdx < rightRows.size()) {
+                            Row right = rightRows.get(rightIdx++);
+
+                            if (!matches(left, right))
+                                continue;
+
+                            requested--;
+                            matched = true;
+
+                            downstream().push(handler.concat(left, right));
+                        }
+
+                        if (rightIdx == rightRows.size()) {
+                            if (!matched) {
+                                if (requested == 0)
+                                    break;
+
+                                requested--;
+
+                                downstream().push(handler.concat(left, rightRowFactory.create()));
+                            }
+
+                            left = null;
+                        }
+                    }
+                }
+                finally {
+                    inLoop = false;
+                }
+            }
+
+            requestOrEnd(left != null);
+        }
+    }
+
+    /** */
+    private static class SemiJoin<Row> extends HashJoinNode<Row> {
+        /** */
+        public SemiJoin(ExecutionContext<Row> ctx, RelDataType rowType, JoinInfo joinInfo,
+            @Nullable BiPredicate<Row, Row> nonEquiCond) {
+            super(ctx, rowType, joinInfo, nonEquiCond);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean runtimeFilterApplicable() {
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && !leftInBuf.isEmpty()) {
+                        checkState();
+
+                        Row left = leftInBuf.remove();
+
+                        for (Row right : lookup(left)) {
+                            if (matches(left, right)) {
+                                requested--;
+                                downstream().push(left);
+
+                                break;
+                            }
+                        }
+                    }
+                }
+                finally {
+                    inLoop = false;
+                }
+            }
+
+            requestOrEnd(false);
+        }
+    }
+
+    /** */
+    private static class AntiJoin<Row> extends HashJoinNode<Row> {
+        /** */
+        public AntiJoin(ExecutionContext<Row> ctx, RelDataType rowType, JoinInfo joinInfo,
+            @Nullable BiPredicate<Row, Row> nonEquiCond) {
+            super(ctx, rowType, joinInfo, nonEquiCond);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void join() throws Exception {
+            if (waitingRight == NOT_WAITING) {
+                inLoop = true;
+                try {
+                    while (requested > 0 && !leftInBuf.isEmpty()) {
+                        checkState();
+
+                        Row left = leftInBuf.remove();
+
+                        boolean matched = false;
+
+                        for (Row right : lookup(left)) {
+                            if (matches(left, right)) {
+                                matched = true;
+
+                                break;
+                            }
+                        }
+
+                        if (!matched) {
+                            requested--;
+                            downstream().push(left);
+                        }
+                    }
+                }
+                finally {
+                    inLoop = false;
+                }
+            }
+
+            requestOrEnd(false);
+        }
+    }
+}
@@ -34,6 +34,8 @@ import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExchangeService;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MailboxRegistry;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -325,6 +327,23 @@ public class Inbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Singl
         }
     }
 
+    /**
+     * Sends a runtime join filter to all source nodes of the exchange. The filter is an optimization,
+     * so a failure to send it is not an error.
+     *
+     * @param filter Filter of rows produced by the source fragment.
+     */
+    public void sendRuntimeFilter(RuntimeFilter filter) {
+        for (UUID nodeId : srcNodeIds) {
+            try {
+                exchange.sendRuntimeFilter(nodeId, queryId(), srcFragmentId, exchangeId, filter);
+            }
+            catch (IgniteCheckedException e) {
+                U.warn(context().logger(), "Failed to send runtime filter.", e);
+            }
+        }
+    }
+
     /** */
     private void acknowledge(UUID nodeId, int batchId) throws IgniteCheckedException {
         exchange.acknowledge(nodeId, queryId(), srcFragmentId, exchangeId, batchId);
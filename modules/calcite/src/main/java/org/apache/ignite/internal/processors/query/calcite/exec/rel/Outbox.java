@@ -25,14 +25,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExchangeService;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MailboxRegistry;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
 import org.apache.ignite.internal.processors.query.calcite.trait.Destination;
-import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
@@ -61,6 +62,9 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
     /** */
     private final Map<UUID, Buffer> nodeBuffers = new HashMap<>();
 
+    /** Runtime join filters of target nodes. */
+    private final Map<UUID, Predicate<Row>> rtFilters = new HashMap<>();
+
     /** */
     private int waiting;
 
@@ -111,6 +115,28 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         nodeBuffers.get(nodeId).acknowledge(batchId);
     }
 
+    /**
+     * Callback method. Applies a runtime join filter built by the target node: rows sent to the node are dropped
+     * if they can't match any row of the join build side. If the target is the only one and rows are produced
+     * by a scan, the filter is pushed down to the scan.
+     *
+     * @param nodeId Target ID.
+     * @param filter Runtime filter.
+     */
+    public void onRuntimeFilter(UUID nodeId, RuntimeFilter filter) throws Exception {
+        checkState();
+
+        if (!dest.targets().contains(nodeId))
+            return;
+
+        Predicate<Row> pred = filter.predicate(context().rowHandler());
+
+        if (dest.targets().size() == 1 && source() instanceof ScanNode)
+            ((ScanNode<Row>)source()).addRuntimeFilter(pred);
+        else
+            rtFilters.merge(nodeId, pred, Predicate::and);
+    }
+
     /** */
     public void init() {
         try {
@@ -230,12 +256,20 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         while (!inBuf.isEmpty()) {
             checkState();
 
-            Collection<Buffer> buffers = dest.targets(inBuf.peek()).stream()
+            Row row0 = inBuf.peek();
+
+            Collection<UUID> targets = rtFilters.isEmpty() ? dest.targets(row0) : filterTargets(row0);
+
+            if (targets.isEmpty()) {
+                inBuf.remove();
+
+                continue;
+            }
+
+            Collection<Buffer> buffers = targets.stream()
                 .map(this::getOrCreateBuffer)
                 .collect(Collectors.toList());
 
-            assert !F.isEmpty(buffers);
-
             if (!buffers.stream().allMatch(Buffer::ready))
                 return;
 
@@ -261,6 +295,32 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         }
     }
 
+    /**
+     * @param row Row.
+     * @return Targets of the row which runtime filters don't reject the row.
+     */
+    private Collection<UUID> filterTargets(Row row) {
+        List<UUID> targets = dest.targets(row);
+        List<UUID> res = null;
+
+        for (int i = 0; i < targets.size(); i++) {
+            UUID nodeId = targets.get(i);
+            Predicate<Row> pred = rtFilters.get(nodeId);
+
+            if (pred == null || pred.test(row)) {
+                if (res != null)
+                    res.add(nodeId);
+            }
+            else if (res == null) {
+                res = new ArrayList<>(targets.size());
+
+                res.addAll(targets.subList(0, i));
+            }
+        }
+
+        return res == null ? targets : res;
+    }
+
     /** */
     public void onNodeLeft(UUID nodeId) {
         if (nodeId.equals(context().originatingNodeId()))
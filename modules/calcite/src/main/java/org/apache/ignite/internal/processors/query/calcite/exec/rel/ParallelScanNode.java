@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scans several storage sources concurrently. Every source is scanned in its own query executor thread, rows are
+ * merged in the fragment thread. Rows order isn't preserved.
+ */
+public class ParallelScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row> {
+    /** */
+    private final List<Iterable<Row>> srcs;
+
+    /** */
+    @Nullable private final Supplier<Predicate<Row>> filterFactory;
+
+    /** */
+    @Nullable private final Supplier<Function<Row, Row>> rowTransformerFactory;
+
+    /** */
+    @Nullable private final AtomicLong processedRowsCntr;
+
+    /** Rows received from workers and not pushed downstream yet. */
+    private final Deque<Row> buf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** Workers waiting for free space in the buffer. */
+    private final Deque<Worker> paused = new ArrayDeque<>();
+
+    /** Workers of the current scan, {@code null} if the scan isn't started yet. */
+    private List<Worker> workers;
+
+    /** */
+    private int finished;
+
+    /** */
+    private int requested;
+
+    /** */
+    private boolean inLoop;
+
+    /** */
+    private boolean firstReq = true;
+
+    /**
+     * @param storageName Storage (index or table) name.
+     * @param ctx Execution context.
+     * @param rowType Row type.
+     * @param srcs Sources to scan concurrently.
+     * @param filterFactory Row filter factory, every worker thread uses its own filter.
+     * @param rowTransformerFactory Row transformer (projection) factory, every worker thread uses its own transformer.
+     */
+    public ParallelScanNode(
+        String storageName,
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        List<Iterable<Row>> srcs,
+        @Nullable Supplier<Predicate<Row>> filterFactory,
+        @Nullable Supplier<Function<Row, Row>> rowTransformerFactory
+    ) {
+        super(ctx, rowType);
+
+        this.srcs = srcs;
+        this.filterFactory = filterFactory;
+        this.rowTransformerFactory = rowTransformerFactory;
+
+        processedRowsCntr = context().ioTracker().processedRowsCounter("Scanned " + storageName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert rowsCnt > 0 && requested == 0 : "rowsCnt=" + rowsCnt + ", requested=" + requested;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (workers == null)
+            start();
+
+        if (!inLoop) {
+            if (firstReq) {
+                try {
+                    push();
+                }
+                catch (Throwable e) {
+                    onError(e);
+                }
+
+                firstReq = false;
+            }
+            else
+                context().execute(this::push, this::onError);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void closeInternal() {
+        super.closeInternal();
+
+        stop();
+
+        srcs.forEach(Commons::closeQuiet);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        stop();
+
+        requested = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void register(List<Node<Row>> sources) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** */
+    private void start() {
+        workers = new ArrayList<>(srcs.size());
+
+        for (int i = 0; i < srcs.size(); i++) {
+            workers.add(new Worker(
+                i + 1,
+                srcs.get(i),
+                filterFactory == null ? null : filterFactory.get(),
+                rowTransformerFactory == null ? null : rowTransformerFactory.get()
+            ));
+        }
+
+        workers.forEach(Worker::schedule);
+    }
+
+    /** Stops workers of the current scan and drops rows received from them. */
+    private void stop() {
+        if (workers == null)
+            return;
+
+        workers.forEach(Worker::stop);
+
+        workers = null;
+        finished = 0;
+
+        paused.clear();
+        buf.clear();
+    }
+
+    /**
+     * Accepts a batch of rows read by a worker. Is called in the fragment thread.
+     */
+    private void onBatch(Worker worker, List<Row> batch, boolean last) throws Exception {
+        if (isClosed() || worker.stopped)
+            return;
+
+        buf.addAll(batch);
+
+        if (last)
+            finished++;
+        else
+            paused.add(worker);
+
+        if (!inLoop)
+            push();
+    }
+
+    /** */
+    private void push() throws Exception {
+        if (isClosed())
+            return;
+
+        checkState();
+
+        inLoop = true;
+        try {
+            while (requested > 0 && !buf.isEmpty()) {
+                checkState();
+
+                requested--;
+
+                downstream().push(buf.poll());
+            }
+        }
+        finally {
+            inLoop = false;
+        }
+
+        if (workers == null)
+            return; // Rewound by downstream.
+
+        while (!paused.isEmpty() && buf.size() < IN_BUFFER_SIZE * workers.size())
+            paused.poll().schedule();
+
+        if (requested > 0 && buf.isEmpty() && finished == workers.size()) {
+            requested = 0;
+
+            downstream().end();
+        }
+    }
+
+    /**
+     * Scans a single source. Reads rows by batches, every batch is read by a separate task executed in the worker
+     * thread and is passed to the fragment thread. The next batch is requested once there is free space in the buffer.
+     */
+    private class Worker {
+        /** Index of the worker thread. */
+        private final int idx;
+
+        /** */
+        private final Iterable<Row> src;
+
+        /** */
+        @Nullable private final Predicate<Row> filter;
+
+        /** */
+        @Nullable private final Function<Row, Row> rowTransformer;
+
+        /** Is accessed by the worker thread only. */
+        private Iterator<Row> it;
+
+        /** */
+        private volatile boolean stopped;
+
+        /** */
+        private Worker(
+            int idx,
+            Iterable<Row> src,
+            @Nullable Predicate<Row> filter,
+            @Nullable Function<Row, Row> rowTransformer
+        ) {
+            this.idx = idx;
+            this.src = src;
+            this.filter = filter;
+            this.rowTransformer = rowTransformer;
+        }
+
+        /** Schedules reading of the next batch. */
+        private void schedule() {
+            context().execute(idx, this::readBatch, this::onWorkerError);
+        }
+
+        /** Reads the next batch of rows. Is called in the worker thread. */
+        private synchronized void readBatch() {
+            if (stopped)
+                return;
+
+            boolean trackingStarted = context().ioTracker().startTracking();
+
+            try {
+                if (it == null)
+                    it = src.iterator();
+
+                List<Row> batch = new ArrayList<>(IN_BUFFER_SIZE);
+
+                int processed = 0;
+
+                while (processed < IN_BUFFER_SIZE && it.hasNext()) {
+                    Row r = it.next();
+
+                    processed++;
+
+                    if (filter == null || filter.test(r))
+                        batch.add(rowTransformer == null ? r : rowTransformer.apply(r));
+                }
+
+                boolean last = !it.hasNext();
+
+                if (last) {
+                    Commons.closeQuiet(it);
+                    it = null;
+                }
+
+                if (processedRowsCntr != null)
+                    processedRowsCntr.addAndGet(processed);
+
+                context().execute(() -> onBatch(this, batch, last), ParallelScanNode.this::onError);
+            }
+            finally {
+                if (trackingStarted)
+                    context().ioTracker().stopTracking();
+            }
+        }
+
+        /** Passes an error to the fragment thread. */
+        private void onWorkerError(Throwable e) {
+            context().execute(() -> onError(e), ParallelScanNode.this::onError);
+        }
+
+        /**
+         * Stops the worker. Is called in the fragment thread and waits for the batch being read, so the source
+         * can be safely closed after the call.
+         */
+        private synchronized void stop() {
+            stopped = true;
+
+            Commons.closeQuiet(it);
+            it = null;
+        }
+    }
+}
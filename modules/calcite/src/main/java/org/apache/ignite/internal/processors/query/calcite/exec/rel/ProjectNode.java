@@ -17,18 +17,34 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.Arrays;
 import java.util.function.Function;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.BatchProjection;
 import org.apache.ignite.internal.util.typedef.F;
 
 /**
- *
+ * Projects input rows. Projection is either applied per row, or over batches of input rows if created with
+ * a {@link BatchProjection}. In the latter case rows are passed downstream once the batch is full or all
+ * the requested rows are received.
  */
 public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Row>, Downstream<Row> {
     /** */
     private final Function<Row, Row> prj;
 
+    /** */
+    private final BatchProjection<Row> batchPrj;
+
+    /** Rows waiting for the batch projection. */
+    private final Row[] batch;
+
+    /** */
+    private int batchCnt;
+
+    /** */
+    private int waiting;
+
     /**
      * @param ctx Execution context.
      * @param prj Projection.
@@ -37,11 +53,33 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
         super(ctx, rowType);
 
         this.prj = prj;
+
+        batchPrj = null;
+        batch = null;
+    }
+
+    /**
+     * @param ctx Execution context.
+     * @param batchPrj Batch projection.
+     */
+    public ProjectNode(ExecutionContext<Row> ctx, RelDataType rowType, BatchProjection<Row> batchPrj) {
+        super(ctx, rowType);
+
+        this.batchPrj = batchPrj;
+
+        prj = null;
+        batch = (Row[])new Object[IN_BUFFER_SIZE];
     }
 
     /** {@inheritDoc} */
     @Override protected void rewindInternal() {
-        // No-op.
+        waiting = 0;
+
+        if (batch != null) {
+            Arrays.fill(batch, 0, batchCnt, null);
+
+            batchCnt = 0;
+        }
     }
 
     /** {@inheritDoc} */
@@ -51,6 +89,8 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
 
         checkState();
 
+        waiting += rowsCnt;
+
         source().request(rowsCnt);
     }
 
@@ -60,7 +100,18 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
 
         checkState();
 
-        downstream().push(prj.apply(row));
+        waiting--;
+
+        if (batchPrj == null) {
+            downstream().push(prj.apply(row));
+
+            return;
+        }
+
+        batch[batchCnt++] = row;
+
+        if (batchCnt == batch.length || waiting == 0)
+            pushBatch();
     }
 
     /** {@inheritDoc} */
@@ -69,9 +120,31 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
 
         checkState();
 
+        if (batchCnt > 0)
+            pushBatch();
+
         downstream().end();
     }
 
+    /** */
+    private void pushBatch() throws Exception {
+        int cnt = batchCnt;
+
+        batchCnt = 0;
+
+        Row[] out = (Row[])new Object[cnt];
+
+        batchPrj.apply(batch, out, cnt);
+
+        Arrays.fill(batch, 0, cnt, null);
+
+        for (int i = 0; i < cnt; i++) {
+            checkState();
+
+            downstream().push(out[i]);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         if (idx != 0)
@@ -39,6 +39,9 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
     /** */
     @Nullable private final Function<Row, Row> rowTransformer;
 
+    /** Runtime join filter, applied to transformed rows. */
+    @Nullable private Predicate<Row> rtFilter;
+
     /** */
     private Iterator<Row> it;
 
@@ -160,12 +163,14 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
             Row r = it.next();
 
             if (filter == null || filter.test(r)) {
-                requested--;
-
                 if (rowTransformer != null)
                     r = rowTransformer.apply(r);
 
-                downstream().push(r);
+                if (rtFilter == null || rtFilter.test(r)) {
+                    requested--;
+
+                    downstream().push(r);
+                }
             }
 
             if (++processed == IN_BUFFER_SIZE && requested > 0) {
@@ -188,6 +193,15 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         return processed;
     }
 
+    /**
+     * Adds a runtime join filter. Rows rejected by the filter are skipped.
+     *
+     * @param rtFilter Filter of rows produced by this node.
+     */
+    public void addRuntimeFilter(Predicate<Row> rtFilter) {
+        this.rtFilter = this.rtFilter == null ? rtFilter : this.rtFilter.and(rtFilter);
+    }
+
     /** */
     @Nullable public Predicate<Row> filter() {
         return filter;
@@ -18,17 +18,22 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.SpillFile;
 import org.apache.ignite.internal.util.GridBoundedPriorityQueue;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ * If spilling to disk is enabled and the memory quota is exceeded, sorted runs of rows are offloaded to disk
+ * and merged back on output (limited sort keeps only top rows in memory and is never spilled).
  */
 public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
     /** How many rows are requested by downstream. */
@@ -49,6 +54,15 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
     /** Reverse-ordered rows in case of limited sort. */
     private List<Row> reversed;
 
+    /** Rows comparator. */
+    private final Comparator<Row> comp;
+
+    /** Sorted runs offloaded to disk, {@code null} if nothing is spilled. */
+    private List<SpillFile<Row>> runs;
+
+    /** Heads of the sorted runs (including in-memory rows) to merge, ordered by the current row. */
+    private PriorityQueue<RunCursor> merge;
+
     /**
      * @param ctx Execution context.
      * @param comp Rows comparator.
@@ -68,6 +82,8 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         limit = fetch == null ? -1 : fetch.get() + (offset == null ? 0 : offset.get());
 
+        this.comp = comp;
+
         if (limit < 0)
             rows = new PriorityQueue<>(comp);
         else {
@@ -92,9 +108,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         if (reversed != null)
             reversed.clear();
 
+        closeRuns();
+
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeRuns();
+
+        super.closeInternal();
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         if (idx != 0)
@@ -133,10 +158,16 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         Row top = rows.peek();
 
         if (rows.add(row)) {
-            nodeMemoryTracker.onRowAdded(row);
+            if (limit < 0 && context().spillManager() != null) {
+                if (!nodeMemoryTracker.tryRowAdded(row))
+                    spillRun();
+            }
+            else {
+                nodeMemoryTracker.onRowAdded(row);
 
-            if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
-                nodeMemoryTracker.onRowRemoved(top);
+                if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
+                    nodeMemoryTracker.onRowRemoved(top);
+            }
         }
 
         if (waiting == 0)
@@ -164,6 +195,12 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         int processed = 0;
 
+        if (runs != null) {
+            flushMerged();
+
+            return;
+        }
+
         inLoop = true;
         try {
             // Prepare final order (reversed).
@@ -215,4 +252,116 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
             inLoop = false;
         }
     }
+
+    /** Pushes rows merged from the sorted runs. */
+    private void flushMerged() throws Exception {
+        if (merge == null) {
+            merge = new PriorityQueue<>(runs.size() + 1, (r1, r2) -> comp.compare(r1.row, r2.row));
+
+            // In-memory rows are the last run.
+            List<Row> sorted = new ArrayList<>(rows.size());
+
+            while (!rows.isEmpty())
+                sorted.add(rows.poll());
+
+            for (SpillFile<Row> run : runs)
+                merge.add(new RunCursor(run.iterator()));
+
+            if (!sorted.isEmpty())
+                merge.add(new RunCursor(sorted.iterator()));
+        }
+
+        int processed = 0;
+
+        inLoop = true;
+        try {
+            while (requested > 0 && !merge.isEmpty()) {
+                checkState();
+
+                requested--;
+
+                RunCursor cur = merge.poll();
+
+                Row row = cur.row;
+
+                if (cur.next())
+                    merge.add(cur);
+
+                downstream().push(row);
+
+                if (++processed >= IN_BUFFER_SIZE && requested > 0) {
+                    // allow others to do their job
+                    context().execute(this::flush, this::onError);
+
+                    return;
+                }
+            }
+
+            if (merge.isEmpty()) {
+                if (requested > 0)
+                    downstream().end();
+
+                requested = 0;
+            }
+        }
+        finally {
+            inLoop = false;
+        }
+    }
+
+    /** Offloads in-memory rows to disk as a sorted run. */
+    private void spillRun() throws Exception {
+        if (runs == null)
+            runs = new ArrayList<>();
+
+        SpillFile<Row> run = context().spillManager().createFile();
+
+        runs.add(run);
+
+        while (!rows.isEmpty())
+            run.add(rows.poll());
+
+        nodeMemoryTracker.reset();
+    }
+
+    /** */
+    private void closeRuns() {
+        if (runs != null) {
+            runs.forEach(U::closeQuiet);
+
+            runs = null;
+        }
+
+        merge = null;
+    }
+
+    /** Current row of a sorted run. */
+    private class RunCursor {
+        /** */
+        private final Iterator<Row> it;
+
+        /** */
+        private Row row;
+
+        /** */
+        private RunCursor(Iterator<Row> it) {
+            this.it = it;
+
+            next();
+        }
+
+        /**
+         * Moves to the next row of the run.
+         *
+         * @return {@code False} if there are no more rows.
+         */
+        private boolean next() {
+            if (!it.hasNext())
+                return false;
+
+            row = it.next();
+
+            return true;
+        }
+    }
 }
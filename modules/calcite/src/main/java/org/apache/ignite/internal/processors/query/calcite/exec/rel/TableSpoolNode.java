@@ -18,13 +18,18 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.SpillFile;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
  * Table spool node.
+ * If spilling to disk is enabled and the memory quota is exceeded, the rest of rows is offloaded to disk
+ * and read from there on each pass.
  */
 public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
     /** How many rows are requested by downstream. */
@@ -39,6 +44,12 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
     /** Rows buffer. */
     private final List<Row> rows;
 
+    /** Rows following the in-memory ones, {@code null} if nothing is spilled. */
+    private SpillFile<Row> spill;
+
+    /** Iterator over spilled rows for the current pass. */
+    private Iterator<Row> spillIt;
+
     /**
      * If {@code true} this spool should emit rows as soon as it stored.
      * If {@code false} the spool have to collect all rows from underlying input.
@@ -66,6 +77,14 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
     @Override protected void rewindInternal() {
         requested = 0;
         rowIdx = 0;
+        spillIt = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        U.closeQuiet(spill);
+
+        super.closeInternal();
     }
 
     /** {@inheritDoc} */
@@ -90,7 +109,7 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
 
         requested += rowsCnt;
 
-        if ((waiting == -1 || rowIdx < rows.size()) && !inLoop)
+        if ((waiting == -1 || rowIdx < size()) && !inLoop)
             context().execute(this::doPush, this::onError);
         else if (waiting == 0)
             source().request(waiting = IN_BUFFER_SIZE);
@@ -107,8 +126,8 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
         int processed = 0;
         inLoop = true;
         try {
-            while (requested > 0 && rowIdx < rows.size() && processed++ < IN_BUFFER_SIZE) {
-                downstream().push(rows.get(rowIdx));
+            while (requested > 0 && rowIdx < size() && processed++ < IN_BUFFER_SIZE) {
+                downstream().push(row(rowIdx));
 
                 rowIdx++;
                 requested--;
@@ -118,7 +137,7 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
             inLoop = false;
         }
 
-        if (rowIdx >= rows.size() && waiting == -1 && requested > 0) {
+        if (rowIdx >= size() && waiting == -1 && requested > 0) {
             requested = 0;
             downstream().end();
         }
@@ -135,14 +154,21 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
 
         waiting--;
 
-        rows.add(row);
+        if (spill != null)
+            spill.add(row);
+        else {
+            rows.add(row);
 
-        nodeMemoryTracker.onRowAdded(row);
+            if (context().spillManager() == null)
+                nodeMemoryTracker.onRowAdded(row);
+            else if (!nodeMemoryTracker.tryRowAdded(row))
+                spill = context().spillManager().createFile();
+        }
 
         if (waiting == 0)
             source().request(waiting = IN_BUFFER_SIZE);
 
-        if (requested > 0 && rowIdx < rows.size())
+        if (requested > 0 && rowIdx < size())
             doPush();
     }
 
@@ -157,4 +183,20 @@ public class TableSpoolNode<Row> extends MemoryTrackingNode<Row> implements Sing
 
         context().execute(this::doPush, this::onError);
     }
+
+    /** */
+    private int size() {
+        return spill == null ? rows.size() : rows.size() + spill.size();
+    }
+
+    /** */
+    private Row row(int idx) throws Exception {
+        if (idx < rows.size())
+            return rows.get(idx);
+
+        if (spillIt == null)
+            spillIt = spill.iterator();
+
+        return spillIt.next();
+    }
 }
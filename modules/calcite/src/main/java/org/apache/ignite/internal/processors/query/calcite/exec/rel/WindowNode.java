@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowFunction;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowPartition;
+import org.apache.ignite.internal.util.typedef.F;
+
+/**
+ * Computes window functions over the input sorted by partition keys and order keys. Partitions are processed
+ * one by one: rows of the current partition are buffered until the first row of the next partition arrives,
+ * then window functions are evaluated and rows of the partition are pushed downstream extended by function values.
+ */
+public class WindowNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** Comparator of partition keys, {@code null} if the whole input is a single partition. */
+    private final Comparator<Row> partCmp;
+
+    /** Comparator of order keys, {@code null} if all rows of a partition are peers. */
+    private final Comparator<Row> peerCmp;
+
+    /** */
+    private final Supplier<List<WindowFunction<Row>>> funcFactory;
+
+    /** */
+    private final RowFactory<Row> rowFactory;
+
+    /** */
+    private final boolean rowsFrame;
+
+    /** */
+    private final long lowerBound;
+
+    /** */
+    private final long upperBound;
+
+    /** */
+    private final Deque<Row> outBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** Rows of the current partition. */
+    private List<Row> part = new ArrayList<>();
+
+    /** */
+    private int requested;
+
+    /** */
+    private int waiting;
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Output row type.
+     * @param partCmp Comparator of partition keys, or {@code null} if the whole input is a single partition.
+     * @param peerCmp Comparator of order keys, or {@code null} if all rows of a partition are peers.
+     * @param funcFactory Window functions factory.
+     * @param rowFactory Output row factory.
+     * @param rowsFrame {@code True} for ROWS frame, {@code false} for RANGE frame.
+     * @param lowerBound Frame lower bound offset, see {@link WindowPartition}.
+     * @param upperBound Frame upper bound offset, see {@link WindowPartition}.
+     */
+    public WindowNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        Comparator<Row> partCmp,
+        Comparator<Row> peerCmp,
+        Supplier<List<WindowFunction<Row>>> funcFactory,
+        RowFactory<Row> rowFactory,
+        boolean rowsFrame,
+        long lowerBound,
+        long upperBound
+    ) {
+        super(ctx, rowType);
+
+        this.partCmp = partCmp;
+        this.peerCmp = peerCmp;
+        this.funcFactory = funcFactory;
+        this.rowFactory = rowFactory;
+        this.rowsFrame = rowsFrame;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!outBuf.isEmpty())
+            doPush();
+
+        if (waiting == 0) {
+            waiting = IN_BUFFER_SIZE;
+
+            source().request(IN_BUFFER_SIZE);
+        }
+        else if (waiting < 0 && requested > 0)
+            downstream().end();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void push(Row row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting--;
+
+        if (partCmp != null && !part.isEmpty() && partCmp.compare(part.get(part.size() - 1), row) != 0)
+            flushPartition();
+
+        part.add(row);
+
+        nodeMemoryTracker.onRowAdded(row);
+
+        if (waiting == 0 && requested > 0) {
+            waiting = IN_BUFFER_SIZE;
+
+            context().execute(() -> source().request(IN_BUFFER_SIZE), this::onError);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting = -1;
+
+        if (!part.isEmpty())
+            flushPartition();
+
+        if (requested > 0)
+            downstream().end();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        requested = 0;
+        waiting = 0;
+        part = new ArrayList<>();
+        outBuf.clear();
+        nodeMemoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx != 0)
+            throw new IndexOutOfBoundsException();
+
+        return this;
+    }
+
+    /** Evaluates window functions over the buffered partition and moves its rows to the output buffer. */
+    private void flushPartition() throws Exception {
+        RowHandler<Row> hnd = context().rowHandler();
+
+        WindowPartition<Row> wp = new WindowPartition<>(part, hnd, peerCmp, rowsFrame, lowerBound, upperBound);
+
+        List<WindowFunction<Row>> funcs = funcFactory.get();
+
+        for (int i = 0; i < part.size(); i++) {
+            Row row = part.get(i);
+
+            int inCnt = hnd.columnCount(row);
+
+            Object[] fields = new Object[inCnt + funcs.size()];
+
+            for (int j = 0; j < inCnt; j++)
+                fields[j] = hnd.get(j, row);
+
+            for (int j = 0; j < funcs.size(); j++)
+                fields[inCnt + j] = funcs.get(j).call(wp, i);
+
+            outBuf.add(rowFactory.create(fields));
+        }
+
+        part = new ArrayList<>();
+
+        nodeMemoryTracker.reset();
+
+        doPush();
+    }
+
+    /** */
+    private void doPush() throws Exception {
+        while (requested > 0 && !outBuf.isEmpty()) {
+            requested--;
+
+            downstream().push(outBuf.poll());
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.tracker;
 
+import org.apache.ignite.IgniteException;
+
 /**
  * Memory tracker for execution nodes.
  */
@@ -61,6 +63,19 @@ public class ExecutionNodeMemoryTracker<Row> implements RowTracker<Row> {
         allocated = newAllocated;
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean tryRowAdded(Row obj) {
+        try {
+            onRowAdded(obj);
+
+            return true;
+        }
+        catch (IgniteException ignore) {
+            // Memory quota exceeded, nothing is changed by the tracker.
+            return false;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void onRowRemoved(Row obj) {
         long size = sizeCalculator.sizeOf(obj);
@@ -87,5 +102,6 @@ public class ExecutionNodeMemoryTracker<Row> implements RowTracker<Row> {
             qryMemoryTracker.onMemoryReleased(prevReported);
 
         allocated = 0;
+        prevReported = 0;
     }
 }
@@ -26,6 +26,17 @@ public interface RowTracker<Row> {
      */
     public void onRowAdded(Row row);
 
+    /**
+     * Add tracked row if memory quota allows it.
+     *
+     * @return {@code False} if the row is not added due to exceeded memory quota.
+     */
+    public default boolean tryRowAdded(Row row) {
+        onRowAdded(row);
+
+        return true;
+    }
+
     /**
      * Remove tracked row.
      */
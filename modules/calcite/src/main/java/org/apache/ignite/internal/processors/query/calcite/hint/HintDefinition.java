@@ -98,6 +98,19 @@ public enum HintDefinition {
         }
     },
 
+    /** Sets count of threads scanning a table on every node. */
+    SCAN_PARALLELISM {
+        /** {@inheritDoc} */
+        @Override public HintPredicate predicate() {
+            return NO_INDEX.predicate();
+        }
+
+        /** {@inheritDoc} */
+        @Override public HintOptionsChecker optionsChecker() {
+            return HintsConfig.OPTS_CHECK_POSITIVE_INT;
+        }
+    },
+
     /** Forces merge join. */
     MERGE_JOIN {
         /** {@inheritDoc} */
@@ -124,6 +137,32 @@ public enum HintDefinition {
         }
     },
 
+    /** Forces hash join. */
+    HASH_JOIN {
+        /** {@inheritDoc} */
+        @Override public HintPredicate predicate() {
+            return HintPredicates.JOIN;
+        }
+
+        /** {@inheritDoc} */
+        @Override public HintOptionsChecker optionsChecker() {
+            return HintsConfig.OPTS_CHECK_NO_KV;
+        }
+    },
+
+    /** Disables hash join. */
+    NO_HASH_JOIN {
+        /** {@inheritDoc} */
+        @Override public HintPredicate predicate() {
+            return HASH_JOIN.predicate();
+        }
+
+        /** {@inheritDoc} */
+        @Override public HintOptionsChecker optionsChecker() {
+            return HASH_JOIN.optionsChecker();
+        }
+    },
+
     /** Forces nested loop join. */
     NL_JOIN {
         /** {@inheritDoc} */
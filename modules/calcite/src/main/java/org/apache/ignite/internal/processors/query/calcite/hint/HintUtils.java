@@ -41,6 +41,7 @@ import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.util.typedef.F;
 
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.EXPAND_DISTINCT_AGG;
+import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.SCAN_PARALLELISM;
 
 /**
  * Base class for working with Calcite's SQL hints.
@@ -126,6 +127,16 @@ public final class HintUtils {
             && rel.getAggCallList().stream().anyMatch(AggregateCall::isDistinct);
     }
 
+    /**
+     * @return Count of threads scanning the table set by {@link HintDefinition#SCAN_PARALLELISM}, {@code 1} if
+     * {@code rel} isn't hinted.
+     */
+    public static int scanParallelism(RelNode rel) {
+        List<RelHint> hints = hints(rel, SCAN_PARALLELISM);
+
+        return hints.isEmpty() ? 1 : Integer.parseInt(F.first(hints).listOptions.get(0));
+    }
+
     /**
      * Logs skipped hint.
      */
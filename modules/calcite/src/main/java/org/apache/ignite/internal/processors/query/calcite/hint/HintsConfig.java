@@ -75,6 +75,28 @@ public final class HintsConfig {
         }
     };
 
+    /** Allows single positive integer option. */
+    static final HintOptionsChecker OPTS_CHECK_POSITIVE_INT = new HintOptionsChecker() {
+        @Override public @Nullable String apply(RelHint hint) {
+            String noKv = OPTS_CHECK_NO_KV.apply(hint);
+
+            if (noKv != null)
+                return noKv;
+
+            String err = String.format("Hint '%s' must have single positive integer option.", hint.hintName);
+
+            if (hint.listOptions.size() != 1)
+                return err;
+
+            try {
+                return Integer.parseInt(hint.listOptions.get(0)) > 0 ? null : err;
+            }
+            catch (NumberFormatException ignored) {
+                return err;
+            }
+        }
+    };
+
     /**
      * @return Configuration of all the supported hints.
      */
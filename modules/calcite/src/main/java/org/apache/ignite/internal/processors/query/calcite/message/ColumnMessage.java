@@ -0,0 +1,678 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.message;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.GridDirectTransient;
+import org.apache.ignite.plugin.extensions.communication.MessageReader;
+import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Values of a single column of a {@link ColumnarBatchMessage}.
+ * <p>
+ * Values of primitive wrapper types are stored in a primitive array with a separate bitmap of nulls. Strings are
+ * dictionary-encoded if the column has a lot of repeated values. Values of other types are marshalled at once for
+ * the whole column.
+ */
+public class ColumnMessage implements MarshalableMessage {
+    /** All the values are {@code null}. */
+    private static final byte NULL = 0;
+
+    /** */
+    private static final byte BOOLEAN = 1;
+
+    /** */
+    private static final byte BYTE = 2;
+
+    /** */
+    private static final byte SHORT = 3;
+
+    /** */
+    private static final byte INT = 4;
+
+    /** */
+    private static final byte LONG = 5;
+
+    /** */
+    private static final byte FLOAT = 6;
+
+    /** */
+    private static final byte DOUBLE = 7;
+
+    /** */
+    private static final byte STRING = 8;
+
+    /** Values of mixed or not supported types. */
+    private static final byte OBJECT = 9;
+
+    /** */
+    private byte kind;
+
+    /** */
+    private int size;
+
+    /** Bitmap of nulls for primitive columns, {@code null} if there are no nulls. */
+    private byte[] nulls;
+
+    /** */
+    private boolean[] bools;
+
+    /** */
+    private byte[] bytes;
+
+    /** */
+    private short[] shorts;
+
+    /** */
+    private int[] ints;
+
+    /** */
+    private long[] longs;
+
+    /** */
+    private float[] floats;
+
+    /** */
+    private double[] doubles;
+
+    /** Dictionary if {@link #codes} is set, plain values otherwise. */
+    @GridDirectTransient
+    private String[] strs;
+
+    /** UTF-8 bytes of {@link #strs}. */
+    private byte[] utf8;
+
+    /** Byte lengths of {@link #strs}, {@code -1} stands for {@code null}. */
+    private int[] lens;
+
+    /** Indexes of string values in the dictionary, {@code -1} stands for {@code null}. */
+    private int[] codes;
+
+    /** */
+    @GridDirectTransient
+    private Object[] vals;
+
+    /** */
+    private byte[] serialized;
+
+    /** */
+    public ColumnMessage() {
+        // No-op.
+    }
+
+    /**
+     * @param rows Rows.
+     * @param col Column index.
+     */
+    public ColumnMessage(List<Object[]> rows, int col) {
+        size = rows.size();
+
+        Class<?> cls = null;
+        boolean hasNulls = false;
+
+        for (int i = 0; i < size; i++) {
+            Object val = rows.get(i)[col];
+
+            if (val == null)
+                hasNulls = true;
+            else if (cls == null)
+                cls = val.getClass();
+            else if (cls != val.getClass()) {
+                cls = Object.class;
+
+                break;
+            }
+        }
+
+        kind = kind(cls);
+
+        if (kind == NULL)
+            return;
+
+        if (kind == STRING) {
+            encodeStrings(rows, col);
+
+            return;
+        }
+
+        if (kind == OBJECT) {
+            vals = new Object[size];
+
+            for (int i = 0; i < size; i++)
+                vals[i] = rows.get(i)[col];
+
+            return;
+        }
+
+        if (hasNulls)
+            nulls = new byte[(size + 7) >>> 3];
+
+        switch (kind) {
+            case BOOLEAN:
+                bools = new boolean[size];
+
+                break;
+
+            case BYTE:
+                bytes = new byte[size];
+
+                break;
+
+            case SHORT:
+                shorts = new short[size];
+
+                break;
+
+            case INT:
+                ints = new int[size];
+
+                break;
+
+            case LONG:
+                longs = new long[size];
+
+                break;
+
+            case FLOAT:
+                floats = new float[size];
+
+                break;
+
+            case DOUBLE:
+                doubles = new double[size];
+
+                break;
+
+            default:
+                throw new AssertionError("Unexpected column kind: " + kind);
+        }
+
+        for (int i = 0; i < size; i++) {
+            Object val = rows.get(i)[col];
+
+            if (val == null)
+                nulls[i >>> 3] |= 1 << (i & 7);
+            else
+                set(i, val);
+        }
+    }
+
+    /**
+     * @return Number of values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param idx Row index.
+     * @return Value.
+     */
+    public Object value(int idx) {
+        switch (kind) {
+            case NULL:
+                return null;
+
+            case BOOLEAN:
+                return isNull(idx) ? null : bools[idx];
+
+            case BYTE:
+                return isNull(idx) ? null : bytes[idx];
+
+            case SHORT:
+                return isNull(idx) ? null : shorts[idx];
+
+            case INT:
+                return isNull(idx) ? null : ints[idx];
+
+            case LONG:
+                return isNull(idx) ? null : longs[idx];
+
+            case FLOAT:
+                return isNull(idx) ? null : floats[idx];
+
+            case DOUBLE:
+                return isNull(idx) ? null : doubles[idx];
+
+            case STRING:
+                if (codes == null)
+                    return strs[idx];
+
+                return codes[idx] < 0 ? null : strs[codes[idx]];
+
+            case OBJECT:
+                return vals[idx];
+
+            default:
+                throw new AssertionError("Unexpected column kind: " + kind);
+        }
+    }
+
+    /** */
+    private boolean isNull(int idx) {
+        return nulls != null && (nulls[idx >>> 3] & (1 << (idx & 7))) != 0;
+    }
+
+    /** */
+    private void set(int idx, Object val) {
+        switch (kind) {
+            case BOOLEAN:
+                bools[idx] = (Boolean)val;
+
+                break;
+
+            case BYTE:
+                bytes[idx] = (Byte)val;
+
+                break;
+
+            case SHORT:
+                shorts[idx] = (Short)val;
+
+                break;
+
+            case INT:
+                ints[idx] = (Integer)val;
+
+                break;
+
+            case LONG:
+                longs[idx] = (Long)val;
+
+                break;
+
+            case FLOAT:
+                floats[idx] = (Float)val;
+
+                break;
+
+            case DOUBLE:
+                doubles[idx] = (Double)val;
+
+                break;
+
+            default:
+                throw new AssertionError("Unexpected column kind: " + kind);
+        }
+    }
+
+    /**
+     * Builds a dictionary of the column values. Falls back to plain values if the most of the values are unique.
+     */
+    private void encodeStrings(List<Object[]> rows, int col) {
+        Map<String, Integer> dict = new HashMap<>();
+        int[] codes = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            String val = (String)rows.get(i)[col];
+
+            if (val == null) {
+                codes[i] = -1;
+
+                continue;
+            }
+
+            Integer code = dict.putIfAbsent(val, dict.size());
+
+            codes[i] = code == null ? dict.size() - 1 : code;
+
+            if (dict.size() > size / 2) {
+                strs = new String[size];
+
+                for (int j = 0; j < size; j++)
+                    strs[j] = (String)rows.get(j)[col];
+
+                return;
+            }
+        }
+
+        strs = new String[dict.size()];
+
+        for (Map.Entry<String, Integer> e : dict.entrySet())
+            strs[e.getValue()] = e.getKey();
+
+        this.codes = codes;
+    }
+
+    /** */
+    private static byte kind(@Nullable Class<?> cls) {
+        if (cls == null)
+            return NULL;
+        else if (cls == Boolean.class)
+            return BOOLEAN;
+        else if (cls == Byte.class)
+            return BYTE;
+        else if (cls == Short.class)
+            return SHORT;
+        else if (cls == Integer.class)
+            return INT;
+        else if (cls == Long.class)
+            return LONG;
+        else if (cls == Float.class)
+            return FLOAT;
+        else if (cls == Double.class)
+            return DOUBLE;
+        else if (cls == String.class)
+            return STRING;
+        else
+            return OBJECT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(MarshallingContext ctx) throws IgniteCheckedException {
+        if (kind == OBJECT && serialized == null)
+            serialized = ctx.marshal(vals);
+        else if (kind == STRING && utf8 == null)
+            marshalStrings();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareUnmarshal(MarshallingContext ctx) throws IgniteCheckedException {
+        if (kind == OBJECT && vals == null)
+            vals = ctx.unmarshal(serialized);
+        else if (kind == STRING && strs == null)
+            unmarshalStrings();
+    }
+
+    /**
+     * Writes all the strings into a single array. Message writer encodes strings with the platform charset,
+     * so UTF-8 is used explicitly.
+     */
+    private void marshalStrings() {
+        byte[][] arrs = new byte[strs.length][];
+        int len = 0;
+
+        lens = new int[strs.length];
+
+        for (int i = 0; i < strs.length; i++) {
+            if (strs[i] == null) {
+                lens[i] = -1;
+
+                continue;
+            }
+
+            arrs[i] = strs[i].getBytes(StandardCharsets.UTF_8);
+
+            len += lens[i] = arrs[i].length;
+        }
+
+        utf8 = new byte[len];
+
+        for (int i = 0, off = 0; i < arrs.length; i++) {
+            if (arrs[i] != null) {
+                System.arraycopy(arrs[i], 0, utf8, off, arrs[i].length);
+
+                off += arrs[i].length;
+            }
+        }
+    }
+
+    /** */
+    private void unmarshalStrings() {
+        strs = new String[lens.length];
+
+        for (int i = 0, off = 0; i < lens.length; i++) {
+            if (lens[i] < 0)
+                continue;
+
+            strs[i] = new String(utf8, off, lens[i], StandardCharsets.UTF_8);
+
+            off += lens[i];
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean writeTo(ByteBuffer buf, MessageWriter writer) {
+        writer.setBuffer(buf);
+
+        if (!writer.isHeaderWritten()) {
+            if (!writer.writeHeader(directType(), fieldsCount()))
+                return false;
+
+            writer.onHeaderWritten();
+        }
+
+        switch (writer.state()) {
+            case 0:
+                if (!writer.writeBooleanArray("bools", bools))
+                    return false;
+
+                writer.incrementState();
+
+            case 1:
+                if (!writer.writeByteArray("bytes", bytes))
+                    return false;
+
+                writer.incrementState();
+
+            case 2:
+                if (!writer.writeIntArray("codes", codes))
+                    return false;
+
+                writer.incrementState();
+
+            case 3:
+                if (!writer.writeDoubleArray("doubles", doubles))
+                    return false;
+
+                writer.incrementState();
+
+            case 4:
+                if (!writer.writeFloatArray("floats", floats))
+                    return false;
+
+                writer.incrementState();
+
+            case 5:
+                if (!writer.writeIntArray("ints", ints))
+                    return false;
+
+                writer.incrementState();
+
+            case 6:
+                if (!writer.writeByte("kind", kind))
+                    return false;
+
+                writer.incrementState();
+
+            case 7:
+                if (!writer.writeIntArray("lens", lens))
+                    return false;
+
+                writer.incrementState();
+
+            case 8:
+                if (!writer.writeLongArray("longs", longs))
+                    return false;
+
+                writer.incrementState();
+
+            case 9:
+                if (!writer.writeByteArray("nulls", nulls))
+                    return false;
+
+                writer.incrementState();
+
+            case 10:
+                if (!writer.writeByteArray("serialized", serialized))
+                    return false;
+
+                writer.incrementState();
+
+            case 11:
+                if (!writer.writeShortArray("shorts", shorts))
+                    return false;
+
+                writer.incrementState();
+
+            case 12:
+                if (!writer.writeInt("size", size))
+                    return false;
+
+                writer.incrementState();
+
+            case 13:
+                if (!writer.writeByteArray("utf8", utf8))
+                    return false;
+
+                writer.incrementState();
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readFrom(ByteBuffer buf, MessageReader reader) {
+        reader.setBuffer(buf);
+
+        if (!reader.beforeMessageRead())
+            return false;
+
+        switch (reader.state()) {
+            case 0:
+                bools = reader.readBooleanArray("bools");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 1:
+                bytes = reader.readByteArray("bytes");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 2:
+                codes = reader.readIntArray("codes");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 3:
+                doubles = reader.readDoubleArray("doubles");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 4:
+                floats = reader.readFloatArray("floats");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 5:
+                ints = reader.readIntArray("ints");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 6:
+                kind = reader.readByte("kind");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 7:
+                lens = reader.readIntArray("lens");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 8:
+                longs = reader.readLongArray("longs");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 9:
+                nulls = reader.readByteArray("nulls");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 10:
+                serialized = reader.readByteArray("serialized");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 11:
+                shorts = reader.readShortArray("shorts");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 12:
+                size = reader.readInt("size");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 13:
+                utf8 = reader.readByteArray("utf8");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+        }
+
+        return reader.afterMessageRead(ColumnMessage.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public MessageType type() {
+        return MessageType.COLUMN_MESSAGE;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte fieldsCount() {
+        return 14;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.message;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.GridDirectCollection;
+import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
+import org.apache.ignite.plugin.extensions.communication.MessageReader;
+import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+
+/**
+ * Batch of array rows stored column by column. Rows are built from the columns on demand, so received batches
+ * occupy much less memory while waiting in an inbox.
+ */
+public class ColumnarBatchMessage implements MarshalableMessage {
+    /** */
+    private int rowsCnt;
+
+    /** */
+    @GridDirectCollection(ColumnMessage.class)
+    private List<ColumnMessage> cols;
+
+    /** */
+    public ColumnarBatchMessage() {
+        // No-op.
+    }
+
+    /**
+     * @param rows Rows of the same length.
+     */
+    public ColumnarBatchMessage(List<Object[]> rows) {
+        assert !rows.isEmpty();
+
+        rowsCnt = rows.size();
+
+        int colsCnt = rows.get(0).length;
+
+        cols = new ArrayList<>(colsCnt);
+
+        for (int i = 0; i < colsCnt; i++)
+            cols.add(new ColumnMessage(rows, i));
+    }
+
+    /**
+     * Checks whether the rows can be stored column by column.
+     *
+     * @param rows Rows.
+     * @return {@code True} if all the rows are object arrays of the same length.
+     */
+    public static boolean applicable(List<?> rows) {
+        if (rows.isEmpty() || !(rows.get(0) instanceof Object[]))
+            return false;
+
+        int len = ((Object[])rows.get(0)).length;
+
+        for (Object row : rows) {
+            if (row == null || row.getClass() != Object[].class || ((Object[])row).length != len)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return Number of rows.
+     */
+    public int rowsCount() {
+        return rowsCnt;
+    }
+
+    /**
+     * @return Number of columns.
+     */
+    public int columnsCount() {
+        return cols.size();
+    }
+
+    /**
+     * Reads a single value without building the row.
+     *
+     * @param row Row index.
+     * @param col Column index.
+     * @return Value.
+     */
+    public Object get(int row, int col) {
+        return cols.get(col).value(row);
+    }
+
+    /**
+     * @param idx Row index.
+     * @return New row built from the column values.
+     */
+    public Object[] row(int idx) {
+        Object[] row = new Object[cols.size()];
+
+        for (int i = 0; i < row.length; i++)
+            row[i] = cols.get(i).value(idx);
+
+        return row;
+    }
+
+    /**
+     * @return List of rows. A row is built on the first access and is released once replaced in the list.
+     */
+    public List<Object> rows() {
+        return new Rows();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(MarshallingContext ctx) throws IgniteCheckedException {
+        for (ColumnMessage col : cols)
+            col.prepareMarshal(ctx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareUnmarshal(MarshallingContext ctx) throws IgniteCheckedException {
+        for (ColumnMessage col : cols)
+            col.prepareUnmarshal(ctx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean writeTo(ByteBuffer buf, MessageWriter writer) {
+        writer.setBuffer(buf);
+
+        if (!writer.isHeaderWritten()) {
+            if (!writer.writeHeader(directType(), fieldsCount()))
+                return false;
+
+            writer.onHeaderWritten();
+        }
+
+        switch (writer.state()) {
+            case 0:
+                if (!writer.writeCollection("cols", cols, MessageCollectionItemType.MSG))
+                    return false;
+
+                writer.incrementState();
+
+            case 1:
+                if (!writer.writeInt("rowsCnt", rowsCnt))
+                    return false;
+
+                writer.incrementState();
+
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readFrom(ByteBuffer buf, MessageReader reader) {
+        reader.setBuffer(buf);
+
+        if (!reader.beforeMessageRead())
+            return false;
+
+        switch (reader.state()) {
+            case 0:
+                cols = reader.readCollection("cols", MessageCollectionItemType.MSG);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 1:
+                rowsCnt = reader.readInt("rowsCnt");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+        }
+
+        return reader.afterMessageRead(ColumnarBatchMessage.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public MessageType type() {
+        return MessageType.COLUMNAR_BATCH_MESSAGE;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte fieldsCount() {
+        return 2;
+    }
+
+    /** */
+    private class Rows extends AbstractList<Object> {
+        /** */
+        private final Object[] rows = new Object[rowsCnt];
+
+        /** {@inheritDoc} */
+        @Override public Object get(int idx) {
+            Object row = rows[idx];
+
+            if (row == null)
+                rows[idx] = row = row(idx);
+
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object set(int idx, Object row) {
+            Object prev = get(idx);
+
+            rows[idx] = row;
+
+            return prev;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int size() {
+            return rowsCnt;
+        }
+    }
+}
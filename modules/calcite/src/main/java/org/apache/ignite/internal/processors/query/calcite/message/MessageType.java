@@ -50,6 +50,15 @@ public enum MessageType {
     /** */
     GENERIC_VALUE_MESSAGE(307, GenericValueMessage::new),
 
+    /** */
+    COLUMNAR_BATCH_MESSAGE(308, ColumnarBatchMessage::new),
+
+    /** */
+    COLUMN_MESSAGE(309, ColumnMessage::new),
+
+    /** */
+    RUNTIME_FILTER_MESSAGE(310, RuntimeFilterMessage::new),
+
     /** */
     FRAGMENT_MAPPING(350, FragmentMapping::new),
 
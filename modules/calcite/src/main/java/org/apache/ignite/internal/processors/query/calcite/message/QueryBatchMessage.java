@@ -24,6 +24,7 @@ import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.GridDirectCollection;
 import org.apache.ignite.internal.GridDirectTransient;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
 import org.apache.ignite.plugin.extensions.communication.MessageReader;
 import org.apache.ignite.plugin.extensions.communication.MessageWriter;
@@ -51,10 +52,13 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
     @GridDirectTransient
     private List<Object> rows;
 
-    /** */
+    /** Rows marshalled one by one, used if the rows can't be stored column by column. */
     @GridDirectCollection(ValueMessage.class)
     private List<ValueMessage> mRows;
 
+    /** Rows stored column by column. */
+    private ColumnarBatchMessage batch;
+
     /** */
     public QueryBatchMessage() {
     }
@@ -109,9 +113,17 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
     /** {@inheritDoc} */
     @Override public void prepareMarshal(MarshallingContext ctx) throws IgniteCheckedException {
-        if (mRows != null || rows == null)
+        if (mRows != null || batch != null || rows == null)
             return;
 
+        if (ColumnarBatchMessage.applicable(rows)) {
+            batch = new ColumnarBatchMessage(Commons.cast(rows));
+
+            batch.prepareMarshal(ctx);
+
+            return;
+        }
+
         mRows = new ArrayList<>(rows.size());
 
         for (Object row : rows) {
@@ -127,7 +139,18 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
     /** {@inheritDoc} */
     @Override public void prepareUnmarshal(MarshallingContext ctx) throws IgniteCheckedException {
-        if (rows != null || mRows == null)
+        if (rows != null)
+            return;
+
+        if (batch != null) {
+            batch.prepareUnmarshal(ctx);
+
+            rows = batch.rows();
+
+            return;
+        }
+
+        if (mRows == null)
             return;
 
         rows = new ArrayList<>(mRows.size());
@@ -154,36 +177,42 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
         switch (writer.state()) {
             case 0:
-                if (!writer.writeInt("batchId", batchId))
+                if (!writer.writeMessage("batch", batch))
                     return false;
 
                 writer.incrementState();
 
             case 1:
-                if (!writer.writeLong("exchangeId", exchangeId))
+                if (!writer.writeInt("batchId", batchId))
                     return false;
 
                 writer.incrementState();
 
             case 2:
-                if (!writer.writeLong("fragmentId", fragmentId))
+                if (!writer.writeLong("exchangeId", exchangeId))
                     return false;
 
                 writer.incrementState();
 
             case 3:
-                if (!writer.writeBoolean("last", last))
+                if (!writer.writeLong("fragmentId", fragmentId))
                     return false;
 
                 writer.incrementState();
 
             case 4:
-                if (!writer.writeCollection("mRows", mRows, MessageCollectionItemType.MSG))
+                if (!writer.writeBoolean("last", last))
                     return false;
 
                 writer.incrementState();
 
             case 5:
+                if (!writer.writeCollection("mRows", mRows, MessageCollectionItemType.MSG))
+                    return false;
+
+                writer.incrementState();
+
+            case 6:
                 if (!writer.writeUuid("queryId", qryId))
                     return false;
 
@@ -203,7 +232,7 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
         switch (reader.state()) {
             case 0:
-                batchId = reader.readInt("batchId");
+                batch = reader.readMessage("batch");
 
                 if (!reader.isLastRead())
                     return false;
@@ -211,7 +240,7 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
                 reader.incrementState();
 
             case 1:
-                exchangeId = reader.readLong("exchangeId");
+                batchId = reader.readInt("batchId");
 
                 if (!reader.isLastRead())
                     return false;
@@ -219,7 +248,7 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
                 reader.incrementState();
 
             case 2:
-                fragmentId = reader.readLong("fragmentId");
+                exchangeId = reader.readLong("exchangeId");
 
                 if (!reader.isLastRead())
                     return false;
@@ -227,7 +256,7 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
                 reader.incrementState();
 
             case 3:
-                last = reader.readBoolean("last");
+                fragmentId = reader.readLong("fragmentId");
 
                 if (!reader.isLastRead())
                     return false;
@@ -235,7 +264,7 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
                 reader.incrementState();
 
             case 4:
-                mRows = reader.readCollection("mRows", MessageCollectionItemType.MSG);
+                last = reader.readBoolean("last");
 
                 if (!reader.isLastRead())
                     return false;
@@ -243,6 +272,14 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
                 reader.incrementState();
 
             case 5:
+                mRows = reader.readCollection("mRows", MessageCollectionItemType.MSG);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 6:
                 qryId = reader.readUuid("queryId");
 
                 if (!reader.isLastRead())
@@ -262,6 +299,6 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
     /** {@inheritDoc} */
     @Override public byte fieldsCount() {
-        return 6;
+        return 7;
     }
 }
@@ -25,6 +25,8 @@ import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.BuiltInMethod;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.processors.query.calcite.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.processors.query.stat.ColumnStatistics;
 
 /** */
 @SuppressWarnings("unused") // actually all methods are used by runtime generated classes
@@ -50,4 +52,37 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
 
         return rowCnt;
     }
+
+    /**
+     * Estimates number of distinct values by the gathered column statistics.
+     */
+    public Double getDistinctRowCount(
+        ProjectableFilterableTableScan rel,
+        RelMetadataQuery mq,
+        ImmutableBitSet groupKey,
+        RexNode predicate
+    ) {
+        if (groupKey.cardinality() == 0)
+            return 1d;
+
+        double distinct = 1;
+
+        for (int key : groupKey) {
+            ColumnStatistics colStat = IgniteMdSelectivity.getColumnStatistics(rel, mq.getColumnOrigin(rel, key));
+
+            if (colStat == null || colStat.distinct() <= 0)
+                return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+
+            distinct *= colStat.distinct();
+        }
+
+        double rowCnt = mq.getRowCount(rel);
+
+        Double sel = predicate == null ? null : mq.getSelectivity(rel, predicate);
+
+        if (sel != null)
+            rowCnt *= sel;
+
+        return Math.max(1, Math.min(distinct, rowCnt));
+    }
 }
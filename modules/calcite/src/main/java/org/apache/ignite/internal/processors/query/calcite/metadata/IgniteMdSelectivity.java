@@ -59,6 +59,7 @@ import org.apache.ignite.internal.processors.query.calcite.schema.IgniteStatisti
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteTable;
 import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
 import org.apache.ignite.internal.processors.query.stat.ColumnStatistics;
+import org.apache.ignite.internal.processors.query.stat.Histogram;
 import org.jetbrains.annotations.Nullable;
 
 /** */
@@ -297,6 +298,24 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         else
             return null;
 
+        return getColumnStatistics(rel, origin);
+    }
+
+    /**
+     * Finds a column statistics by a column origin within table scan.
+     *
+     * @param rel Table scan the column related to.
+     * @param origin Column origin.
+     * @return Column statistics or {@code null} if the origin is unknown or there is no statistics gathered
+     *      for the column.
+     */
+    static @Nullable ColumnStatistics getColumnStatistics(
+        ProjectableFilterableTableScan rel,
+        @Nullable RelColumnOrigin origin
+    ) {
+        if (origin == null)
+            return null;
+
         String colName = extactFieldName(origin);
 
         IgniteTable tbl = rel.getTable().unwrap(IgniteTable.class);
@@ -421,6 +440,28 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
             }
         }
 
+        Histogram hist = colStat.histogram();
+
+        // Histogram takes into account the distribution of values, not only the range.
+        if (hist != null) {
+            switch (op.getKind()) {
+                case GREATER_THAN:
+                    return 1 - hist.fractionLessOrEqual(val);
+
+                case GREATER_THAN_OR_EQUAL:
+                    return 1 - hist.fractionLess(val);
+
+                case LESS_THAN:
+                    return hist.fractionLess(val);
+
+                case LESS_THAN_OR_EQUAL:
+                    return hist.fractionLessOrEqual(val);
+
+                default:
+                    return guessSelectivity(pred);
+            }
+        }
+
         // Estimate percent of selectivity by ranges.
         BigDecimal actual = BigDecimal.ZERO;
 
@@ -488,7 +529,12 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
                 return 0.;
         }
 
-        double expectedRows = ((double)(colStat.total() - colStat.nulls())) / (colStat.distinct());
+        double notNulls = colStat.total() - colStat.nulls();
+        double expectedRows = notNulls / (colStat.distinct());
+
+        // Frequent values occupy whole histogram buckets and get much more rows than the average.
+        if (colStat.histogram() != null)
+            expectedRows = Math.max(expectedRows, notNulls * colStat.histogram().fractionEqual(comparableVal));
 
         return expectedRows / colStat.total();
     }
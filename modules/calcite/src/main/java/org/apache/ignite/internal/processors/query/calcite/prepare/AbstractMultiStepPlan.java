@@ -65,6 +65,13 @@ public abstract class AbstractMultiStepPlan extends AbstractQueryPlan implements
         this.paramsMetadata = paramsMetadata;
     }
 
+    /**
+     * @return Query fragments, not mapped to cluster nodes.
+     */
+    public List<Fragment> fragments() {
+        return queryTemplate.fragments();
+    }
+
     /** {@inheritDoc} */
     @Override public FieldsMetadata fieldsMetadata() {
         return fieldsMetadata;
@@ -60,6 +60,34 @@ public class CacheKey {
         this(schemaName, query, null, X.EMPTY_OBJECT_ARRAY);
     }
 
+    /**
+     * @return Schema name.
+     */
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /**
+     * @return Query string.
+     */
+    public String query() {
+        return query;
+    }
+
+    /**
+     * @return Context key.
+     */
+    public Object contextKey() {
+        return contextKey;
+    }
+
+    /**
+     * @return Types of dynamic parameters or {@code null} if the query has no parameters.
+     */
+    public Class<?>[] paramTypes() {
+        return paramTypes;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
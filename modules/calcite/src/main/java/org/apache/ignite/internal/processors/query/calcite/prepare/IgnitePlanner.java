@@ -76,6 +76,7 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.calcite.tools.FrameworkConfig;
 import org.apache.calcite.tools.Planner;
 import org.apache.calcite.tools.Program;
+import org.apache.calcite.tools.RuleSet;
 import org.apache.calcite.tools.RuleSets;
 import org.apache.calcite.tools.ValidationException;
 import org.apache.calcite.util.Pair;
@@ -139,6 +140,9 @@ public class IgnitePlanner implements Planner, RelOptTable.ViewExpander {
     /** */
     private RelOptCluster cluster;
 
+    /** Short names of the disabled rules. */
+    private final Set<String> disabledRules = new HashSet<>();
+
     /** */
     private @Nullable SqlNode validatedSqlNode;
 
@@ -601,16 +605,34 @@ public class IgnitePlanner implements Planner, RelOptTable.ViewExpander {
         if (F.isEmpty(disabledRuleNames))
             return;
 
-        ctx.rulesFilter(rulesSet -> {
-            List<RelOptRule> newSet = new ArrayList<>();
+        disabledRules.clear();
+        disabledRules.addAll(disabledRuleNames);
 
-            for (RelOptRule r : rulesSet) {
-                if (!disabledRuleNames.contains(shortRuleName(r.toString())))
-                    newSet.add(r);
-            }
+        ctx.rulesFilter(this::filterDisabledRules);
+    }
+
+    /**
+     * Disables the given rules in addition to the already disabled ones.
+     *
+     * @param rules Rules to disable.
+     */
+    public void disableRules(Collection<RelOptRule> rules) {
+        for (RelOptRule r : rules)
+            disabledRules.add(shortRuleName(r.toString()));
+
+        ctx.rulesFilter(this::filterDisabledRules);
+    }
+
+    /** */
+    private RuleSet filterDisabledRules(RuleSet rulesSet) {
+        List<RelOptRule> newSet = new ArrayList<>();
+
+        for (RelOptRule r : rulesSet) {
+            if (!disabledRules.contains(shortRuleName(r.toString())))
+                newSet.add(r);
+        }
 
-            return RuleSets.ofList(newSet);
-        });
+        return RuleSets.ofList(newSet);
     }
 
     /** */
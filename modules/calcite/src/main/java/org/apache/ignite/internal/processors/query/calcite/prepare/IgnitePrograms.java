@@ -19,11 +19,14 @@ package org.apache.ignite.internal.processors.query.calcite.prepare;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.apache.calcite.plan.RelOptLattice;
 import org.apache.calcite.plan.RelOptMaterialization;
 import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.hep.HepMatchOrder;
 import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
 import org.apache.calcite.plan.hep.HepProgramBuilder;
 import org.apache.calcite.tools.Program;
 import org.apache.calcite.tools.Programs;
@@ -41,7 +44,7 @@ public class IgnitePrograms {
      * @return New program.
      */
     public static Program hep(RuleSet rules) {
-        return (planner, rel, traits, materializations, lattices) -> {
+        return hep(() -> {
             final HepProgramBuilder builder = new HepProgramBuilder();
             final List<RelOptRule> ruleList = new ArrayList<>();
 
@@ -50,7 +53,35 @@ public class IgnitePrograms {
 
             builder.addRuleCollection(ruleList);
 
-            final HepPlanner hepPlanner = new HepPlanner(builder.build(), Commons.context(rel), true,
+            return builder.build();
+        });
+    }
+
+    /**
+     * Returns heuristic planer based program which applies given rules one after another in bottom-up order.
+     * Every rule is applied as long as it matches, before the next one starts.
+     *
+     * @param rules Rules.
+     * @return New program.
+     */
+    public static Program hepSequential(RuleSet rules) {
+        return hep(() -> {
+            final HepProgramBuilder builder = new HepProgramBuilder().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+
+            for (RelOptRule rule : rules)
+                builder.addRuleInstance(rule);
+
+            return builder.build();
+        });
+    }
+
+    /**
+     * @param programSupplier Heuristic program supplier.
+     * @return New program.
+     */
+    private static Program hep(Supplier<HepProgram> programSupplier) {
+        return (planner, rel, traits, materializations, lattices) -> {
+            final HepPlanner hepPlanner = new HepPlanner(programSupplier.get(), Commons.context(rel), true,
                 null, Commons.context(rel).config().getCostFactory());
 
             hepPlanner.setExecutor(planner.getExecutor());
@@ -47,6 +47,7 @@ import org.apache.calcite.sql.SqlOperatorTable;
 import org.apache.calcite.sql.SqlSelect;
 import org.apache.calcite.sql.SqlUpdate;
 import org.apache.calcite.sql.SqlUtil;
+import org.apache.calcite.sql.SqlWindow;
 import org.apache.calcite.sql.dialect.CalciteSqlDialect;
 import org.apache.calcite.sql.parser.SqlParserPos;
 import org.apache.calcite.sql.type.FamilyOperandTypeChecker;
@@ -282,6 +283,25 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
         super.validateCall(call, scope);
     }
 
+    /** {@inheritDoc} */
+    @Override public void validateWindow(SqlNode windowOrId, SqlValidatorScope scope, SqlCall call) {
+        super.validateWindow(windowOrId, scope, call);
+
+        SqlWindow win = resolveWindow(windowOrId, scope);
+
+        // Only ROWS frames support offset bounds, RANGE frames are limited by the peers of the current row.
+        if (!win.isRows() && (isOffsetBound(win.getLowerBound()) || isOffsetBound(win.getUpperBound())))
+            throw newValidationError(win, IgniteResource.INSTANCE.unsupportedRangeWindowFrame());
+    }
+
+    /** */
+    private static boolean isOffsetBound(SqlNode bound) {
+        return bound != null
+            && !SqlWindow.isCurrentRow(bound)
+            && !SqlWindow.isUnboundedPreceding(bound)
+            && !SqlWindow.isUnboundedFollowing(bound);
+    }
+
     /** {@inheritDoc} */
     @Override public String deriveAlias(SqlNode node, int ordinal) {
         if (node.isA(HUMAN_READABLE_ALIASES_FOR)) {
@@ -401,6 +421,16 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
             case GROUP_CONCAT:
             case LISTAGG:
             case STRING_AGG:
+            case ROW_NUMBER:
+            case RANK:
+            case DENSE_RANK:
+            case PERCENT_RANK:
+            case CUME_DIST:
+            case NTILE:
+            case LAG:
+            case LEAD:
+            case FIRST_VALUE:
+            case LAST_VALUE:
                 return;
             default:
                 throw newValidationError(call,
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.prepare;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -24,17 +25,23 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelRoot;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.SetOp;
 import org.apache.calcite.rel.core.Spool;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.hint.Hintable;
 import org.apache.calcite.rel.hint.RelHint;
+import org.apache.calcite.rel.rules.JoinPushThroughJoinRule;
+import org.apache.calcite.rel.rules.MultiJoin;
 import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlNode;
@@ -44,9 +51,12 @@ import org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition;
 import org.apache.ignite.internal.processors.query.calcite.hint.HintUtils;
 import org.apache.ignite.internal.processors.query.calcite.rel.AbstractIndexScan;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteConvention;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteExchange;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteLimit;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteProject;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteSort;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableModify;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableScan;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableSpool;
@@ -58,6 +68,9 @@ import org.apache.ignite.internal.util.typedef.F;
 
 /** */
 public class PlannerHelper {
+    /** Minimal number of joins in a query to optimize their order by the heuristic planner. */
+    private static final int JOINS_TO_OPTIMIZE_ORDER = 4;
+
     /**
      * Default constructor.
      */
@@ -98,6 +111,8 @@ public class PlannerHelper {
 
             rel = planner.transform(PlannerPhase.HEP_PROJECT_PUSH_DOWN, rel.getTraitSet(), rel);
 
+            rel = optimizeJoinsOrder(planner, rel);
+
             RelTraitSet desired = rel.getCluster().traitSet()
                 .replace(IgniteConvention.INSTANCE)
                 .replace(IgniteDistributions.single())
@@ -116,6 +131,8 @@ public class PlannerHelper {
                 igniteRel = new IgniteProject(igniteRel.getCluster(), desired, igniteRel, projects, root.validatedRowType);
             }
 
+            igniteRel = new LimitPushDownShuttle().visit(igniteRel);
+
             if (sqlNode.isA(ImmutableSet.of(SqlKind.INSERT, SqlKind.UPDATE, SqlKind.MERGE)))
                 igniteRel = new FixDependentModifyNodeShuttle().visit(igniteRel);
 
@@ -129,6 +146,69 @@ public class PlannerHelper {
         }
     }
 
+    /**
+     * Reorders multi-way joins by the estimated cardinalities (which are based on the gathered statistics if any),
+     * so the cost based optimization starts from the order with the smallest intermediate results instead of the
+     * order written in the query.
+     *
+     * @param planner Planner.
+     * @param rel Logical plan.
+     * @return Plan with reordered joins or the same plan if it can't be reordered.
+     */
+    private static RelNode optimizeJoinsOrder(IgnitePlanner planner, RelNode rel) {
+        List<Join> joins = new ArrayList<>();
+
+        collect(rel, Join.class, joins);
+
+        if (joins.size() < JOINS_TO_OPTIMIZE_ORDER)
+            return rel;
+
+        for (Join join : joins) {
+            // Hints (ENFORCE_JOIN_ORDER, join type hints) are lost on reordering.
+            if (!join.getHints().isEmpty() || !join.getVariablesSet().isEmpty())
+                return rel;
+
+            if (join.getJoinType() != JoinRelType.INNER && join.getJoinType() != JoinRelType.LEFT)
+                return rel;
+        }
+
+        PlanningContext ctx = rel.getCluster().getPlanner().getContext().unwrap(PlanningContext.class);
+
+        // Rules of the phase can be disabled by a hint.
+        if (Iterables.size(PlannerPhase.HEP_OPTIMIZE_JOIN_ORDER.getRules(ctx)) < 2)
+            return rel;
+
+        RelNode res = planner.transform(PlannerPhase.HEP_OPTIMIZE_JOIN_ORDER, rel.getTraitSet(), rel);
+
+        List<MultiJoin> multiJoins = new ArrayList<>();
+
+        collect(res, MultiJoin.class, multiJoins);
+
+        // The cost based planner can't implement a multi-join, keep the original plan if any is left.
+        if (!multiJoins.isEmpty())
+            return rel;
+
+        // Exhaustive search of joins order is too expensive for such a number of joins and isn't needed any more.
+        planner.disableRules(F.asList(JoinPushThroughJoinRule.LEFT, JoinPushThroughJoinRule.RIGHT));
+
+        return res;
+    }
+
+    /**
+     * Collects all the relational operators of the given class.
+     *
+     * @param rel Root of a tree.
+     * @param cls Class.
+     * @param res Result.
+     */
+    private static <T extends RelNode> void collect(RelNode rel, Class<T> cls, List<T> res) {
+        if (cls.isInstance(rel))
+            res.add(cls.cast(rel));
+
+        for (RelNode input : rel.getInputs())
+            collect(input, cls, res);
+    }
+
     /**
      * Add external options as hints to {@code root.rel}.
      *
@@ -292,4 +372,55 @@ public class PlannerHelper {
             return modifyNode.isInsert();
         }
     }
+
+    /**
+     * This shuttle pushes a limit through the exchange into the sender fragments. Every sender has to produce
+     * no more than {@code offset + fetch} rows, so the remote nodes stop scanning (in the index order, if the input
+     * is an index scan) as soon as enough rows are sent instead of streaming its full local result to the reducer.
+     * <p/>
+     * Inputs already bounded by a sort with the fetch (top-N) are left as is.
+     */
+    private static class LimitPushDownShuttle extends IgniteRelShuttle {
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteLimit rel) {
+            if (rel.getInput() instanceof IgniteExchange) {
+                IgniteExchange exchange = (IgniteExchange)rel.getInput();
+                IgniteRel input = (IgniteRel)exchange.getInput();
+                RexNode fetch = mapFetch(rel);
+
+                if (fetch != null && !limited(input))
+                    exchange.replaceInput(0, new IgniteLimit(rel.getCluster(), input.getTraitSet(), input, null, fetch));
+            }
+
+            return processNode(rel);
+        }
+
+        /**
+         * @param rel Reducer limit.
+         * @return Fetch for the sender side limit or {@code null} if it can't be calculated at the planning time.
+         */
+        private static RexNode mapFetch(IgniteLimit rel) {
+            RexNode fetch = rel.fetch();
+            RexNode offset = rel.offset();
+
+            if (fetch == null || offset == null)
+                return fetch;
+
+            // Dynamic parameters can't be summed up here, since the plan is cached and reused for other values.
+            if (!(fetch instanceof RexLiteral) || !(offset instanceof RexLiteral))
+                return null;
+
+            long limit = RexLiteral.intValue(fetch) + (long)RexLiteral.intValue(offset);
+
+            if (limit > Integer.MAX_VALUE)
+                return null;
+
+            return rel.getCluster().getRexBuilder().makeExactLiteral(BigDecimal.valueOf(limit), fetch.getType());
+        }
+
+        /** @return {@code True} if the rel already produces a limited number of rows. */
+        private static boolean limited(IgniteRel rel) {
+            return rel instanceof IgniteLimit || (rel instanceof IgniteSort && ((IgniteSort)rel).fetch != null);
+        }
+    }
 }
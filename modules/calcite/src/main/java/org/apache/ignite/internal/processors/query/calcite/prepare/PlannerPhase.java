@@ -49,6 +49,7 @@ import org.apache.ignite.internal.processors.query.calcite.rule.FilterConverterR
 import org.apache.ignite.internal.processors.query.calcite.rule.FilterSpoolMergeToHashIndexSpoolRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.FilterSpoolMergeToSortedIndexSpoolRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.HashAggregateConverterRule;
+import org.apache.ignite.internal.processors.query.calcite.rule.HashJoinConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.IndexCountRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.IndexMinMaxRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.LogicalScanConverterRule;
@@ -62,6 +63,7 @@ import org.apache.ignite.internal.processors.query.calcite.rule.TableFunctionSca
 import org.apache.ignite.internal.processors.query.calcite.rule.TableModifyConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.UnionConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.ValuesConverterRule;
+import org.apache.ignite.internal.processors.query.calcite.rule.WindowConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.ExposeIndexRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.FilterScanMergeRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.LogicalOrToUnionRule;
@@ -69,6 +71,7 @@ import org.apache.ignite.internal.processors.query.calcite.rule.logical.ProjectS
 
 import static org.apache.ignite.internal.processors.query.calcite.prepare.IgnitePrograms.cbo;
 import static org.apache.ignite.internal.processors.query.calcite.prepare.IgnitePrograms.hep;
+import static org.apache.ignite.internal.processors.query.calcite.prepare.IgnitePrograms.hepSequential;
 
 /**
  * Represents a planner phase with its description and a used rule set.
@@ -99,6 +102,9 @@ public enum PlannerPhase {
         @Override public RuleSet getRules(PlanningContext ctx) {
             return ctx.rules(
                 RuleSets.ofList(
+                    // Window functions are extracted from projections before filters and projections are moved.
+                    CoreRules.PROJECT_TO_LOGICAL_PROJECT_AND_WINDOW,
+
                     FilterScanMergeRule.TABLE_SCAN_SKIP_CORRELATED,
 
                     CoreRules.FILTER_MERGE,
@@ -139,6 +145,26 @@ public enum PlannerPhase {
         }
     },
 
+    /** */
+    HEP_OPTIMIZE_JOIN_ORDER("Heuristic phase to optimize joins order") {
+        /** {@inheritDoc} */
+        @Override public RuleSet getRules(PlanningContext ctx) {
+            return ctx.rules(
+                RuleSets.ofList(
+                    CoreRules.JOIN_TO_MULTI_JOIN,
+                    CoreRules.MULTI_JOIN_OPTIMIZE
+                )
+            );
+        }
+
+        /** {@inheritDoc} */
+        @Override public Program getProgram(PlanningContext ctx) {
+            // Joins are collapsed into a multi-join first, and then the multi-join is expanded in the order
+            // of increasing cardinality of the intermediate results.
+            return hepSequential(getRules(ctx));
+        }
+    },
+
     /** */
     OPTIMIZATION("Main optimization phase") {
         /** {@inheritDoc} */
@@ -234,6 +260,7 @@ public enum PlannerPhase {
                     CorrelatedNestedLoopJoinRule.INSTANCE,
                     CorrelateToNestedLoopRule.INSTANCE,
                     NestedLoopJoinConverterRule.INSTANCE,
+                    HashJoinConverterRule.INSTANCE,
 
                     ValuesConverterRule.INSTANCE,
                     LogicalScanConverterRule.INDEX_SCAN,
@@ -254,7 +281,8 @@ public enum PlannerPhase {
                     TableModifyConverterRule.INSTANCE,
                     UnionConverterRule.INSTANCE,
                     SortConverterRule.INSTANCE,
-                    TableFunctionScanConverterRule.INSTANCE
+                    TableFunctionScanConverterRule.INSTANCE,
+                    WindowConverterRule.INSTANCE
                 )
             );
         }
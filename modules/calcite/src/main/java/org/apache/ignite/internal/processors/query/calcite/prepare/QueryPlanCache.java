@@ -17,8 +17,10 @@
 
 package org.apache.ignite.internal.processors.query.calcite.prepare;
 
+import java.util.List;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.processors.query.calcite.util.Service;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -37,6 +39,21 @@ public interface QueryPlanCache extends Service {
      */
     QueryPlan queryPlan(CacheKey key);
 
+    /**
+     * Removes plans which depend on the given table or on any table of the given schema.
+     *
+     * @param schemaName Schema name.
+     * @param tblName Table name or {@code null} to remove plans of all tables of the schema.
+     */
+    void invalidate(String schemaName, @Nullable String tblName);
+
+    /**
+     * @param cnt Maximum count of keys to return.
+     * @return Keys of the most used plans of root queries (fragment plans are skipped), in order of descending
+     *      use count.
+     */
+    List<CacheKey> mostUsedKeys(int cnt);
+
     /**
      * Clear cache.
      */
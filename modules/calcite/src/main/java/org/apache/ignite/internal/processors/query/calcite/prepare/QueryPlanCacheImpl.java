@@ -17,41 +17,112 @@
 
 package org.apache.ignite.internal.processors.query.calcite.prepare;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
 import org.apache.ignite.internal.processors.query.QueryField;
 import org.apache.ignite.internal.processors.query.calcite.util.AbstractService;
 import org.apache.ignite.internal.processors.query.schema.AbstractSchemaChangeListener;
 import org.apache.ignite.internal.processors.query.schema.management.IndexDescriptor;
 import org.apache.ignite.internal.processors.subscription.GridInternalSubscriptionProcessor;
-import org.apache.ignite.internal.util.GridBoundedConcurrentLinkedHashMap;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 /**
- *
+ * Query plan cache. Least recently used plans are evicted when the cache is full. On schema change only plans
+ * which depend on the changed table are removed.
  */
 public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCache {
-    /** */
-    private static final int CACHE_SIZE = 1024;
+    /** Plan cache metrics registry name. */
+    public static final String PLAN_CACHE_METRIC_GROUP_NAME = "sql.plan.cache";
+
+    /** Default cache size. */
+    public static final int DFLT_CACHE_SIZE = 1024;
+
+    /** Bounds of the planning time histogram, in milliseconds. */
+    private static final long[] PLANNING_TIME_BOUNDS = {1, 10, 100, 1_000, 10_000};
 
     /** */
     private final GridInternalSubscriptionProcessor subscriptionProc;
 
     /** */
-    private volatile Map<CacheKey, QueryPlan> cache;
+    private final Cache<CacheKey, Entry> cache;
+
+    /** Incremented on every invalidation, so plans built concurrently with a schema change are not cached. */
+    private final AtomicLong ver = new AtomicLong();
+
+    /** */
+    private final LongAdderMetric hits;
+
+    /** */
+    private final LongAdderMetric misses;
+
+    /** */
+    private final LongAdderMetric evictions;
+
+    /** */
+    private final LongAdderMetric invalidations;
+
+    /** */
+    private final HistogramMetricImpl planningTime;
 
     /**
      * @param ctx Kernal context.
      */
     public QueryPlanCacheImpl(GridKernalContext ctx) {
+        this(ctx, DFLT_CACHE_SIZE);
+    }
+
+    /**
+     * @param ctx Kernal context.
+     * @param size Maximum count of cached plans.
+     */
+    public QueryPlanCacheImpl(GridKernalContext ctx, int size) {
         super(ctx);
 
-        cache = new GridBoundedConcurrentLinkedHashMap<>(CACHE_SIZE);
         subscriptionProc = ctx.internalSubscriptionProcessor();
 
+        MetricRegistry mreg = ctx.metric().registry(PLAN_CACHE_METRIC_GROUP_NAME);
+
+        hits = mreg.longAdderMetric("hits", "Count of query plan cache hits.");
+        misses = mreg.longAdderMetric("misses", "Count of query plan cache misses.");
+        evictions = mreg.longAdderMetric("evictions", "Count of query plans evicted because the cache is full.");
+        invalidations = mreg.longAdderMetric("invalidations",
+            "Count of query plans removed because of schema changes.");
+        planningTime = mreg.histogram("planningTime", PLANNING_TIME_BOUNDS,
+            "Time of planning queries missed in the cache, in milliseconds.");
+
+        cache = CacheBuilder.newBuilder()
+            .maximumSize(size)
+            .<CacheKey, Entry>removalListener(n -> {
+                if (n.getCause() == RemovalCause.SIZE)
+                    evictions.increment();
+            })
+            .build();
+
+        mreg.register("size", cache::size, "Count of cached query plans.");
+
         init();
     }
 
@@ -67,27 +138,149 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
 
     /** {@inheritDoc} */
     @Override public QueryPlan queryPlan(CacheKey key, Supplier<QueryPlan> planSupplier) {
-        QueryPlan plan = cache.computeIfAbsent(key, k -> planSupplier.get());
+        QueryPlan plan = queryPlan(key);
+
+        if (plan != null)
+            return plan;
+
+        misses.increment();
+
+        long ver0 = ver.get();
 
-        return plan.copy();
+        long start = U.currentTimeMillis();
+
+        plan = planSupplier.get();
+
+        planningTime.value(U.currentTimeMillis() - start);
+
+        if (ver0 != ver.get())
+            return plan.copy();
+
+        Entry entry = new Entry(plan, tables(plan));
+        Entry old = cache.asMap().putIfAbsent(key, entry);
+
+        if (old != null)
+            entry = old;
+        else if (ver0 != ver.get()) // The plan may be added after invalidation has finished.
+            cache.asMap().remove(key, entry);
+
+        return entry.plan.copy();
     }
 
     /** {@inheritDoc} */
     @Override public QueryPlan queryPlan(CacheKey key) {
-        QueryPlan plan = cache.get(key);
-        return plan != null ? plan.copy() : null;
+        Entry entry = cache.getIfPresent(key);
+
+        if (entry == null)
+            return null;
+
+        entry.uses.increment();
+        hits.increment();
+
+        return entry.plan.copy();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void invalidate(String schemaName, @Nullable String tblName) {
+        ver.incrementAndGet();
+
+        for (Iterator<Entry> it = cache.asMap().values().iterator(); it.hasNext(); ) {
+            if (it.next().dependsOn(schemaName, tblName)) {
+                it.remove();
+
+                invalidations.increment();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<CacheKey> mostUsedKeys(int cnt) {
+        return cache.asMap().entrySet().stream()
+            .filter(e -> e.getValue().plan.type() != QueryPlan.Type.FRAGMENT)
+            .sorted(Comparator.comparingLong((Map.Entry<CacheKey, Entry> e) -> e.getValue().uses.sum()).reversed())
+            .limit(cnt)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
     }
 
     /** {@inheritDoc} */
     @Override public void clear() {
-        cache = new GridBoundedConcurrentLinkedHashMap<>(CACHE_SIZE);
+        ver.incrementAndGet();
+
+        cache.invalidateAll();
+    }
+
+    /**
+     * @param plan Query plan.
+     * @return Qualified names of tables the plan depends on, or {@code null} if dependencies are unknown.
+     */
+    private static @Nullable Set<List<String>> tables(QueryPlan plan) {
+        Collection<? extends RelNode> roots;
+
+        if (plan instanceof AbstractMultiStepPlan)
+            roots = F.viewReadOnly(((AbstractMultiStepPlan)plan).fragments(), Fragment::root);
+        else if (plan instanceof FragmentPlan)
+            roots = F.asList(((FragmentPlan)plan).root());
+        else
+            return null;
+
+        Set<List<String>> tables = new HashSet<>();
+
+        RelVisitor collector = new RelVisitor() {
+            @Override public void visit(RelNode node, int ordinal, @Nullable RelNode parent) {
+                RelOptTable tbl = node.getTable();
+
+                if (tbl != null)
+                    tables.add(tbl.getQualifiedName());
+
+                super.visit(node, ordinal, parent);
+            }
+        };
+
+        for (RelNode root : roots)
+            collector.go(root);
+
+        return tables;
+    }
+
+    /** */
+    private static class Entry {
+        /** */
+        private final QueryPlan plan;
+
+        /** Qualified names of tables the plan depends on, {@code null} if the plan depends on any table. */
+        private final @Nullable Set<List<String>> tables;
+
+        /** */
+        private final LongAdder uses = new LongAdder();
+
+        /** */
+        private Entry(QueryPlan plan, @Nullable Set<List<String>> tables) {
+            this.plan = plan;
+            this.tables = tables;
+        }
+
+        /** */
+        private boolean dependsOn(String schemaName, @Nullable String tblName) {
+            if (tables == null)
+                return true;
+
+            for (List<String> tbl : tables) {
+                int size = tbl.size();
+
+                if (size >= 2 && schemaName.equals(tbl.get(size - 2)) && (tblName == null || tblName.equals(tbl.get(size - 1))))
+                    return true;
+            }
+
+            return false;
+        }
     }
 
     /** Schema change listener. */
     private class SchemaListener extends AbstractSchemaChangeListener {
         /** {@inheritDoc} */
         @Override public void onSchemaDropped(String schemaName) {
-            clear();
+            invalidate(schemaName, null);
         }
 
         /** {@inheritDoc} */
@@ -96,7 +289,7 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
             GridQueryTypeDescriptor typeDescriptor,
             boolean destroy
         ) {
-            clear();
+            invalidate(schemaName, typeDescriptor.tableName());
         }
 
         /** {@inheritDoc} */
@@ -106,22 +299,22 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
             String idxName,
             IndexDescriptor idxDesc
         ) {
-            clear();
+            invalidate(schemaName, tblName);
         }
 
         /** {@inheritDoc} */
         @Override public void onIndexDropped(String schemaName, String tblName, String idxName) {
-            clear();
+            invalidate(schemaName, tblName);
         }
 
         /** {@inheritDoc} */
         @Override public void onIndexRebuildStarted(String schemaName, String tblName) {
-            clear();
+            invalidate(schemaName, tblName);
         }
 
         /** {@inheritDoc} */
         @Override public void onIndexRebuildFinished(String schemaName, String tblName) {
-            clear();
+            invalidate(schemaName, tblName);
         }
 
         /** {@inheritDoc} */
@@ -131,7 +324,7 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
             GridCacheContextInfo<?, ?> cacheInfo,
             List<QueryField> cols
         ) {
-            clear();
+            invalidate(schemaName, typeDesc.tableName());
         }
 
         /** {@inheritDoc} */
@@ -141,7 +334,7 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
             GridCacheContextInfo<?, ?> cacheInfo,
             List<String> cols
         ) {
-            clear();
+            invalidate(schemaName, typeDesc.tableName());
         }
     }
 }
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.prepare;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Persists keys of the most used query plans, so the plan cache can be warmed up after the node restart.
+ * Only keys are stored: schema name, query string, query flags and types of dynamic parameters. Plans are
+ * built again on warm-up using placeholder values of the dynamic parameters.
+ */
+public class QueryPlanCacheWarmUp {
+    /** Name of the directory in the node work directory. */
+    public static final String WARM_UP_DIR = "sql_plan_cache";
+
+    /** */
+    private static final int VERSION = 1;
+
+    /** Placeholder values of dynamic parameters by their type. */
+    private static final Map<Class<?>, Object> PLACEHOLDERS = new HashMap<>();
+
+    static {
+        PLACEHOLDERS.put(Void.class, null);
+        PLACEHOLDERS.put(Boolean.class, Boolean.FALSE);
+        PLACEHOLDERS.put(Byte.class, (byte)0);
+        PLACEHOLDERS.put(Short.class, (short)0);
+        PLACEHOLDERS.put(Integer.class, 0);
+        PLACEHOLDERS.put(Long.class, 0L);
+        PLACEHOLDERS.put(Float.class, 0f);
+        PLACEHOLDERS.put(Double.class, 0d);
+        PLACEHOLDERS.put(BigDecimal.class, BigDecimal.ZERO);
+        PLACEHOLDERS.put(String.class, "");
+        PLACEHOLDERS.put(UUID.class, new UUID(0, 0));
+        PLACEHOLDERS.put(Date.class, new Date(0));
+        PLACEHOLDERS.put(Time.class, new Time(0));
+        PLACEHOLDERS.put(Timestamp.class, new Timestamp(0));
+        PLACEHOLDERS.put(LocalDate.class, LocalDate.EPOCH);
+        PLACEHOLDERS.put(LocalTime.class, LocalTime.MIDNIGHT);
+        PLACEHOLDERS.put(LocalDateTime.class, LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIDNIGHT));
+        PLACEHOLDERS.put(byte[].class, new byte[0]);
+    }
+
+    /** */
+    private final File file;
+
+    /** */
+    private final IgniteLogger log;
+
+    /**
+     * @param file File to store keys.
+     * @param log Logger.
+     */
+    public QueryPlanCacheWarmUp(File file, IgniteLogger log) {
+        this.file = file;
+        this.log = log;
+    }
+
+    /**
+     * Stores keys of plans. Keys which can't be restored (with unsupported query flags or parameter types)
+     * are skipped.
+     *
+     * @param keys Keys of plans.
+     */
+    public void save(List<CacheKey> keys) {
+        File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            List<CacheKey> keys0 = new ArrayList<>(keys.size());
+
+            for (CacheKey key : keys) {
+                if (supported(key))
+                    keys0.add(key);
+            }
+
+            out.writeInt(VERSION);
+            out.writeInt(keys0.size());
+
+            for (CacheKey key : keys0) {
+                U.writeLongString(out, key.schemaName());
+                U.writeLongString(out, key.query());
+
+                List<?> flags = (List<?>)key.contextKey();
+
+                out.writeInt(flags == null ? -1 : flags.size());
+
+                if (flags != null) {
+                    for (Object flag : flags)
+                        out.writeBoolean((Boolean)flag);
+                }
+
+                Class<?>[] types = key.paramTypes();
+
+                out.writeInt(types == null ? 0 : types.length);
+
+                if (types != null) {
+                    for (Class<?> type : types)
+                        U.writeString(out, type.getName());
+                }
+            }
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to save query plan cache warm-up keys [file=" + file + ']', e);
+
+            U.delete(tmp);
+
+            return;
+        }
+
+        if (!tmp.renameTo(file)) {
+            U.delete(file);
+
+            if (!tmp.renameTo(file))
+                U.warn(log, "Failed to save query plan cache warm-up keys [file=" + file + ']');
+        }
+    }
+
+    /**
+     * @return Stored queries, empty list if there are no stored queries.
+     */
+    public List<Query> load() {
+        if (!file.exists())
+            return new ArrayList<>();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int ver = in.readInt();
+
+            if (ver != VERSION) {
+                U.warn(log, "Unsupported query plan cache warm-up file version [file=" + file + ", ver=" + ver + ']');
+
+                return new ArrayList<>();
+            }
+
+            int cnt = in.readInt();
+
+            List<Query> res = new ArrayList<>(cnt);
+
+            for (int i = 0; i < cnt; i++) {
+                String schemaName = U.readLongString(in);
+                String qry = U.readLongString(in);
+
+                int flagsCnt = in.readInt();
+
+                List<Boolean> flags = null;
+
+                if (flagsCnt >= 0) {
+                    flags = new ArrayList<>(flagsCnt);
+
+                    for (int j = 0; j < flagsCnt; j++)
+                        flags.add(in.readBoolean());
+                }
+
+                int paramsCnt = in.readInt();
+
+                Object[] params = paramsCnt == 0 ? X.EMPTY_OBJECT_ARRAY : new Object[paramsCnt];
+
+                boolean valid = true;
+
+                for (int j = 0; j < paramsCnt; j++) {
+                    Class<?> type = U.classForName(U.readString(in), null);
+
+                    if (type == null || !PLACEHOLDERS.containsKey(type))
+                        valid = false;
+                    else
+                        params[j] = PLACEHOLDERS.get(type);
+                }
+
+                if (valid)
+                    res.add(new Query(schemaName, qry, flags, params));
+            }
+
+            return res;
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to load query plan cache warm-up keys [file=" + file + ']', e);
+
+            return new ArrayList<>();
+        }
+    }
+
+    /** */
+    private static boolean supported(CacheKey key) {
+        Object ctxKey = key.contextKey();
+
+        if (ctxKey != null) {
+            if (!(ctxKey instanceof List))
+                return false;
+
+            for (Object flag : (List<?>)ctxKey) {
+                if (!(flag instanceof Boolean))
+                    return false;
+            }
+        }
+
+        if (key.paramTypes() != null) {
+            for (Class<?> type : key.paramTypes()) {
+                if (!PLACEHOLDERS.containsKey(type))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** Stored query. */
+    public static class Query {
+        /** */
+        private final String schemaName;
+
+        /** */
+        private final String sql;
+
+        /** */
+        private final @Nullable List<Boolean> flags;
+
+        /** */
+        private final Object[] params;
+
+        /** */
+        private Query(String schemaName, String sql, @Nullable List<Boolean> flags, Object[] params) {
+            this.schemaName = schemaName;
+            this.sql = sql;
+            this.flags = flags;
+            this.params = params;
+        }
+
+        /** @return Schema name. */
+        public String schemaName() {
+            return schemaName;
+        }
+
+        /** @return Query string. */
+        public String sql() {
+            return sql;
+        }
+
+        /** @return Query flags (LOCAL and ENFORCE JOIN ORDER), used as a cache key context. */
+        public @Nullable List<Boolean> flags() {
+            return flags;
+        }
+
+        /** @return Placeholder values of dynamic parameters having the same types as the original parameters. */
+        public Object[] params() {
+            return params;
+        }
+    }
+}
@@ -54,6 +54,11 @@ public class QueryTemplate {
         this.fragments = b.build();
     }
 
+    /** */
+    public List<Fragment> fragments() {
+        return fragments;
+    }
+
     /** */
     public ExecutionPlan map(MappingService mappingService, MappingQueryContext ctx) {
         ExecutionPlan executionPlan = this.executionPlan.get();
@@ -64,6 +64,11 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteMergeJoin rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}
+     */
+    T visit(IgniteHashJoin rel);
+
     /**
      * See {@link IgniteRelVisitor#visit(IgniteRel)}
      */
@@ -145,6 +150,11 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteSort rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}
+     */
+    T visit(IgniteWindow rel);
+
     /**
      * See {@link IgniteRelVisitor#visit(IgniteRel)}
      */
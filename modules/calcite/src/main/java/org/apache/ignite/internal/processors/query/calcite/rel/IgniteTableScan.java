@@ -20,10 +20,13 @@ package org.apache.ignite.internal.processors.query.calcite.rel;
 import java.util.List;
 import com.google.common.collect.ImmutableList;
 import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelInput;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +40,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
     /** */
     private final long sourceId;
 
+    /** Count of threads scanning the table on every node. */
+    private final int parallelism;
+
     /**
      * Constructor used for deserialization.
      *
@@ -50,6 +56,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
             sourceId = ((Number)srcIdObj).longValue();
         else
             sourceId = -1;
+
+        Object parallelismObj = input.get("parallelism");
+        parallelism = parallelismObj != null ? ((Number)parallelismObj).intValue() : 1;
     }
 
     /**
@@ -83,7 +92,29 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         @Nullable RexNode cond,
         @Nullable ImmutableBitSet requiredColunms
     ) {
-        this(-1L, cluster, traits, tbl, proj, cond, requiredColunms);
+        this(cluster, traits, tbl, proj, cond, requiredColunms, 1);
+    }
+
+    /**
+     * Creates a TableScan.
+     * @param cluster Cluster that this relational expression belongs to
+     * @param traits Traits of this relational expression
+     * @param tbl Table definition.
+     * @param proj Projects.
+     * @param cond Filters.
+     * @param requiredColunms Participating colunms.
+     * @param parallelism Count of threads scanning the table on every node.
+     */
+    public IgniteTableScan(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelOptTable tbl,
+        @Nullable List<RexNode> proj,
+        @Nullable RexNode cond,
+        @Nullable ImmutableBitSet requiredColunms,
+        int parallelism
+    ) {
+        this(-1L, cluster, traits, tbl, proj, cond, requiredColunms, parallelism);
     }
 
     /**
@@ -94,6 +125,7 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
      * @param proj Projects.
      * @param cond Filters.
      * @param requiredColunms Participating colunms.
+     * @param parallelism Count of threads scanning the table on every node.
      */
     private IgniteTableScan(
         long sourceId,
@@ -102,10 +134,12 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         RelOptTable tbl,
         @Nullable List<RexNode> proj,
         @Nullable RexNode cond,
-        @Nullable ImmutableBitSet requiredColunms
+        @Nullable ImmutableBitSet requiredColunms,
+        int parallelism
     ) {
         super(cluster, traits, ImmutableList.of(), tbl, proj, cond, requiredColunms);
         this.sourceId = sourceId;
+        this.parallelism = parallelism;
     }
 
     /** */
@@ -113,10 +147,29 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         return sourceId;
     }
 
+    /**
+     * @return Count of threads scanning the table on every node.
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
     /** */
     @Override protected RelWriter explainTerms0(RelWriter pw) {
         return super.explainTerms0(pw)
-            .itemIf("sourceId", sourceId, sourceId != -1);
+            .itemIf("sourceId", sourceId, sourceId != -1)
+            .itemIf("parallelism", parallelism, parallelism > 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        RelOptCost cost = super.computeSelfCost(planner, mq);
+
+        if (parallelism <= 1)
+            return cost;
+
+        // Rows are processed by several threads concurrently.
+        return planner.getCostFactory().makeCost(cost.getRows(), cost.getCpu() / parallelism, cost.getIo());
     }
 
     /** {@inheritDoc} */
@@ -126,11 +179,13 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
 
     /** {@inheritDoc} */
     @Override public IgniteRel clone(long sourceId) {
-        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), getTable(), projects, condition, requiredColumns,
+            parallelism);
     }
 
     /** {@inheritDoc} */
     @Override public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
-        return new IgniteTableScan(sourceId, cluster, getTraitSet(), getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(sourceId, cluster, getTraitSet(), getTable(), projects, condition, requiredColumns,
+            parallelism);
     }
 }
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rel;
+
+import java.util.List;
+import java.util.Objects;
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.processors.query.calcite.externalize.RelInputEx;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistribution;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitsAwareIgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+
+/**
+ * Relational expression that computes window functions of a single window over its input.
+ * The input is sorted by partition keys followed by the order keys of the window, so partitions
+ * are evaluated one by one. Output row consists of the input fields followed by the function values.
+ */
+public class IgniteWindow extends SingleRel implements TraitsAwareIgniteRel {
+    /** Partition keys. */
+    private final ImmutableBitSet grpSet;
+
+    /** Input collation: partition keys followed by the order keys. */
+    private final RelCollation collation;
+
+    /** Window functions. */
+    private final List<AggregateCall> aggCalls;
+
+    /** Whether the frame is ROWS or RANGE. */
+    private final boolean rowsFrame;
+
+    /** */
+    private final RexWindowBound lowerBound;
+
+    /** */
+    private final RexWindowBound upperBound;
+
+    /**
+     * @param cluster Cluster.
+     * @param traitSet Trait set.
+     * @param input Input.
+     * @param grpSet Partition keys.
+     * @param collation Input collation: partition keys followed by the order keys.
+     * @param aggCalls Window functions.
+     * @param rowsFrame {@code True} for ROWS frame, {@code false} for RANGE frame.
+     * @param lowerBound Frame lower bound.
+     * @param upperBound Frame upper bound.
+     */
+    public IgniteWindow(
+        RelOptCluster cluster,
+        RelTraitSet traitSet,
+        RelNode input,
+        ImmutableBitSet grpSet,
+        RelCollation collation,
+        List<AggregateCall> aggCalls,
+        boolean rowsFrame,
+        RexWindowBound lowerBound,
+        RexWindowBound upperBound
+    ) {
+        super(cluster, traitSet, input);
+
+        assert Objects.nonNull(collation);
+        assert ImmutableBitSet.of(collation.getKeys()).contains(grpSet);
+
+        this.grpSet = grpSet;
+        this.collation = collation;
+        this.aggCalls = ImmutableList.copyOf(aggCalls);
+        this.rowsFrame = rowsFrame;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /** */
+    public IgniteWindow(RelInput input) {
+        this(input.getCluster(),
+            input.getTraitSet().replace(IgniteConvention.INSTANCE),
+            input.getInput(),
+            input.getBitSet("group"),
+            input.getCollation(),
+            input.getAggregateCalls("aggs"),
+            input.getBoolean("rows", false),
+            ((RelInputEx)input).getWindowBound("lowerBound"),
+            ((RelInputEx)input).getWindowBound("upperBound"));
+    }
+
+    /** @return Partition keys. */
+    public ImmutableBitSet getGroupSet() {
+        return grpSet;
+    }
+
+    /** @return Input collation: partition keys followed by the order keys. */
+    public RelCollation collation() {
+        return collation;
+    }
+
+    /** @return Window functions. */
+    public List<AggregateCall> getAggCallList() {
+        return aggCalls;
+    }
+
+    /** @return {@code True} for ROWS frame, {@code false} for RANGE frame. */
+    public boolean isRows() {
+        return rowsFrame;
+    }
+
+    /** @return Frame lower bound. */
+    public RexWindowBound getLowerBound() {
+        return lowerBound;
+    }
+
+    /** @return Frame upper bound. */
+    public RexWindowBound getUpperBound() {
+        return upperBound;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected RelDataType deriveRowType() {
+        RelDataTypeFactory.Builder builder = getCluster().getTypeFactory().builder();
+
+        builder.addAll(getInput().getRowType().getFieldList());
+
+        for (int i = 0; i < aggCalls.size(); i++) {
+            AggregateCall call = aggCalls.get(i);
+
+            builder.add(call.getName() == null ? "w$o" + i : call.getName(), call.getType());
+        }
+
+        return builder.uniquify().build();
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+            .item("group", grpSet)
+            .item("collation", collation)
+            .item("aggs", aggCalls)
+            .item("rows", rowsFrame)
+            .item("lowerBound", lowerBound)
+            .item("upperBound", upperBound);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new IgniteWindow(getCluster(), traitSet, sole(inputs), grpSet, collation, aggCalls, rowsFrame,
+            lowerBound, upperBound);
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteWindow(cluster, getTraitSet(), sole(inputs), grpSet, collation, aggCalls, rowsFrame,
+            lowerBound, upperBound);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Pair<RelTraitSet, List<RelTraitSet>> passThroughDistribution(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        IgniteDistribution distr = TraitUtils.distribution(nodeTraits);
+
+        if (distr == IgniteDistributions.single() || distr.function().correlated() || colocated(distr))
+            return Pair.of(nodeTraits, Commons.transform(inTraits, t -> t.replace(distr)));
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Pair<RelTraitSet, List<RelTraitSet>> passThroughCollation(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        return Pair.of(nodeTraits.replace(collation), ImmutableList.of(inTraits.get(0).replace(collation)));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveRewindability(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(TraitUtils.rewindability(inTraits.get(0))), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveDistribution(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        IgniteDistribution inDistribution = TraitUtils.distribution(inTraits.get(0));
+
+        if (inDistribution.satisfies(IgniteDistributions.single()))
+            return ImmutableList.of(Pair.of(nodeTraits.replace(IgniteDistributions.single()), inTraits));
+
+        // Every partition of the window resides on a single node, so the window can be computed in place.
+        if (colocated(inDistribution))
+            return ImmutableList.of(Pair.of(nodeTraits.replace(inDistribution), inTraits));
+
+        return ImmutableList.of();
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCollation(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(collation),
+            ImmutableList.of(inTraits.get(0).replace(collation))));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCorrelation(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(TraitUtils.correlation(inTraits.get(0))), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        IgniteCostFactory costFactory = (IgniteCostFactory)planner.getCostFactory();
+
+        double inRows = mq.getRowCount(getInput());
+
+        // Rows of a single partition are kept in memory.
+        double partitions = 1;
+
+        if (!grpSet.isEmpty()) {
+            Double distinct = mq.getDistinctRowCount(getInput(), grpSet, null);
+
+            if (distinct != null && distinct > 1)
+                partitions = distinct;
+        }
+
+        double partSize = inRows / partitions * getInput().getRowType().getFieldCount() * IgniteCost.AVERAGE_FIELD_SIZE;
+
+        return costFactory.makeCost(
+            inRows,
+            inRows * (IgniteCost.ROW_PASS_THROUGH_COST + aggCalls.size() * IgniteCost.ROW_COMPARISON_COST),
+            0,
+            partSize + aggCalls.size() * IgniteCost.AGG_CALL_MEM_COST,
+            0
+        );
+    }
+
+    /**
+     * @param distr Distribution.
+     * @return {@code True} if rows of every window partition reside on the same node for the given distribution.
+     */
+    private boolean colocated(IgniteDistribution distr) {
+        if (distr.getType() != RelDistribution.Type.HASH_DISTRIBUTED || grpSet.isEmpty())
+            return false;
+
+        return grpSet.contains(ImmutableBitSet.of(distr.getKeys()));
+    }
+}
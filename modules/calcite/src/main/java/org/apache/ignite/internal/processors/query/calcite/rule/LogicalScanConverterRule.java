@@ -35,6 +35,7 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.Mapping;
 import org.apache.calcite.util.mapping.Mappings;
+import org.apache.ignite.internal.processors.query.calcite.hint.HintUtils;
 import org.apache.ignite.internal.processors.query.calcite.prepare.BaseQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteConvention;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
@@ -164,7 +165,7 @@ public abstract class LogicalScanConverterRule<T extends ProjectableFilterableTa
                     traits = traits.replace(CorrelationTrait.correlations(corrIds));
 
                 return new IgniteTableScan(rel.getCluster(), traits,
-                    rel.getTable(), rel.projects(), rel.condition(), rel.requiredColumns());
+                    rel.getTable(), rel.projects(), rel.condition(), rel.requiredColumns(), HintUtils.scanParallelism(rel));
             }
         };
 
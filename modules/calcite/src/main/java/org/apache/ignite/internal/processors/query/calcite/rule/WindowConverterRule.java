@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.logical.LogicalWindow;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.rex.RexWindowBounds;
+import org.apache.calcite.sql.SqlWindow;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteConvention;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteProject;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
+
+/**
+ * Converts a window aggregate to a chain of {@link IgniteWindow} nodes, one node per window.
+ * Each node requires its input to be sorted by the partition keys followed by the order keys of the window.
+ */
+public class WindowConverterRule extends AbstractIgniteConverterRule<LogicalWindow> {
+    /** */
+    public static final RelOptRule INSTANCE = new WindowConverterRule();
+
+    /** */
+    public WindowConverterRule() {
+        super(LogicalWindow.class, "WindowConverterRule");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalWindow window) {
+        RelOptCluster cluster = window.getCluster();
+        RexBuilder rexBuilder = cluster.getRexBuilder();
+        RelTraitSet traits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+
+        RelNode input = window.getInput();
+        int inFieldsCnt = input.getRowType().getFieldCount();
+
+        // Window functions refer to constants as to the fields following the input fields.
+        if (!window.constants.isEmpty()) {
+            List<RexNode> projects = new ArrayList<>(rexBuilder.identityProjects(input.getRowType()));
+            RelDataTypeFactory.Builder rowType = cluster.getTypeFactory().builder()
+                .addAll(input.getRowType().getFieldList());
+
+            for (int i = 0; i < window.constants.size(); i++) {
+                projects.add(window.constants.get(i));
+                rowType.add("$c" + i, window.constants.get(i).getType());
+            }
+
+            input = new IgniteProject(cluster, traits, convert(input, traits), projects, rowType.uniquify().build());
+        }
+
+        PhysicalNode rel = null;
+
+        for (Window.Group grp : window.groups) {
+            RelCollation collation = collation(grp);
+
+            RelTraitSet grpTraits = traits.replace(collation).replace(IgniteDistributions.single());
+
+            rel = new IgniteWindow(
+                cluster,
+                grpTraits,
+                convert(input, grpTraits),
+                grp.keys,
+                collation,
+                grp.getAggregateCalls(window),
+                grp.isRows,
+                bound(window, grp.lowerBound, rexBuilder),
+                bound(window, grp.upperBound, rexBuilder)
+            );
+
+            input = rel;
+        }
+
+        if (window.constants.isEmpty())
+            return rel;
+
+        // Remove constants from the output.
+        List<RexNode> projects = new ArrayList<>(window.getRowType().getFieldCount());
+        RelDataType rowType = input.getRowType();
+
+        for (int i = 0; i < rowType.getFieldCount(); i++) {
+            if (i < inFieldsCnt || i >= inFieldsCnt + window.constants.size())
+                projects.add(rexBuilder.makeInputRef(rowType.getFieldList().get(i).getType(), i));
+        }
+
+        return new IgniteProject(cluster, traits, input, projects, window.getRowType());
+    }
+
+    /** @return Collation of the partition keys followed by the order keys of the window. */
+    private static RelCollation collation(Window.Group grp) {
+        List<RelFieldCollation> fields = new ArrayList<>();
+        ImmutableBitSet.Builder keys = ImmutableBitSet.builder();
+
+        for (int key : grp.keys) {
+            fields.add(TraitUtils.createFieldCollation(key));
+            keys.set(key);
+        }
+
+        for (RelFieldCollation field : grp.orderKeys.getFieldCollations()) {
+            if (!keys.get(field.getFieldIndex())) {
+                fields.add(field);
+                keys.set(field.getFieldIndex());
+            }
+        }
+
+        return RelCollations.of(fields);
+    }
+
+    /** @return Frame bound with a literal offset instead of a reference to the window constant. */
+    private static RexWindowBound bound(LogicalWindow window, RexWindowBound bound, RexBuilder rexBuilder) {
+        if (!(bound.getOffset() instanceof RexInputRef))
+            return bound;
+
+        int constIdx = ((RexInputRef)bound.getOffset()).getIndex() - window.getInput().getRowType().getFieldCount();
+
+        RexNode offset = window.constants.get(constIdx);
+
+        return RexWindowBounds.create(null, rexBuilder.makeCall(
+            bound.isPreceding() ? SqlWindow.PRECEDING_OPERATOR : SqlWindow.FOLLOWING_OPERATOR, offset));
+    }
+}
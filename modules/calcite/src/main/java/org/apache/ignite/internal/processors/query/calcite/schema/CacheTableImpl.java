@@ -17,11 +17,13 @@
 
 package org.apache.ignite.internal.processors.query.calcite.schema;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.type.RelDataType;
@@ -32,6 +34,7 @@ import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.TableScan;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
@@ -113,12 +116,52 @@ public class CacheTableImpl extends AbstractTable implements IgniteCacheTable {
     ) {
         UUID locNodeId = execCtx.localNodeId();
 
-        if (grp.nodeIds().contains(locNodeId))
-            return new TableScan<>(execCtx, desc, grp.partitions(locNodeId), usedColumns);
+        if (grp.nodeIds().contains(locNodeId)) {
+            int[] parts = desc.cacheContext().isReplicated() ? null : grp.partitions(locNodeId);
+
+            return new TableScan<>(execCtx, desc, parts, usedColumns);
+        }
 
         return Collections.emptyList();
     }
 
+    /** {@inheritDoc} */
+    @Override public <Row> List<Iterable<Row>> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet usedColumns,
+        int parallelism
+    ) {
+        UUID locNodeId = execCtx.localNodeId();
+
+        if (parallelism <= 1 || !grp.nodeIds().contains(locNodeId))
+            return Collections.singletonList(scan(execCtx, grp, usedColumns));
+
+        GridCacheContext<?, ?> cctx = desc.cacheContext();
+
+        int[] parts = cctx.isReplicated() ? IntStream.range(0, cctx.affinity().partitions()).toArray()
+            : grp.partitions(locNodeId);
+
+        if (parts == null || parts.length <= 1)
+            return Collections.singletonList(scan(execCtx, grp, usedColumns));
+
+        int cnt = Math.min(parallelism, parts.length);
+
+        // Partitions are distributed round-robin to even out the load if partitions are of different size.
+        List<Iterable<Row>> scans = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            int[] subset = new int[(parts.length - i + cnt - 1) / cnt];
+
+            for (int j = 0; j < subset.length; j++)
+                subset[j] = parts[i + j * cnt];
+
+            scans.add(new TableScan<>(execCtx, desc, subset, usedColumns));
+        }
+
+        return scans;
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteDistribution distribution() {
         return desc.distribution();
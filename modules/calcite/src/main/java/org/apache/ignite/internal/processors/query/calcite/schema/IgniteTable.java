@@ -16,6 +16,7 @@
  */
 package org.apache.ignite.internal.processors.query.calcite.schema;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.apache.calcite.plan.RelOptCluster;
@@ -91,6 +92,24 @@ public interface IgniteTable extends TranslatableTable {
         ColocationGroup grp,
         @Nullable ImmutableBitSet usedColumns);
 
+    /**
+     * Creates rows iterators over disjoint parts of the table, which can be scanned concurrently.
+     *
+     * @param execCtx Execution context.
+     * @param grp Colocation group.
+     * @param usedColumns Used columns enumeration.
+     * @param parallelism Maximum count of iterators.
+     * @return Rows iterators.
+     */
+    public default <Row> List<Iterable<Row>> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet usedColumns,
+        int parallelism
+    ) {
+        return Collections.singletonList(scan(execCtx, grp, usedColumns));
+    }
+
     /**
      * Returns nodes mapping.
      *
@@ -16,6 +16,7 @@
  */
 package org.apache.ignite.internal.processors.query.calcite.sql.fun;
 
+import org.apache.calcite.sql.SqlAggFunction;
 import org.apache.calcite.sql.SqlFunction;
 import org.apache.calcite.sql.SqlFunctionCategory;
 import org.apache.calcite.sql.SqlKind;
@@ -123,6 +124,12 @@ public class IgniteOwnSqlOperatorTable extends ReflectiveSqlOperatorTable {
             OperandTypes.SAME_SAME,
             SqlFunctionCategory.SYSTEM);
 
+    /** LEAD window function with nullable result. */
+    public static final SqlAggFunction LEAD = new SqlLeadLagFunction(SqlKind.LEAD);
+
+    /** LAG window function with nullable result. */
+    public static final SqlAggFunction LAG = new SqlLeadLagFunction(SqlKind.LAG);
+
     /**
      * Returns the Ignite operator table, creating it if necessary.
      */
@@ -92,6 +92,17 @@ public class IgniteStdSqlOperatorTable extends ReflectiveSqlOperatorTable {
         register(SqlStdOperatorTable.EVERY);
         register(SqlStdOperatorTable.SOME);
 
+        // Window functions.
+        register(SqlStdOperatorTable.ROW_NUMBER);
+        register(SqlStdOperatorTable.RANK);
+        register(SqlStdOperatorTable.DENSE_RANK);
+        register(SqlStdOperatorTable.PERCENT_RANK);
+        register(SqlStdOperatorTable.CUME_DIST);
+        register(SqlStdOperatorTable.NTILE);
+        // LAG and LEAD are defined in IgniteOwnSqlOperatorTable.
+        register(SqlStdOperatorTable.FIRST_VALUE);
+        register(SqlStdOperatorTable.LAST_VALUE);
+
         // IS ... operator.
         register(SqlStdOperatorTable.IS_NULL);
         register(SqlStdOperatorTable.IS_NOT_NULL);
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.sql.fun;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlOperatorBinding;
+import org.apache.calcite.sql.fun.SqlLeadLagAggFunction;
+
+/**
+ * Definition of the "LEAD" and "LAG" window functions. Unlike the Calcite one, the result is always nullable:
+ * a NOT NULL default value replaces only a missing row, the value of the shifted row itself can still be NULL.
+ */
+public class SqlLeadLagFunction extends SqlLeadLagAggFunction {
+    /**
+     * Creates the SqlLeadLagFunction.
+     */
+    SqlLeadLagFunction(SqlKind kind) {
+        super(kind);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelDataType inferReturnType(SqlOperatorBinding opBinding) {
+        return opBinding.getTypeFactory().createTypeWithNullability(super.inferReturnType(opBinding), true);
+    }
+}
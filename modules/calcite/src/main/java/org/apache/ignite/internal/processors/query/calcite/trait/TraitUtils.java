@@ -48,6 +48,7 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowBound;
 import org.apache.calcite.util.ControlFlowException;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.Pair;
@@ -373,6 +374,10 @@ public class TraitUtils {
             @Override public List<SearchBounds> getSearchBounds(String tag) {
                 return ((RelInputEx)input).getSearchBounds(tag);
             }
+
+            @Override public RexWindowBound getWindowBound(String tag) {
+                return ((RelInputEx)input).getWindowBound(tag);
+            }
         };
     }
 
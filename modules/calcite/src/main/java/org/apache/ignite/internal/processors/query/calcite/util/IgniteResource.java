@@ -72,4 +72,8 @@ public interface IgniteResource {
     /** */
     @Resources.BaseMessage("Modify operation is not supported for table ''{0}''")
     Resources.ExInst<SqlValidatorException> modifyTableNotSupported(String table);
+
+    /** */
+    @Resources.BaseMessage("RANGE window frame with an offset bound is not supported, use ROWS frame instead")
+    Resources.ExInst<SqlValidatorException> unsupportedRangeWindowFrame();
 }
@@ -131,6 +131,7 @@ public class LogicalRelImplementorTest extends GridCommonAbstractTest {
             ArrayRowHandler.INSTANCE,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             null
         ) {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class RuntimeFilterTest extends GridCommonAbstractTest {
+    /** */
+    @Test
+    public void testBloomFilter() {
+        List<GroupKey> keys = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++)
+            keys.add(new GroupKey(new Object[] {"key" + i, i * 2}));
+
+        RuntimeFilter filter = RuntimeFilter.build(new int[] {2, 0}, keys);
+
+        assertNotNull(filter);
+        assertNull(filter.range());
+
+        Predicate<Object[]> pred = filter.predicate(ArrayRowHandler.INSTANCE);
+
+        for (int i = 0; i < 1_000; i++)
+            assertTrue(pred.test(new Object[] {i * 2, "val", "key" + i}));
+
+        assertFalse(pred.test(new Object[] {0, "val", null}));
+
+        // New predicate, the first one may be already switched off since all the tested rows passed.
+        pred = filter.predicate(ArrayRowHandler.INSTANCE);
+
+        int passed = 0;
+
+        for (int i = 0; i < 1_000; i++) {
+            if (pred.test(new Object[] {i * 2 + 1, "val", "key" + i}))
+                passed++;
+        }
+
+        assertTrue("Too many false positives: " + passed, passed < 50);
+    }
+
+    /** */
+    @Test
+    public void testRange() {
+        List<GroupKey> keys = new ArrayList<>();
+
+        for (long i = 100; i < 200; i++)
+            keys.add(new GroupKey(new Object[] {i}));
+
+        RuntimeFilter filter = RuntimeFilter.build(new int[] {0}, keys);
+
+        assertNotNull(filter);
+        assertEquals(100L, filter.range()[0]);
+        assertEquals(199L, filter.range()[1]);
+
+        Predicate<Object[]> pred = filter.predicate(ArrayRowHandler.INSTANCE);
+
+        assertTrue(pred.test(new Object[] {150L}));
+        assertFalse(pred.test(new Object[] {99L}));
+        assertFalse(pred.test(new Object[] {200L}));
+    }
+
+    /** */
+    @Test
+    public void testEmptyBuildSide() {
+        RuntimeFilter filter = RuntimeFilter.build(new int[] {0}, new ArrayList<>());
+
+        assertNotNull(filter);
+
+        Predicate<Object[]> pred = filter.predicate(ArrayRowHandler.INSTANCE);
+
+        for (int i = 0; i < 100; i++)
+            assertFalse(pred.test(new Object[] {i}));
+    }
+
+    /** */
+    @Test
+    public void testUnsupportedKeyType() {
+        List<GroupKey> keys = new ArrayList<>();
+
+        keys.add(new GroupKey(new Object[] {new byte[] {1, 2}}));
+
+        assertNull(RuntimeFilter.build(new int[] {0}, keys));
+    }
+
+    /** */
+    @Test
+    public void testNotSelectiveFilterSwitchedOff() {
+        List<GroupKey> keys = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++)
+            keys.add(new GroupKey(new Object[] {i}));
+
+        Predicate<Object[]> pred = RuntimeFilter.build(new int[] {0}, keys).predicate(ArrayRowHandler.INSTANCE);
+
+        for (int i = 0; i < 10_000; i++)
+            assertTrue(pred.test(new Object[] {i}));
+
+        // Filter is switched off, all rows pass.
+        assertTrue(pred.test(new Object[] {-1}));
+    }
+}
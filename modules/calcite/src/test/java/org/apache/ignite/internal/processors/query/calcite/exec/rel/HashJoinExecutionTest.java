@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.calcite.rel.core.JoinRelType.ANTI;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+import static org.apache.calcite.rel.core.JoinRelType.SEMI;
+
+/** */
+public class HashJoinExecutionTest extends AbstractExecutionTest {
+    /** */
+    public static final Object[][] EMPTY = new Object[0][];
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Before
+    @Override public void setup() throws Exception {
+        nodesCnt = 1;
+        super.setup();
+    }
+
+    /** */
+    @Test
+    public void joinEmptyTables() {
+        verifyJoin(EMPTY, EMPTY, INNER, EMPTY);
+        verifyJoin(EMPTY, EMPTY, LEFT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, SEMI, EMPTY);
+        verifyJoin(EMPTY, EMPTY, ANTI, EMPTY);
+    }
+
+    /** */
+    @Test
+    public void joinEmptyRightTable() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2}
+        };
+
+        verifyJoin(left, EMPTY, INNER, EMPTY);
+        verifyJoin(left, EMPTY, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", null},
+            {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, SEMI, EMPTY);
+        verifyJoin(left, EMPTY, ANTI, new Object[][] {
+            {1, "Roman"},
+            {2, "Igor"},
+            {3, "Alexey"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinOneToMany() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2},
+            {4, "Ivan", 4},
+            {5, "Taras", 5},
+            {6, "Lisa", 6}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"},
+            {3, "QA"},
+            {5, "Arch"},
+            {null, "Unknown"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {5, "Taras", "Arch"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {4, "Ivan", null},
+            {5, "Taras", "Arch"},
+            {6, "Lisa", null}
+        });
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"},
+            {3, "Alexey"},
+            {5, "Taras"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"},
+            {4, "Ivan"},
+            {6, "Lisa"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinWithNonEquiCondition() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"}
+        };
+
+        BiPredicate<Object[], Object[]> nonEquiCond = (l, r) -> !((String)r[1]).startsWith("OLD");
+
+        verifyJoin(left, right, INNER, nonEquiCond, new Object[][] {
+            {2, "Igor", "Core"},
+            {3, "Alexey", "SQL"}
+        });
+        verifyJoin(left, right, LEFT, (l, r) -> !"SQL".equals(r[1]), new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", null}
+        });
+        verifyJoin(left, right, SEMI, (l, r) -> "SQL".equals(r[1]), new Object[][] {
+            {3, "Alexey"}
+        });
+        verifyJoin(left, right, ANTI, (l, r) -> "SQL".equals(r[1]), new Object[][] {
+            {1, "Roman"},
+            {2, "Igor"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinManyRows() {
+        int leftSize = AbstractNode.IN_BUFFER_SIZE * 3 + 7;
+        int rightSize = AbstractNode.IN_BUFFER_SIZE * 2 + 3;
+
+        Object[][] left = new Object[leftSize][];
+        Object[][] right = new Object[rightSize][];
+
+        for (int i = 0; i < leftSize; i++)
+            left[i] = new Object[] {i, "L" + i, i % rightSize};
+
+        for (int i = 0; i < rightSize; i++)
+            right[i] = new Object[] {i, "R" + i};
+
+        Object[][] exp = new Object[leftSize][];
+
+        for (int i = 0; i < leftSize; i++)
+            exp[i] = new Object[] {i, "L" + i, "R" + (i % rightSize)};
+
+        verifyJoin(left, right, INNER, exp);
+        verifyJoin(left, right, LEFT, exp);
+    }
+
+    /** */
+    private void verifyJoin(Object[][] left, Object[][] right, JoinRelType joinType, Object[][] expRes) {
+        verifyJoin(left, right, joinType, null, expRes);
+    }
+
+    /** */
+    private void verifyJoin(
+        Object[][] left,
+        Object[][] right,
+        JoinRelType joinType,
+        BiPredicate<Object[], Object[]> nonEquiCond,
+        Object[][] expRes
+    ) {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+
+        RelDataType leftType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, leftType, Arrays.asList(left));
+
+        RelDataType rightType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, String.class);
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, rightType, Arrays.asList(right));
+
+        boolean semiOrAnti = joinType == SEMI || joinType == ANTI;
+
+        RelDataType outType;
+        if (semiOrAnti)
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        else
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class,
+                Integer.class, String.class);
+
+        JoinInfo joinInfo = JoinInfo.of(ImmutableIntList.of(2), ImmutableIntList.of(0));
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, outType, leftType, rightType, joinType, joinInfo,
+            nonEquiCond);
+        join.register(F.asList(leftNode, rightNode));
+
+        RelDataType rowType;
+        ProjectNode<Object[]> project;
+        if (semiOrAnti) {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[] {r[0], r[1]});
+        }
+        else {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[] {r[0], r[1], r[4]});
+        }
+        project.register(join);
+
+        RootNode<Object[]> node = new RootNode<>(ctx, rowType);
+        node.register(project);
+
+        ArrayList<Object[]> rows = new ArrayList<>();
+
+        while (node.hasNext())
+            rows.add(node.next());
+
+        Assert.assertArrayEquals(expRes, rows.toArray(EMPTY));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Test ParallelScanNode execution.
+ */
+public class ParallelScanExecutionTest extends AbstractExecutionTest {
+    /** */
+    @Test
+    public void testScan() throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class);
+
+        int bufSize = AbstractNode.IN_BUFFER_SIZE;
+
+        int[] sizes = {0, 1, bufSize, 5 * bufSize + 1, 3000};
+
+        List<TestSource> srcs = new ArrayList<>();
+
+        int from = 0;
+
+        for (int size : sizes) {
+            srcs.add(new TestSource(from, from + size));
+
+            from += size;
+        }
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        ParallelScanNode<Object[]> scan = new ParallelScanNode<>("TEST", ctx, rowType, new ArrayList<>(srcs),
+            () -> r -> {
+                threads.add(Thread.currentThread().getName());
+
+                return (int)r[0] % 2 == 0;
+            },
+            () -> r -> new Object[] {(int)r[0] / 2});
+
+        RootNode<Object[]> root = new RootNode<>(ctx, rowType);
+
+        root.register(scan);
+
+        List<Integer> res = new ArrayList<>();
+
+        while (root.hasNext())
+            res.add((int)root.next()[0]);
+
+        res.sort(Integer::compare);
+
+        assertEquals(IntStream.range(0, (from + 1) / 2).boxed().collect(Collectors.toList()), res);
+
+        assertTrue("Unexpected scan threads: " + threads, threads.size() > 1);
+
+        root.close();
+
+        assertTrue(waitForCondition(() -> srcs.stream().allMatch(s -> s.closed), 5_000L));
+    }
+
+    /** */
+    @Test
+    public void testCloseBeforeFinished() throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class);
+
+        List<TestSource> srcs = Arrays.asList(new TestSource(0, 100_000), new TestSource(100_000, 200_000));
+
+        ParallelScanNode<Object[]> scan = new ParallelScanNode<>("TEST", ctx, rowType, new ArrayList<>(srcs),
+            null, null);
+
+        RootNode<Object[]> root = new RootNode<>(ctx, rowType);
+
+        root.register(scan);
+
+        for (int i = 0; i < 10; i++)
+            assertTrue(root.hasNext() && root.next() != null);
+
+        root.close();
+
+        assertTrue(waitForCondition(() -> srcs.stream().allMatch(s -> s.closed), 5_000L));
+    }
+
+    /** Source of integer rows within range, which tracks its state. */
+    private static class TestSource implements Iterable<Object[]>, AutoCloseable {
+        /** */
+        private final int from;
+
+        /** */
+        private final int to;
+
+        /** */
+        private volatile boolean closed;
+
+        /** */
+        private TestSource(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Iterator<Object[]> iterator() {
+            assertFalse(closed);
+
+            return IntStream.range(from, to).mapToObj(i -> new Object[] {i}).iterator();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.WindowPartition;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** */
+public class WindowExecutionTest extends AbstractExecutionTest {
+    /**
+     * @throws Exception If failed.
+     */
+    @Before
+    @Override public void setup() throws Exception {
+        nodesCnt = 1;
+        super.setup();
+    }
+
+    /** */
+    @Test
+    public void rankingOverPartitions() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class, Double.class);
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, Arrays.asList(
+            row(10, 100d),
+            row(10, 200d),
+            row(10, 200d),
+            row(20, 300d),
+            row(30, null),
+            row(30, 150d)
+        ));
+
+        List<AggregateCall> calls = F.asList(
+            call(SqlStdOperatorTable.ROW_NUMBER, tf.createJavaType(long.class)),
+            call(SqlStdOperatorTable.RANK, tf.createJavaType(long.class)),
+            call(SqlStdOperatorTable.SUM, tf.createJavaType(Double.class), 1)
+        );
+
+        RelDataType outType = TypeUtils.createRowType(tf, int.class, Double.class, long.class, long.class,
+            Double.class);
+
+        WindowNode<Object[]> win = new WindowNode<>(
+            ctx,
+            outType,
+            ctx.expressionFactory().comparator(RelCollations.of(0)),
+            ctx.expressionFactory().comparator(RelCollations.of(
+                new RelFieldCollation(1, RelFieldCollation.Direction.ASCENDING, RelFieldCollation.NullDirection.FIRST))),
+            ctx.expressionFactory().windowFunctionsFactory(calls, rowType),
+            ctx.rowHandler().factory(tf, outType),
+            false,
+            WindowPartition.UNBOUNDED_PRECEDING,
+            0
+        );
+
+        win.register(scan);
+
+        // Peers of the current row belong to the RANGE frame.
+        checkResult(win, outType,
+            row(10, 100d, 1L, 1L, 100d),
+            row(10, 200d, 2L, 2L, 500d),
+            row(10, 200d, 3L, 2L, 500d),
+            row(20, 300d, 1L, 1L, 300d),
+            row(30, null, 1L, 1L, null),
+            row(30, 150d, 2L, 2L, 150d)
+        );
+    }
+
+    /** */
+    @Test
+    public void slidingRowsFrame() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, double.class);
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, Arrays.asList(row(1d), row(2d), row(3d), row(4d), row(5d)));
+
+        List<AggregateCall> calls = F.asList(
+            call(SqlStdOperatorTable.SUM, tf.createJavaType(double.class), 0),
+            call(SqlStdOperatorTable.MIN, tf.createJavaType(double.class), 0)
+        );
+
+        RelDataType outType = TypeUtils.createRowType(tf, double.class, double.class, double.class);
+
+        WindowNode<Object[]> win = new WindowNode<>(
+            ctx,
+            outType,
+            null,
+            null,
+            ctx.expressionFactory().windowFunctionsFactory(calls, rowType),
+            ctx.rowHandler().factory(tf, outType),
+            true,
+            -1,
+            1
+        );
+
+        win.register(scan);
+
+        checkResult(win, outType,
+            row(1d, 3d, 1d),
+            row(2d, 6d, 1d),
+            row(3d, 9d, 2d),
+            row(4d, 12d, 3d),
+            row(5d, 9d, 4d)
+        );
+    }
+
+    /** */
+    @Test
+    public void manyRows() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class, int.class);
+
+        int partSize = AbstractNode.IN_BUFFER_SIZE + 7;
+        int partsCnt = 3;
+
+        List<Object[]> rows = new ArrayList<>();
+        List<Object[]> exp = new ArrayList<>();
+
+        for (int p = 0; p < partsCnt; p++) {
+            for (int i = 0; i < partSize; i++) {
+                rows.add(row(p, i));
+                exp.add(row(p, i, (long)i + 1, (long)partSize));
+            }
+        }
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, rows);
+
+        List<AggregateCall> calls = F.asList(
+            call(SqlStdOperatorTable.ROW_NUMBER, tf.createJavaType(long.class)),
+            call(SqlStdOperatorTable.COUNT, tf.createJavaType(long.class))
+        );
+
+        RelDataType outType = TypeUtils.createRowType(tf, int.class, int.class, long.class, long.class);
+
+        WindowNode<Object[]> win = new WindowNode<>(
+            ctx,
+            outType,
+            ctx.expressionFactory().comparator(RelCollations.of(0)),
+            null,
+            ctx.expressionFactory().windowFunctionsFactory(calls, rowType),
+            ctx.rowHandler().factory(tf, outType),
+            false,
+            WindowPartition.UNBOUNDED_PRECEDING,
+            WindowPartition.UNBOUNDED_FOLLOWING
+        );
+
+        win.register(scan);
+
+        checkResult(win, outType, exp.toArray(new Object[0][]));
+    }
+
+    /** */
+    private static AggregateCall call(SqlAggFunction func, RelDataType type, int... args) {
+        return AggregateCall.create(
+            func,
+            false,
+            false,
+            false,
+            ImmutableIntList.of(args),
+            -1,
+            RelCollations.EMPTY,
+            type,
+            null);
+    }
+
+    /** */
+    private void checkResult(WindowNode<Object[]> win, RelDataType outType, Object[]... exp) {
+        RootNode<Object[]> root = new RootNode<>(win.context(), outType);
+        root.register(win);
+
+        for (Object[] expRow : exp) {
+            assertTrue(root.hasNext());
+
+            Assert.assertArrayEquals(expRow, root.next());
+        }
+
+        assertFalse(root.hasNext());
+    }
+}
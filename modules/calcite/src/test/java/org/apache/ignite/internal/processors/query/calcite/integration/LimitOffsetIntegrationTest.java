@@ -27,6 +27,7 @@ import org.apache.ignite.cache.QueryEntity;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.AbstractNode;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
@@ -165,6 +166,28 @@ public class LimitOffsetIntegrationTest extends AbstractBasicIntegrationTest {
         }
     }
 
+    /** */
+    @Test
+    public void testLimitPushedToSenders() throws Exception {
+        fillCache(cachePart, 10_000);
+
+        assertQuery("SELECT id FROM TEST_PART LIMIT 10 OFFSET 20")
+            .matches(QueryChecker.containsSubPlan("IgniteLimit(fetch=[30])"))
+            .resultSize(10)
+            .check();
+
+        assertQuery("SELECT id FROM TEST_PART LIMIT ?")
+            .withParams(15)
+            .matches(QueryChecker.containsSubPlan("IgniteLimit(fetch=[?0])"))
+            .resultSize(15)
+            .check();
+
+        assertQuery("SELECT id FROM TEST_PART ORDER BY id LIMIT 3 OFFSET 7")
+            .matches(QueryChecker.containsSubPlan("IgniteLimit(fetch=[10])"))
+            .returns(7).returns(8).returns(9)
+            .check();
+    }
+
     /** */
     @Test
     public void testOffsetOutOfRange() throws Exception {
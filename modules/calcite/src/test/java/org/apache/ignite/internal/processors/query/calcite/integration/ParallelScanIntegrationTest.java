@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.cache.query.FieldsQueryCursor;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cache.query.annotations.QuerySqlFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.util.typedef.G;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.calcite.QueryChecker.containsSubPlan;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Parallel table scan test.
+ */
+public class ParallelScanIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int ROWS = 10_000;
+
+    /** */
+    private static final Set<String> SCAN_THREADS = ConcurrentHashMap.newKeySet();
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        client.getOrCreateCache(new CacheConfiguration<>("functions")
+            .setSqlFunctionClasses(ScanFunctions.class)
+            .setSqlSchema("PUBLIC"));
+
+        sql("CREATE TABLE part_tbl (id INT PRIMARY KEY, grp INT, val INT)");
+        sql("CREATE TABLE repl_tbl (id INT PRIMARY KEY, grp INT, val INT) WITH \"template=replicated\"");
+        sql("INSERT INTO part_tbl SELECT x, x % 10, x FROM table(system_range(1, ?))", ROWS);
+        sql("INSERT INTO repl_tbl SELECT x, x % 10, x FROM table(system_range(1, ?))", ROWS);
+
+        SCAN_THREADS.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        // Remote fragments are closed asynchronously.
+        assertTrue("Partitions aren't released", waitForCondition(() -> {
+            for (Ignite ignite : G.allGrids()) {
+                for (GridDhtLocalPartition part : ((IgniteEx)ignite).cachex("SQL_PUBLIC_PART_TBL").context().topology()
+                    .localPartitions()) {
+                    if (part.reservations() > 0)
+                        return false;
+                }
+            }
+
+            return true;
+        }, 5_000L));
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testPartitionedTable() {
+        checkTable("part_tbl");
+    }
+
+    /** */
+    @Test
+    public void testReplicatedTable() {
+        checkTable("repl_tbl");
+    }
+
+    /** */
+    @Test
+    public void testScanThreads() {
+        assertQuery("SELECT /*+ SCAN_PARALLELISM(4) */ COUNT(*) FROM part_tbl WHERE scan_thread(id)")
+            .returns((long)ROWS)
+            .check();
+
+        // Every node scans its partitions in 4 threads.
+        assertTrue("Unexpected scan threads: " + SCAN_THREADS, SCAN_THREADS.size() > nodeCount());
+    }
+
+    /** */
+    @Test
+    public void testCorrelated() {
+        assertQuery("SELECT /*+ SCAN_PARALLELISM(4) */ t1.id, (SELECT COUNT(*) FROM repl_tbl t2 WHERE t2.val < t1.id) " +
+            "FROM repl_tbl t1 WHERE t1.id < 4")
+            .returns(1, 0L)
+            .returns(2, 1L)
+            .returns(3, 2L)
+            .check();
+    }
+
+    /** Query is closed before the scan is finished, all partitions must be released. */
+    @Test
+    public void testCloseBeforeFinished() {
+        for (int i = 0; i < 10; i++) {
+            assertQuery("SELECT /*+ SCAN_PARALLELISM(4) */ id FROM part_tbl LIMIT 10")
+                .resultSize(10)
+                .check();
+        }
+
+        SqlFieldsQuery qry = new SqlFieldsQuery("SELECT /*+ SCAN_PARALLELISM(4) */ id FROM part_tbl").setPageSize(10);
+
+        try (FieldsQueryCursor<List<?>> cur = client.context().query().querySqlFields(qry, false)) {
+            Iterator<List<?>> it = cur.iterator();
+
+            for (int i = 0; i < 100; i++)
+                it.next();
+        }
+    }
+
+    /** */
+    private void checkTable(String tbl) {
+        String sql = "SELECT /*+ SCAN_PARALLELISM(4) */ grp, COUNT(*), SUM(val) FROM " + tbl +
+            " WHERE val % 2 = 0 GROUP BY grp ORDER BY grp";
+
+        assertQuery(sql)
+            .matches(containsSubPlan("parallelism=[4]"))
+            .returns(0, 1000L, 5_005_000L)
+            .returns(2, 1000L, 4_997_000L)
+            .returns(4, 1000L, 4_999_000L)
+            .returns(6, 1000L, 5_001_000L)
+            .returns(8, 1000L, 5_003_000L)
+            .check();
+
+        assertQuery("SELECT /*+ SCAN_PARALLELISM(16) */ COUNT(*), MIN(val), MAX(val) FROM " + tbl)
+            .returns((long)ROWS, 1, ROWS)
+            .check();
+    }
+
+    /** */
+    public static class ScanFunctions {
+        /** Registers thread evaluating the function. */
+        @QuerySqlFunction
+        public static boolean scan_thread(int id) {
+            SCAN_THREADS.add(Thread.currentThread().getName());
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCacheImpl.PLAN_CACHE_METRIC_GROUP_NAME;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrowsAnyCause;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Query plan cache test.
+ */
+public class QueryPlanCacheIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int PLAN_CACHE_SIZE = 8;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setSqlConfiguration(new SqlConfiguration().setQueryEnginesConfiguration(
+                new CalciteQueryEngineConfiguration()
+                    .setPlanCacheSize(PLAN_CACHE_SIZE)
+                    .setPlanCacheWarmUpSize(PLAN_CACHE_SIZE)))
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        startGrid(0).cluster().state(ClusterState.ACTIVE);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** */
+    @Test
+    public void testInvalidationByTable() {
+        IgniteEx ignite = grid(0);
+
+        sql(ignite, "CREATE TABLE a (id INT PRIMARY KEY, val INT)");
+        sql(ignite, "CREATE TABLE b (id INT PRIMARY KEY, val INT)");
+
+        sql(ignite, "SELECT * FROM a WHERE val = ?", 1);
+        sql(ignite, "SELECT * FROM b WHERE val = ?", 1);
+        sql(ignite, "SELECT * FROM a JOIN b ON a.id = b.id");
+
+        MetricRegistry mreg = ignite.context().metric().registry(PLAN_CACHE_METRIC_GROUP_NAME);
+
+        sql(ignite, "CREATE INDEX a_val ON a (val)");
+
+        assertTrue(metric(mreg, "invalidations") > 0);
+
+        long misses = metric(mreg, "misses");
+
+        // Plans of the query and its fragments are still cached.
+        sql(ignite, "SELECT * FROM b WHERE val = ?", 1);
+
+        assertEquals(misses, metric(mreg, "misses"));
+
+        sql(ignite, "SELECT * FROM a WHERE val = ?", 1);
+
+        assertTrue(metric(mreg, "misses") > misses);
+
+        misses = metric(mreg, "misses");
+
+        sql(ignite, "SELECT * FROM a JOIN b ON a.id = b.id");
+
+        assertTrue(metric(mreg, "misses") > misses);
+
+        sql(ignite, "DROP TABLE b");
+
+        misses = metric(mreg, "misses");
+
+        sql(ignite, "SELECT * FROM a WHERE val = ?", 1);
+
+        assertEquals(misses, metric(mreg, "misses"));
+
+        assertThrowsAnyCause(log, () -> sql(ignite, "SELECT * FROM a JOIN b ON a.id = b.id"),
+            IgniteSQLException.class, "Object 'B' not found");
+    }
+
+    /** */
+    @Test
+    public void testEviction() {
+        IgniteEx ignite = grid(0);
+
+        sql(ignite, "CREATE TABLE t (id INT PRIMARY KEY, val INT)");
+
+        MetricRegistry mreg = ignite.context().metric().registry(PLAN_CACHE_METRIC_GROUP_NAME);
+
+        for (int i = 0; i < PLAN_CACHE_SIZE * 2; i++)
+            sql(ignite, "SELECT * FROM t WHERE id > " + i);
+
+        long size = metric(mreg, "size");
+
+        assertTrue("Unexpected size: " + size, size > 0 && size <= PLAN_CACHE_SIZE);
+        assertEquals(metric(mreg, "misses") - metric(mreg, "invalidations") - size, metric(mreg, "evictions"));
+        assertNotNull(mreg.findMetric("planningTime"));
+    }
+
+    /** */
+    @Test
+    public void testWarmUp() throws Exception {
+        IgniteEx ignite = grid(0);
+
+        sql(ignite, "CREATE TABLE t (id INT PRIMARY KEY, val VARCHAR)");
+
+        for (int i = 0; i < 3; i++) {
+            sql(ignite, "INSERT INTO t VALUES (?, ?)", i, "val" + i);
+            sql(ignite, "SELECT val FROM t WHERE id = ?", i);
+        }
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        MetricRegistry mreg = ignite.context().metric().registry(PLAN_CACHE_METRIC_GROUP_NAME);
+
+        assertTrue(waitForCondition(() -> metric(mreg, "size") == 2, 10_000));
+
+        assertEquals(1, sql(ignite, "SELECT val FROM t WHERE id = ?", 1).size());
+
+        assertEquals(1, metric(mreg, "hits"));
+
+        // Only root query plans are warmed up, the fragment plan is built on the first execution.
+        assertEquals(3, metric(mreg, "misses"));
+    }
+
+    /** */
+    private static long metric(MetricRegistry mreg, String name) {
+        return mreg.<LongMetric>findMetric(name).value();
+    }
+}
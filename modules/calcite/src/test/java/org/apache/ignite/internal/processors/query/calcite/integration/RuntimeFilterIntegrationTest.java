@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchMessage;
+import org.apache.ignite.internal.util.typedef.G;
+import org.junit.Test;
+
+/**
+ * Runtime join filters test.
+ */
+public class RuntimeFilterIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int FACT_ROWS = 60_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setCommunicationSpi(new TestRecordingCommunicationSpi());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE fact (id INT PRIMARY KEY, dim_id INT, val INT)");
+        sql("CREATE TABLE dim (id INT PRIMARY KEY, name VARCHAR, grp INT)");
+        sql("INSERT INTO dim SELECT x, 'name' || x, x % 20 FROM table(system_range(1, 100))");
+        sql("INSERT INTO fact SELECT x, x % 100, x FROM table(system_range(1, ?))", FACT_ROWS);
+    }
+
+    /** Probe side is redistributed to the join nodes, filters are applied per target node. */
+    @Test
+    public void testRehashedProbeSide() {
+        startRecording();
+
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(*) FROM fact f JOIN dim d ON f.dim_id = d.id WHERE d.grp = 0")
+            .returns((long)FACT_ROWS / 100 * 4)
+            .check();
+
+        long shipped = stopRecording();
+
+        assertTrue("Too many rows sent: " + shipped, shipped < FACT_ROWS / 3);
+    }
+
+    /** Probe side is sent to a single join node, filter is pushed down to the scan. */
+    @Test
+    public void testSingleTarget() {
+        startRecording();
+
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(f.val) FROM fact f " +
+            "JOIN (SELECT MAX(id) AS id FROM dim WHERE grp < 2 GROUP BY grp) d ON f.dim_id = d.id")
+            .returns((long)FACT_ROWS / 100)
+            .check();
+
+        long shipped = stopRecording();
+
+        assertTrue("Too many rows sent: " + shipped, shipped < FACT_ROWS / 3);
+    }
+
+    /** Filters are applied to semi joins, but not to left joins returning probe side rows without matches. */
+    @Test
+    public void testJoinTypes() {
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(*), COUNT(d.id) FROM fact f " +
+            "LEFT JOIN dim d ON f.dim_id = d.id AND d.grp = 0")
+            .returns((long)FACT_ROWS, (long)FACT_ROWS / 100 * 4)
+            .check();
+
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(*) FROM fact f " +
+            "WHERE f.dim_id IN (SELECT id FROM dim WHERE grp = 0)")
+            .returns((long)FACT_ROWS / 100 * 4)
+            .check();
+    }
+
+    /** */
+    private static void startRecording() {
+        for (Ignite ignite : G.allGrids())
+            TestRecordingCommunicationSpi.spi(ignite).record(QueryBatchMessage.class);
+    }
+
+    /** @return Count of rows sent to remote nodes. */
+    private static long stopRecording() {
+        long cnt = 0;
+
+        for (Ignite ignite : G.allGrids()) {
+            List<Object> msgs = TestRecordingCommunicationSpi.spi(ignite).recordedMessages(true);
+
+            for (Object msg : msgs)
+                cnt += ((QueryBatchMessage)msg).rows().size();
+        }
+
+        return cnt;
+    }
+}
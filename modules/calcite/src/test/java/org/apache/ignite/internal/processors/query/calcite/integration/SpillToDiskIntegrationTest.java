@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.io.File;
+import java.util.List;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.apache.ignite.internal.processors.query.calcite.exec.SpillManager;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.junit.Test;
+
+/**
+ * Tests queries exceeding the memory quota are completed with rows spilled to disk.
+ */
+public class SpillToDiskIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final long QRY_MEMORY_QUOTA = 1_000_000L;
+
+    /** */
+    private static final int ROWS_CNT = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected int nodeCount() {
+        return 2;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setSqlConfiguration(
+            new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()
+                .setQueryMemoryQuota(QRY_MEMORY_QUOTA).setSpillToDiskEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE tbl (id INT, b VARBINARY) WITH TEMPLATE=REPLICATED");
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            sql("INSERT INTO tbl VALUES (?, ?)", i, new byte[1000]);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        for (int i = 0; i < nodeCount(); i++) {
+            File dir = new File(U.resolveWorkDirectory(grid(i).configuration().getWorkDirectory(),
+                SpillManager.SPILL_DIR, false), U.maskForFileName(grid(i).name()));
+
+            String[] files = dir.list();
+
+            assertTrue("Spill files are not removed: " + dir, files == null || files.length == 0);
+        }
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testSortNode() {
+        assertQuery("SELECT id, b FROM tbl ORDER BY id DESC")
+            .matches(QueryChecker.containsSubPlan("IgniteSort"))
+            .resultSize(ROWS_CNT)
+            .check();
+
+        List<List<?>> res = sql("SELECT id, b FROM tbl ORDER BY id DESC");
+
+        assertEquals(ROWS_CNT, res.size());
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            assertEquals(ROWS_CNT - 1 - i, res.get(i).get(0));
+    }
+
+    /** */
+    @Test
+    public void testHashAggregateNode() {
+        assertQuery("SELECT id, ANY_VALUE(b) FROM tbl GROUP BY id")
+            .matches(QueryChecker.containsSubPlan("IgniteColocatedHashAggregate"))
+            .resultSize(ROWS_CNT)
+            .check();
+
+        boolean[] found = new boolean[ROWS_CNT];
+
+        for (List<?> row : sql("SELECT id, COUNT(*), ANY_VALUE(b) FROM tbl GROUP BY id")) {
+            int id = (Integer)row.get(0);
+
+            assertFalse("Duplicated group: " + id, found[id]);
+            assertEquals(1L, row.get(1));
+
+            found[id] = true;
+        }
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            assertTrue("Missing group: " + i, found[i]);
+
+        // Accumulator of the only group can't be spilled.
+        assertThrows("SELECT ARRAY_AGG(b) FROM tbl", IgniteException.class, "Query quota exceeded");
+    }
+
+    /** */
+    @Test
+    public void testTableSpoolNode() {
+        sql("CREATE TABLE tbl2 (id INT, b VARBINARY) WITH TEMPLATE=PARTITIONED");
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            sql("INSERT INTO tbl2 VALUES (?, ?)", i, new byte[1000]);
+
+        assertQuery("SELECT (SELECT b FROM tbl2 WHERE tbl2.id + 1 = tbl.id + 1) FROM tbl")
+            .matches(QueryChecker.containsSubPlan("IgniteTableSpool"))
+            .resultSize(ROWS_CNT)
+            .check();
+
+        List<List<?>> res = sql("SELECT (SELECT id FROM tbl2 WHERE tbl2.id + 1 = tbl.id + 1), id FROM tbl");
+
+        assertEquals(ROWS_CNT, res.size());
+
+        for (List<?> row : res)
+            assertEquals(row.get(1), row.get(0));
+    }
+}
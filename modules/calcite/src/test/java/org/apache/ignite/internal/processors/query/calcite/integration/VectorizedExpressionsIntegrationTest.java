@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS;
+
+/**
+ * Checks filters and projections evaluated over batches of rows return the same results as evaluated row by row.
+ */
+public class VectorizedExpressionsIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int ROWS_CNT = 2000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE t (id INT PRIMARY KEY, a INT, b DOUBLE, s VARCHAR)");
+
+        sql("INSERT INTO t SELECT x, CASE WHEN MOD(x, 7) = 0 THEN NULL ELSE MOD(x, 100) END, x / 3.0, " +
+            "CASE WHEN MOD(x, 5) = 0 THEN NULL ELSE 's' || MOD(x, 10) END FROM TABLE(SYSTEM_RANGE(0, ?))", ROWS_CNT - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        System.clearProperty(IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS);
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testFilter() {
+        checkQuery("SELECT a, cnt FROM (SELECT a, COUNT(*) AS cnt FROM t GROUP BY a) WHERE cnt > 16 AND a <> 42",
+            "IgniteFilter");
+
+        checkQuery("SELECT a, cnt FROM (SELECT a, COUNT(b) AS cnt, MAX(s) AS s FROM t GROUP BY a) " +
+            "WHERE s IS NULL OR s LIKE 's1%'", "IgniteFilter");
+    }
+
+    /** */
+    @Test
+    public void testProject() {
+        checkQuery("SELECT a * 2 + 1, cnt / 3.0, s || '_', CASE WHEN a IS NULL THEN -1 ELSE a END " +
+            "FROM (SELECT a, COUNT(*) AS cnt, MAX(s) AS s FROM t GROUP BY a)", "IgniteProject");
+    }
+
+    /** */
+    @Test
+    public void testProjectWithLimit() {
+        List<List<?>> res = sql("SELECT a + 1 FROM (SELECT a FROM t GROUP BY a ORDER BY a LIMIT 3)");
+
+        System.setProperty(IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS, "true");
+
+        assertEquals(res, sql("SELECT a + 1 FROM (SELECT a FROM t GROUP BY a ORDER BY a LIMIT 3)"));
+    }
+
+    /** */
+    @Test
+    public void testCorrelatedFilter() {
+        checkQuery("SELECT id FROM t t1 WHERE t1.id < 100 AND " +
+            "EXISTS (SELECT 1 FROM (SELECT a, COUNT(*) AS cnt FROM t GROUP BY a) t2 WHERE t2.a = t1.a + 1 AND t2.cnt > 0)",
+            "IgniteFilter");
+    }
+
+    /**
+     * Runs the query row by row and vectorized, and compares results.
+     */
+    private void checkQuery(String qry, String node) {
+        List<List<?>> exp = sql(qry);
+
+        assertFalse(exp.isEmpty());
+
+        System.setProperty(IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS, "true");
+
+        QueryChecker checker = assertQuery(qry).matches(QueryChecker.containsSubPlan(node));
+
+        for (List<?> row : exp)
+            checker.returns(row.toArray());
+
+        checker.check();
+    }
+}
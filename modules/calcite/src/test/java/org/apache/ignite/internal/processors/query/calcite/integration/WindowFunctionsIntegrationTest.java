@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.junit.Test;
+
+/**
+ * Window functions integration test.
+ */
+public class WindowFunctionsIntegrationTest extends AbstractBasicIntegrationTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE emp (id INT, dept INT, name VARCHAR, salary INT, PRIMARY KEY (id, dept)) " +
+            "WITH \"affinity_key=dept\"");
+
+        sql("INSERT INTO emp VALUES (1, 10, 'Igor', 100), (2, 10, 'Roman', 200), (3, 10, 'Ivan', 200), " +
+            "(4, 20, 'Taras', 300), (5, 20, 'Petr', NULL), (6, 30, 'Vasya', 150)");
+    }
+
+    /** */
+    @Test
+    public void testRankingFunctions() {
+        assertQuery("SELECT id, ROW_NUMBER() OVER (PARTITION BY dept ORDER BY salary, id), " +
+            "RANK() OVER (PARTITION BY dept ORDER BY salary), DENSE_RANK() OVER (PARTITION BY dept ORDER BY salary) " +
+            "FROM emp")
+            .matches(QueryChecker.containsSubPlan("IgniteWindow"))
+            .returns(1, 1L, 1L, 1L)
+            .returns(2, 2L, 2L, 2L)
+            .returns(3, 3L, 2L, 2L)
+            .returns(4, 2L, 2L, 2L)
+            .returns(5, 1L, 1L, 1L)
+            .returns(6, 1L, 1L, 1L)
+            .check();
+
+        assertQuery("SELECT id, PERCENT_RANK() OVER (ORDER BY salary NULLS FIRST), " +
+            "CUME_DIST() OVER (ORDER BY salary NULLS FIRST), NTILE(4) OVER (ORDER BY salary NULLS FIRST, id) FROM emp")
+            .returns(5, 0d, 1d / 6, 1L)
+            .returns(1, 0.2d, 2d / 6, 1L)
+            .returns(6, 0.4d, 3d / 6, 2L)
+            .returns(2, 0.6d, 5d / 6, 2L)
+            .returns(3, 0.6d, 5d / 6, 3L)
+            .returns(4, 1d, 1d, 4L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testOffsetFunctions() {
+        assertQuery("SELECT id, LAG(salary) OVER (PARTITION BY dept ORDER BY id), " +
+            "LEAD(salary, 1, -1) OVER (PARTITION BY dept ORDER BY id), LAG(name, 2) OVER (ORDER BY id) FROM emp")
+            .returns(1, null, 200, null)
+            .returns(2, 100, 200, null)
+            .returns(3, 200, -1, "Igor")
+            .returns(4, null, null, "Roman")
+            .returns(5, 300, -1, "Ivan")
+            .returns(6, null, -1, "Taras")
+            .check();
+
+        assertQuery("SELECT id, FIRST_VALUE(name) OVER (PARTITION BY dept ORDER BY id), " +
+            "LAST_VALUE(name) OVER (PARTITION BY dept ORDER BY id ROWS BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING) " +
+            "FROM emp")
+            .returns(1, "Igor", "Ivan")
+            .returns(2, "Igor", "Ivan")
+            .returns(3, "Igor", "Ivan")
+            .returns(4, "Taras", "Petr")
+            .returns(5, "Taras", "Petr")
+            .returns(6, "Vasya", "Vasya")
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testAggregateFunctions() {
+        // Running total, peers share the frame end with the default RANGE frame, NULLs go first.
+        assertQuery("SELECT id, SUM(salary) OVER (PARTITION BY dept ORDER BY salary), " +
+            "COUNT(*) OVER (PARTITION BY dept) FROM emp")
+            .returns(1, 100L, 3L)
+            .returns(2, 500L, 3L)
+            .returns(3, 500L, 3L)
+            .returns(4, 300L, 2L)
+            .returns(5, null, 2L)
+            .returns(6, 150L, 1L)
+            .check();
+
+        // Sliding frame.
+        assertQuery("SELECT id, SUM(salary) OVER (ORDER BY id ROWS BETWEEN 1 PRECEDING AND 1 FOLLOWING), " +
+            "MAX(salary) OVER (ORDER BY id ROWS BETWEEN CURRENT ROW AND 2 FOLLOWING) FROM emp")
+            .returns(1, 300L, 200)
+            .returns(2, 500L, 300)
+            .returns(3, 700L, 300)
+            .returns(4, 500L, 300)
+            .returns(5, 450L, 150)
+            .returns(6, 150L, 150)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testWindowOverAggregate() {
+        assertQuery("SELECT dept, SUM(salary), RANK() OVER (ORDER BY SUM(salary) DESC) FROM emp GROUP BY dept")
+            .returns(10, 500L, 1L)
+            .returns(20, 300L, 2L)
+            .returns(30, 150L, 3L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testFilterByWindowFunction() {
+        assertQuery("SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY dept ORDER BY salary DESC, id) AS rn " +
+            "FROM emp) WHERE rn = 1")
+            .returns(2)
+            .returns(4)
+            .returns(6)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testRangeFrameWithOffset() {
+        assertThrows("SELECT SUM(salary) OVER (ORDER BY id RANGE BETWEEN 1 PRECEDING AND CURRENT ROW) FROM emp",
+            IgniteSQLException.class, "RANGE window frame with an offset bound is not supported");
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.message;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.direct.DirectMessageReader;
+import org.apache.ignite.internal.direct.DirectMessageWriter;
+import org.apache.ignite.internal.managers.communication.GridIoManager;
+import org.apache.ignite.internal.managers.communication.IgniteMessageFactoryImpl;
+import org.apache.ignite.marshaller.Marshaller;
+import org.apache.ignite.marshaller.MarshallerUtils;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.apache.ignite.plugin.extensions.communication.MessageFactory;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests transfer of rows stored column by column.
+ */
+public class ColumnarBatchMessageTest extends GridCommonAbstractTest {
+    /** */
+    private static final MarshallingContext CTX = new MarshallingContext() {
+        /** */
+        private final Marshaller marsh = MarshallerUtils.jdkMarshaller(null);
+
+        /** {@inheritDoc} */
+        @Override public Marshaller marshaller() {
+            return marsh;
+        }
+
+        /** {@inheritDoc} */
+        @Override public ClassLoader classLoader() {
+            return ColumnarBatchMessageTest.class.getClassLoader();
+        }
+    };
+
+    /** */
+    @Test
+    public void testColumnTypes() throws Exception {
+        List<Object> rows = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[] {
+                i,
+                i % 7 == 0 ? null : (long)i * Integer.MAX_VALUE,
+                i % 2 == 0,
+                (byte)i,
+                (short)i,
+                i / 3f,
+                i % 5 == 0 ? null : i / 3d,
+                "val" + (i % 10),
+                i % 2 == 0 ? "Müller" : "我是谁",
+                i % 3 == 0 ? null : "unique" + i,
+                null,
+                i % 2 == 0 ? BigDecimal.valueOf(i) : UUID.randomUUID(),
+                i % 2 == 0 ? i : "str" + i
+            });
+        }
+
+        checkTransfer(rows);
+    }
+
+    /** */
+    @Test
+    public void testRowBasedFallback() throws Exception {
+        checkTransfer(Arrays.asList(new Object[] {1, "a"}, new Object[] {2}));
+        checkTransfer(new ArrayList<>());
+    }
+
+    /** */
+    @Test
+    public void testRowsView() {
+        List<Object[]> rows = Arrays.asList(new Object[] {1, "a"}, new Object[] {2, "b"});
+
+        ColumnarBatchMessage batch = new ColumnarBatchMessage(rows);
+
+        assertEquals(2, batch.rowsCount());
+        assertEquals(2, batch.columnsCount());
+        assertEquals("b", batch.get(1, 1));
+
+        List<Object> view = batch.rows();
+
+        assertSame(view.get(0), view.get(0));
+        assertTrue(Arrays.equals(rows.get(0), (Object[])view.set(0, null)));
+        assertNotSame(rows.get(0), view.get(0));
+    }
+
+    /** */
+    private void checkTransfer(List<Object> rows) throws Exception {
+        QueryBatchMessage msg = new QueryBatchMessage(UUID.randomUUID(), 1, 2, 3, true, rows);
+
+        msg.prepareMarshal(CTX);
+
+        QueryBatchMessage res = (QueryBatchMessage)transfer(msg);
+
+        res.prepareUnmarshal(CTX);
+
+        assertEquals(msg.queryId(), res.queryId());
+        assertEquals(3, res.batchId());
+        assertEquals(rows.size(), res.rows().size());
+
+        for (int i = 0; i < rows.size(); i++)
+            assertTrue("Row " + i, Arrays.equals((Object[])rows.get(i), (Object[])res.rows().get(i)));
+    }
+
+    /** Writes and reads the message with a small buffer to check resumption of partially written fields. */
+    private Message transfer(Message msg) {
+        IgniteMessageFactoryImpl factory = new IgniteMessageFactoryImpl(new MessageFactory[] {new CalciteMessageFactory()});
+
+        DirectMessageWriter writer = new DirectMessageWriter(GridIoManager.DIRECT_PROTO_VER);
+
+        ByteBuffer chunk = ByteBuffer.allocate(64);
+        ByteBuffer data = ByteBuffer.allocate(1 << 20);
+
+        boolean finished;
+
+        do {
+            finished = msg.writeTo(chunk, writer);
+
+            chunk.flip();
+
+            data.put(chunk);
+
+            chunk.clear();
+        }
+        while (!finished);
+
+        data.flip();
+
+        short type = (short)((data.get(1) & 0xFF) << 8 | data.get(0) & 0xFF);
+
+        data.position(2);
+
+        Message res = factory.create(type);
+
+        DirectMessageReader reader = new DirectMessageReader(factory, GridIoManager.DIRECT_PROTO_VER);
+
+        int end = data.limit();
+
+        data.limit(data.position());
+
+        do
+            data.limit(Math.min(data.limit() + 64, end));
+        while (!res.readFrom(data, reader));
+
+        assertEquals(end, data.position());
+
+        return res;
+    }
+}
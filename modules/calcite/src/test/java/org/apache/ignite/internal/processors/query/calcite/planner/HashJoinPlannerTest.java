@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.planner;
+
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashJoin;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.junit.Test;
+
+/** Hash join planner test. */
+public class HashJoinPlannerTest extends AbstractPlannerTest {
+    /** */
+    private static final String[] DISABLED_RULES = {
+        "NestedLoopJoinConverter",
+        "CorrelatedNestedLoopJoin",
+        "MergeJoinConverter"
+    };
+
+    /** */
+    @Test
+    public void testHashJoinForLargeUnsortedInputs() throws Exception {
+        IgniteSchema schema = createSchema(
+            createTable("T1", 100_000, IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class),
+            createTable("T2", 100_000, IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class)
+        );
+
+        assertPlan("SELECT * FROM T1 JOIN T2 ON T1.ID = T2.ID", schema,
+            nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)));
+    }
+
+    /** */
+    @Test
+    public void testBuildSideIsSmallerInput() throws Exception {
+        IgniteSchema schema = createSchema(
+            createTable("BIG", 1_000_000, IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class),
+            createTable("SMALL", 100, IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class)
+        );
+
+        for (String sql : new String[] {
+            "SELECT * FROM BIG JOIN SMALL ON BIG.ID = SMALL.ID",
+            "SELECT * FROM SMALL JOIN BIG ON BIG.ID = SMALL.ID"
+        }) {
+            assertPlan(sql, schema, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)
+                .and(input(0, nodeOrAnyChild(isTableScan("BIG"))))
+                .and(input(1, nodeOrAnyChild(isTableScan("SMALL"))))), DISABLED_RULES);
+        }
+    }
+
+    /** */
+    @Test
+    public void testSupportedJoinTypes() throws Exception {
+        IgniteSchema schema = createSchema(
+            createTable("T1", IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class),
+            createTable("T2", IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class)
+        );
+
+        assertPlan("SELECT * FROM T1 LEFT JOIN T2 ON T1.ID = T2.ID AND T1.VAL > T2.VAL", schema,
+            nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class).and(j -> j.getJoinType() == JoinRelType.LEFT)),
+            DISABLED_RULES);
+
+        // Right join is commuted to a left one.
+        assertPlan("SELECT * FROM T1 RIGHT JOIN T2 ON T1.ID = T2.ID", schema,
+            nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class).and(j -> j.getJoinType() == JoinRelType.LEFT)),
+            DISABLED_RULES);
+    }
+
+    /** */
+    @Test
+    public void testHashJoinNotApplicable() throws Exception {
+        IgniteSchema schema = createSchema(
+            createTable("T1", IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class),
+            createTable("T2", IgniteDistributions.single(), "ID", Integer.class, "VAL", String.class)
+        );
+
+        for (String sql : new String[] {
+            "SELECT * FROM T1 JOIN T2 ON T1.ID > T2.ID",
+            "SELECT * FROM T1 FULL JOIN T2 ON T1.ID = T2.ID"
+        }) {
+            IgniteRel rel = physicalPlan(sql, schema, "MergeJoinConverter", "CorrelatedNestedLoopJoin");
+
+            assertNull(findFirstNode(rel, byClass(IgniteHashJoin.class)));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.planner;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.rel.RelNode;
+import org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteStatisticsImpl;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.processors.query.stat.ColumnStatistics;
+import org.apache.ignite.internal.processors.query.stat.ObjectStatisticsImpl;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests heuristic join order optimization of queries with many joins.
+ */
+public class JoinOrderPlannerTest extends AbstractPlannerTest {
+    /** Number of dimension tables. */
+    private static final int DIMS = 7;
+
+    /** Fact table size. */
+    private static final int FACT_SIZE = 10_000_000;
+
+    /** */
+    private IgniteSchema schema;
+
+    /** */
+    @Before
+    public void setup() {
+        TestTable[] tbls = new TestTable[DIMS + 1];
+        Object[] factFields = new Object[(DIMS + 1) * 2];
+        Map<String, ColumnStatistics> factStats = new HashMap<>();
+
+        for (int i = 0; i < DIMS; i++) {
+            int size = 1000 * (i + 1);
+
+            factFields[i * 2] = "D" + (i + 1);
+            factFields[i * 2 + 1] = Integer.class;
+            factStats.put("D" + (i + 1), statistics(size, FACT_SIZE));
+
+            // Dimensions with different selectivity of the NAME filter.
+            Map<String, ColumnStatistics> dimStats = new HashMap<>();
+            dimStats.put("ID", statistics(size, size));
+            dimStats.put("NAME", statistics(2 + 3 * ((i * 5) % DIMS), size));
+
+            tbls[i + 1] = createTable("DIM" + (i + 1), size, IgniteDistributions.broadcast(),
+                "ID", Integer.class, "NAME", Integer.class);
+
+            tbls[i + 1].setStatistics(new IgniteStatisticsImpl(new ObjectStatisticsImpl(size, dimStats)));
+        }
+
+        factFields[DIMS * 2] = "VAL";
+        factFields[DIMS * 2 + 1] = Integer.class;
+
+        tbls[0] = createTable("FACT", FACT_SIZE, IgniteDistributions.random(), factFields);
+        tbls[0].setStatistics(new IgniteStatisticsImpl(new ObjectStatisticsImpl(FACT_SIZE, factStats)));
+
+        schema = createSchema(tbls);
+    }
+
+    /**
+     * Tests the join order found by the heuristic phase is not worse than the order found without it.
+     */
+    @Test
+    public void testStarSchema() throws Exception {
+        String sql = starQuery("");
+
+        IgniteRel optimized = physicalPlan(sql, schema);
+        IgniteRel notOptimized = physicalPlan(sql, schema, "JoinToMultiJoinRule");
+
+        assertEquals(DIMS + 1, scannedTables(optimized).size());
+
+        RelOptCost optimizedCost = optimized.getCluster().getMetadataQuery().getCumulativeCost(optimized);
+        RelOptCost notOptimizedCost = notOptimized.getCluster().getMetadataQuery().getCumulativeCost(notOptimized);
+
+        assertTrue("Optimized: " + optimizedCost + ", not optimized: " + notOptimizedCost,
+            optimizedCost.isLe(notOptimizedCost));
+    }
+
+    /**
+     * Tests the written join order is kept if {@link HintDefinition#ENFORCE_JOIN_ORDER} is specified.
+     */
+    @Test
+    public void testEnforcedJoinOrder() throws Exception {
+        IgniteRel rel = physicalPlan(starQuery("/*+ " + HintDefinition.ENFORCE_JOIN_ORDER.name() + " */"), schema);
+
+        List<String> expected = new ArrayList<>();
+
+        expected.add("FACT");
+
+        for (int i = 0; i < DIMS; i++)
+            expected.add("DIM" + (i + 1));
+
+        assertEquals(expected, scannedTables(rel));
+    }
+
+    /**
+     * @param hint Query hint.
+     * @return Query joining the fact table with all the dimensions, each dimension filtered.
+     */
+    private static String starQuery(String hint) {
+        StringBuilder sb = new StringBuilder("SELECT ").append(hint).append(" f.val FROM fact f");
+
+        for (int i = 1; i <= DIMS; i++)
+            sb.append(" JOIN dim").append(i).append(" d").append(i).append(" ON f.d").append(i).append(" = d").append(i).append(".id");
+
+        sb.append(" WHERE 1 = 1");
+
+        for (int i = 1; i <= DIMS; i++)
+            sb.append(" AND d").append(i).append(".name = 1");
+
+        return sb.toString();
+    }
+
+    /**
+     * @param rel Plan.
+     * @return Names of the scanned tables from left to right.
+     */
+    private static List<String> scannedTables(RelNode rel) {
+        List<String> res = new ArrayList<>();
+
+        if (rel instanceof ProjectableFilterableTableScan)
+            res.add(F.last(rel.getTable().getQualifiedName()));
+
+        for (RelNode input : rel.getInputs())
+            res.addAll(scannedTables(input));
+
+        return res;
+    }
+
+    /** */
+    private static ColumnStatistics statistics(long distinct, long total) {
+        return new ColumnStatistics(BigDecimal.ONE, BigDecimal.valueOf(distinct), 0, distinct, total, 4, null, 1, 0);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.query.calcite.planner;
 
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteExchange;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
@@ -114,12 +115,15 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                         .and(s -> s.fetch == null)
                         .and(s -> s.offset == null))))));
 
-        // Simple case without ordering.
+        // Simple case without ordering, Limit is pushed down under Exchange.
         assertPlan("SELECT * FROM TEST OFFSET 10 ROWS FETCH FIRST 5 ROWS ONLY", publicSchema,
             isInstanceOf(IgniteLimit.class)
                 .and(s -> doubleFromRex(s.fetch(), -1) == 5)
                 .and(s -> doubleFromRex(s.offset(), -1) == 10)
-                .and(input(isInstanceOf(IgniteExchange.class)))
+                .and(input(isInstanceOf(IgniteExchange.class)
+                    .and(input(isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 15)
+                        .and(l -> l.offset() == null)))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         // Check that Sort node is not eliminated by aggregation and Exchange node is not eliminated by distribution
@@ -180,7 +184,9 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
             isInstanceOf(IgniteLimit.class)
                 .and(input(isInstanceOf(IgniteExchange.class)
-                    .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                    .and(input(isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 20)
+                        .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                 .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.random(), 0, 1);
@@ -189,7 +195,9 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
             isInstanceOf(IgniteLimit.class)
                 .and(input(isInstanceOf(IgniteExchange.class)
-                    .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                    .and(input(isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 20)
+                        .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                 .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.single());
@@ -201,6 +209,41 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                 .and(hasChildThat(isInstanceOf(IgniteExchange.class)).negate()));
     }
 
+    /** */
+    @Test
+    public void testLimitPushDownToSenders() throws Exception {
+        IgniteSchema publicSchema = createSchemaWithTable(IgniteDistributions.random());
+
+        // Limit without offset.
+        assertPlan("SELECT * FROM TEST LIMIT 5", publicSchema,
+            isInstanceOf(IgniteLimit.class)
+                .and(input(isInstanceOf(IgniteExchange.class)
+                    .and(input(isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 5)
+                        .and(l -> l.offset() == null)
+                        .and(input(isInstanceOf(IgniteTableScan.class))))))));
+
+        // Limit with dynamic parameter is pushed down as is.
+        assertPlan("SELECT * FROM TEST LIMIT ?", publicSchema,
+            isInstanceOf(IgniteLimit.class)
+                .and(input(isInstanceOf(IgniteExchange.class)
+                    .and(input(isInstanceOf(IgniteLimit.class)
+                        .and(l -> l.offset() == null)
+                        .and(l -> l.fetch() instanceof RexDynamicParam))))));
+
+        // Offset with dynamic parameter can't be added to the fetch at the planning time.
+        assertPlan("SELECT * FROM TEST LIMIT 5 OFFSET ?", publicSchema,
+            isInstanceOf(IgniteLimit.class)
+                .and(input(isInstanceOf(IgniteExchange.class)
+                    .and(input(isInstanceOf(IgniteTableScan.class))))));
+
+        // Offset without fetch doesn't limit the senders.
+        assertPlan("SELECT * FROM TEST OFFSET 5", publicSchema,
+            isInstanceOf(IgniteLimit.class)
+                .and(input(isInstanceOf(IgniteExchange.class)
+                    .and(input(isInstanceOf(IgniteTableScan.class))))));
+    }
+
     /**
      * Creates PUBLIC schema with one TEST table.
      */
@@ -40,6 +40,7 @@ public class MergeJoinPlannerTest extends AbstractPlannerTest {
     private static final String[] DISABLED_RULES = {
         "NestedLoopJoinConverter",
         "CorrelatedNestedLoopJoin",
+        "HashJoinConverter",
         "FilterSpoolMergeRule",
         "JoinCommuteRule"
     };
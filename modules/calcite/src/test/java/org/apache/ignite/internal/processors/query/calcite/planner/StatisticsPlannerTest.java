@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.planner;
 
+import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -36,6 +37,7 @@ import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistribut
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeSystem;
 import org.apache.ignite.internal.processors.query.stat.ColumnStatistics;
+import org.apache.ignite.internal.processors.query.stat.Histogram;
 import org.apache.ignite.internal.processors.query.stat.ObjectStatisticsImpl;
 import org.junit.Before;
 import org.junit.Test;
@@ -427,4 +429,49 @@ public class StatisticsPlannerTest extends AbstractPlannerTest {
 
         assertEquals(getIdxName(1, "T1C7SHORT"), idxScan.indexName());
     }
+
+    /**
+     * Check the histogram is used to estimate range selectivity of a skewed column: most of T1C7SHORT values are
+     * greater than 4500, so the uniform estimation would prefer the T1C7SHORT index, but the histogram shows
+     * T1C8LONG condition is more selective.
+     *
+     * @throws Exception In case of error.
+     */
+    @Test
+    public void testHistogramSelectivity() throws Exception {
+        int rowCnt = 10_000;
+
+        BigDecimal[] shortVals = new BigDecimal[rowCnt];
+        BigDecimal[] longVals = new BigDecimal[rowCnt];
+
+        for (int i = 0; i < rowCnt; i++) {
+            shortVals[i] = toDecimal((short)(i < rowCnt / 10 ? 1 + i % 4500 : 4501 + i % 500));
+            longVals[i] = toDecimal(1L + i * 10L);
+        }
+
+        HashMap<String, ColumnStatistics> colStat1 = new HashMap<>();
+
+        colStat1.put("T1C7SHORT", new ColumnStatistics(toDecimal((short)1), toDecimal((short)5000),
+            0, 5000, rowCnt, 2, null, 1, 0, Histogram.build(shortVals, Histogram.DFLT_BUCKETS)));
+
+        colStat1.put("T1C8LONG", new ColumnStatistics(toDecimal(1L), toDecimal(100000L),
+            0, rowCnt, rowCnt, 8, null, 1, 0, Histogram.build(longVals, Histogram.DFLT_BUCKETS)));
+
+        tbl1.setStatistics(new IgniteStatisticsImpl(new ObjectStatisticsImpl(rowCnt, colStat1)));
+
+        String sql = "select * from TBL1 where t1c7short > 4500 and t1c8long > 70000";
+
+        checkIdxUsed(sql, getIdxName(1, "T1C8LONG"));
+
+        // Without histograms the uniform distribution is assumed.
+        colStat1.put("T1C7SHORT", new ColumnStatistics(toDecimal((short)1), toDecimal((short)5000),
+            0, 5000, rowCnt, 2, null, 1, 0));
+
+        colStat1.put("T1C8LONG", new ColumnStatistics(toDecimal(1L), toDecimal(100000L),
+            0, rowCnt, rowCnt, 8, null, 1, 0));
+
+        tbl1.setStatistics(new IgniteStatisticsImpl(new ObjectStatisticsImpl(rowCnt, colStat1)));
+
+        checkIdxUsed(sql, getIdxName(1, "T1C7SHORT"));
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.planner;
+
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteExchange;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Test;
+
+/** Window functions planner test. */
+public class WindowPlannerTest extends AbstractPlannerTest {
+    /** */
+    private IgniteSchema schema() {
+        return createSchema(
+            createTable(
+                "EMP", IgniteDistributions.affinity(1, "emp", "hash"),
+                "EMPID", Integer.class,
+                "DEPTID", Integer.class,
+                "NAME", String.class,
+                "SALARY", Integer.class
+            )
+        );
+    }
+
+    /** Window partitioned by the affinity key is computed in place, before the exchange. */
+    @Test
+    public void testColocatedPartitions() throws Exception {
+        assertPlan("SELECT EMPID, RANK() OVER (PARTITION BY DEPTID ORDER BY SALARY) FROM EMP", schema(),
+            isInstanceOf(IgniteExchange.class)
+                .and(nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                    .and(w -> w.getGroupSet().asList().equals(F.asList(1)))
+                    .and(hasDistribution(IgniteDistributions.affinity(1, null, "hash")))
+                    .and(w -> findFirstNode(w, byClass(IgniteExchange.class)) == null))));
+    }
+
+    /** Rows of non colocated partitions are gathered before the window is computed. */
+    @Test
+    public void testNonColocatedPartitions() throws Exception {
+        for (String sql : new String[] {
+            "SELECT EMPID, SUM(SALARY) OVER (PARTITION BY NAME ORDER BY EMPID) FROM EMP",
+            "SELECT EMPID, ROW_NUMBER() OVER (ORDER BY SALARY) FROM EMP"
+        }) {
+            assertPlan(sql, schema(), nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                .and(hasDistribution(IgniteDistributions.single()))
+                .and(input(nodeOrAnyChild(isInstanceOf(IgniteExchange.class))))));
+        }
+    }
+
+    /** Windows with different specifications are computed one by one. */
+    @Test
+    public void testWindowGroups() throws Exception {
+        IgniteRel rel = physicalPlan("SELECT EMPID, " +
+            "ROW_NUMBER() OVER (PARTITION BY DEPTID ORDER BY EMPID), " +
+            "SUM(SALARY) OVER (ORDER BY EMPID ROWS BETWEEN 2 PRECEDING AND CURRENT ROW) FROM EMP", schema());
+
+        IgniteWindow global = findFirstNode(rel, byClass(IgniteWindow.class));
+
+        assertNotNull(global);
+        assertTrue(global.getGroupSet().isEmpty());
+        assertTrue(global.isRows());
+        assertTrue(global.getLowerBound().isPreceding());
+        assertEquals(2, RexLiteral.intValue(global.getLowerBound().getOffset()));
+
+        IgniteWindow partitioned = findFirstNode(global.getInput(), byClass(IgniteWindow.class));
+
+        assertNotNull(partitioned);
+        assertEquals(F.asList(1), partitioned.getGroupSet().asList());
+        assertEquals(1, partitioned.getAggCallList().size());
+    }
+}
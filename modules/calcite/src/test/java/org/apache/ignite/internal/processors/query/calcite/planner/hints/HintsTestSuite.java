@@ -30,6 +30,7 @@ import org.junit.runners.Suite;
     ForceIndexHintPlannerTest.class,
     JoinOrderHintsPlannerTest.class,
     JoinTypeHintPlannerTest.class,
+    ScanParallelismHintPlannerTest.class,
 })
 public class HintsTestSuite {
 }
@@ -26,19 +26,23 @@ import org.apache.ignite.internal.processors.query.calcite.planner.AbstractPlann
 import org.apache.ignite.internal.processors.query.calcite.planner.TestTable;
 import org.apache.ignite.internal.processors.query.calcite.rel.AbstractIgniteJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteCorrelatedNestedLoopJoin;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteMergeJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteNestedLoopJoin;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
 import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.testframework.LogListener;
 import org.apache.ignite.testframework.junits.logger.GridTestLog4jLogger;
 import org.apache.logging.log4j.Level;
 import org.junit.Test;
 
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.CNL_JOIN;
+import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.HASH_JOIN;
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.MERGE_JOIN;
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.NL_JOIN;
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.NO_CNL_JOIN;
+import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.NO_HASH_JOIN;
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.NO_MERGE_JOIN;
 import static org.apache.ignite.internal.processors.query.calcite.hint.HintDefinition.NO_NL_JOIN;
 
@@ -50,6 +54,9 @@ public class JoinTypeHintPlannerTest extends AbstractPlannerTest {
     private static final String[] CORE_JOIN_REORDER_RULES = {"JoinCommuteRule", "JoinPushThroughJoinRule:left",
         "JoinPushThroughJoinRule:right"};
 
+    /** Hash join converter. It wins most of the equi-joins below, so it is disabled to check the other join types. */
+    private static final String HASH_JOIN_RULE = "HashJoinConverter";
+
     /** */
     private IgniteSchema schema;
 
@@ -283,6 +290,41 @@ public class JoinTypeHintPlannerTest extends AbstractPlannerTest {
             CNL_JOIN, IgniteCorrelatedNestedLoopJoin.class, CORE_JOIN_REORDER_RULES);
     }
 
+    /**
+     * Tests the hash join is enabled by the hint instead of the other joins.
+     */
+    @Test
+    public void testHashJoinEnabled() throws Exception {
+        String sqlTpl = "SELECT %s t1.v1, t2.v2 FROM TBL2 t1 JOIN TBL1 t2 on t1.v3=t2.v3";
+
+        assertPlan(String.format(sqlTpl, ""), schema,
+            nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)).negate());
+
+        for (String t : Arrays.asList("", "TBL1", "TBL2")) {
+            assertPlan(String.format(sqlTpl, "/*+ " + HASH_JOIN + "(" + t + ") */"), schema,
+                nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class).and(hasNestedTableScan("TBL1"))
+                    .and(hasNestedTableScan("TBL2"))));
+        }
+    }
+
+    /**
+     * Tests the hash join is disabled by hints.
+     */
+    @Test
+    public void testDisableHashJoin() throws Exception {
+        String sqlTpl = "SELECT %s t1.v1, t2.v2 FROM TBL5 t1 %s JOIN TBL4 t2 on t1.v3=t2.v3";
+
+        for (String joinType : Arrays.asList("INNER", "LEFT")) {
+            assertPlan(String.format(sqlTpl, "", joinType), schema,
+                nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)));
+
+            for (HintDefinition hint : Arrays.asList(NO_HASH_JOIN, NL_JOIN, MERGE_JOIN)) {
+                assertPlan(String.format(sqlTpl, "/*+ " + hint.name() + " */", joinType), schema,
+                    nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)).negate());
+            }
+        }
+    }
+
     /**
      * Checks {@code expectedJoin} switches to {@code newJoin} by {@code hint} in the simple query
      * 'SELECT /*+ {@code hint} *&#47; t1.v1, t2.v2 FROM {@code tbl1} t1 {@code joinType} JOIN {@code tbl2} t2 on
@@ -297,6 +339,8 @@ public class JoinTypeHintPlannerTest extends AbstractPlannerTest {
         Class<? extends AbstractIgniteJoin> newJoin,
         String... disabledRules
     ) throws Exception {
+        disabledRules = F.concat(disabledRules, HASH_JOIN_RULE);
+
         String sqlTpl = String.format("SELECT %%s t1.v1, t2.v2 FROM %s t1 %s JOIN %s t2 on t1.v3=t2.v3", tbl1,
             joinType, tbl2);
 
@@ -331,6 +375,8 @@ public class JoinTypeHintPlannerTest extends AbstractPlannerTest {
         HintDefinition hint,
         String... disabledRules
     ) throws Exception {
+        disabledRules = F.concat(disabledRules, HASH_JOIN_RULE);
+
         String sqlTpl = String.format("SELECT %%s t1.v1, t2.v2 FROM %s t1 %s JOIN %s t2 on t1.v3=t2.v3", tbl1,
             sqlJoinType, tbl2);
 
@@ -423,41 +469,45 @@ public class JoinTypeHintPlannerTest extends AbstractPlannerTest {
     public void testSeveralDisables() throws Exception {
         String sqlTpl = "SELECT %s t1.v1, t2.v2 FROM TBL1 t1, TBL2 t2 where t1.v3=t2.v3";
 
+        String[] rules = F.concat(CORE_JOIN_REORDER_RULES, HASH_JOIN_RULE);
+
         assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + ',' + NO_NL_JOIN + " */"), schema,
             nodeOrAnyChild(isInstanceOf(IgniteCorrelatedNestedLoopJoin.class)).negate()
                 .and(nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class)).negate())
                 .and(nodeOrAnyChild(isInstanceOf(IgniteMergeJoin.class).and(hasNestedTableScan("TBL1"))
-                    .and(hasNestedTableScan("TBL2")))), CORE_JOIN_REORDER_RULES);
+                    .and(hasNestedTableScan("TBL2")))), rules);
 
         assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + "(TBL1)," + NO_NL_JOIN + "(TBL2) */"), schema,
             nodeOrAnyChild(isInstanceOf(IgniteCorrelatedNestedLoopJoin.class)).negate()
                 .and(nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class)).negate())
                 .and(nodeOrAnyChild(isInstanceOf(IgniteMergeJoin.class).and(hasNestedTableScan("TBL1"))
-                    .and(hasNestedTableScan("TBL2")))), CORE_JOIN_REORDER_RULES);
+                    .and(hasNestedTableScan("TBL2")))), rules);
 
         // Check with forcing in the middle.
         assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + ',' + NL_JOIN + ',' + NO_NL_JOIN + " */"), schema,
             nodeOrAnyChild(isInstanceOf(IgniteCorrelatedNestedLoopJoin.class)).negate()
                 .and(nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class).and(hasNestedTableScan("TBL1"))
-                    .and(hasNestedTableScan("TBL2")))), CORE_JOIN_REORDER_RULES);
+                    .and(hasNestedTableScan("TBL2")))), rules);
 
         // Check with forcing in the middle with the table name.
         assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + "(TBL1)," + NL_JOIN + "(TBl1)," + NO_NL_JOIN + " */"),
             schema, nodeOrAnyChild(isInstanceOf(IgniteCorrelatedNestedLoopJoin.class)).negate()
                 .and(nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class).and(hasNestedTableScan("TBL1"))
-                    .and(hasNestedTableScan("TBL2")))), CORE_JOIN_REORDER_RULES);
+                    .and(hasNestedTableScan("TBL2")))), rules);
 
         // Wrong tbl name.
         assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + ',' + NO_NL_JOIN + "(UNEXISTING) */"), schema,
             nodeOrAnyChild(isInstanceOf(IgniteCorrelatedNestedLoopJoin.class)).negate()
                 .and(nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class).and(hasNestedTableScan("TBL1"))
-                    .and(hasNestedTableScan("TBL2")))), CORE_JOIN_REORDER_RULES);
+                    .and(hasNestedTableScan("TBL2")))), rules);
 
-        // Disabling of all joins is prohibited. Last merge must work.
-        assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + ',' + NO_NL_JOIN + ',' + NO_MERGE_JOIN + " */"), schema,
+        // Disabling of all joins is prohibited. Last hash join must work.
+        assertPlan(String.format(sqlTpl, "/*+ " + NO_CNL_JOIN + ',' + NO_NL_JOIN + ',' + NO_MERGE_JOIN + ','
+                + NO_HASH_JOIN + " */"), schema,
             nodeOrAnyChild(isInstanceOf(IgniteCorrelatedNestedLoopJoin.class)).negate()
                 .and(nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class)).negate())
-                .and(nodeOrAnyChild(isInstanceOf(IgniteMergeJoin.class).and(hasNestedTableScan("TBL1"))
+                .and(nodeOrAnyChild(isInstanceOf(IgniteMergeJoin.class)).negate())
+                .and(nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class).and(hasNestedTableScan("TBL1"))
                     .and(hasNestedTableScan("TBL2")))), CORE_JOIN_REORDER_RULES);
 
         // Check many duplicated disables doesn't erase other disables.
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.planner.hints;
+
+import org.apache.ignite.internal.processors.query.calcite.planner.AbstractPlannerTest;
+import org.apache.ignite.internal.processors.query.calcite.planner.TestTable;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableScan;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.junit.Test;
+
+/**
+ * Planner test for the scan parallelism hint.
+ */
+public class ScanParallelismHintPlannerTest extends AbstractPlannerTest {
+    /** */
+    private IgniteSchema schema;
+
+    /** {@inheritDoc} */
+    @Override public void setup() {
+        super.setup();
+
+        TestTable tbl1 = createTable("TBL1", 10_000, IgniteDistributions.affinity(0, "TBL1", "hash"),
+            "ID", Integer.class, "VAL", String.class);
+
+        TestTable tbl2 = createTable("TBL2", 100, IgniteDistributions.affinity(0, "TBL2", "hash"),
+            "ID", Integer.class, "VAL", String.class);
+
+        schema = createSchema(tbl1, tbl2);
+    }
+
+    /** */
+    @Test
+    public void testParallelism() throws Exception {
+        assertPlan("SELECT /*+ SCAN_PARALLELISM(4) */ * FROM TBL1 WHERE val = 'v'", schema,
+            nodeOrAnyChild(isTableScan("TBL1").and(s -> s.parallelism() == 4)));
+
+        assertPlan("SELECT * FROM TBL1 WHERE val = 'v'", schema,
+            nodeOrAnyChild(isTableScan("TBL1").and(s -> s.parallelism() == 1)));
+    }
+
+    /** */
+    @Test
+    public void testParallelismOfCertainTable() throws Exception {
+        String sql = "SELECT t1.val, t2.val FROM (SELECT /*+ SCAN_PARALLELISM(8) */ * FROM TBL1) t1, TBL2 t2 " +
+            "WHERE t1.id = t2.id";
+
+        assertPlan(sql, schema, nodeOrAnyChild(isTableScan("TBL1").and(s -> s.parallelism() == 8))
+            .and(nodeOrAnyChild(isTableScan("TBL2").and(s -> s.parallelism() == 1))));
+    }
+
+    /** */
+    @Test
+    public void testWrongParams() throws Exception {
+        for (String opts : new String[] {"0", "-1", "'abc'", "2, 4"}) {
+            assertPlan("SELECT /*+ SCAN_PARALLELISM(" + opts + ") */ * FROM TBL1", schema,
+                nodeOrAnyChild(isInstanceOf(IgniteTableScan.class).and(s -> s.parallelism() == 1)));
+        }
+    }
+}
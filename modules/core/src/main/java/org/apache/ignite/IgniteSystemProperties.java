@@ -92,15 +92,20 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition.DFLT_CACHE_REMOVE_ENTRIES_TTL;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_WAL_RECOVERY_DECODING_THREADS;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage.DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriterFactory.DFLT_CHECKPOINT_COALESCED_WRITE_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.ContinuousCheckpointTrigger.DFLT_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.ContinuousCheckpointTrigger.DFLT_CHECKPOINT_TRIGGER_WAL_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.HEAP_LOG;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.SharedPageLockTracker.DFLT_PAGE_LOCK_TRACKER_CHECK_INTERVAL;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT;
@@ -108,7 +113,9 @@ import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWr
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_MMAP;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_SEGMENT_SYNC_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FsyncFileHandleManagerImpl.DFLT_WAL_FSYNC_GROUP_COMMIT_WINDOW;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT;
@@ -1031,6 +1038,14 @@ public final class IgniteSystemProperties {
         "By default, the natural order is used")
     public static final String IGNITE_BINARY_SORT_OBJECT_FIELDS = "IGNITE_BINARY_SORT_OBJECT_FIELDS";
 
+    /**
+     * When set to {@code true} BinaryMarshaller resolves writers and readers of the fields of fixed types once per
+     * class instead of dispatching on the write mode of every field value of every serialized object.
+     */
+    @SystemProperty("Enables field accessors specialized for the field types when objects are serialized by " +
+        "BinaryMarshaller. By default, generic field accessors are used")
+    public static final String IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS = "IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS";
+
     /**
      * Whether Ignite can access unaligned memory addresses.
      * <p>
@@ -1275,6 +1290,16 @@ public final class IgniteSystemProperties {
     @SystemProperty(value = "Enables usage of the mapped byte buffer", defaults = "" + DFLT_WAL_MMAP)
     public static final String IGNITE_WAL_MMAP = "IGNITE_WAL_MMAP";
 
+    /**
+     * Max size of WAL records in bytes which are serialized to a thread local buffer before the space for them is
+     * reserved in the WAL buffer. Larger records are serialized directly to the WAL buffer. {@code 0} disables
+     * the serialization to thread local buffers.
+     */
+    @SystemProperty(value = "Max size of WAL records in bytes which are serialized to a thread local buffer " +
+        "before the space for them is reserved in the WAL buffer, 0 disables the pre-serialization", type = Integer.class,
+        defaults = "" + DFLT_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE)
+    public static final String IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE = "IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE";
+
     /**
      * When set to {@code true}, Data store folders are generated only by consistent id, and no consistent ID will be
      * set based on existing data store folders. This option also enables compatible folder generation mode as it was
@@ -1336,6 +1361,16 @@ public final class IgniteSystemProperties {
         "this mode", defaults = "true")
     public static final String IGNITE_DIRECT_IO_ENABLED = "IGNITE_DIRECT_IO_ENABLED";
 
+    /**
+     * When set to {@code true}, page store and WAL files are read and written through Linux io_uring. The mode is
+     * enabled only if JAR file with the direct IO feature is available in classpath and the kernel supports io_uring,
+     * otherwise the configured file IO factory is used. Takes precedence over direct IO for page store files.
+     * Default is {@code false}.
+     */
+    @SystemProperty(value = "Enables io_uring based file IO for page store and WAL files. The mode is enabled only " +
+        "if JAR file with the direct IO feature is available in classpath and the kernel supports io_uring")
+    public static final String IGNITE_IO_URING_ENABLED = "IGNITE_IO_URING_ENABLED";
+
     /**
      * When set to {@code true}, warnings that are intended for development environments and not for production
      * (such as coding mistakes in code using Ignite) will not be logged.
@@ -1352,6 +1387,14 @@ public final class IgniteSystemProperties {
         "from store, reads are protected by locking", defaults = "" + DFLT_DELAYED_REPLACED_PAGE_WRITE)
     public static final String IGNITE_DELAYED_REPLACED_PAGE_WRITE = "IGNITE_DELAYED_REPLACED_PAGE_WRITE";
 
+    /**
+     * Number of pages which are loaded in advance when sequential reading of a partition file is detected. Pages are
+     * loaded asynchronously and only to free page slots of the page memory. Zero disables read-ahead.
+     */
+    @SystemProperty(value = "Number of pages which are loaded in advance when sequential reading of a partition " +
+        "file is detected. Zero disables read-ahead", type = Integer.class, defaults = "" + DFLT_PAGE_READ_AHEAD_WINDOW)
+    public static final String IGNITE_PAGE_READ_AHEAD_WINDOW = "IGNITE_PAGE_READ_AHEAD_WINDOW";
+
     /**
      * When set to {@code true}, WAL implementation with dedicated worker will be used even in FSYNC mode.
      * Default is {@code false}.
@@ -1360,6 +1403,16 @@ public final class IgniteSystemProperties {
         "even in FSYNC mode")
     public static final String IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER = "IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER";
 
+    /**
+     * Maximum time in nanoseconds a commit in FSYNC WAL mode may wait for concurrent commits to join its
+     * fsync. The actual wait adapts to the observed number of concurrent commits and the fsync duration. {@code 0}
+     * disables the group commit, {@link DataStorageConfiguration#getWalFsyncDelayNanos()} is used instead.
+     */
+    @SystemProperty(value = "Maximum time in nanoseconds a commit in FSYNC WAL mode may wait for concurrent " +
+        "commits to share a single fsync with them, 0 disables the group commit", type = Long.class,
+        defaults = "" + DFLT_WAL_FSYNC_GROUP_COMMIT_WINDOW)
+    public static final String IGNITE_WAL_FSYNC_GROUP_COMMIT_WINDOW = "IGNITE_WAL_FSYNC_GROUP_COMMIT_WINDOW";
+
     /**
      * When set to {@code true}, on-heap cache cannot be enabled - see
      * {@link CacheConfiguration#setOnheapCacheEnabled(boolean)}.
@@ -1386,6 +1439,23 @@ public final class IgniteSystemProperties {
         type = Double.class, defaults = "" + DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE)
     public static final String IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE = "IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE";
 
+    /**
+     * Ratio of dirty pages in a segment of a persistent data region which triggers a checkpoint. Enables continuous
+     * checkpointing with small checkpoints instead of large checkpoints on checkpoint frequency. Disabled if {@code 0}.
+     */
+    @SystemProperty(value = "Ratio of dirty pages in a segment of a persistent data region which triggers " +
+        "a checkpoint, 0 disables the trigger", type = Double.class,
+        defaults = "" + DFLT_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO)
+    public static final String IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO = "IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO";
+
+    /**
+     * Size of WAL in bytes written since the last checkpoint which triggers a checkpoint. Enables continuous
+     * checkpointing with small checkpoints instead of large checkpoints on checkpoint frequency. Disabled if {@code 0}.
+     */
+    @SystemProperty(value = "Size of WAL in bytes written since the last checkpoint which triggers a checkpoint, " +
+        "0 disables the trigger", type = Long.class, defaults = "" + DFLT_CHECKPOINT_TRIGGER_WAL_SIZE)
+    public static final String IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE = "IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE";
+
     /**
      * Property for setup percentage of WAL archive size to calculate
      * threshold since which removing of old archive should be started.
@@ -1633,6 +1703,15 @@ public final class IgniteSystemProperties {
         "binary and logical recovery phases")
     public static final String IGNITE_RECOVERY_VERBOSE_LOGGING = "IGNITE_RECOVERY_VERBOSE_LOGGING";
 
+    /**
+     * Number of threads that decode WAL records during binary and logical recovery. WAL is read by a separate
+     * thread ahead of applying records and decoded records are applied in WAL order. Zero disables parallel
+     * decoding.
+     */
+    @SystemProperty(value = "Number of threads that decode WAL records during binary and logical recovery. " +
+        "Zero disables parallel decoding", type = Integer.class, defaults = "" + DFLT_WAL_RECOVERY_DECODING_THREADS)
+    public static final String IGNITE_WAL_RECOVERY_DECODING_THREADS = "IGNITE_WAL_RECOVERY_DECODING_THREADS";
+
     /**
      * Disables cache interceptor triggering in case of conflicts.
      *
@@ -1767,6 +1846,15 @@ public final class IgniteSystemProperties {
         type = Integer.class, defaults = "" + DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD)
     public static final String CHECKPOINT_PARALLEL_SORT_THRESHOLD = "CHECKPOINT_PARALLEL_SORT_THRESHOLD";
 
+    /**
+     * Maximum size in bytes of a single checkpoint write of pages with adjacent indexes of the same partition file.
+     * Values less than two pages disable coalescing of the checkpoint writes.
+     */
+    @SystemProperty(value = "Maximum size in bytes of a single checkpoint write of pages with adjacent indexes of " +
+        "the same partition file. Values less than two pages disable coalescing of the checkpoint writes",
+        type = Integer.class, defaults = "" + DFLT_CHECKPOINT_COALESCED_WRITE_SIZE)
+    public static final String IGNITE_CHECKPOINT_COALESCED_WRITE_SIZE = "IGNITE_CHECKPOINT_COALESCED_WRITE_SIZE";
+
     /**
      * Keep static cache configuration even if stored cache data differs from the static config. When this property
      * is set, static cache configuration will override persisted configuration. DDL operations are not allowed
@@ -2050,6 +2138,13 @@ public final class IgniteSystemProperties {
         type = Integer.class)
     public static final String IGNITE_CALCITE_EXEC_IO_BATCH_CNT = "IGNITE_CALCITE_EXEC_IO_BATCH_CNT";
 
+    /**
+     * Calcite-based SQL engine. Evaluate filter and projection expressions over batches of rows instead of row by row.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Evaluate filter and projection expressions over batches " +
+        "of rows instead of row by row")
+    public static final String IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS = "IGNITE_CALCITE_EXEC_VECTORIZED_EXPRESSIONS";
+
     /**
      * Calcite-based SQL engine. Pretty print serialized to JSON plan, when sending it to remote nodes.
      */
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cache.query;
+
+import org.apache.ignite.internal.cache.query.BinaryFieldScanFilter;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.lang.IgniteBiPredicate;
+
+/**
+ * Factory of {@link ScanQuery} filters over fields of cache values in binary form.
+ * <p>
+ * Such filters are evaluated on the binary form of the entries without unmarshalling them: values of numeric fields
+ * are read directly from the object bytes, so the scan unmarshals only the entries that passed the filter. Entries
+ * which values are not binary objects (for example, values of primitive types) never pass such filters.
+ */
+public class ScanQueryBinaryFilterBuilder {
+    /**
+     * Equal To.
+     *
+     * @param field Field of the cache value to apply filter.
+     * @param val Strict equality value, {@code null} to match absent or {@code null} field.
+     * @return Filter.
+     */
+    public static <K, V> IgniteBiPredicate<K, V> eq(String field, Object val) {
+        A.notNullOrEmpty(field, "field");
+
+        return new BinaryFieldScanFilter<>(field, BinaryFieldScanFilter.Op.EQ, val);
+    }
+
+    /**
+     * Less Than.
+     *
+     * @param field Field of the cache value to apply filter.
+     * @param val Exclusive upper bound.
+     * @return Filter.
+     */
+    public static <K, V> IgniteBiPredicate<K, V> lt(String field, Comparable<?> val) {
+        return range(field, BinaryFieldScanFilter.Op.LT, val);
+    }
+
+    /**
+     * Less Than or Equal To.
+     *
+     * @param field Field of the cache value to apply filter.
+     * @param val Inclusive upper bound.
+     * @return Filter.
+     */
+    public static <K, V> IgniteBiPredicate<K, V> lte(String field, Comparable<?> val) {
+        return range(field, BinaryFieldScanFilter.Op.LTE, val);
+    }
+
+    /**
+     * Greater Than.
+     *
+     * @param field Field of the cache value to apply filter.
+     * @param val Exclusive lower bound.
+     * @return Filter.
+     */
+    public static <K, V> IgniteBiPredicate<K, V> gt(String field, Comparable<?> val) {
+        return range(field, BinaryFieldScanFilter.Op.GT, val);
+    }
+
+    /**
+     * Greater Than or Equal To.
+     *
+     * @param field Field of the cache value to apply filter.
+     * @param val Inclusive lower bound.
+     * @return Filter.
+     */
+    public static <K, V> IgniteBiPredicate<K, V> gte(String field, Comparable<?> val) {
+        return range(field, BinaryFieldScanFilter.Op.GTE, val);
+    }
+
+    /**
+     * Conjunction of the filters created by this factory.
+     *
+     * @param filters Filters.
+     * @return Filter which passes entries that pass all the given filters.
+     */
+    @SafeVarargs
+    public static <K, V> IgniteBiPredicate<K, V> and(IgniteBiPredicate<K, V>... filters) {
+        A.notEmpty(filters, "filters");
+
+        BinaryFieldScanFilter<K, V> res = null;
+
+        for (IgniteBiPredicate<K, V> filter : filters) {
+            A.ensure(filter instanceof BinaryFieldScanFilter,
+                "filters must be created by " + ScanQueryBinaryFilterBuilder.class.getSimpleName());
+
+            BinaryFieldScanFilter<K, V> filter0 = (BinaryFieldScanFilter<K, V>)filter;
+
+            res = res == null ? filter0 : res.and(filter0);
+        }
+
+        return res;
+    }
+
+    /**
+     * @param field Field of the cache value to apply filter.
+     * @param op Operation.
+     * @param val Bound.
+     * @return Filter.
+     */
+    private static <K, V> IgniteBiPredicate<K, V> range(String field, BinaryFieldScanFilter.Op op, Comparable<?> val) {
+        A.notNullOrEmpty(field, "field");
+        A.notNull(val, "val");
+
+        return new BinaryFieldScanFilter<>(field, op, val);
+    }
+}
@@ -70,7 +70,25 @@ public enum PageReplacementMode {
      * This algorithm has near to zero maintenance cost and replacement policy efficiency between random-LRU and
      * segmented-LRU.
      */
-    CLOCK;
+    CLOCK,
+
+    /**
+     * 2Q algorithm.
+     *
+     * 2Q algorithm is a scan-resistant algorithm, which admits a page to the main LRU queue only if the page is
+     * requested again after it has been replaced once. Newly loaded pages are added to the FIFO "in" queue, and
+     * hits of pages in this queue are not taken into account. When the "in" queue exceeds its limit, pages to
+     * replace are polled from its head, and identifiers of such pages are remembered in the "out" queue, which
+     * doesn't hold the page contents. A page that is found in the "out" queue on load goes directly to the tail of
+     * the main LRU queue, and main queue pages are moved to its tail on each access. Otherwise, page to replace is
+     * polled from the least recently accessed end (head) of the main queue.
+     *
+     * This algorithm requires additional memory to store pages lists and the "out" queue and needs to update the
+     * main queue on page access, as segmented-LRU does. Pages touched once by a full scan or a rebalance can't push
+     * re-referenced pages out of the main queue, so the algorithm keeps a hot working set in memory better than
+     * other algorithms when such one-time scans are frequent.
+     */
+    TWO_QUEUE;
 
     /** Enumerated values. */
     private static final PageReplacementMode[] VALS = values();
@@ -37,6 +37,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryReflectiveSerializer;
 import org.apache.ignite.binary.BinarySerializer;
@@ -54,6 +55,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.marshaller.MarshallerExclusions;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS;
 import static org.apache.ignite.internal.processors.query.QueryUtils.isGeometryClass;
 import static org.apache.ignite.internal.util.IgniteUtils.isLambda;
 
@@ -345,6 +347,8 @@ public class BinaryClassDescriptor {
 
                     Set<String> duplicates = duplicateFields(cls);
 
+                    boolean specialized = IgniteSystemProperties.getBoolean(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS);
+
                     Collection<String> names = new HashSet<>();
                     Collection<Integer> ids = new HashSet<>();
 
@@ -367,7 +371,7 @@ public class BinaryClassDescriptor {
                                 if (!ids.add(fieldId))
                                     throw new BinaryObjectException("Duplicate field ID: " + name);
 
-                                BinaryFieldAccessor fieldInfo = BinaryFieldAccessor.create(f, fieldId);
+                                BinaryFieldAccessor fieldInfo = BinaryFieldAccessor.create(f, fieldId, specialized);
 
                                 fields0.put(name, fieldInfo);
 
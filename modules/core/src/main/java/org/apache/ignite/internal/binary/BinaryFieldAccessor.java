@@ -54,6 +54,19 @@ public abstract class BinaryFieldAccessor {
      * @return Accessor.
      */
     public static BinaryFieldAccessor create(Field field, int id) {
+        return create(field, id, false);
+    }
+
+    /**
+     * Create accessor for the field.
+     *
+     * @param field Field.
+     * @param id FIeld ID.
+     * @param specialized If {@code true}, value writer and reader of a field of a fixed type are resolved once
+     *      here instead of dispatching on the write mode of every serialized value.
+     * @return Accessor.
+     */
+    public static BinaryFieldAccessor create(Field field, int id, boolean specialized) {
         BinaryWriteMode mode = BinaryUtils.mode(field.getType());
 
         switch (mode) {
@@ -113,13 +126,42 @@ public abstract class BinaryFieldAccessor {
             case OBJECT_ARR:
             case BINARY_OBJ:
             case BINARY:
-                return new DefaultFinalClassAccessor(field, id, mode, false);
+                return fixedTypeAccessor(field, id, mode, specialized);
 
             default:
-                return new DefaultFinalClassAccessor(field, id, mode, !U.isFinal(field.getType()));
+                if (!U.isFinal(field.getType()))
+                    return new DefaultFinalClassAccessor(field, id, mode, true);
+
+                return fixedTypeAccessor(field, id, mode, specialized);
         }
     }
 
+    /**
+     * Create accessor for the field which values are always written with the given mode.
+     *
+     * @param field Field.
+     * @param id Field ID.
+     * @param mode Mode.
+     * @param specialized Whether to create specialized accessor if it is supported for the mode.
+     * @return Accessor.
+     */
+    private static BinaryFieldAccessor fixedTypeAccessor(
+        Field field,
+        int id,
+        BinaryWriteMode mode,
+        boolean specialized
+    ) {
+        if (specialized) {
+            ValueWriter valWriter = valueWriter(mode);
+            ValueReader valReader = valueReader(mode, field.getType());
+
+            if (valWriter != null && valReader != null)
+                return new SpecializedFinalClassAccessor(field, id, mode, valWriter, valReader);
+        }
+
+        return new DefaultFinalClassAccessor(field, id, mode, false);
+    }
+
     /**
      * Protected constructor.
      *
@@ -925,4 +967,331 @@ public abstract class BinaryFieldAccessor {
                 mode;
         }
     }
+
+    /**
+     * Writes a field value of a fixed type after the field ID is written.
+     */
+    @FunctionalInterface
+    private interface ValueWriter {
+        /**
+         * @param writer Writer.
+         * @param val Value.
+         * @throws BinaryObjectException If failed.
+         */
+        void write(BinaryWriterExImpl writer, Object val) throws BinaryObjectException;
+    }
+
+    /**
+     * Reads a field value of a fixed type.
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+        /**
+         * @param reader Reader.
+         * @param id Field ID.
+         * @return Value.
+         * @throws BinaryObjectException If failed.
+         */
+        Object read(BinaryReaderExImpl reader, int id) throws BinaryObjectException;
+    }
+
+    /**
+     * @param mode Mode.
+     * @return Value writer for the mode or {@code null} if the mode is not supported.
+     */
+    private static ValueWriter valueWriter(BinaryWriteMode mode) {
+        switch (mode) {
+            case BYTE:
+                return (w, v) -> w.writeByteField((Byte)v);
+
+            case SHORT:
+                return (w, v) -> w.writeShortField((Short)v);
+
+            case INT:
+                return (w, v) -> w.writeIntField((Integer)v);
+
+            case LONG:
+                return (w, v) -> w.writeLongField((Long)v);
+
+            case FLOAT:
+                return (w, v) -> w.writeFloatField((Float)v);
+
+            case DOUBLE:
+                return (w, v) -> w.writeDoubleField((Double)v);
+
+            case CHAR:
+                return (w, v) -> w.writeCharField((Character)v);
+
+            case BOOLEAN:
+                return (w, v) -> w.writeBooleanField((Boolean)v);
+
+            case DECIMAL:
+                return (w, v) -> w.writeDecimalField((BigDecimal)v);
+
+            case STRING:
+                return (w, v) -> w.writeStringField((String)v);
+
+            case UUID:
+                return (w, v) -> w.writeUuidField((UUID)v);
+
+            case DATE:
+                return (w, v) -> w.writeDateField((Date)v);
+
+            case TIMESTAMP:
+                return (w, v) -> w.writeTimestampField((Timestamp)v);
+
+            case TIME:
+                return (w, v) -> w.writeTimeField((Time)v);
+
+            case BYTE_ARR:
+                return (w, v) -> w.writeByteArrayField((byte[])v);
+
+            case SHORT_ARR:
+                return (w, v) -> w.writeShortArrayField((short[])v);
+
+            case INT_ARR:
+                return (w, v) -> w.writeIntArrayField((int[])v);
+
+            case LONG_ARR:
+                return (w, v) -> w.writeLongArrayField((long[])v);
+
+            case FLOAT_ARR:
+                return (w, v) -> w.writeFloatArrayField((float[])v);
+
+            case DOUBLE_ARR:
+                return (w, v) -> w.writeDoubleArrayField((double[])v);
+
+            case CHAR_ARR:
+                return (w, v) -> w.writeCharArrayField((char[])v);
+
+            case BOOLEAN_ARR:
+                return (w, v) -> w.writeBooleanArrayField((boolean[])v);
+
+            case DECIMAL_ARR:
+                return (w, v) -> w.writeDecimalArrayField((BigDecimal[])v);
+
+            case STRING_ARR:
+                return (w, v) -> w.writeStringArrayField((String[])v);
+
+            case UUID_ARR:
+                return (w, v) -> w.writeUuidArrayField((UUID[])v);
+
+            case DATE_ARR:
+                return (w, v) -> w.writeDateArrayField((Date[])v);
+
+            case TIMESTAMP_ARR:
+                return (w, v) -> w.writeTimestampArrayField((Timestamp[])v);
+
+            case TIME_ARR:
+                return (w, v) -> w.writeTimeArrayField((Time[])v);
+
+            case OBJECT_ARR:
+                return (w, v) -> w.writeObjectArrayField((Object[])v);
+
+            case COL:
+                return (w, v) -> w.writeCollectionField((Collection<?>)v);
+
+            case MAP:
+                return (w, v) -> w.writeMapField((Map<?, ?>)v);
+
+            case BINARY_OBJ:
+                return (w, v) -> w.writeBinaryObjectField((BinaryObjectImpl)v);
+
+            case ENUM:
+                return (w, v) -> w.writeEnumField((Enum<?>)v);
+
+            case BINARY_ENUM:
+                return (w, v) -> w.doWriteBinaryEnum((BinaryEnumObjectImpl)v);
+
+            case ENUM_ARR:
+                return (w, v) -> w.writeEnumArrayField((Object[])v);
+
+            case BINARY:
+            case OBJECT:
+                return BinaryWriterExImpl::writeObjectField;
+
+            case CLASS:
+                return (w, v) -> w.writeClassField((Class)v);
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param mode Mode.
+     * @param type Field type.
+     * @return Value reader for the mode or {@code null} if the mode is not supported.
+     */
+    private static ValueReader valueReader(BinaryWriteMode mode, Class<?> type) {
+        switch (mode) {
+            case BYTE:
+                return BinaryReaderExImpl::readByteNullable;
+
+            case SHORT:
+                return BinaryReaderExImpl::readShortNullable;
+
+            case INT:
+                return BinaryReaderExImpl::readIntNullable;
+
+            case LONG:
+                return BinaryReaderExImpl::readLongNullable;
+
+            case FLOAT:
+                return BinaryReaderExImpl::readFloatNullable;
+
+            case DOUBLE:
+                return BinaryReaderExImpl::readDoubleNullable;
+
+            case CHAR:
+                return BinaryReaderExImpl::readCharNullable;
+
+            case BOOLEAN:
+                return BinaryReaderExImpl::readBooleanNullable;
+
+            case DECIMAL:
+                return BinaryReaderExImpl::readDecimal;
+
+            case STRING:
+                return BinaryReaderExImpl::readString;
+
+            case UUID:
+                return BinaryReaderExImpl::readUuid;
+
+            case DATE:
+                return BinaryReaderExImpl::readDate;
+
+            case TIMESTAMP:
+                return BinaryReaderExImpl::readTimestamp;
+
+            case TIME:
+                return BinaryReaderExImpl::readTime;
+
+            case BYTE_ARR:
+                return BinaryReaderExImpl::readByteArray;
+
+            case SHORT_ARR:
+                return BinaryReaderExImpl::readShortArray;
+
+            case INT_ARR:
+                return BinaryReaderExImpl::readIntArray;
+
+            case LONG_ARR:
+                return BinaryReaderExImpl::readLongArray;
+
+            case FLOAT_ARR:
+                return BinaryReaderExImpl::readFloatArray;
+
+            case DOUBLE_ARR:
+                return BinaryReaderExImpl::readDoubleArray;
+
+            case CHAR_ARR:
+                return BinaryReaderExImpl::readCharArray;
+
+            case BOOLEAN_ARR:
+                return BinaryReaderExImpl::readBooleanArray;
+
+            case DECIMAL_ARR:
+                return BinaryReaderExImpl::readDecimalArray;
+
+            case STRING_ARR:
+                return BinaryReaderExImpl::readStringArray;
+
+            case UUID_ARR:
+                return BinaryReaderExImpl::readUuidArray;
+
+            case DATE_ARR:
+                return BinaryReaderExImpl::readDateArray;
+
+            case TIMESTAMP_ARR:
+                return BinaryReaderExImpl::readTimestampArray;
+
+            case TIME_ARR:
+                return BinaryReaderExImpl::readTimeArray;
+
+            case OBJECT_ARR:
+                return BinaryReaderExImpl::readObjectArray;
+
+            case COL:
+                return (r, id) -> r.readCollection(id, null);
+
+            case MAP:
+                return (r, id) -> r.readMap(id, null);
+
+            case BINARY_OBJ:
+                return BinaryReaderExImpl::readBinaryObject;
+
+            case ENUM:
+                return (r, id) -> r.readEnum(id, type);
+
+            case ENUM_ARR:
+                Class<?> compType = type.getComponentType();
+
+                return (r, id) -> r.readEnumArray(id, compType);
+
+            case BINARY_ENUM:
+                return BinaryReaderExImpl::readBinaryEnum;
+
+            case BINARY:
+            case OBJECT:
+                return BinaryReaderExImpl::readObject;
+
+            case CLASS:
+                return BinaryReaderExImpl::readClass;
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Accessor for the field of a fixed type. Unlike {@link DefaultFinalClassAccessor} it does not dispatch on
+     * the write mode for every value and accesses the field directly by its offset instead of reflection.
+     */
+    private static class SpecializedFinalClassAccessor extends BinaryFieldAccessor {
+        /** Offset. */
+        private final long offset;
+
+        /** Value writer. */
+        private final ValueWriter valWriter;
+
+        /** Value reader. */
+        private final ValueReader valReader;
+
+        /**
+         * Constructor.
+         *
+         * @param field Field.
+         * @param id Field ID.
+         * @param mode Mode.
+         * @param valWriter Value writer.
+         * @param valReader Value reader.
+         */
+        SpecializedFinalClassAccessor(
+            Field field,
+            int id,
+            BinaryWriteMode mode,
+            ValueWriter valWriter,
+            ValueReader valReader
+        ) {
+            super(field, id, mode);
+
+            this.valWriter = valWriter;
+            this.valReader = valReader;
+
+            offset = GridUnsafe.objectFieldOffset(field);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void write0(Object obj, BinaryWriterExImpl writer) throws BinaryObjectException {
+            writer.writeFieldIdNoSchemaUpdate(id);
+
+            valWriter.write(writer, GridUnsafe.getObjectField(obj, offset));
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void read0(Object obj, BinaryReaderExImpl reader) throws BinaryObjectException {
+            GridUnsafe.putObjectField(obj, offset, valReader.read(reader, id));
+        }
+    }
 }
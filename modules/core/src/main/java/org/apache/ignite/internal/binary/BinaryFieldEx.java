@@ -20,6 +20,7 @@ package org.apache.ignite.internal.binary;
 import java.nio.ByteBuffer;
 import org.apache.ignite.binary.BinaryField;
 import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectException;
 
 /**
  *
@@ -47,4 +48,31 @@ public interface BinaryFieldEx extends BinaryField {
      * @return Field value.
      */
     public <F> F readField(ByteBuffer buf);
+
+    /**
+     * Gets type of the field value without reading the value.
+     *
+     * @param obj Object from which the field should be extracted.
+     * @return Type header of the field value, {@link GridBinaryMarshaller#NULL} if the field is absent
+     *      or {@code null}.
+     */
+    public byte valueType(BinaryObject obj);
+
+    /**
+     * Reads value of the field of an integral type directly from the object bytes without allocation.
+     *
+     * @param obj Object from which the field should be extracted.
+     * @return Field value.
+     * @throws BinaryObjectException If the field is absent or its value is not of an integral type.
+     */
+    public long longValue(BinaryObject obj) throws BinaryObjectException;
+
+    /**
+     * Reads value of the field of a numeric type directly from the object bytes without allocation.
+     *
+     * @param obj Object from which the field should be extracted.
+     * @return Field value.
+     * @throws BinaryObjectException If the field is absent or its value is not of a numeric type.
+     */
+    public double doubleValue(BinaryObject obj) throws BinaryObjectException;
 }
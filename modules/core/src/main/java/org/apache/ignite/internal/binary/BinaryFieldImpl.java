@@ -112,6 +112,27 @@ public class BinaryFieldImpl implements BinaryFieldEx {
         return order != BinarySchema.ORDER_NOT_FOUND ? (T)obj0.fieldByOrder(order) : null;
     }
 
+    /** {@inheritDoc} */
+    @Override public byte valueType(BinaryObject obj) {
+        BinaryObjectExImpl obj0 = (BinaryObjectExImpl)obj;
+
+        return obj0.fieldTypeByOrder(fieldOrder(obj0));
+    }
+
+    /** {@inheritDoc} */
+    @Override public long longValue(BinaryObject obj) {
+        BinaryObjectExImpl obj0 = (BinaryObjectExImpl)obj;
+
+        return obj0.longFieldByOrder(existingFieldOrder(obj0));
+    }
+
+    /** {@inheritDoc} */
+    @Override public double doubleValue(BinaryObject obj) {
+        BinaryObjectExImpl obj0 = (BinaryObjectExImpl)obj;
+
+        return obj0.doubleFieldByOrder(existingFieldOrder(obj0));
+    }
+
     /** {@inheritDoc} */
     @Override public int typeId() {
         return typeId;
@@ -321,6 +342,20 @@ public class BinaryFieldImpl implements BinaryFieldEx {
         return schema.order(fieldId);
     }
 
+    /**
+     * @param obj Object.
+     * @return Field offset.
+     * @throws BinaryObjectException If the object does not have the field.
+     */
+    private int existingFieldOrder(BinaryObjectExImpl obj) {
+        int order = fieldOrder(obj);
+
+        if (order == BinarySchema.ORDER_NOT_FOUND)
+            throw new BinaryObjectException("Field is not found [typeId=" + typeId + ", fieldName=" + fieldName + ']');
+
+        return order;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(BinaryFieldImpl.class, this);
@@ -107,6 +107,32 @@ public abstract class BinaryObjectExImpl implements BinaryObjectEx {
      */
     @Nullable public abstract <F> F fieldByOrder(int order);
 
+    /**
+     * Get type of the field value by offset without reading the value.
+     *
+     * @param order Field offset.
+     * @return Type header of the field value, {@link GridBinaryMarshaller#NULL} if the field is absent or {@code null}.
+     */
+    public abstract byte fieldTypeByOrder(int order);
+
+    /**
+     * Get value of the field of an integral type by offset without allocation.
+     *
+     * @param order Field offset.
+     * @return Field value.
+     * @throws BinaryObjectException If the field value is not of an integral type.
+     */
+    public abstract long longFieldByOrder(int order) throws BinaryObjectException;
+
+    /**
+     * Get value of the field of a numeric type by offset without allocation.
+     *
+     * @param order Field offset.
+     * @return Field value.
+     * @throws BinaryObjectException If the field value is not of a numeric type.
+     */
+    public abstract double doubleFieldByOrder(int order) throws BinaryObjectException;
+
     /**
      * Create field comparator.
      *
@@ -427,30 +427,75 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
     }
 
     /** {@inheritDoc} */
-    @Nullable @Override public <F> F fieldByOrder(int order) {
+    @Override public byte fieldTypeByOrder(int order) {
         if (order == BinarySchema.ORDER_NOT_FOUND)
-            return null;
+            return GridBinaryMarshaller.NULL;
 
-        Object val;
+        return BinaryPrimitives.readByte(arr, fieldPosition(order));
+    }
 
-        // Calculate field position.
-        int schemaOff = BinaryPrimitives.readInt(arr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
+    /** {@inheritDoc} */
+    @Override public long longFieldByOrder(int order) {
+        int fieldPos = fieldPosition(order);
 
-        short flags = BinaryPrimitives.readShort(arr, start + GridBinaryMarshaller.FLAGS_POS);
+        byte hdr = BinaryPrimitives.readByte(arr, fieldPos);
 
-        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
-        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+        switch (hdr) {
+            case GridBinaryMarshaller.INT:
+                return BinaryPrimitives.readInt(arr, fieldPos + 1);
 
-        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+            case GridBinaryMarshaller.LONG:
+                return BinaryPrimitives.readLong(arr, fieldPos + 1);
 
-        int fieldPos;
+            case GridBinaryMarshaller.SHORT:
+                return BinaryPrimitives.readShort(arr, fieldPos + 1);
 
-        if (fieldOffLen == BinaryUtils.OFFSET_1)
-            fieldPos = start + ((int)BinaryPrimitives.readByte(arr, fieldOffsetPos) & 0xFF);
-        else if (fieldOffLen == BinaryUtils.OFFSET_2)
-            fieldPos = start + ((int)BinaryPrimitives.readShort(arr, fieldOffsetPos) & 0xFFFF);
-        else
-            fieldPos = start + BinaryPrimitives.readInt(arr, fieldOffsetPos);
+            case GridBinaryMarshaller.BYTE:
+                return BinaryPrimitives.readByte(arr, fieldPos + 1);
+
+            case GridBinaryMarshaller.CHAR:
+                return BinaryPrimitives.readChar(arr, fieldPos + 1);
+
+            default:
+                throw new BinaryObjectException("Field value is not of an integral type [order=" + order +
+                    ", type=" + hdr + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public double doubleFieldByOrder(int order) {
+        int fieldPos = fieldPosition(order);
+
+        byte hdr = BinaryPrimitives.readByte(arr, fieldPos);
+
+        switch (hdr) {
+            case GridBinaryMarshaller.DOUBLE:
+                return BinaryPrimitives.readDouble(arr, fieldPos + 1);
+
+            case GridBinaryMarshaller.FLOAT:
+                return BinaryPrimitives.readFloat(arr, fieldPos + 1);
+
+            case GridBinaryMarshaller.INT:
+            case GridBinaryMarshaller.LONG:
+            case GridBinaryMarshaller.SHORT:
+            case GridBinaryMarshaller.BYTE:
+            case GridBinaryMarshaller.CHAR:
+                return longFieldByOrder(order);
+
+            default:
+                throw new BinaryObjectException("Field value is not of a numeric type [order=" + order +
+                    ", type=" + hdr + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public <F> F fieldByOrder(int order) {
+        if (order == BinarySchema.ORDER_NOT_FOUND)
+            return null;
+
+        Object val;
+
+        int fieldPos = fieldPosition(order);
 
         // Read header and try performing fast lookup for well-known types (the most common types go first).
         byte hdr = BinaryPrimitives.readByte(arr, fieldPos);
@@ -577,6 +622,28 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
         return (F)val;
     }
 
+    /**
+     * @param order Field order.
+     * @return Absolute position of the field value.
+     */
+    private int fieldPosition(int order) {
+        int schemaOff = BinaryPrimitives.readInt(arr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
+
+        short flags = BinaryPrimitives.readShort(arr, start + GridBinaryMarshaller.FLAGS_POS);
+
+        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
+        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+
+        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+
+        if (fieldOffLen == BinaryUtils.OFFSET_1)
+            return start + ((int)BinaryPrimitives.readByte(arr, fieldOffsetPos) & 0xFF);
+        else if (fieldOffLen == BinaryUtils.OFFSET_2)
+            return start + ((int)BinaryPrimitives.readShort(arr, fieldOffsetPos) & 0xFFFF);
+        else
+            return start + BinaryPrimitives.readInt(arr, fieldOffsetPos);
+    }
+
     /** {@inheritDoc} */
     @Override public boolean writeFieldByOrder(int order, ByteBuffer buf) {
         // Calculate field position.
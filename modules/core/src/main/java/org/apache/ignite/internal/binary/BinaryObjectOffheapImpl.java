@@ -245,30 +245,75 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
     }
 
     /** {@inheritDoc} */
-    @Nullable @Override public <F> F fieldByOrder(int order) {
+    @Override public byte fieldTypeByOrder(int order) {
         if (order == BinarySchema.ORDER_NOT_FOUND)
-            return null;
+            return GridBinaryMarshaller.NULL;
 
-        Object val;
+        return BinaryPrimitives.readByte(ptr, fieldPosition(order));
+    }
 
-        // Calculate field position.
-        int schemaOff = BinaryPrimitives.readInt(ptr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
+    /** {@inheritDoc} */
+    @Override public long longFieldByOrder(int order) {
+        int fieldPos = fieldPosition(order);
 
-        short flags = BinaryPrimitives.readShort(ptr, start + GridBinaryMarshaller.FLAGS_POS);
+        byte hdr = BinaryPrimitives.readByte(ptr, fieldPos);
 
-        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
-        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+        switch (hdr) {
+            case GridBinaryMarshaller.INT:
+                return BinaryPrimitives.readInt(ptr, fieldPos + 1);
 
-        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+            case GridBinaryMarshaller.LONG:
+                return BinaryPrimitives.readLong(ptr, fieldPos + 1);
 
-        int fieldPos;
+            case GridBinaryMarshaller.SHORT:
+                return BinaryPrimitives.readShort(ptr, fieldPos + 1);
 
-        if (fieldOffLen == BinaryUtils.OFFSET_1)
-            fieldPos = start + ((int)BinaryPrimitives.readByte(ptr, fieldOffsetPos) & 0xFF);
-        else if (fieldOffLen == BinaryUtils.OFFSET_2)
-            fieldPos = start + ((int)BinaryPrimitives.readShort(ptr, fieldOffsetPos) & 0xFFFF);
-        else
-            fieldPos = start + BinaryPrimitives.readInt(ptr, fieldOffsetPos);
+            case GridBinaryMarshaller.BYTE:
+                return BinaryPrimitives.readByte(ptr, fieldPos + 1);
+
+            case GridBinaryMarshaller.CHAR:
+                return BinaryPrimitives.readChar(ptr, fieldPos + 1);
+
+            default:
+                throw new BinaryObjectException("Field value is not of an integral type [order=" + order +
+                    ", type=" + hdr + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public double doubleFieldByOrder(int order) {
+        int fieldPos = fieldPosition(order);
+
+        byte hdr = BinaryPrimitives.readByte(ptr, fieldPos);
+
+        switch (hdr) {
+            case GridBinaryMarshaller.DOUBLE:
+                return BinaryPrimitives.readDouble(ptr, fieldPos + 1);
+
+            case GridBinaryMarshaller.FLOAT:
+                return BinaryPrimitives.readFloat(ptr, fieldPos + 1);
+
+            case GridBinaryMarshaller.INT:
+            case GridBinaryMarshaller.LONG:
+            case GridBinaryMarshaller.SHORT:
+            case GridBinaryMarshaller.BYTE:
+            case GridBinaryMarshaller.CHAR:
+                return longFieldByOrder(order);
+
+            default:
+                throw new BinaryObjectException("Field value is not of a numeric type [order=" + order +
+                    ", type=" + hdr + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public <F> F fieldByOrder(int order) {
+        if (order == BinarySchema.ORDER_NOT_FOUND)
+            return null;
+
+        Object val;
+
+        int fieldPos = fieldPosition(order);
 
         // Read header and try performing fast lookup for well-known types (the most common types go first).
         byte hdr = BinaryPrimitives.readByte(ptr, fieldPos);
@@ -400,6 +445,28 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
         return (F)val;
     }
 
+    /**
+     * @param order Field order.
+     * @return Absolute position of the field value.
+     */
+    private int fieldPosition(int order) {
+        int schemaOff = BinaryPrimitives.readInt(ptr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
+
+        short flags = BinaryPrimitives.readShort(ptr, start + GridBinaryMarshaller.FLAGS_POS);
+
+        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
+        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+
+        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+
+        if (fieldOffLen == BinaryUtils.OFFSET_1)
+            return start + ((int)BinaryPrimitives.readByte(ptr, fieldOffsetPos) & 0xFF);
+        else if (fieldOffLen == BinaryUtils.OFFSET_2)
+            return start + ((int)BinaryPrimitives.readShort(ptr, fieldOffsetPos) & 0xFFFF);
+        else
+            return start + BinaryPrimitives.readInt(ptr, fieldOffsetPos);
+    }
+
     /** {@inheritDoc} */
     @Override protected boolean writeFieldByOrder(int fieldOffset, ByteBuffer buf) {
         return false;
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query;
+
+import java.util.Arrays;
+import org.apache.ignite.internal.binary.BinaryFieldEx;
+import org.apache.ignite.internal.binary.BinaryObjectExImpl;
+import org.apache.ignite.internal.binary.GridBinaryMarshaller;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteBiPredicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scan query filter that compares fields of the binary value of a cache entry with the given values without
+ * unmarshalling the value. Values of numeric fields are read directly from the object bytes. All the conditions
+ * must be satisfied for an entry to pass the filter. Entries which values are not binary objects never pass it.
+ * <p>
+ * Scan queries apply this filter to the binary form of the entries and unmarshal only the entries that passed it.
+ */
+public final class BinaryFieldScanFilter<K, V> implements IgniteBiPredicate<K, V> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Comparison operation. */
+    public enum Op {
+        /** Equal to. */
+        EQ,
+
+        /** Less than. */
+        LT,
+
+        /** Less than or equal to. */
+        LTE,
+
+        /** Greater than. */
+        GT,
+
+        /** Greater than or equal to. */
+        GTE
+    }
+
+    /** Field names. */
+    @GridToStringInclude
+    private final String[] fields;
+
+    /** Operations. */
+    @GridToStringInclude
+    private final Op[] ops;
+
+    /** Values to compare the fields with. */
+    @GridToStringInclude
+    private final Object[] vals;
+
+    /** Field accessors for the type of the last filtered object. */
+    @GridToStringExclude
+    private transient volatile BinaryFieldEx[] accessors;
+
+    /**
+     * @param field Field name.
+     * @param op Operation.
+     * @param val Value to compare the field with.
+     */
+    public BinaryFieldScanFilter(String field, Op op, @Nullable Object val) {
+        this(new String[] {field}, new Op[] {op}, new Object[] {val});
+    }
+
+    /**
+     * @param fields Field names.
+     * @param ops Operations.
+     * @param vals Values to compare the fields with.
+     */
+    private BinaryFieldScanFilter(String[] fields, Op[] ops, Object[] vals) {
+        assert fields.length == ops.length && fields.length == vals.length;
+
+        this.fields = fields;
+        this.ops = ops;
+        this.vals = vals;
+    }
+
+    /**
+     * @param other Other filter.
+     * @return Filter which passes entries that pass both this and the other filter.
+     */
+    public BinaryFieldScanFilter<K, V> and(BinaryFieldScanFilter<K, V> other) {
+        return new BinaryFieldScanFilter<>(concat(fields, other.fields), concat(ops, other.ops),
+            concat(vals, other.vals));
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean apply(K key, V val) {
+        if (!(val instanceof BinaryObjectExImpl))
+            return false;
+
+        BinaryObjectExImpl obj = (BinaryObjectExImpl)val;
+
+        BinaryFieldEx[] accessors0 = accessors(obj);
+
+        for (int i = 0; i < fields.length; i++) {
+            if (!matches(accessors0[i], obj, ops[i], vals[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param obj Object.
+     * @return Field accessors for the type of the object.
+     */
+    private BinaryFieldEx[] accessors(BinaryObjectExImpl obj) {
+        BinaryFieldEx[] accessors0 = accessors;
+
+        if (accessors0 == null || accessors0[0].typeId() != obj.typeId()) {
+            accessors0 = new BinaryFieldEx[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                accessors0[i] = obj.context().createField(obj.typeId(), fields[i]);
+
+            accessors = accessors0;
+        }
+
+        return accessors0;
+    }
+
+    /**
+     * @param field Field accessor.
+     * @param obj Object.
+     * @param op Operation.
+     * @param val Value to compare the field with.
+     * @return {@code True} if the field satisfies the condition.
+     */
+    private static boolean matches(BinaryFieldEx field, BinaryObjectExImpl obj, Op op, @Nullable Object val) {
+        switch (field.valueType(obj)) {
+            case GridBinaryMarshaller.NULL:
+                return val == null && op == Op.EQ;
+
+            case GridBinaryMarshaller.BYTE:
+            case GridBinaryMarshaller.SHORT:
+            case GridBinaryMarshaller.INT:
+            case GridBinaryMarshaller.LONG:
+                if (val instanceof Long || val instanceof Integer || val instanceof Short || val instanceof Byte)
+                    return check(op, Long.compare(field.longValue(obj), ((Number)val).longValue()));
+
+                if (val instanceof Float || val instanceof Double)
+                    return check(op, Double.compare(field.doubleValue(obj), ((Number)val).doubleValue()));
+
+                break;
+
+            case GridBinaryMarshaller.FLOAT:
+            case GridBinaryMarshaller.DOUBLE:
+                if (val instanceof Long || val instanceof Integer || val instanceof Short || val instanceof Byte ||
+                    val instanceof Float || val instanceof Double)
+                    return check(op, Double.compare(field.doubleValue(obj), ((Number)val).doubleValue()));
+
+                break;
+        }
+
+        if (val == null)
+            return false;
+
+        Object fieldVal = field.value(obj);
+
+        if (op == Op.EQ)
+            return val.equals(fieldVal);
+
+        if (!(val instanceof Comparable) || !val.getClass().isInstance(fieldVal))
+            return false;
+
+        return check(op, -((Comparable<Object>)val).compareTo(fieldVal));
+    }
+
+    /**
+     * @param op Operation.
+     * @param cmp Result of comparison of the field value with the value of the condition.
+     * @return {@code True} if the condition is satisfied.
+     */
+    private static boolean check(Op op, int cmp) {
+        switch (op) {
+            case EQ:
+                return cmp == 0;
+
+            case LT:
+                return cmp < 0;
+
+            case LTE:
+                return cmp <= 0;
+
+            case GT:
+                return cmp > 0;
+
+            case GTE:
+                return cmp >= 0;
+
+            default:
+                throw new IllegalStateException("Unknown operation: " + op);
+        }
+    }
+
+    /**
+     * @param a First array.
+     * @param b Second array.
+     * @return Concatenation of the arrays.
+     */
+    private static <T> T[] concat(T[] a, T[] b) {
+        T[] res = Arrays.copyOf(a, a.length + b.length);
+
+        System.arraycopy(b, 0, res, a.length, b.length);
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BinaryFieldScanFilter.class, this);
+    }
+}
@@ -21,6 +21,7 @@ import java.io.Closeable;
 import java.nio.ByteBuffer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.util.GridLongList;
 
 /**
  * Persistent store of pages.
@@ -95,6 +96,30 @@ public interface PageStore extends Closeable {
      */
     public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with adjacent indexes. Implementations may write all the pages by a single IO operation.
+     *
+     * @param pageIds Page IDs, index of every page is greater than index of the previous one by 1.
+     * @param pagesBuf Buffer with pages one after another, from position 0 up to the limit.
+     * @param tag Partition file version, 1-based incrementing counter. For outdated pages {@code tag} has lower value,
+     * and write does nothing.
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @throws IgniteCheckedException If pages writing failed (IO error occurred).
+     */
+    public default void write(GridLongList pageIds, ByteBuffer pagesBuf, int tag, boolean calculateCrc)
+        throws IgniteCheckedException {
+        int pageSize = getPageSize();
+
+        for (int i = 0; i < pageIds.size(); i++) {
+            ByteBuffer pageBuf = pagesBuf.duplicate();
+
+            pageBuf.position(i * pageSize);
+            pageBuf.limit((i + 1) * pageSize);
+
+            write(pageIds.get(i), pageBuf.slice().order(pagesBuf.order()), tag, calculateCrc);
+        }
+    }
+
     /**
      * Gets page offset within the store file.
      *
@@ -29,6 +29,7 @@ import org.apache.ignite.internal.processors.cache.persistence.StorageException;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cluster.IgniteChangeGlobalStateSupport;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -133,6 +134,23 @@ public interface IgniteWriteAheadLogManager extends GridCacheSharedManager, Igni
         @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter
     ) throws IgniteCheckedException, StorageException;
 
+    /**
+     * Invoke this method to iterate over the written log entries.
+     *
+     * @param start Optional WAL pointer from which to start iteration.
+     * @param recordDeserializeFilter Specify a filter to skip WAL records. Those records will not be explicitly deserialized.
+     * @param dataEntryFilter Specify a filter of cache IDs whose data entries are read. Data entries of other caches
+     *      will not be deserialized and are excluded from the read data records.
+     * @return Records iterator.
+     * @throws IgniteException If failed to start iteration.
+     * @throws StorageException If IO error occurred while reading WAL entries.
+     */
+    public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        @Nullable IgnitePredicate<Integer> dataEntryFilter
+    ) throws IgniteCheckedException, StorageException;
+
     /**
      * Invoke this method to reserve WAL history since provided pointer and prevent it's deletion.
      *
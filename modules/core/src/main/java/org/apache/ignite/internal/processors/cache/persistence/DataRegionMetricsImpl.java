@@ -130,6 +130,18 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric pageReplaceTime;
 
+    /** Number of page acquisitions which found the page in memory. */
+    private final LongAdderMetric pageHits;
+
+    /** Number of page acquisitions which required the page to be loaded to memory. */
+    private final LongAdderMetric pageMisses;
+
+    /** Number of pages loaded to memory by read-ahead. */
+    private final LongAdderMetric pagesPrefetched;
+
+    /** Number of first acquisitions of pages loaded to memory by read-ahead. */
+    private final LongAdderMetric pagePrefetchHits;
+
     /** */
     private final AtomicLongMetric offHeapSize;
 
@@ -259,6 +271,31 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         pageReplaceTime = mreg.longAdderMetric("PagesReplaceTime",
             "Total pages replace time in nanoseconds since last restart.");
 
+        pageHits = mreg.longAdderMetric("PageHits",
+            "Number of page acquisitions which found the page in memory since last restart.");
+
+        pageMisses = mreg.longAdderMetric("PageMisses",
+            "Number of page acquisitions which required the page to be loaded to memory since last restart.");
+
+        mreg.register("PageHitRatio",
+            this::pageHitRatio,
+            "Ratio of page acquisitions which found the page in memory to all the page acquisitions.");
+
+        pagesPrefetched = mreg.longAdderMetric("PagesPrefetched",
+            "Number of pages loaded to memory by read-ahead since last restart.");
+
+        pagePrefetchHits = mreg.longAdderMetric("PagePrefetchHits",
+            "Number of pages loaded to memory by read-ahead which were acquired afterwards since last restart.");
+
+        mreg.register("PagePrefetchHitRatio",
+            this::pagePrefetchHitRatio,
+            "Ratio of pages loaded by read-ahead which were acquired afterwards to all the pages loaded by read-ahead.");
+
+        mreg.register("PageReplacementMode",
+            () -> dataRegionCfg.getPageReplacementMode().name(),
+            String.class,
+            "Page replacement algorithm of the data region.");
+
         offHeapSize = mreg.longMetric("OffHeapSize",
             "Offheap size in bytes.");
 
@@ -545,6 +582,58 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         }
     }
 
+    /**
+     * Updates page hits.
+     */
+    public void onPageHit() {
+        if (metricsEnabled)
+            pageHits.increment();
+    }
+
+    /**
+     * Updates page misses.
+     */
+    public void onPageMiss() {
+        if (metricsEnabled)
+            pageMisses.increment();
+    }
+
+    /**
+     * @return Ratio of page hits to all page acquisitions or {@code 0} if there were no page acquisitions.
+     */
+    private double pageHitRatio() {
+        long hits = pageHits.value();
+        long total = hits + pageMisses.value();
+
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
+    /**
+     * Updates pages loaded by read-ahead.
+     */
+    public void onPagePrefetched() {
+        if (metricsEnabled)
+            pagesPrefetched.increment();
+    }
+
+    /**
+     * Updates hits of pages loaded by read-ahead.
+     */
+    public void onPagePrefetchHit() {
+        if (metricsEnabled)
+            pagePrefetchHits.increment();
+    }
+
+    /**
+     * @return Ratio of acquired pages loaded by read-ahead to all the pages loaded by read-ahead or {@code 0} if no
+     * pages were loaded by read-ahead.
+     */
+    private double pagePrefetchHitRatio() {
+        long prefetched = pagesPrefetched.value();
+
+        return prefetched == 0 ? 0 : Math.min(1d, (double)pagePrefetchHits.value() / prefetched);
+    }
+
     /**
      * Updates page read.
      *
@@ -805,6 +894,10 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         writtenPages.reset();
         replacedPages.reset();
         pageReplaceTime.reset();
+        pageHits.reset();
+        pageMisses.reset();
+        pagesPrefetched.reset();
+        pagePrefetchHits.reset();
         offHeapSize.reset();
         checkpointBufSize.reset();
         allocRate.reset();
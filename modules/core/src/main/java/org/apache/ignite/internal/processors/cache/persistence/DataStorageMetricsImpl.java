@@ -98,6 +98,9 @@ public class DataStorageMetricsImpl {
     /** */
     private final AtomicLongMetric lastCpCowPages;
 
+    /** */
+    private final AtomicLongMetric lastCpAvgWriteSize;
+
     /**
      * @deprecated Will be removed in upcoming releases.
      */
@@ -119,6 +122,9 @@ public class DataStorageMetricsImpl {
     /** */
     private volatile Collection<DataRegionMetrics> regionMetrics;
 
+    /** Progress of the current or the last WAL recovery phase. */
+    @Nullable private volatile WalRecoveryProgress walRecoveryProgress;
+
     /** */
     private final AtomicLongMetric storageSize;
 
@@ -158,6 +164,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final HistogramMetricImpl cpHistogram;
 
+    /** Histogram of WAL fsync duration in microseconds. */
+    private final HistogramMetricImpl walFsyncHistogram;
+
+    /** Histogram of number of commits covered by a single WAL fsync in FSYNC mode. */
+    private final HistogramMetricImpl walGrpCommitHistogram;
+
     /** Total number of logged bytes into the WAL. */
     private final LongAdderMetric walWrittenBytes;
 
@@ -255,6 +267,9 @@ public class DataStorageMetricsImpl {
         lastCpCowPages = mreg.longMetric("LastCheckpointCopiedOnWritePagesNumber",
             "Number of pages copied to a temporary checkpoint buffer during the last checkpoint.");
 
+        lastCpAvgWriteSize = mreg.longMetric("LastCheckpointAverageWriteSize",
+            "Average size of a single write to a page store during the last checkpoint in bytes.");
+
         lastWalSegmentRollOverTime = mreg.longMetric("WalLastRollOverTime",
             "Time of the last WAL segment rollover.");
 
@@ -311,6 +326,12 @@ public class DataStorageMetricsImpl {
         cpHistogram = mreg.histogram("CheckpointHistogram", cpBounds,
                 "Histogram of checkpoint duration in milliseconds.");
 
+        walFsyncHistogram = mreg.histogram("WalFsyncHistogram", new long[] {100, 500, 1000, 5000, 10000, 50000},
+            "Histogram of WAL fsync duration in microseconds.");
+
+        walGrpCommitHistogram = mreg.histogram("WalGroupCommitHistogram", new long[] {1, 2, 4, 8, 16, 32, 64},
+            "Histogram of number of commits covered by a single WAL fsync in FSYNC mode.");
+
         walWrittenBytes = mreg.longAdderMetric(
             "WalWrittenBytes",
             "Total number of logged bytes into the WAL."
@@ -350,6 +371,31 @@ public class DataStorageMetricsImpl {
             "Used checkpoint buffer size in bytes.");
 
         mreg.register("CheckpointBufferSize", this::checkpointBufferSize, "Checkpoint buffer size in bytes.");
+
+        mreg.register("WalRecoveryPhase",
+            () -> walRecoveryProgress == null ? null : walRecoveryProgress.phase(),
+            String.class,
+            "Current or last WAL recovery phase.");
+
+        mreg.register("WalRecoveryReadBytes",
+            () -> walRecoveryProgress == null ? 0 : walRecoveryProgress.readBytes(),
+            "Size of WAL read by the current or last recovery phase in bytes.");
+
+        mreg.register("WalRecoveryTotalBytes",
+            () -> walRecoveryProgress == null ? 0 : walRecoveryProgress.totalBytes(),
+            "Estimated size of WAL to read by the current or last recovery phase in bytes.");
+
+        mreg.register("WalRecoveryRecords",
+            () -> walRecoveryProgress == null ? 0 : walRecoveryProgress.records(),
+            "Number of WAL records read by the current or last recovery phase.");
+
+        mreg.register("WalRecoveryThroughput",
+            () -> walRecoveryProgress == null ? 0 : walRecoveryProgress.throughput(),
+            "WAL read throughput of the current or last recovery phase in bytes per second.");
+
+        mreg.register("WalRecoveryRemainingTime",
+            () -> walRecoveryProgress == null ? 0 : walRecoveryProgress.remainingTime(),
+            "Estimated remaining time of the current recovery phase in milliseconds, -1 if unknown.");
     }
 
     /** @return Current number of WAL segments in the WAL archive. */
@@ -614,6 +660,13 @@ public class DataStorageMetricsImpl {
         this.wal = wal;
     }
 
+    /**
+     * @param walRecoveryProgress Progress of the current WAL recovery phase.
+     */
+    public void walRecoveryProgress(WalRecoveryProgress walRecoveryProgress) {
+        this.walRecoveryProgress = walRecoveryProgress;
+    }
+
     /**
      * @param walSizeProvider Wal size provider.
      */
@@ -663,6 +716,7 @@ public class DataStorageMetricsImpl {
      * @param totalPages Total number of all pages in checkpoint.
      * @param dataPages Total number of data pages in checkpoint.
      * @param cowPages Total number of COW-ed pages in checkpoint.
+     * @param avgWriteSize Average size of a single write to a page store in checkpoint, in bytes.
      * @param storageSize Storage space allocated, in bytes.
      * @param sparseStorageSize Storage space allocated adjusted for possible sparsity, in bytes.
      */
@@ -682,6 +736,7 @@ public class DataStorageMetricsImpl {
         long totalPages,
         long dataPages,
         long cowPages,
+        long avgWriteSize,
         long storageSize,
         long sparseStorageSize
     ) {
@@ -703,6 +758,7 @@ public class DataStorageMetricsImpl {
         lastCpTotalPages.value(totalPages);
         lastCpDataPages.value(dataPages);
         lastCpCowPages.value(cowPages);
+        lastCpAvgWriteSize.value(avgWriteSize);
         this.storageSize.value(storageSize);
         this.sparseStorageSize.value(sparseStorageSize);
 
@@ -748,6 +804,17 @@ public class DataStorageMetricsImpl {
 
         walFsyncTimeDuration.add(microseconds);
         walFsyncTimeNum.increment();
+        walFsyncHistogram.value(microseconds);
+    }
+
+    /**
+     * @param grpSize Number of commits covered by a single WAL fsync.
+     */
+    public void onWalGroupCommit(int grpSize) {
+        if (!metricsEnabled)
+            return;
+
+        walGrpCommitHistogram.value(grpSize);
     }
 
     /**
@@ -126,6 +126,7 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadW
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager;
@@ -167,6 +168,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_WAL_REBALANCE_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PREFER_WAL_REBALANCE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_RECOVERY_DECODING_THREADS;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.cluster.DistributedConfigurationUtils.makeUpdateListener;
@@ -242,6 +244,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** @see IgniteSystemProperties#IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE */
     public static final int DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE = 60;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_RECOVERY_DECODING_THREADS */
+    public static final int DFLT_WAL_RECOVERY_DECODING_THREADS = 0;
+
     /**
      * Threshold value to use history or full rebalance for local partition.
      * Master value contained in {@link #historicalRebalanceThreshold}.
@@ -342,6 +347,10 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     private final boolean recoveryVerboseLogging =
         getBoolean(IgniteSystemProperties.IGNITE_RECOVERY_VERBOSE_LOGGING, false);
 
+    /** Number of threads that decode WAL records during recovery. */
+    private final int walRecoveryDecodingThreads =
+        getInteger(IGNITE_WAL_RECOVERY_DECODING_THREADS, DFLT_WAL_RECOVERY_DECODING_THREADS);
+
     /** Page list cache limits per data region. */
     private final Map<String, AtomicLong> pageListCacheLimits = new ConcurrentHashMap<>();
 
@@ -2134,7 +2143,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         long lastArchivedSegment = cctx.wal().lastArchivedSegment();
 
-        WALIterator it = cctx.wal().replay(recPtr, recordTypePredicate);
+        WalRecoveryProgress progress = startRecoveryProgress("binary", recPtr);
+
+        WALIterator it = recoveryIterator(recPtr, recordTypePredicate);
 
         RestoreBinaryState restoreBinaryState = new RestoreBinaryState(status, it, lastArchivedSegment, cacheGroupsPredicate);
 
@@ -2150,6 +2161,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                 if (rec == null)
                     break;
 
+                progress.onRecord(rec.position());
+
                 switch (rec.type()) {
                     case PAGE_RECORD:
                         if (restoreBinaryState.needApplyBinaryUpdate()) {
@@ -2264,6 +2277,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             exec.awaitApplyComplete();
         }
 
+        progress.onFinish();
+
         if (!finalizeState)
             return null;
 
@@ -2507,7 +2522,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         Map<GroupPartitionId, Integer> partitionRecoveryStates = new HashMap<>();
 
-        WALIterator it = cctx.wal().replay(status.startPtr, recordTypePredicate);
+        WalRecoveryProgress progress = startRecoveryProgress(restoreMeta ? "metastore" : "logical", status.startPtr);
+
+        WALIterator it = recoveryIterator(status.startPtr, recordTypePredicate);
 
         RestoreLogicalState restoreLogicalState =
             new RestoreLogicalState(status, it, lastArchivedSegment, cacheGroupsPredicate, partitionRecoveryStates);
@@ -2521,6 +2538,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                 if (rec == null)
                     break;
 
+                progress.onRecord(rec.position());
+
                 switch (rec.type()) {
                     case TX_RECORD:
                         if (restoreMeta) { // Also restore tx states.
@@ -2726,6 +2745,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         exec.awaitApplyComplete();
 
+        progress.onFinish();
+
         if (log.isInfoEnabled())
             log.info("Finished applying WAL changes [updatesApplied=" + applied +
                 ", time=" + (U.currentTimeMillis() - start) + " ms]");
@@ -2736,6 +2757,43 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         return restoreLogicalState;
     }
 
+    /**
+     * @param start Pointer to start reading WAL from.
+     * @param recordTypePredicate Record type filter.
+     * @return WAL iterator for recovery, decodes records by several threads if configured.
+     * @throws IgniteCheckedException If failed to start iteration.
+     * @see IgniteSystemProperties#IGNITE_WAL_RECOVERY_DECODING_THREADS
+     */
+    private WALIterator recoveryIterator(
+        WALPointer start,
+        IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordTypePredicate
+    ) throws IgniteCheckedException {
+        if (walRecoveryDecodingThreads > 0 && cctx.wal() instanceof FileWriteAheadLogManager)
+            return ((FileWriteAheadLogManager)cctx.wal()).replay(start, recordTypePredicate, walRecoveryDecodingThreads);
+
+        return cctx.wal().replay(start, recordTypePredicate);
+    }
+
+    /**
+     * @param phase Recovery phase name.
+     * @param start Pointer the phase starts from.
+     * @return Progress of the recovery phase.
+     */
+    private WalRecoveryProgress startRecoveryProgress(String phase, WALPointer start) {
+        WalRecoveryProgress progress = new WalRecoveryProgress(
+            phase,
+            start,
+            cctx.wal().lastArchivedSegment() + 1,
+            persistenceCfg.getWalSegmentSize(),
+            log
+        );
+
+        if (dsMetrics != null)
+            dsMetrics.walRecoveryProgress(progress);
+
+        return progress;
+    }
+
     /**
      * Wal truncate callback.
      *
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.cache.persistence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -55,6 +56,7 @@ import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.pagemem.wal.record.RollbackRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageInitRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdateIndexDataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV3;
@@ -124,6 +126,14 @@ import org.apache.ignite.lang.IgniteBiTuple;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.CDC_DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD_V2;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_DATA_RECORD_V2;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_DATA_RECORD_V3;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.MVCC_DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ROLLBACK_TX_RECORD;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.EVICTED;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
@@ -154,6 +164,18 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
     private final long walAtomicCacheMargin = IgniteSystemProperties.getLong(
         WAL_MARGIN_FOR_ATOMIC_CACHE_HISTORICAL_REBALANCE, DFLT_WAL_MARGIN_FOR_ATOMIC_CACHE_HISTORICAL_REBALANCE);
 
+    /** Types of WAL records used by historical rebalance, other records are skipped without deserialization. */
+    private static final Set<RecordType> HISTORICAL_REBALANCE_RECORD_TYPES = EnumSet.of(
+        DATA_RECORD,
+        DATA_RECORD_V2,
+        CDC_DATA_RECORD,
+        MVCC_DATA_RECORD,
+        ENCRYPTED_DATA_RECORD,
+        ENCRYPTED_DATA_RECORD_V2,
+        ENCRYPTED_DATA_RECORD_V3,
+        ROLLBACK_TX_RECORD
+    );
+
     /**
      * Throttling timeout in millis which avoid excessive PendingTree access on unwind
      * if there is nothing to clean yet.
@@ -1082,7 +1104,14 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             if (latestReservedPointer == null)
                 log.warning("History for the preloading has not reserved yet.");
 
-            WALIterator it = grp.shared().wal().replay(minPtr);
+            Set<Integer> cacheIds = grp.cacheIds();
+
+            // Data entries of other groups are skipped without deserialization.
+            WALIterator it = grp.shared().wal().replay(
+                minPtr,
+                (type, ptr) -> HISTORICAL_REBALANCE_RECORD_TYPES.contains(type),
+                cacheIds::contains
+            );
 
             WALHistoricalIterator histIt = new WALHistoricalIterator(log, grp, partCntrs, partsCounters, it);
 
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Progress of a WAL recovery phase. Updated by the recovery thread, may be read by any thread.
+ * <p>
+ * Amount of WAL to read is estimated assuming that every segment has the maximum size and that the recovery
+ * reads WAL up to the end of the segment following the last archived one.
+ */
+public class WalRecoveryProgress {
+    /** Interval between progress messages in milliseconds. */
+    private static final long LOG_INTERVAL = 10_000;
+
+    /** Phase name. */
+    private final String phase;
+
+    /** Pointer the phase starts from. */
+    private final WALPointer start;
+
+    /** WAL segment size. */
+    private final long segSize;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Start time. */
+    private final long startTime = U.currentTimeMillis();
+
+    /** Time of the last progress message. */
+    private long lastLogTime = startTime;
+
+    /** Estimated number of bytes to read. */
+    private volatile long totalBytes;
+
+    /** Number of read bytes. */
+    private volatile long readBytes;
+
+    /** Number of read records. */
+    private volatile long records;
+
+    /** Pointer to the last read record. */
+    private volatile WALPointer lastPtr;
+
+    /** Finish time or {@code 0} if the phase is in progress. */
+    private volatile long finishTime;
+
+    /**
+     * @param phase Phase name.
+     * @param start Pointer the phase starts from.
+     * @param lastSegIdx Index of the last segment to read, estimated.
+     * @param segSize WAL segment size.
+     * @param log Logger.
+     */
+    public WalRecoveryProgress(String phase, WALPointer start, long lastSegIdx, long segSize, IgniteLogger log) {
+        this.phase = phase;
+        this.start = start;
+        this.segSize = segSize;
+        this.log = log;
+
+        totalBytes = Math.max(0, bytesTo(Math.max(lastSegIdx, start.index()) + 1, 0));
+    }
+
+    /**
+     * @param ptr Pointer to the read record.
+     */
+    public void onRecord(WALPointer ptr) {
+        long read = bytesTo(ptr.index(), ptr.fileOffset() + ptr.length());
+
+        // Recovery has read more segments than expected.
+        if (read > totalBytes)
+            totalBytes = bytesTo(ptr.index() + 1, 0);
+
+        readBytes = read;
+        records++;
+        lastPtr = ptr;
+
+        long now = U.currentTimeMillis();
+
+        if (now - lastLogTime >= LOG_INTERVAL && log.isInfoEnabled()) {
+            lastLogTime = now;
+
+            log.info("WAL recovery progress [phase=" + phase + ", ptr=" + ptr + ", records=" + records +
+                ", read=" + U.readableSize(read, false) + ", total=" + U.readableSize(totalBytes, false) +
+                ", throughput=" + U.readableSize(throughput(), false) + "/s, remaining=" +
+                U.humanReadableDuration(remainingTime()) + ']');
+        }
+    }
+
+    /**
+     * Finishes the phase.
+     */
+    public void onFinish() {
+        finishTime = U.currentTimeMillis();
+
+        totalBytes = readBytes;
+
+        if (log.isInfoEnabled()) {
+            log.info("WAL recovery phase finished [phase=" + phase + ", lastPtr=" + lastPtr + ", records=" + records +
+                ", read=" + U.readableSize(readBytes, false) + ", throughput=" +
+                U.readableSize(throughput(), false) + "/s, time=" + (finishTime - startTime) + " ms]");
+        }
+    }
+
+    /**
+     * @return Phase name.
+     */
+    public String phase() {
+        return phase;
+    }
+
+    /**
+     * @return Number of read bytes.
+     */
+    public long readBytes() {
+        return readBytes;
+    }
+
+    /**
+     * @return Estimated number of bytes to read.
+     */
+    public long totalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return Number of read records.
+     */
+    public long records() {
+        return records;
+    }
+
+    /**
+     * @return Average read throughput in bytes per second.
+     */
+    public long throughput() {
+        long end = finishTime == 0 ? U.currentTimeMillis() : finishTime;
+
+        return readBytes * 1000 / Math.max(1, end - startTime);
+    }
+
+    /**
+     * @return Estimated remaining time in milliseconds or {@code -1} if unknown.
+     */
+    public long remainingTime() {
+        long throughput = throughput();
+
+        if (throughput == 0)
+            return -1;
+
+        return Math.max(0, totalBytes - readBytes) * 1000 / throughput;
+    }
+
+    /**
+     * @param idx Segment index.
+     * @param off Offset in the segment.
+     * @return Number of bytes between the start pointer and the given position.
+     */
+    private long bytesTo(long idx, long off) {
+        return (idx - start.index()) * segSize + off - start.fileOffset();
+    }
+}
@@ -31,6 +31,8 @@ import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.LongJVMPauseDetector;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheProcessor;
@@ -42,6 +44,7 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemor
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.StripedExecutor;
 import org.apache.ignite.internal.util.lang.IgniteThrowableBiPredicate;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
@@ -174,7 +177,28 @@ public class CheckpointManager {
 
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
             logger,
-            (pageMemEx, fullPage, buf, tag) -> pageStoreManager.write(fullPage.groupId(), fullPage.pageId(), buf, tag, true),
+            new CheckpointPagesWriter.CheckpointPageWriter() {
+                /** {@inheritDoc} */
+                @Override public PageStore write(
+                    PageMemoryEx pageMemEx,
+                    FullPageId fullPageId,
+                    ByteBuffer buf,
+                    int tag
+                ) throws IgniteCheckedException {
+                    return pageStoreManager.write(fullPageId.groupId(), fullPageId.pageId(), buf, tag, true);
+                }
+
+                /** {@inheritDoc} */
+                @Override public PageStore write(
+                    PageMemoryEx pageMemEx,
+                    int grpId,
+                    GridLongList pageIds,
+                    ByteBuffer buf,
+                    int tag
+                ) throws IgniteCheckedException {
+                    return pageStoreManager.write(grpId, pageIds, buf, tag, true);
+                }
+            },
             persStoreMetrics,
             throttlingPolicy, threadBuf,
             pageMemoryGroupResolver
@@ -193,7 +217,8 @@ public class CheckpointManager {
             checkpointPagesWriterFactory,
             persistenceCfg.getCheckpointFrequency(),
             persistenceCfg.getCheckpointThreads(),
-            cpFreqDeviation
+            cpFreqDeviation,
+            ContinuousCheckpointTrigger.create(persistenceCfg.getWalSegmentSize(), dataRegions, wal, cpHistory)
         );
 
         checkpointer = checkpointerProvider.get();
@@ -27,6 +27,7 @@ import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.PageStoreWriter;
@@ -35,8 +36,10 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemor
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
+import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getType;
@@ -86,6 +89,9 @@ public class CheckpointPagesWriter implements Runnable {
     /** Shutdown now. */
     private final BooleanSupplier shutdownNow;
 
+    /** Thread local with buffers to coalesce writes of adjacent pages, {@code null} if writes are not coalesced. */
+    @Nullable private final ThreadLocal<ByteBuffer> coalescingBuf;
+
     /**
      * Creates task for write pages
      *
@@ -102,6 +108,8 @@ public class CheckpointPagesWriter implements Runnable {
      * @param progress Checkpoint progress.
      * @param pageWriter File page store manager.
      * @param shutdownNow Shutdown supplier.
+     * @param coalescingBuf Thread local buffer to coalesce writes of adjacent pages, {@code null} if writes
+     *      are not coalesced.
      */
     CheckpointPagesWriter(
         CheckpointMetricsTracker tracker,
@@ -116,7 +124,8 @@ public class CheckpointPagesWriter implements Runnable {
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver,
         CheckpointProgressImpl progress,
         CheckpointPageWriter pageWriter,
-        BooleanSupplier shutdownNow
+        BooleanSupplier shutdownNow,
+        @Nullable ThreadLocal<ByteBuffer> coalescingBuf
     ) {
         this.tracker = tracker;
         this.writePageIds = writePageIds;
@@ -131,6 +140,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.curCpProgress = progress;
         this.pageWriter = pageWriter;
         this.shutdownNow = shutdownNow;
+        this.coalescingBuf = coalescingBuf;
     }
 
     /** {@inheritDoc} */
@@ -179,35 +189,52 @@ public class CheckpointPagesWriter implements Runnable {
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
-        while (writePageIds.next(res)) {
-            if (shutdownNow.getAsBoolean())
-                break;
+        CoalescedPages coalescedPages = null;
+
+        if (coalescingBuf != null && coalescingBuf.get().capacity() >= 2 * tmpWriteBuf.capacity())
+            coalescedPages = new CoalescedPages(coalescingBuf.get(), tmpWriteBuf.capacity());
+
+        try {
+            while (writePageIds.next(res)) {
+                if (shutdownNow.getAsBoolean())
+                    break;
+
+                beforePageWrite.run();
 
-            beforePageWrite.run();
+                FullPageId fullId = res.getValue();
 
-            FullPageId fullId = res.getValue();
+                PageMemoryEx pageMem = res.getKey();
 
-            PageMemoryEx pageMem = res.getKey();
+                tmpWriteBuf.rewind();
 
-            tmpWriteBuf.rewind();
+                CoalescedPages coalescedPages0 = coalescedPages;
 
-            PageStoreWriter pageStoreWriter =
-                pageStoreWriters.computeIfAbsent(pageMem, pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
+                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMem,
+                    pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry, coalescedPages0));
 
-            pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+                pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
 
-            if (throttlingEnabled) {
-                while (pageMem.isCpBufferOverflowThresholdExceeded()) {
-                    FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
+                if (throttlingEnabled) {
+                    while (pageMem.isCpBufferOverflowThresholdExceeded()) {
+                        FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
 
-                    if (cpPageId.equals(FullPageId.NULL_PAGE))
-                        break;
+                        if (cpPageId.equals(FullPageId.NULL_PAGE))
+                            break;
 
-                    tmpWriteBuf.rewind();
+                        tmpWriteBuf.rewind();
 
-                    pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker);
+                        pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker);
+                    }
                 }
             }
+
+            if (coalescedPages != null)
+                coalescedPages.flush();
+        }
+        finally {
+            // Pages must not stay locked from reading even if they failed to be written.
+            if (coalescedPages != null)
+                coalescedPages.release();
         }
 
         return pagesToRetry.isEmpty() ?
@@ -220,11 +247,13 @@ public class CheckpointPagesWriter implements Runnable {
      *
      * @param pageMemEx
      * @param pagesToRetry List pages for retry.
+     * @param coalescedPages Adjacent pages to write by a single operation, {@code null} if writes are not coalesced.
      * @return Checkpoint page write context.
      */
     private PageStoreWriter createPageStoreWriter(
         PageMemoryEx pageMemEx,
-        Map<PageMemoryEx, List<FullPageId>> pagesToRetry
+        Map<PageMemoryEx, List<FullPageId>> pagesToRetry,
+        @Nullable CoalescedPages coalescedPages
     ) {
         return new PageStoreWriter() {
             /** {@inheritDoc} */
@@ -248,15 +277,154 @@ public class CheckpointPagesWriter implements Runnable {
                         tracker.onDataPageWritten();
                 }
 
+                if (coalescedPages != null && coalescedPages.add(pageMemEx, fullPageId, buf, tag))
+                    return;
+
                 curCpProgress.updateWrittenPages(1);
 
                 PageStore store = pageWriter.write(pageMemEx, fullPageId, buf, tag);
 
                 updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
+
+                if (persStoreMetrics.metricsEnabled())
+                    tracker.onStoreWrite(buf.capacity());
             }
         };
     }
 
+    /**
+     * Pages with adjacent indexes of the same partition, which are written to the page store by a single operation.
+     * Pages are locked from reading from the store until they are written, because they can be replaced in the page
+     * memory right after they have been copied to the buffer.
+     */
+    private class CoalescedPages {
+        /** Content of the pages. */
+        private final ByteBuffer buf;
+
+        /** Maximum number of pages to write by a single operation. */
+        private final int maxPages;
+
+        /** IDs of the collected pages. */
+        private final GridLongList pageIds = new GridLongList();
+
+        /** Page memory of the collected pages. */
+        private PageMemoryImpl pageMem;
+
+        /** Cache group ID of the collected pages. */
+        private int grpId;
+
+        /** Partition tag of the collected pages. */
+        private int tag;
+
+        /**
+         * @param buf Buffer to collect pages.
+         * @param pageSize Page size.
+         */
+        private CoalescedPages(ByteBuffer buf, int pageSize) {
+            this.buf = buf;
+
+            maxPages = buf.capacity() / pageSize;
+
+            buf.clear();
+        }
+
+        /**
+         * Adds a page to be written. Previously collected pages are written first if the page is not adjacent to them.
+         *
+         * @param pageMemEx Page memory.
+         * @param fullId Full page ID.
+         * @param pageBuf Page content.
+         * @param tag Partition tag.
+         * @return {@code False} if the page can't be coalesced with others and should be written separately.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean add(
+            PageMemoryEx pageMemEx,
+            FullPageId fullId,
+            ByteBuffer pageBuf,
+            int tag
+        ) throws IgniteCheckedException {
+            if (!(pageMemEx instanceof PageMemoryImpl))
+                return false;
+
+            if (!pageIds.isEmpty() && !adjacent(pageMemEx, fullId, tag))
+                flush();
+
+            if (pageIds.isEmpty()) {
+                pageMem = (PageMemoryImpl)pageMemEx;
+                grpId = fullId.groupId();
+                this.tag = tag;
+            }
+
+            pageMem.checkpointWritesTracker().lock(fullId);
+
+            pageIds.add(fullId.pageId());
+
+            buf.put(pageBuf);
+
+            pageBuf.rewind();
+
+            if (pageIds.size() == maxPages)
+                flush();
+
+            return true;
+        }
+
+        /**
+         * @param pageMemEx Page memory.
+         * @param fullId Full page ID.
+         * @param tag Partition tag.
+         * @return {@code True} if the page directly follows the collected ones in the partition file.
+         */
+        private boolean adjacent(PageMemoryEx pageMemEx, FullPageId fullId, int tag) {
+            long lastPageId = pageIds.get(pageIds.size() - 1);
+
+            return pageMemEx == pageMem && fullId.groupId() == grpId && tag == this.tag &&
+                PageIdUtils.partId(fullId.pageId()) == PageIdUtils.partId(lastPageId) &&
+                PageIdUtils.pageIndex(fullId.pageId()) == PageIdUtils.pageIndex(lastPageId) + 1;
+        }
+
+        /**
+         * Writes the collected pages.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        private void flush() throws IgniteCheckedException {
+            if (pageIds.isEmpty())
+                return;
+
+            try {
+                buf.flip();
+
+                curCpProgress.updateWrittenPages(pageIds.size());
+
+                PageStore store = pageWriter.write(pageMem, grpId, pageIds, buf, tag);
+
+                updStores.computeIfAbsent(store, k -> new LongAdder()).add(pageIds.size());
+
+                if (persStoreMetrics.metricsEnabled())
+                    tracker.onStoreWrite(buf.limit());
+            }
+            finally {
+                release();
+            }
+        }
+
+        /**
+         * Unlocks the collected pages for reading and clears the buffer.
+         */
+        private void release() {
+            for (int i = 0; i < pageIds.size(); i++)
+                pageMem.checkpointWritesTracker().unlock(new FullPageId(pageIds.get(i), grpId));
+
+            pageIds.clear();
+
+            buf.clear();
+
+            pageMem = null;
+        }
+    }
+
     /** Interface which allows to write one page to page store. */
     public interface CheckpointPageWriter {
         /**
@@ -270,5 +438,19 @@ public class CheckpointPagesWriter implements Runnable {
          */
         PageStore write(PageMemoryEx pageMemEx, FullPageId fullPageId, ByteBuffer buf, int tag)
             throws IgniteCheckedException;
+
+        /**
+         * Writes pages with adjacent indexes of the same partition by a single operation.
+         *
+         * @param pageMemEx Page memory from which pages should be written.
+         * @param grpId Cache group ID.
+         * @param pageIds Page IDs.
+         * @param buf Byte buffer with pages one after another.
+         * @param tag Partition tag.
+         * @return {@link PageStore} which was used to write.
+         * @throws IgniteCheckedException if fail.
+         */
+        PageStore write(PageMemoryEx pageMemEx, int grpId, GridLongList pageIds, ByteBuffer buf, int tag)
+            throws IgniteCheckedException;
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
@@ -38,6 +40,7 @@ import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
 import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
 /**
@@ -46,6 +49,9 @@ import org.jsr166.ConcurrentLinkedHashMap;
  * It holds all dependency which is needed for creation of checkpoint writer and recovery checkpoint writer.
  */
 public class CheckpointPagesWriterFactory {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_COALESCED_WRITE_SIZE */
+    public static final int DFLT_CHECKPOINT_COALESCED_WRITE_SIZE = 0;
+
     /** Logger. */
     private final IgniteLogger log;
 
@@ -64,6 +70,13 @@ public class CheckpointPagesWriterFactory {
     /** Writer which writes pages to page store during the checkpoint. */
     private final CheckpointPagesWriter.CheckpointPageWriter checkpointPageWriter;
 
+    /** Maximum size of a single write of adjacent pages, in bytes. */
+    private final int coalescedWriteSize = IgniteSystemProperties.getInteger(
+        IgniteSystemProperties.IGNITE_CHECKPOINT_COALESCED_WRITE_SIZE, DFLT_CHECKPOINT_COALESCED_WRITE_SIZE);
+
+    /** Thread local with buffers to coalesce writes of adjacent pages, {@code null} if writes are not coalesced. */
+    @Nullable private final ThreadLocal<ByteBuffer> coalescingBuf;
+
     /**
      * @param logger Logger.
      * @param checkpointPageWriter Checkpoint page writer.
@@ -86,6 +99,16 @@ public class CheckpointPagesWriterFactory {
         this.throttlingPolicy = throttlingPolicy;
         this.pageMemoryGroupResolver = pageMemoryGroupResolver;
         this.checkpointPageWriter = checkpointPageWriter;
+
+        coalescingBuf = coalescedWriteSize <= 0 ? null : ThreadLocal.withInitial(() -> {
+            int pageSize = this.threadBuf.get().capacity();
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(Math.max(1, coalescedWriteSize / pageSize) * pageSize);
+
+            buf.order(ByteOrder.nativeOrder());
+
+            return buf;
+        });
     }
 
     /**
@@ -120,7 +143,8 @@ public class CheckpointPagesWriterFactory {
             pageMemoryGroupResolver,
             curCpProgress,
             checkpointPageWriter,
-            shutdownNow
+            shutdownNow,
+            coalescingBuf
         );
     }
 
@@ -155,6 +155,9 @@ public class Checkpointer extends GridWorker {
     /** Checkpoint frequency deviation. */
     private final Supplier<Integer> cpFreqDeviation;
 
+    /** Trigger of continuous checkpointing, {@code null} if checkpoints are started only on schedule. */
+    @Nullable private final ContinuousCheckpointTrigger cpTrigger;
+
     /** Checkpoint runner thread pool. If null tasks are to be run in single thread */
     @Nullable private volatile IgniteThreadPoolExecutor checkpointWritePagesPool;
 
@@ -193,6 +196,7 @@ public class Checkpointer extends GridWorker {
      * @param checkpointFrequency Checkpoint frequency.
      * @param checkpointWritePageThreads The number of IO-bound threads which will write pages to disk.
      * @param cpFreqDeviation Deviation of checkpoint frequency.
+     * @param cpTrigger Trigger of continuous checkpointing, {@code null} if disabled.
      */
     Checkpointer(
         @Nullable String gridName,
@@ -207,7 +211,8 @@ public class Checkpointer extends GridWorker {
         CheckpointPagesWriterFactory factory,
         long checkpointFrequency,
         int checkpointWritePageThreads,
-        Supplier<Integer> cpFreqDeviation
+        Supplier<Integer> cpFreqDeviation,
+        @Nullable ContinuousCheckpointTrigger cpTrigger
     ) {
         super(gridName, name, logger.apply(Checkpointer.class), workersRegistry);
         this.pauseDetector = detector;
@@ -220,6 +225,7 @@ public class Checkpointer extends GridWorker {
         this.checkpointWritePageThreads = Math.max(checkpointWritePageThreads, 1);
         this.checkpointWritePagesPool = initializeCheckpointPool();
         this.cpFreqDeviation = cpFreqDeviation;
+        this.cpTrigger = cpTrigger;
         this.psproc = cacheProcessor.context().kernalContext().performanceStatistics();
 
         scheduledCp = new CheckpointProgressImpl(nextCheckpointInterval());
@@ -606,6 +612,7 @@ public class Checkpointer extends GridWorker {
                 chp.pagesSize,
                 tracker.dataPagesWritten(),
                 tracker.cowPagesWritten(),
+                tracker.averageStoreWriteSize(),
                 dbMgr.forAllPageStores(PageStore::size),
                 dbMgr.forAllPageStores(PageStore::getSparseSize)
             );
@@ -783,7 +790,19 @@ public class Checkpointer extends GridWorker {
                     blockingSectionBegin();
 
                     try {
-                        wait(remaining);
+                        if (cpTrigger == null)
+                            wait(remaining);
+                        else {
+                            wait(Math.min(remaining, ContinuousCheckpointTrigger.CHECK_INTERVAL));
+
+                            String reason = cpTrigger.checkpointReason();
+
+                            if (reason != null) {
+                                scheduledCp.reason(reason);
+
+                                scheduledCp.nextCpNanos(System.nanoTime());
+                            }
+                        }
 
                         remaining = U.nanosToMillis(scheduledCp.nextCpNanos() - System.nanoTime());
                     }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getDouble;
+import static org.apache.ignite.IgniteSystemProperties.getLong;
+
+/**
+ * Trigger of continuous checkpointing. Instead of collecting a large dirty set once per checkpoint frequency,
+ * checkpoints are started as soon as the ratio of dirty pages in a data region or the size of WAL written since
+ * the last checkpoint exceeds a threshold. Checkpoints become smaller and more frequent, so disk load is spread
+ * evenly over time and write throttling is not triggered by periodic bursts of checkpoint writes.
+ *
+ * Both thresholds are disabled by default, {@link Checkpointer} checks the trigger every {@link #CHECK_INTERVAL}
+ * milliseconds while waiting for the next checkpoint.
+ */
+public class ContinuousCheckpointTrigger {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO */
+    public static final double DFLT_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE */
+    public static final long DFLT_CHECKPOINT_TRIGGER_WAL_SIZE = 0;
+
+    /** Interval in milliseconds between checks of the thresholds. */
+    static final long CHECK_INTERVAL = 100;
+
+    /** Reason of checkpoints triggered by the ratio of dirty pages. */
+    static final String DIRTY_PAGES_RATIO_REASON = "dirty pages ratio";
+
+    /** Reason of checkpoints triggered by the size of WAL. */
+    static final String WAL_SIZE_REASON = "WAL size since last checkpoint";
+
+    /** Ratio of dirty pages in a segment of page memory which triggers a checkpoint, {@code 0} if disabled. */
+    private final double dirtyPagesRatio;
+
+    /** Size of WAL in bytes written since the last checkpoint which triggers a checkpoint, {@code 0} if disabled. */
+    private final long walSize;
+
+    /** WAL segment size. */
+    private final long walSegmentSize;
+
+    /** Data regions. */
+    private final Supplier<Collection<DataRegion>> dataRegions;
+
+    /** Write ahead log manager. */
+    private final IgniteWriteAheadLogManager wal;
+
+    /** Checkpoint history. */
+    private final CheckpointHistory cpHistory;
+
+    /**
+     * @param dirtyPagesRatio Ratio of dirty pages which triggers a checkpoint, {@code 0} if disabled.
+     * @param walSize Size of WAL in bytes written since the last checkpoint which triggers a checkpoint,
+     * {@code 0} if disabled.
+     * @param walSegmentSize WAL segment size.
+     * @param dataRegions Data regions.
+     * @param wal Write ahead log manager.
+     * @param cpHistory Checkpoint history.
+     */
+    ContinuousCheckpointTrigger(
+        double dirtyPagesRatio,
+        long walSize,
+        long walSegmentSize,
+        Supplier<Collection<DataRegion>> dataRegions,
+        IgniteWriteAheadLogManager wal,
+        CheckpointHistory cpHistory
+    ) {
+        this.dirtyPagesRatio = dirtyPagesRatio;
+        this.walSize = walSize;
+        this.walSegmentSize = walSegmentSize;
+        this.dataRegions = dataRegions;
+        this.wal = wal;
+        this.cpHistory = cpHistory;
+    }
+
+    /**
+     * Creates the trigger configured by the system properties.
+     *
+     * @param walSegmentSize WAL segment size.
+     * @param dataRegions Data regions.
+     * @param wal Write ahead log manager.
+     * @param cpHistory Checkpoint history.
+     * @return Trigger or {@code null} if continuous checkpointing is disabled.
+     */
+    @Nullable static ContinuousCheckpointTrigger create(
+        long walSegmentSize,
+        Supplier<Collection<DataRegion>> dataRegions,
+        IgniteWriteAheadLogManager wal,
+        CheckpointHistory cpHistory
+    ) {
+        double dirtyPagesRatio = getDouble(IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO,
+            DFLT_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO);
+
+        long walSize = getLong(IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE, DFLT_CHECKPOINT_TRIGGER_WAL_SIZE);
+
+        if (dirtyPagesRatio <= 0 && walSize <= 0)
+            return null;
+
+        return new ContinuousCheckpointTrigger(dirtyPagesRatio, walSize, walSegmentSize, dataRegions, wal, cpHistory);
+    }
+
+    /**
+     * @return Reason of the checkpoint if any of the thresholds is exceeded, {@code null} otherwise.
+     */
+    @Nullable String checkpointReason() {
+        if (dirtyPagesRatio > 0 && dirtyPagesRatioExceeded())
+            return DIRTY_PAGES_RATIO_REASON;
+
+        if (walSize > 0 && walSizeSinceCheckpoint() >= walSize)
+            return WAL_SIZE_REASON;
+
+        return null;
+    }
+
+    /**
+     * @return {@code True} if the ratio of dirty pages in any of the persistent data regions exceeds the threshold.
+     */
+    private boolean dirtyPagesRatioExceeded() {
+        Collection<DataRegion> regions = dataRegions.get();
+
+        if (regions == null)
+            return false;
+
+        for (DataRegion region : regions) {
+            if (!region.config().isPersistenceEnabled())
+                continue;
+
+            if (((PageMemoryEx)region.pageMemory()).getDirtyPagesRatio() >= dirtyPagesRatio)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return Size of WAL in bytes written since the mark of the last checkpoint.
+     */
+    private long walSizeSinceCheckpoint() {
+        CheckpointEntry lastCp = cpHistory.lastCheckpoint();
+
+        WALPointer lastWritePtr = wal.lastWritePointer();
+
+        if (lastCp == null || lastWritePtr == null)
+            return 0;
+
+        WALPointer cpMark = lastCp.checkpointMark();
+
+        return (lastWritePtr.index() - cpMark.index()) * walSegmentSize + lastWritePtr.fileOffset() -
+            cpMark.fileOffset();
+    }
+}
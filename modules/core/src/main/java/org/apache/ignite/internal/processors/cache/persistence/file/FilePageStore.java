@@ -42,6 +42,7 @@ import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSn
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteOutClosure;
 
@@ -788,6 +789,128 @@ public class FilePageStore implements PageStore {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void write(
+        GridLongList pageIds,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        init();
+
+        // Encryption is done page by page.
+        if (pageIds.size() == 1 || fileIO instanceof EncryptedFileIO) {
+            PageStore.super.write(pageIds, pagesBuf, tag, calculateCrc);
+
+            return;
+        }
+
+        ByteBuffer[] pageBufs = new ByteBuffer[pageIds.size()];
+
+        for (int i = 0; i < pageBufs.length; i++) {
+            ByteBuffer pageBuf = pagesBuf.duplicate();
+
+            pageBuf.position(i * pageSize);
+            pageBuf.limit((i + 1) * pageSize);
+
+            pageBufs[i] = pageBuf.slice().order(pagesBuf.order());
+        }
+
+        pagesBuf.position(0);
+        pagesBuf.limit(pageBufs.length * pageSize);
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIO fileIO = this.fileIO;
+
+            try {
+                lock.readLock().lock();
+
+                try {
+                    if (tag < this.tag)
+                        return;
+
+                    long off = pageOffset(pageIds.get(0));
+
+                    assert (off >= 0 && off + (long)(pageBufs.length - 1) * pageSize <= allocated.get()) || recover :
+                        "off=" + U.hexLong(off) + ", pages=" + pageBufs.length + ", allocated=" +
+                            U.hexLong(allocated.get()) + ", pageId=" + U.hexLong(pageIds.get(0)) +
+                            ", file=" + getFileAbsolutePath();
+
+                    for (int i = 0; i < pageBufs.length; i++) {
+                        long pageId = pageIds.get(i);
+                        ByteBuffer pageBuf = pageBufs[i];
+
+                        assert PageIdUtils.pageIndex(pageId) == PageIdUtils.pageIndex(pageIds.get(0)) + i :
+                            "Pages are not adjacent: " + pageIds;
+                        assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
+                            + " should be same with " + ByteOrder.nativeOrder();
+                        assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
+                        assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+
+                        if (calculateCrc && !skipCrc) {
+                            assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+
+                            PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+                        }
+
+                        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+                        assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)) == 0 :
+                            "CRC hasn't been calculated, crc=0";
+
+                        for (PageWriteListener lsnr : lsnrs) {
+                            lsnr.accept(pageId, pageBuf);
+
+                            pageBuf.rewind();
+                        }
+                    }
+
+                    fileIO.writeFully(pagesBuf, off);
+
+                    for (ByteBuffer pageBuf : pageBufs)
+                        PageIO.setCrc(pageBuf, 0);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIO);
+
+                        pagesBuf.position(0);
+
+                        for (ByteBuffer pageBuf : pageBufs)
+                            PageIO.setCrc(pageBuf, 0);
+
+                        continue;
+                    }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
+
+                        e = e0;
+                    }
+                }
+
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", firstPageId=" + pageIds.get(0) + ", pages=" + pageIds.size() + ", tag=" + tag + "]", e);
+            }
+        }
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
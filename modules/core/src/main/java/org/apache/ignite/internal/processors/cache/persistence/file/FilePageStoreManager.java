@@ -71,6 +71,7 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetri
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadWriteManager;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadWriteManagerImpl;
 import org.apache.ignite.internal.processors.query.GridQueryProcessor;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.GridStripedReadWriteLock;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.CU;
@@ -562,6 +563,17 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         return pmPageMgr.write(grpId, pageId, pageBuf, tag, calculateCrc);
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        GridLongList pageIds,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        return pmPageMgr.write(grpId, pageIds, pagesBuf, tag, calculateCrc);
+    }
+
     /** {@inheritDoc} */
     @Override public long pageOffset(int grpId, long pageId) throws IgniteCheckedException {
         PageStore store = getStore(grpId, PageIdUtils.partId(pageId));
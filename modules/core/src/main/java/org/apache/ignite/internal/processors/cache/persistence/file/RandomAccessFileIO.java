@@ -65,6 +65,13 @@ public class RandomAccessFileIO extends AbstractFileIO {
         return U.field(fd, "fd");
     }
 
+    /**
+     * @return Native file descriptor.
+     */
+    protected int nativeFileDescriptor() {
+        return fd;
+    }
+
     /** {@inheritDoc} */
     @Override public int getFileSystemBlockSize() {
         return fsBlockSize;
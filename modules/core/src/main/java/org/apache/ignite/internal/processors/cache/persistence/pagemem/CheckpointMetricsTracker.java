@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntryType;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
@@ -47,12 +48,26 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COW_PAGES_UPDATER =
         AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "cowPages");
 
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> STORE_WRITES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "storeWrites");
+
+    /** */
+    private static final AtomicLongFieldUpdater<CheckpointMetricsTracker> STORE_WRITTEN_BYTES_UPDATER =
+        AtomicLongFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "storeWrittenBytes");
+
     /** */
     private volatile int dataPages;
 
     /** */
     private volatile int cowPages;
 
+    /** Number of write operations to the page stores. */
+    private volatile int storeWrites;
+
+    /** Number of bytes written to the page stores. */
+    private volatile long storeWrittenBytes;
+
     /** */
     private long cpStart = System.currentTimeMillis();
 
@@ -101,6 +116,23 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * @param bytes Number of bytes written to a page store by a single write operation.
+     */
+    public void onStoreWrite(int bytes) {
+        STORE_WRITES_UPDATER.incrementAndGet(this);
+        STORE_WRITTEN_BYTES_UPDATER.addAndGet(this, bytes);
+    }
+
+    /**
+     * @return Average size of a single write operation to a page store, in bytes.
+     */
+    public long averageStoreWriteSize() {
+        int writes = storeWrites;
+
+        return writes == 0 ? 0 : storeWrittenBytes / writes;
+    }
+
     /**
      * @return COW pages.
      */
@@ -52,6 +52,13 @@ public class ClockPageReplacementPolicy extends PageReplacementPolicy {
         flags.setFlag(pageIdx);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean lockFreeHit() {
+        // Flags are updated atomically, a flag set for a removed page only gives a second chance to the next page
+        // loaded to the same slot.
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public void onRemove(long relPtr) {
         int pageIdx = (int)seg.pageIndex(relPtr);
@@ -190,4 +190,9 @@ public interface PageMemoryEx extends PageMemory {
      * Total pages can be placed to memory.
      */
     public long totalPages();
+
+    /**
+     * @return Max ratio of dirty pages to all the pages in a segment of the page memory.
+     */
+    public double getDirtyPagesRatio();
 }
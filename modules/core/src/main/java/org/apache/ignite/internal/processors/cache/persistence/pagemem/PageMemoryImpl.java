@@ -21,11 +21,11 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
@@ -34,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -97,7 +98,9 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePool.SEGMENT_INDEX_MASK;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
@@ -160,6 +163,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** @see IgniteSystemProperties#IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP */
     public static final boolean DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP = true;
 
+    /** @see IgniteSystemProperties#IGNITE_PAGE_READ_AHEAD_WINDOW */
+    public static final int DFLT_PAGE_READ_AHEAD_WINDOW = 0;
+
     /** Tracking io. */
     private static final TrackingPageIO trackingIO = TrackingPageIO.VERSIONS.latest();
 
@@ -192,6 +198,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** Page manager. */
     private final PageReadWriteManager pmPageMgr;
 
+    /** Read-ahead of sequentially read pages, {@code null} if disabled. */
+    @Nullable private final PageReadAhead readAhead;
+
     /** */
     private final IgniteWriteAheadLogManager walMgr;
 
@@ -232,6 +241,14 @@ public class PageMemoryImpl implements PageMemoryEx {
      */
     @Nullable private final DelayedPageReplacementTracker delayedPageReplacementTracker;
 
+    /**
+     * Tracker of pages copied by the checkpoint writers to coalesce writes of adjacent pages. Such pages can be
+     * replaced before they are actually written, so reads of them from the store are protected by locking.
+     * Unlike {@link #delayedPageReplacementTracker}, locked pages are waited for without holding a segment lock,
+     * because the writers acquire segment locks while collecting the adjacent pages.
+     */
+    private final DelayedPageReplacementTracker checkpointWritesTracker;
+
     /** Obsolete feature. Flag keeped for compatibility with existing PDS. */
     private final boolean trackable;
 
@@ -307,6 +324,7 @@ public class PageMemoryImpl implements PageMemoryEx {
             getBoolean(IGNITE_DELAYED_REPLACED_PAGE_WRITE, DFLT_DELAYED_REPLACED_PAGE_WRITE)
                 ? new DelayedPageReplacementTracker(pageSize, flushDirtyPage, log, sizes.length - 1) :
                 null;
+        checkpointWritesTracker = new DelayedPageReplacementTracker(pageSize, flushDirtyPage, log, sizes.length - 1);
         this.trackable = trackable;
         this.stateChecker = stateChecker;
         this.throttlingPlc = throttlingPlc != null ? throttlingPlc : ThrottlingPolicy.CHECKPOINT_BUFFER_ONLY;
@@ -351,10 +369,20 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TWO_QUEUE:
+                pageReplacementPolicyFactory = new TwoQueuePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
         }
+
+        int readAheadWnd = getInteger(IGNITE_PAGE_READ_AHEAD_WINDOW, DFLT_PAGE_READ_AHEAD_WINDOW);
+
+        readAhead = readAheadWnd > 0
+            ? new PageReadAhead(this, pmPageMgr, readAheadWnd, ctx.igniteInstanceName(), log)
+            : null;
     }
 
     /** {@inheritDoc} */
@@ -445,6 +473,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             U.shutdownNow(getClass(), asyncRunner, log);
 
+            if (readAhead != null)
+                readAhead.stop();
+
             if (segments != null) {
                 for (Segment seg : segments)
                     seg.close();
@@ -725,6 +756,18 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         Segment seg = segment(grpId, pageId);
 
+        if (seg.pageReplacementPolicy.lockFreeHit()) {
+            long absPtr = seg.tryAcquireLoadedPage(grpId, pageId, partId);
+
+            if (absPtr != INVALID_REL_PTR) {
+                statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
+
+                onPageHit(seg, PageHeader.readRelative(absPtr), grpId, pageId);
+
+                return absPtr;
+            }
+        }
+
         seg.readLock().lock();
 
         try {
@@ -746,6 +789,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
+                onPageHit(seg, relPtr, grpId, pageId);
+
                 return absPtr;
             }
         }
@@ -773,6 +818,8 @@ public class PageMemoryImpl implements PageMemoryEx {
             long absPtr;
 
             if (relPtr == INVALID_REL_PTR) {
+                dataRegionMetrics.onPageMiss();
+
                 relPtr = seg.borrowOrAllocateFreePage(pageId);
 
                 if (pageAllocated != null)
@@ -863,6 +910,8 @@ public class PageMemoryImpl implements PageMemoryEx {
                 absPtr = seg.absolute(relPtr);
 
                 seg.pageReplacementPolicy.onHit(relPtr);
+
+                onPageHit(seg, relPtr, grpId, pageId);
             }
 
             seg.acquirePage(absPtr);
@@ -895,6 +944,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 long actualPageId = 0;
 
+                checkpointWritesTracker.waitUnlock(fullId);
+
                 long startReadTs = System.nanoTime();
 
                 try {
@@ -908,6 +959,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                     if (PageIO.isIndexPage(PageIO.getType(buf)))
                         dataRegionMetrics.cacheGrpPageMetrics(grpId).indexPages().increment();
+
+                    if (readAhead != null)
+                        readAhead.onPageRead(grpId, pageId);
                 }
                 catch (IgniteDataIntegrityViolationException e) {
                     U.warn(log, "Failed to read page (data integrity violation encountered, will try to " +
@@ -935,6 +989,145 @@ public class PageMemoryImpl implements PageMemoryEx {
         }
     }
 
+    /**
+     * Updates metrics on the page hit and continues read-ahead if the page has been loaded by it.
+     *
+     * @param seg Segment.
+     * @param relPtr Relative pointer of the page.
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    private void onPageHit(Segment seg, long relPtr, int grpId, long pageId) {
+        dataRegionMetrics.onPageHit();
+
+        if (readAhead != null && seg.clearPrefetched(relPtr)) {
+            dataRegionMetrics.onPagePrefetchHit();
+
+            readAhead.onPrefetchedPageHit(grpId, pageId);
+        }
+    }
+
+    /**
+     * Loads the page from the store to a free page slot if the page is not loaded yet. Loaded pages are never
+     * replaced by this method.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @return {@code False} if there are no free page slots, {@code true} otherwise.
+     * @throws IgniteCheckedException If failed to read the page.
+     */
+    boolean prefetchPage(int grpId, long pageId) throws IgniteCheckedException {
+        if (!started)
+            return false;
+
+        int partId = PageIdUtils.partId(pageId);
+
+        Segment seg = segment(grpId, pageId);
+
+        FullPageId fullId = new FullPageId(pageId, grpId);
+
+        long absPtr;
+
+        seg.writeLock().lock();
+
+        try {
+            long relPtr = seg.loadedPages.get(
+                grpId,
+                fullId.effectivePageId(),
+                seg.partGeneration(grpId, partId),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            if (relPtr != INVALID_REL_PTR)
+                return true;
+
+            relPtr = seg.borrowOrAllocateFreePage(pageId);
+
+            if (relPtr == INVALID_REL_PTR)
+                return false;
+
+            absPtr = seg.absolute(relPtr);
+
+            PageHeader.fullPageId(absPtr, fullId);
+
+            touchPage(absPtr, false);
+
+            setDirty(fullId, absPtr, false, false);
+
+            seg.pageReplacementPolicy.onMiss(relPtr);
+
+            seg.loadedPages.put(
+                grpId,
+                fullId.effectivePageId(),
+                relPtr,
+                seg.partGeneration(grpId, partId)
+            );
+
+            if (delayedPageReplacementTracker != null)
+                delayedPageReplacementTracker.waitUnlock(fullId);
+
+            rwLock.init(absPtr + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId));
+
+            boolean locked = rwLock.writeLock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
+
+            assert locked : "Page ID " + fullId + " expected to be locked";
+
+            // Pin the page to prevent its replacement while it is being read.
+            seg.acquirePage(absPtr);
+
+            seg.prefetched(relPtr);
+        }
+        finally {
+            seg.writeLock().unlock();
+        }
+
+        long pageAddr = absPtr + PAGE_OVERHEAD;
+
+        ByteBuffer buf = wrapPointer(pageAddr, pageSize());
+
+        long actualPageId = 0;
+
+        try {
+            checkpointWritesTracker.waitUnlock(fullId);
+
+            long startReadTs = System.nanoTime();
+
+            try {
+                pmPageMgr.read(grpId, pageId, buf, false);
+
+                actualPageId = PageIO.getPageId(buf);
+
+                if (PageIO.isIndexPage(PageIO.getType(buf)))
+                    dataRegionMetrics.cacheGrpPageMetrics(grpId).indexPages().increment();
+            }
+            catch (IgniteDataIntegrityViolationException e) {
+                U.warn(log, "Failed to read page (data integrity violation encountered, will try to " +
+                    "restore using existing WAL) [fullPageId=" + fullId + ']', e);
+
+                buf.rewind();
+
+                tryToRestorePage(fullId, buf);
+
+                setDirty(fullId, absPtr, true, false);
+
+                beforeReleaseWrite(fullId, pageAddr, true);
+            }
+
+            dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
+
+            dataRegionMetrics.onPagePrefetched();
+
+            return true;
+        }
+        finally {
+            rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET,
+                actualPageId == 0 ? OffheapReadWriteLock.TAG_LOCK_ALWAYS : PageIdUtils.tag(actualPageId));
+
+            seg.releasePage(absPtr);
+        }
+    }
+
     /** */
     private void releaseCheckpointBufferPage(long tmpBufPtr) {
         int resCntr = checkpointPool.releaseFreePage(tmpBufPtr);
@@ -1078,10 +1271,8 @@ public class PageMemoryImpl implements PageMemoryEx {
         return false;
     }
 
-    /**
-     * @return Max dirty ratio from the segments.
-     */
-    double getDirtyPagesRatio() {
+    /** {@inheritDoc} */
+    @Override public double getDirtyPagesRatio() {
         if (segments == null)
             return 0;
 
@@ -1167,6 +1358,13 @@ public class PageMemoryImpl implements PageMemoryEx {
         return pmPageMgr;
     }
 
+    /**
+     * @return Tracker of pages which are copied by the checkpoint writers, but not written to the store yet.
+     */
+    public DelayedPageReplacementTracker checkpointWritesTracker() {
+        return checkpointWritesTracker;
+    }
+
     /** {@inheritDoc} */
     @Override public void checkpointWritePage(
         FullPageId fullId,
@@ -1949,7 +2147,8 @@ public class PageMemoryImpl implements PageMemoryEx {
     }
 
     /**
-     *
+     * Page memory segment. Lookups of loaded pages may be performed without the segment lock, such lookups are
+     * validated by the modification stamp which is odd while the segment is write locked.
      */
     class Segment extends ReentrantReadWriteLock {
         /** */
@@ -1994,12 +2193,24 @@ public class PageMemoryImpl implements PageMemoryEx {
         /** Initial partition generation. */
         private static final int INIT_PART_GENERATION = 1;
 
-        /** Maps partition (grpId, partId) to its generation. Generation is 1-based incrementing partition counter. */
-        private final Map<GroupPartitionId, Integer> partGenerationMap = new HashMap<>();
+        /**
+         * Maps partition (grpId, partId) to its generation. Generation is 1-based incrementing partition counter.
+         * Modified under the write lock, may be read without lock.
+         */
+        private final Map<GroupPartitionId, Integer> partGenerationMap = new ConcurrentHashMap<>();
 
         /** */
         private boolean closed;
 
+        /** Modification stamp, incremented on every acquisition and release of the write lock. */
+        private final AtomicLong modStamp = new AtomicLong();
+
+        /** Write lock which maintains {@link #modStamp}. */
+        private final StampedWriteLock writeLock = new StampedWriteLock();
+
+        /** Flags of pages loaded by read-ahead and not acquired yet, {@code null} if read-ahead is disabled. */
+        @Nullable private final AtomicLongArray prefetchedFlags;
+
         /**
          * @param region Memory region.
          * @param throttlingPlc policy determine if write throttling enabled and its type.
@@ -2039,6 +2250,58 @@ public class PageMemoryImpl implements PageMemoryEx {
             maxDirtyPages = throttlingPlc != ThrottlingPolicy.DISABLED
                 ? pool.pages() * 3L / 4
                 : Math.min(pool.pages() * 2L / 3, cpPoolPages);
+
+            prefetchedFlags = readAhead != null ? new AtomicLongArray((pool.pages() + 63) >> 6) : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public WriteLock writeLock() {
+            return writeLock;
+        }
+
+        /**
+         * Acquires the page if it is loaded, without taking the segment lock. The page is pinned first and then
+         * the lookup is validated by {@link #modStamp}, so the page can not be replaced after the validation.
+         *
+         * @param grpId Cache group ID.
+         * @param pageId Page ID.
+         * @param partId Partition ID.
+         * @return Absolute pointer to the acquired page or {@link #INVALID_REL_PTR} if the page is not loaded or
+         *      the segment has been modified concurrently.
+         */
+        private long tryAcquireLoadedPage(int grpId, long pageId, int partId) {
+            long stamp = modStamp.get();
+
+            if ((stamp & 1) != 0)
+                return INVALID_REL_PTR;
+
+            long relPtr = loadedPages.get(
+                grpId,
+                PageIdUtils.effectivePageId(pageId),
+                partGeneration0(grpId, partId),
+                INVALID_REL_PTR,
+                INVALID_REL_PTR
+            );
+
+            // The table could be read inconsistently, the pointer is not valid then.
+            if (relPtr == INVALID_REL_PTR || modStamp.get() != stamp)
+                return INVALID_REL_PTR;
+
+            long absPtr = absolute(relPtr);
+
+            acquirePage(absPtr);
+
+            // Replacement checks pin of a page after the stamp is changed, so the page could be replaced only if
+            // the stamp has been changed since the lookup.
+            if (modStamp.get() != stamp) {
+                releasePage(absPtr);
+
+                return INVALID_REL_PTR;
+            }
+
+            pageReplacementPolicy.onHit(relPtr);
+
+            return absPtr;
         }
 
         /**
@@ -2120,7 +2383,57 @@ public class PageMemoryImpl implements PageMemoryEx {
          * @return Page relative pointer.
          */
         private long borrowOrAllocateFreePage(long pageId) {
-            return pool.borrowOrAllocateFreePage(PageIdUtils.tag(pageId));
+            long relPtr = pool.borrowOrAllocateFreePage(PageIdUtils.tag(pageId));
+
+            if (relPtr != INVALID_REL_PTR)
+                clearPrefetched(relPtr);
+
+            return relPtr;
+        }
+
+        /**
+         * Marks the page as loaded by read-ahead.
+         *
+         * @param relPtr Page relative pointer.
+         */
+        private void prefetched(long relPtr) {
+            assert prefetchedFlags != null;
+
+            int idx = (int)pageIndex(relPtr);
+
+            long mask = 1L << idx;
+
+            while (true) {
+                long flags = prefetchedFlags.get(idx >> 6);
+
+                if ((flags & mask) != 0 || prefetchedFlags.compareAndSet(idx >> 6, flags, flags | mask))
+                    return;
+            }
+        }
+
+        /**
+         * Clears the read-ahead mark of the page.
+         *
+         * @param relPtr Page relative pointer.
+         * @return {@code True} if the page has been marked as loaded by read-ahead.
+         */
+        private boolean clearPrefetched(long relPtr) {
+            if (prefetchedFlags == null)
+                return false;
+
+            int idx = (int)pageIndex(relPtr);
+
+            long mask = 1L << idx;
+
+            while (true) {
+                long flags = prefetchedFlags.get(idx >> 6);
+
+                if ((flags & mask) == 0)
+                    return false;
+
+                if (prefetchedFlags.compareAndSet(idx >> 6, flags, flags & ~mask))
+                    return true;
+            }
         }
 
         /**
@@ -2318,6 +2631,8 @@ public class PageMemoryImpl implements PageMemoryEx {
                 System.nanoTime() - replaceStartTs
             );
 
+            clearPrefetched(page);
+
             return page;
         }
 
@@ -2382,6 +2697,15 @@ public class PageMemoryImpl implements PageMemoryEx {
         public int partGeneration(int grpId, int partId) {
             assert getReadHoldCount() > 0 || getWriteHoldCount() > 0;
 
+            return partGeneration0(grpId, partId);
+        }
+
+        /**
+         * @param grpId Cache group ID.
+         * @param partId Partition ID.
+         * @return Partition generation, may be called without segment lock.
+         */
+        private int partGeneration0(int grpId, int partId) {
             Integer tag = partGenerationMap.get(new GroupPartitionId(grpId, partId));
 
             assert tag == null || tag >= 0 : "Negative tag=" + tag;
@@ -2450,6 +2774,69 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             partGenerationMap.keySet().removeIf(grpPart -> grpPart.getGroupId() == grpId);
         }
+
+        /**
+         * Write lock which increments {@link #modStamp} on the first acquisition and on the last release.
+         */
+        private class StampedWriteLock extends WriteLock {
+            /** */
+            private static final long serialVersionUID = 0L;
+
+            /** */
+            private StampedWriteLock() {
+                super(Segment.this);
+            }
+
+            /** {@inheritDoc} */
+            @Override public void lock() {
+                super.lock();
+
+                onLocked();
+            }
+
+            /** {@inheritDoc} */
+            @Override public void lockInterruptibly() throws InterruptedException {
+                super.lockInterruptibly();
+
+                onLocked();
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean tryLock() {
+                if (!super.tryLock())
+                    return false;
+
+                onLocked();
+
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+                if (!super.tryLock(timeout, unit))
+                    return false;
+
+                onLocked();
+
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override public void unlock() {
+                if (getHoldCount() == 1)
+                    modStamp.incrementAndGet();
+
+                super.unlock();
+            }
+
+            /**
+             * Makes the stamp odd if the lock is acquired for the first time.
+             */
+            private void onLocked() {
+                if (getHoldCount() == 1)
+                    modStamp.incrementAndGet();
+            }
+        }
     }
 
     /**
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThreadFactory;
+
+/**
+ * Detects sequential reading of partition files and loads next pages of a partition in advance.
+ *
+ * Accesses are tracked by streams, one stream per partition, kept in a small table indexed by the partition hash.
+ * A stream becomes sequential when a page that follows the previously read page is read from the store. Then the
+ * next {@link #window} pages are loaded asynchronously. Prefetched pages are marked, and when the reader hits a marked
+ * page past the middle of the prefetched range, the next portion of pages is requested, so the range stays ahead of
+ * the reader. Pages are loaded only to free page slots, read-ahead never replaces loaded pages.
+ *
+ * Streams are updated without synchronization, concurrent readers of the same partition can only cause a redundant
+ * or skipped read-ahead.
+ */
+class PageReadAhead {
+    /** Size of streams table. */
+    private static final int STREAMS_CNT = 256;
+
+    /** Page memory. */
+    private final PageMemoryImpl pageMem;
+
+    /** Page manager. */
+    private final PageReadWriteManager pageMgr;
+
+    /** Number of pages to load in advance. */
+    private final int window;
+
+    /** Streams. */
+    private final Stream[] streams = new Stream[STREAMS_CNT];
+
+    /** Executor. */
+    private final ThreadPoolExecutor executor;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /**
+     * @param pageMem Page memory.
+     * @param pageMgr Page manager.
+     * @param window Number of pages to load in advance.
+     * @param igniteInstanceName Ignite instance name.
+     * @param log Logger.
+     */
+    PageReadAhead(
+        PageMemoryImpl pageMem,
+        PageReadWriteManager pageMgr,
+        int window,
+        String igniteInstanceName,
+        IgniteLogger log
+    ) {
+        assert window > 0 : window;
+
+        this.pageMem = pageMem;
+        this.pageMgr = pageMgr;
+        this.window = window;
+        this.log = log;
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+        // Requests which don't fit the queue are discarded, the pages are loaded on demand then.
+        executor = new ThreadPoolExecutor(
+            0,
+            threads,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(threads * 4),
+            new IgniteThreadFactory(igniteInstanceName, "page-read-ahead"),
+            new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Handles the page read from the store on demand.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    void onPageRead(int grpId, long pageId) {
+        int partId = PageIdUtils.partId(pageId);
+        int pageIdx = PageIdUtils.pageIndex(pageId);
+
+        Stream s = stream(grpId, partId, pageIdx);
+
+        if (s == null)
+            return;
+
+        boolean seq = pageIdx == s.lastIdx + 1;
+
+        s.lastIdx = pageIdx;
+
+        if (seq)
+            readAhead(s, pageId, pageIdx + 1);
+        else
+            s.nextIdx = pageIdx + 1;
+    }
+
+    /**
+     * Handles the first acquisition of a page loaded by read-ahead.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    void onPrefetchedPageHit(int grpId, long pageId) {
+        int partId = PageIdUtils.partId(pageId);
+        int pageIdx = PageIdUtils.pageIndex(pageId);
+
+        Stream s = stream(grpId, partId, pageIdx);
+
+        if (s == null)
+            return;
+
+        s.lastIdx = pageIdx;
+
+        if (pageIdx + window / 2 >= s.nextIdx)
+            readAhead(s, pageId, s.nextIdx);
+    }
+
+    /**
+     * Stops read-ahead and waits for the loading pages.
+     */
+    void stop() {
+        U.shutdownNow(getClass(), executor, log);
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param pageIdx Index of the accessed page.
+     * @return Stream of the partition or {@code null} if a new stream has been started by the access.
+     */
+    private Stream stream(int grpId, int partId, int pageIdx) {
+        int idx = U.hash(31 * grpId + partId) & (STREAMS_CNT - 1);
+
+        Stream s = streams[idx];
+
+        if (s != null && s.grpId == grpId && s.partId == partId)
+            return s;
+
+        streams[idx] = new Stream(grpId, partId, pageIdx);
+
+        return null;
+    }
+
+    /**
+     * Requests loading of pages up to the read-ahead window after the last read page.
+     *
+     * @param s Stream.
+     * @param pageId ID of the accessed page.
+     * @param fromIdx Index of the first page to load.
+     */
+    private void readAhead(Stream s, long pageId, int fromIdx) {
+        int from = Math.max(fromIdx, s.nextIdx);
+        int to = s.lastIdx + 1 + window;
+
+        if (from >= to)
+            return;
+
+        s.nextIdx = to;
+
+        int grpId = s.grpId;
+        int partId = s.partId;
+        byte flag = PageIdUtils.flag(pageId);
+
+        executor.execute(() -> loadPages(grpId, partId, flag, from, to));
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param flag Page ID flag.
+     * @param from Index of the first page to load.
+     * @param to Index of the page after the last page to load.
+     */
+    private void loadPages(int grpId, int partId, byte flag, int from, int to) {
+        try {
+            int end = Math.min(to, pageMgr.pages(grpId, partId));
+
+            for (int pageIdx = from; pageIdx < end; pageIdx++) {
+                if (Thread.currentThread().isInterrupted())
+                    return;
+
+                // Stop when there are no free page slots.
+                if (!pageMem.prefetchPage(grpId, PageIdUtils.pageId(partId, flag, pageIdx)))
+                    return;
+            }
+        }
+        catch (IgniteCheckedException e) {
+            // Partition could be evicted or destroyed concurrently, the pages will be loaded on demand if needed.
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to read pages ahead [grpId=" + grpId + ", partId=" + partId +
+                    ", from=" + from + ", to=" + to + ", err=" + e + ']');
+            }
+        }
+    }
+
+    /**
+     * Sequential access stream.
+     */
+    private static class Stream {
+        /** Cache group ID. */
+        private final int grpId;
+
+        /** Partition ID. */
+        private final int partId;
+
+        /** Index of the last accessed page. */
+        private volatile int lastIdx;
+
+        /** Index of the first page which has not been requested to load. */
+        private volatile int nextIdx;
+
+        /**
+         * @param grpId Cache group ID.
+         * @param partId Partition ID.
+         * @param pageIdx Index of the accessed page.
+         */
+        private Stream(int grpId, int partId, int pageIdx) {
+            this.grpId = grpId;
+            this.partId = partId;
+
+            lastIdx = pageIdx;
+            nextIdx = pageIdx + 1;
+        }
+    }
+}
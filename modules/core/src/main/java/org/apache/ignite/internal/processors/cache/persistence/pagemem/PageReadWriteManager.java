@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.util.GridLongList;
 
 /** */
 public interface PageReadWriteManager {
@@ -45,6 +46,40 @@ public interface PageReadWriteManager {
      */
     public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with adjacent indexes of the same partition for the given cache ID.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs, index of every page is greater than index of the previous one by 1.
+     * @param pagesBuf Buffer with pages one after another, from position 0 up to the limit.
+     * @param tag Partition file version.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @return Page store the pages were written to.
+     * @throws IgniteCheckedException If failed to write pages.
+     */
+    public default PageStore write(
+        int grpId,
+        GridLongList pageIds,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        int pageSize = pagesBuf.limit() / pageIds.size();
+
+        PageStore store = null;
+
+        for (int i = 0; i < pageIds.size(); i++) {
+            ByteBuffer pageBuf = pagesBuf.duplicate();
+
+            pageBuf.position(i * pageSize);
+            pageBuf.limit((i + 1) * pageSize);
+
+            store = write(grpId, pageIds.get(i), pageBuf.slice().order(pagesBuf.order()), tag, calculateCrc);
+        }
+
+        return store;
+    }
+
     /**
      * Allocates a page for the given page space.
      *
@@ -55,4 +90,16 @@ public interface PageReadWriteManager {
      * @throws IgniteCheckedException If IO exception occurred while allocating a page ID.
      */
     public long allocatePage(int grpId, int partId, byte flags) throws IgniteCheckedException;
+
+    /**
+     * Gets total number of allocated pages for the given partition.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @return Number of allocated pages or {@code 0} if unknown.
+     * @throws IgniteCheckedException If failed.
+     */
+    public default int pages(int grpId, int partId) throws IgniteCheckedException {
+        return 0;
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.pagemem.store.PageStoreCollection;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.persistence.StorageException;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.internal.S;
 
@@ -126,6 +127,34 @@ public class PageReadWriteManagerImpl implements PageReadWriteManager {
         return store;
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        GridLongList pageIds,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        CacheGroupContext grpCtx = ctx.cache().cacheGroup(grpId);
+
+        // Compressed pages are of different sizes, so they are written one by one.
+        if (grpCtx != null && grpCtx.compressionHandler().compressionEnabled())
+            return PageReadWriteManager.super.write(grpId, pageIds, pagesBuf, tag, calculateCrc);
+
+        PageStore store = pageStores.getStore(grpId, PageIdUtils.partId(pageIds.get(0)));
+
+        try {
+            store.write(pageIds, pagesBuf, tag, calculateCrc);
+        }
+        catch (StorageException e) {
+            ctx.failure().process(new FailureContext(FailureType.CRITICAL_ERROR, e));
+
+            throw e;
+        }
+
+        return store;
+    }
+
     /** {@inheritDoc} */
     @Override public long allocatePage(int grpId, int partId, byte flags) throws IgniteCheckedException {
         assert partId <= MAX_PARTITION_ID || partId == INDEX_PARTITION;
@@ -144,6 +173,11 @@ public class PageReadWriteManagerImpl implements PageReadWriteManager {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public int pages(int grpId, int partId) throws IgniteCheckedException {
+        return pageStores.getStore(grpId, partId).pages();
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(PageReadWriteManagerImpl.class, this);
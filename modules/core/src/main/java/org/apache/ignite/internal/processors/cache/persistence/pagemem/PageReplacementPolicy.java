@@ -36,12 +36,22 @@ public abstract class PageReplacementPolicy {
     /**
      * Existing page touched.
      *
-     * Note: This method can be invoked under segment write lock or segment read lock.
+     * Note: This method can be invoked under segment write lock or segment read lock. If {@link #lockFreeHit()}
+     * returns {@code true}, this method can be also invoked without segment lock, concurrently with any other
+     * method, and the page may be already removed at that moment.
      */
     public void onHit(long relPtr) {
         // No-op.
     }
 
+    /**
+     * @return {@code True} if {@link #onHit(long)} can be invoked without segment lock. Loaded pages are acquired
+     * without segment lock only if this method returns {@code true}.
+     */
+    public boolean lockFreeHit() {
+        return false;
+    }
+
     /**
      * New page added.
      *
@@ -52,6 +52,12 @@ public class RandomLruPageReplacementPolicy extends PageReplacementPolicy {
         super(seg);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean lockFreeHit() {
+        // Page hits are not tracked by the policy.
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public long replace() throws IgniteCheckedException {
         final ThreadLocalRandom rnd = ThreadLocalRandom.current();
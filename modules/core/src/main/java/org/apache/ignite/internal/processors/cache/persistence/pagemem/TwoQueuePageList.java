@@ -0,0 +1,564 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Pages lists of 2Q algorithm: FIFO "in" queue of pages touched once, LRU "main" queue of re-referenced pages and
+ * "out" queue of identifiers of pages recently replaced from the "in" queue. All the data is stored off-heap.
+ *
+ * "Out" queue is a ring of page keys with an open addressing hash table over it, which maps a key to the sequence
+ * number of its latest addition to the ring. Keys are hashes of full page IDs, so a collision may cause a page to be
+ * admitted to the main queue without a second reference, which is harmless.
+ *
+ * @see PageReplacementMode#TWO_QUEUE
+ */
+public class TwoQueuePageList {
+    /** Ratio to limit count of pages in the "in" queue. */
+    private static final double IN_TO_TOTAL_PAGES_RATIO = 0.25;
+
+    /** Ratio to limit count of page keys in the "out" queue. */
+    private static final double OUT_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** "In" queue. */
+    private static final int IN = 0;
+
+    /** Main queue. */
+    private static final int MAIN = 1;
+
+    /** Key of an empty "out" queue hash table slot. */
+    private static final long EMPTY_KEY = 0L;
+
+    /** Size of "out" queue hash table slot: key and sequence number. */
+    private static final int SLOT_SIZE = 16;
+
+    /** Indexes of the head pages of the queues. */
+    private final int[] headIdx = {NULL_IDX, NULL_IDX};
+
+    /** Indexes of the tail pages of the queues. */
+    private final int[] tailIdx = {NULL_IDX, NULL_IDX};
+
+    /** Count of pages in the queues. */
+    private final int[] pagesCnt = new int[2];
+
+    /** "In" queue limit. */
+    private final int inPagesLimit;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store main queue flags. */
+    private final long flagsPtr;
+
+    /** Capacity of the "out" queue. */
+    private final int outCap;
+
+    /** Pointer to memory region to store "out" queue ring. */
+    private final long outRingPtr;
+
+    /** Count of keys ever added to the "out" queue, the sequence number of the next key. */
+    private long outSeq;
+
+    /** Pointer to memory region to store "out" queue hash table. */
+    private final long outTablePtr;
+
+    /** "Out" queue hash table mask. */
+    private final int outTableMask;
+
+    /**
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TwoQueuePageList(int totalPagesCnt, long memPtr) {
+        outCap = outCapacity(totalPagesCnt);
+
+        int tableCap = tableCapacity(outCap);
+
+        linksPtr = memPtr;
+        flagsPtr = linksPtr + (((long)totalPagesCnt) << 3);
+        outRingPtr = flagsPtr + flagsSize(totalPagesCnt);
+        outTablePtr = outRingPtr + (((long)outCap) << 3);
+        outTableMask = tableCap - 1;
+
+        GridUnsafe.setMemory(linksPtr, ((long)totalPagesCnt) << 3, (byte)0xFF);
+        GridUnsafe.zeroMemory(flagsPtr, flagsSize(totalPagesCnt));
+        GridUnsafe.zeroMemory(outTablePtr, (long)tableCap * SLOT_SIZE);
+
+        inPagesLimit = Math.max(1, (int)(totalPagesCnt * IN_TO_TOTAL_PAGES_RATIO));
+    }
+
+    /**
+     * Add page to the tail of the "in" queue.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void addToIn(int pageIdx) {
+        addToTail(IN, pageIdx);
+    }
+
+    /**
+     * Add page to the tail of the main queue.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void addToMain(int pageIdx) {
+        addToTail(MAIN, pageIdx);
+
+        mainPage(pageIdx, true);
+    }
+
+    /**
+     * Move page to the tail of the main queue if the page is in the main queue. Pages of the "in" queue are not
+     * moved, since repeated references shortly after the page load are usually correlated.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void touch(int pageIdx) {
+        if (!mainPage(pageIdx) || tailIdx[MAIN] == pageIdx)
+            return;
+
+        unlink(MAIN, pageIdx);
+
+        addToTail(MAIN, pageIdx);
+    }
+
+    /**
+     * Remove page from the queue it resides.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        if (mainPage(pageIdx)) {
+            unlink(MAIN, pageIdx);
+
+            mainPage(pageIdx, false);
+        }
+        else
+            unlink(IN, pageIdx);
+    }
+
+    /**
+     * Remove page from the head of the "in" queue.
+     *
+     * @return Page index or {@code -1} if the queue is empty.
+     */
+    public synchronized int pollIn() {
+        int idx = headIdx[IN];
+
+        if (idx != NULL_IDX)
+            unlink(IN, idx);
+
+        return idx;
+    }
+
+    /**
+     * Remove page from the head of the main queue.
+     *
+     * @return Page index or {@code -1} if the queue is empty.
+     */
+    public synchronized int pollMain() {
+        int idx = headIdx[MAIN];
+
+        if (idx != NULL_IDX) {
+            unlink(MAIN, idx);
+
+            mainPage(idx, false);
+        }
+
+        return idx;
+    }
+
+    /**
+     * Remember the key of the page replaced from the "in" queue. If the "out" queue is full, the oldest key is
+     * forgotten.
+     *
+     * @param key Page key.
+     */
+    public synchronized void addToOut(long key) {
+        assert key != EMPTY_KEY;
+
+        if (outSeq >= outCap) {
+            long oldestSeq = outSeq - outCap;
+
+            int slot = findSlot(GridUnsafe.getLong(ringPtr(oldestSeq)));
+
+            // Forget the oldest key only if it hasn't been added again since then.
+            if (slot >= 0 && slotSeq(slot) == oldestSeq)
+                removeSlot(slot);
+        }
+
+        GridUnsafe.putLong(ringPtr(outSeq), key);
+
+        int slot = slot(key);
+
+        while (true) {
+            long slotKey = slotKey(slot);
+
+            if (slotKey == key || slotKey == EMPTY_KEY) {
+                slotKey(slot, key);
+                slotSeq(slot, outSeq);
+
+                break;
+            }
+
+            slot = (slot + 1) & outTableMask;
+        }
+
+        outSeq++;
+    }
+
+    /**
+     * Forget the key of the loaded page.
+     *
+     * @param key Page key.
+     * @return {@code True} if the key was in the "out" queue, i.e. the page is referenced again after it has been
+     * replaced from the "in" queue.
+     */
+    public synchronized boolean removeFromOut(long key) {
+        int slot = findSlot(key);
+
+        if (slot < 0)
+            return false;
+
+        // The key stays in the ring, it will be ignored when the ring wraps around.
+        removeSlot(slot);
+
+        return true;
+    }
+
+    /**
+     * @param key Page key.
+     * @return {@code True} if the "out" queue contains the key.
+     */
+    synchronized boolean outContains(long key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * @param q Queue.
+     * @param pageIdx Page index.
+     */
+    private void addToTail(int q, int pageIdx) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        int tail = tailIdx[q];
+
+        if (tail == NULL_IDX) {
+            assert headIdx[q] == NULL_IDX : headIdx[q];
+
+            headIdx[q] = pageIdx;
+        }
+        else {
+            prev(pageIdx, tail);
+            next(tail, pageIdx);
+        }
+
+        tailIdx[q] = pageIdx;
+
+        pagesCnt[q]++;
+    }
+
+    /**
+     * @param q Queue.
+     * @param pageIdx Page index.
+     */
+    private void unlink(int q, int pageIdx) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert headIdx[q] == pageIdx : "Unexpected page index [headIdx=" + headIdx[q] + ", pageIdx=" + pageIdx + ']';
+
+            headIdx[q] = nextIdx;
+        }
+        else
+            next(prevIdx, nextIdx);
+
+        if (nextIdx == NULL_IDX) {
+            assert tailIdx[q] == pageIdx : "Unexpected page index [tailIdx=" + tailIdx[q] + ", pageIdx=" + pageIdx + ']';
+
+            tailIdx[q] = prevIdx;
+        }
+        else
+            prev(nextIdx, prevIdx);
+
+        GridUnsafe.putLong(linksPtr + (((long)pageIdx) << 3), -1L);
+
+        pagesCnt[q]--;
+    }
+
+    /**
+     * @param seq Sequence number of the key.
+     * @return Pointer to the "out" queue ring entry of the key.
+     */
+    private long ringPtr(long seq) {
+        return outRingPtr + ((seq % outCap) << 3);
+    }
+
+    /**
+     * @param key Page key.
+     * @return Slot of the key or {@code -1} if there is no such key.
+     */
+    private int findSlot(long key) {
+        int slot = slot(key);
+
+        while (true) {
+            long slotKey = slotKey(slot);
+
+            if (slotKey == key)
+                return slot;
+
+            if (slotKey == EMPTY_KEY)
+                return -1;
+
+            slot = (slot + 1) & outTableMask;
+        }
+    }
+
+    /**
+     * Removes the slot, shifting back subsequent keys of the probe sequence.
+     *
+     * @param slot Slot.
+     */
+    private void removeSlot(int slot) {
+        int free = slot;
+        int cur = slot;
+
+        while (true) {
+            cur = (cur + 1) & outTableMask;
+
+            long key = slotKey(cur);
+
+            if (key == EMPTY_KEY)
+                break;
+
+            int home = slot(key);
+
+            // Key stays in place if its home slot is cyclically in (free, cur].
+            boolean stay = free <= cur ? (free < home && home <= cur) : (free < home || home <= cur);
+
+            if (stay)
+                continue;
+
+            slotKey(free, key);
+            slotSeq(free, slotSeq(cur));
+
+            free = cur;
+        }
+
+        slotKey(free, EMPTY_KEY);
+        slotSeq(free, 0);
+    }
+
+    /**
+     * @param key Page key.
+     * @return Home slot of the key.
+     */
+    private int slot(long key) {
+        return ((int)(key >>> 32) ^ (int)key) & outTableMask;
+    }
+
+    /**
+     * @param slot Slot.
+     * @return Key stored in the slot.
+     */
+    private long slotKey(int slot) {
+        return GridUnsafe.getLong(outTablePtr + (long)slot * SLOT_SIZE);
+    }
+
+    /**
+     * @param slot Slot.
+     * @param key Key.
+     */
+    private void slotKey(int slot, long key) {
+        GridUnsafe.putLong(outTablePtr + (long)slot * SLOT_SIZE, key);
+    }
+
+    /**
+     * @param slot Slot.
+     * @return Sequence number of the key stored in the slot.
+     */
+    private long slotSeq(int slot) {
+        return GridUnsafe.getLong(outTablePtr + (long)slot * SLOT_SIZE + 8);
+    }
+
+    /**
+     * @param slot Slot.
+     * @param seq Sequence number.
+     */
+    private void slotSeq(int slot, long seq) {
+        GridUnsafe.putLong(outTablePtr + (long)slot * SLOT_SIZE + 8, seq);
+    }
+
+    /**
+     * Gets link to the previous page in the queue.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3));
+    }
+
+    /**
+     * Gets link to the next page in the queue.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Sets link to the previous page in the queue.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Sets link to the next page in the queue.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets main queue page flag.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean mainPage(int pageIdx) {
+        long flags = GridUnsafe.getLong(flagsPtr + ((pageIdx >> 3) & (~7)));
+
+        return (flags & (1L << pageIdx)) != 0L;
+    }
+
+    /**
+     * Sets main queue page flag.
+     *
+     * @param pageIdx Page index.
+     * @param mainPage Main queue page flag.
+     */
+    private void mainPage(int pageIdx, boolean mainPage) {
+        long ptr = flagsPtr + ((pageIdx >> 3) & (~7));
+
+        if (mainPage)
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << pageIdx));
+        else
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) & ~(1L << pageIdx));
+    }
+
+    /**
+     * Gets the index of the head page of the "in" queue.
+     */
+    synchronized int inHeadIdx() {
+        return headIdx[IN];
+    }
+
+    /**
+     * Gets the index of the head page of the main queue.
+     */
+    synchronized int mainHeadIdx() {
+        return headIdx[MAIN];
+    }
+
+    /**
+     * Gets count of pages in the "in" queue.
+     */
+    synchronized int inPagesCount() {
+        return pagesCnt[IN];
+    }
+
+    /**
+     * Gets count of pages in the main queue.
+     */
+    synchronized int mainPagesCount() {
+        return pagesCnt[MAIN];
+    }
+
+    /**
+     * Gets "in" queue limit.
+     */
+    int inPagesLimit() {
+        return inPagesLimit;
+    }
+
+    /**
+     * Gets key of the page for the "out" queue.
+     *
+     * @param grpId Cache group ID.
+     * @param effectivePageId Effective page ID.
+     */
+    public static long key(int grpId, long effectivePageId) {
+        long key = effectivePageId * 0x9E3779B97F4A7C15L + grpId;
+
+        return key == EMPTY_KEY ? 1L : key;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        int outCap = outCapacity(pagesCnt);
+
+        return pagesCnt * 8L /* links = 2 ints per page */ +
+            flagsSize(pagesCnt) /* main queue flags = 1 bit per page + 8 byte align */ +
+            outCap * 8L /* "out" queue ring */ +
+            (long)tableCapacity(outCap) * SLOT_SIZE /* "out" queue hash table */;
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Size of memory region to store main queue flags.
+     */
+    private static long flagsSize(int pagesCnt) {
+        return ((pagesCnt + 63L) >> 6) << 3;
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Capacity of the "out" queue.
+     */
+    private static int outCapacity(int pagesCnt) {
+        return Math.max(1, (int)(pagesCnt * OUT_TO_TOTAL_PAGES_RATIO));
+    }
+
+    /**
+     * @param outCap Capacity of the "out" queue.
+     * @return Capacity of the "out" queue hash table, keeps the load factor not greater than 0.5.
+     */
+    private static int tableCapacity(int outCap) {
+        return Integer.highestOneBit(outCap) << 2;
+    }
+}
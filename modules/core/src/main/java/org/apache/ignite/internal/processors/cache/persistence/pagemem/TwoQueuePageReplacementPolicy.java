@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.INVALID_REL_PTR;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.OUTDATED_REL_PTR;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageList.NULL_IDX;
+
+/**
+ * 2Q page replacement policy implementation.
+ *
+ * @see PageReplacementMode#TWO_QUEUE
+ */
+public class TwoQueuePageReplacementPolicy extends PageReplacementPolicy {
+    /** Pages lists. */
+    private final TwoQueuePageList lists;
+
+    /**
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    protected TwoQueuePageReplacementPolicy(PageMemoryImpl.Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        lists = new TwoQueuePageList(pagesCnt, ptr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onHit(long relPtr) {
+        lists.touch((int)seg.pageIndex(relPtr));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMiss(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        FullPageId fullId = PageHeader.fullPageId(seg.absolute(relPtr));
+
+        if (lists.removeFromOut(TwoQueuePageList.key(fullId.groupId(), fullId.effectivePageId())))
+            lists.addToMain(pageIdx);
+        else
+            lists.addToIn(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRemove(long relPtr) {
+        lists.remove((int)seg.pageIndex(relPtr));
+    }
+
+    /** {@inheritDoc} */
+    @Override public long replace() throws IgniteCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        // Pages of the "in" queue are tried first while the queue exceeds its limit, but not more than once each,
+        // so pinned or dirty pages of this queue can't prevent replacement of main queue pages.
+        int inAttempts = lists.inPagesCount() > lists.inPagesLimit() ? lists.inPagesCount() : 0;
+
+        for (int i = 0; i < loadedPages.size(); i++) {
+            boolean fromIn = i < inAttempts || lists.mainPagesCount() == 0;
+
+            int pageIdx = fromIn ? lists.pollIn() : lists.pollMain();
+
+            if (pageIdx == NULL_IDX)
+                break;
+
+            long relPtr = seg.relative(pageIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = PageHeader.fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                fullId.groupId(),
+                fullId.effectivePageId(),
+                seg.partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR;
+
+            if (relPtr == OUTDATED_REL_PTR)
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+
+            if (seg.tryToRemovePage(fullId, absPtr)) {
+                if (fromIn)
+                    lists.addToOut(TwoQueuePageList.key(fullId.groupId(), fullId.effectivePageId()));
+
+                return relPtr;
+            }
+
+            // Return page to the queue.
+            if (fromIn)
+                lists.addToIn(pageIdx);
+            else
+                lists.addToMain(pageIdx);
+        }
+
+        throw seg.oomException("no pages to replace");
+    }
+}
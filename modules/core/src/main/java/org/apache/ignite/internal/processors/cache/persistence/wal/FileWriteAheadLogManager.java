@@ -108,6 +108,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.Re
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV2Serializer;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedBooleanProperty;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
@@ -130,6 +131,7 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.thread.IgniteThread;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static java.lang.String.format;
@@ -225,6 +227,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** @see IgniteSystemProperties#IGNITE_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT */
     public static final long DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT = 1000L;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE */
+    public static final int DFLT_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE = 64 * 1024;
+
     /** CDC disabled distributed property name. */
     public static final String CDC_DISABLED = "cdc.disabled";
 
@@ -468,7 +473,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     }
 
     /**
-     * For test purposes only.
+     * Sets IO factory for WAL segment files. Applies to the files opened after the call.
      *
      * @param ioFactory IO factory.
      */
@@ -1060,6 +1065,59 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     @Override public WALIterator replay(
         WALPointer start,
         @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter
+    ) throws IgniteCheckedException, StorageException {
+        return replay0(start, new RecordSerializerFactoryImpl(cctx).recordDeserializeFilter(recordDeserializeFilter));
+    }
+
+    /** {@inheritDoc} */
+    @Override public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        @Nullable IgnitePredicate<Integer> dataEntryFilter
+    ) throws IgniteCheckedException, StorageException {
+        return replay0(start, new RecordSerializerFactoryImpl(cctx)
+            .recordDeserializeFilter(recordDeserializeFilter)
+            .dataEntryFilter(dataEntryFilter));
+    }
+
+    /**
+     * Replays WAL decoding records by several threads. Falls back to {@link #replay(WALPointer, IgniteBiPredicate)}
+     * if records are written by serializer of version other than 2.
+     *
+     * @param start Start WAL pointer, inclusive.
+     * @param recordDeserializeFilter Record deserialize filter.
+     * @param threads Number of decoding threads.
+     * @return WAL iterator.
+     * @throws IgniteCheckedException If failed to start iteration.
+     * @throws StorageException If IO error occurred while reading WAL entries.
+     */
+    public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        int threads
+    ) throws IgniteCheckedException, StorageException {
+        if (threads <= 0 || serializerVer != 2)
+            return replay(start, recordDeserializeFilter);
+
+        RecordV2Serializer ser = (RecordV2Serializer)new RecordSerializerFactoryImpl(cctx).createSerializer(2);
+
+        WALIterator src = replay0(start, new RecordSerializerFactoryImpl(cctx)
+            .recordDeserializeFilter(recordDeserializeFilter)
+            .marshalledMode(true));
+
+        return new ParallelDecodingWalIterator(cctx.igniteInstanceName(), src, ser, threads);
+    }
+
+    /**
+     * @param start Start WAL pointer, inclusive.
+     * @param serFactory Serializer factory.
+     * @return WAL iterator.
+     * @throws IgniteCheckedException If failed to start iteration.
+     * @throws StorageException If IO error occurred while reading WAL entries.
+     */
+    private WALIterator replay0(
+        WALPointer start,
+        RecordSerializerFactory serFactory
     ) throws IgniteCheckedException, StorageException {
         FileWriteHandle hnd = currentHandle();
 
@@ -1075,7 +1133,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             start,
             end,
             dsCfg,
-            new RecordSerializerFactoryImpl(cctx).recordDeserializeFilter(recordDeserializeFilter),
+            serFactory,
             ioFactory,
             archiver,
             decompressor,
@@ -3207,6 +3265,15 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             return Arrays.stream(files).map(File::getName).sorted().collect(toList());
         }
 
+        /** {@inheritDoc} */
+        @Override protected @NotNull WALRecord postProcessRecord(@NotNull WALRecord rec) {
+            // Buffer of a marshalled record is reused to read the next record ahead, so the record gets its own copy.
+            if (rec instanceof MarshalledRecord)
+                return ParallelDecodingWalIterator.copy((MarshalledRecord)rec);
+
+            return super.postProcessRecord(rec);
+        }
+
         /** {@inheritDoc} */
         @Override protected IgniteCheckedException handleRecordException(Exception e, @Nullable WALPointer ptr) {
             if (e instanceof IgniteCheckedException && X.hasCause(e, IgniteDataIntegrityViolationException.class)) {
@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV2Serializer;
+import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.thread.IgniteThread;
+import org.apache.ignite.thread.IgniteThreadPoolExecutor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * WAL iterator which decodes records by several threads.
+ * <p>
+ * Records are read and checked by a single reader thread in marshalled mode and grouped into batches. Batches are
+ * decoded by a pool of threads and returned in WAL order. The reader is allowed to run ahead of the consumer
+ * by a limited number of batches, so the next segments are read while the current ones are being applied.
+ */
+public class ParallelDecodingWalIterator extends GridCloseableIteratorAdapter<IgniteBiTuple<WALPointer, WALRecord>>
+    implements WALIterator {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Maximum number of records in a batch. */
+    private static final int BATCH_RECORDS = 1024;
+
+    /** Maximum total size of records in a batch. */
+    private static final int BATCH_SIZE = 1024 * 1024;
+
+    /** Number of batches the reader may be ahead of the consumer, per decoding thread. */
+    private static final int BATCHES_PER_THREAD = 4;
+
+    /** Source iterator, returns {@link MarshalledRecord}s which do not share buffers. */
+    private final WALIterator src;
+
+    /** Serializer to decode records. */
+    private final RecordV2Serializer ser;
+
+    /** Decoding threads. */
+    private final IgniteThreadPoolExecutor decoders;
+
+    /** Read batches in WAL order. */
+    private final BlockingQueue<Batch> batches;
+
+    /** Reader thread. */
+    private final IgniteThread reader;
+
+    /** Stop flag. */
+    private volatile boolean stop;
+
+    /** Current batch. */
+    private Batch cur;
+
+    /** Index of the next record in the current batch. */
+    private int curIdx;
+
+    /** Pointer to the last read record. */
+    private WALPointer lastRead;
+
+    /** Iteration error. */
+    private IgniteCheckedException err;
+
+    /**
+     * @param igniteInstanceName Ignite instance name.
+     * @param src Source iterator in marshalled mode.
+     * @param ser Serializer to decode records.
+     * @param threads Number of decoding threads.
+     */
+    public ParallelDecodingWalIterator(
+        String igniteInstanceName,
+        WALIterator src,
+        RecordV2Serializer ser,
+        int threads
+    ) {
+        assert threads > 0 : threads;
+
+        this.src = src;
+        this.ser = ser;
+
+        lastRead = src.lastRead().orElse(null);
+
+        batches = new ArrayBlockingQueue<>(threads * BATCHES_PER_THREAD);
+
+        decoders = new IgniteThreadPoolExecutor(
+            "wal-recovery-decoder",
+            igniteInstanceName,
+            threads,
+            threads,
+            0,
+            new LinkedBlockingQueue<>()
+        );
+
+        reader = new IgniteThread(igniteInstanceName, "wal-recovery-reader", this::read);
+
+        reader.start();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Optional<WALPointer> lastRead() {
+        return Optional.ofNullable(lastRead);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteBiTuple<WALPointer, WALRecord> onNext() throws IgniteCheckedException {
+        if (!onHasNext())
+            throw new NoSuchElementException();
+
+        IgniteBiTuple<WALPointer, WALRecord> res = cur.recs.get(curIdx);
+
+        lastRead = cur.lastReads.get(curIdx);
+
+        // Let GC collect already returned records.
+        cur.recs.set(curIdx++, null);
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean onHasNext() throws IgniteCheckedException {
+        if (err != null)
+            throw err;
+
+        while (cur == null || curIdx == cur.recs.size()) {
+            if (cur != null && cur.last) {
+                lastRead = cur.endLastRead;
+
+                if (cur.err != null)
+                    throw err = cur.err;
+
+                return false;
+            }
+
+            try {
+                cur = batches.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedCheckedException(e);
+            }
+
+            cur.get();
+
+            curIdx = 0;
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void onClose() throws IgniteCheckedException {
+        stop = true;
+
+        reader.interrupt();
+
+        try {
+            U.join(reader);
+        }
+        finally {
+            decoders.shutdownNow();
+
+            src.close();
+        }
+    }
+
+    /**
+     * Reads records from the source iterator and submits them for decoding.
+     */
+    private void read() {
+        Batch batch = new Batch(lastRead);
+
+        try {
+            try {
+                while (!stop && src.hasNextX()) {
+                    IgniteBiTuple<WALPointer, WALRecord> next = src.nextX();
+
+                    batch.add(next.get1(), next.get2(), src.lastRead().orElse(null));
+
+                    if (batch.full()) {
+                        submit(batch);
+
+                        batch = new Batch(batch.endLastRead);
+                    }
+                }
+
+                batch.last = true;
+            }
+            catch (Throwable e) {
+                batch.fail(batch.recs.size(), src.lastRead().orElse(null), e);
+            }
+
+            if (!stop)
+                submit(batch);
+        }
+        catch (InterruptedException ignored) {
+            // No-op, iterator is closed.
+        }
+    }
+
+    /**
+     * @param batch Batch to submit for decoding.
+     * @throws InterruptedException If interrupted.
+     */
+    private void submit(Batch batch) throws InterruptedException {
+        batches.put(batch);
+
+        decoders.execute(batch::decode);
+    }
+
+    /**
+     * Copies record from the buffer which is reused by the serializer.
+     *
+     * @param rec Marshalled record.
+     * @return Record copy.
+     */
+    static MarshalledRecord copy(MarshalledRecord rec) {
+        ByteBuffer buf = ByteBuffer.allocate(rec.buffer().remaining()).order(rec.buffer().order());
+
+        buf.put(rec.buffer().duplicate());
+
+        buf.flip();
+
+        MarshalledRecord res = new MarshalledRecord(rec.type(), rec.position(), buf);
+
+        res.size(rec.size());
+
+        return res;
+    }
+
+    /**
+     * Records to decode, done when all marshalled records are decoded.
+     */
+    private class Batch extends GridFutureAdapter<Void> {
+        /** Records. */
+        private final List<IgniteBiTuple<WALPointer, WALRecord>> recs = new ArrayList<>();
+
+        /** Pointers to the last read records of the source iterator after each record. */
+        private final List<WALPointer> lastReads = new ArrayList<>();
+
+        /** Pointer to the last read record before the first record of this batch. */
+        private final WALPointer startLastRead;
+
+        /** Pointer to the last read record after the last record of this batch. */
+        private WALPointer endLastRead;
+
+        /** Total size of records. */
+        private int size;
+
+        /** {@code True} if there are no records after this batch. */
+        private boolean last;
+
+        /** Error to throw after the records of this batch. */
+        private IgniteCheckedException err;
+
+        /**
+         * @param startLastRead Pointer to the last read record before the first record of this batch.
+         */
+        private Batch(@Nullable WALPointer startLastRead) {
+            this.startLastRead = startLastRead;
+
+            endLastRead = startLastRead;
+        }
+
+        /**
+         * @param ptr Record pointer.
+         * @param rec Record.
+         * @param lastRead Pointer to the last read record after the record.
+         */
+        private void add(WALPointer ptr, WALRecord rec, @Nullable WALPointer lastRead) {
+            recs.add(new IgniteBiTuple<>(ptr, rec));
+            lastReads.add(lastRead);
+
+            endLastRead = lastRead;
+
+            size += ptr.length();
+        }
+
+        /**
+         * @return {@code True} if no more records should be added.
+         */
+        private boolean full() {
+            return recs.size() >= BATCH_RECORDS || size >= BATCH_SIZE;
+        }
+
+        /**
+         * Truncates this batch and makes it the last one.
+         *
+         * @param idx Index of the first failed record.
+         * @param lastRead Pointer to the last read record before the failed one.
+         * @param e Error.
+         */
+        private void fail(int idx, @Nullable WALPointer lastRead, Throwable e) {
+            recs.subList(idx, recs.size()).clear();
+            lastReads.subList(idx, lastReads.size()).clear();
+
+            endLastRead = lastRead;
+            last = true;
+            err = e instanceof IgniteCheckedException ? (IgniteCheckedException)e : new IgniteCheckedException(e);
+        }
+
+        /**
+         * Decodes marshalled records.
+         */
+        private void decode() {
+            try {
+                for (int i = 0; i < recs.size() && !stop; i++) {
+                    IgniteBiTuple<WALPointer, WALRecord> next = recs.get(i);
+
+                    if (!(next.get2() instanceof MarshalledRecord))
+                        continue;
+
+                    try {
+                        next.set2(ser.readMarshalled((MarshalledRecord)next.get2()));
+                    }
+                    catch (Throwable e) {
+                        fail(i, i == 0 ? startLastRead : lastReads.get(i - 1),
+                            new IgniteCheckedException("Failed to decode WAL record [ptr=" + next.get1() + ']', e));
+
+                        break;
+                    }
+                }
+            }
+            finally {
+                onDone();
+            }
+        }
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
 
+import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FsyncFileHandleManagerImpl.DFLT_WAL_FSYNC_GROUP_COMMIT_WINDOW;
+
 /**
  * Factory of {@link FileHandleManager}.
  */
@@ -33,6 +35,10 @@ public class FileHandleManagerFactory {
     private final boolean walFsyncWithDedicatedWorker =
         IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER, false);
 
+    /** Maximum time in nanoseconds a commit waits for concurrent commits to share an fsync in FSYNC mode. */
+    private final long walFsyncGrpCommitWindow = IgniteSystemProperties.getLong(
+        IgniteSystemProperties.IGNITE_WAL_FSYNC_GROUP_COMMIT_WINDOW, DFLT_WAL_FSYNC_GROUP_COMMIT_WINDOW);
+
     /** Data storage configuration. */
     private final DataStorageConfiguration dsConf;
 
@@ -67,7 +73,8 @@ public class FileHandleManagerFactory {
                 dsConf.getWalMode(),
                 dsConf.getWalSegmentSize(),
                 dsConf.getWalFsyncDelayNanos(),
-                dsConf.getWalThreadLocalBufferSize()
+                dsConf.getWalThreadLocalBufferSize(),
+                walFsyncGrpCommitWindow
             );
         else
             return new FileHandleManagerImpl(
@@ -23,6 +23,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -54,8 +55,10 @@ import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.SWITCH_SEGMENT_RECORD;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.prepareSerializerVersionBuffer;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.HEADER_RECORD_SIZE;
@@ -79,6 +82,14 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** Page size. */
     private static final int PAGE_SIZE = GridUnsafe.pageSize();
 
+    /** Max size of records serialized before the space for them is reserved in {@link #buf}. */
+    private static final int PRE_SERIALIZATION_MAX_RECORD_SIZE = IgniteSystemProperties.getInteger(
+        IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE, DFLT_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE);
+
+    /** Thread local buffer for records serialized before the space for them is reserved in {@link #buf}. */
+    private static final ThreadLocal<ByteBuffer> PRE_SERIALIZATION_BUF = ThreadLocal.withInitial(
+        () -> ByteBuffer.allocate(0).order(ByteOrder.nativeOrder()));
+
     /** Serializer latest version to use. */
     private final int serializerVer =
         IgniteSystemProperties.getInteger(IGNITE_WAL_SERIALIZER_VERSION, LATEST_SERIALIZER_VERSION);
@@ -222,6 +233,10 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     @Override @Nullable public WALPointer addRecord(WALRecord rec) throws StorageException, IgniteCheckedException {
         assert rec.size() > 0 : rec;
 
+        // Serialize the record data in advance, so the reserved space is released as soon as possible and doesn't
+        // hold the flush of the records reserved after it.
+        ByteBuffer data = serializeData(rec);
+
         for (; ; ) {
             checkNode();
 
@@ -254,7 +269,10 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
 
                     rec.position(ptr);
 
-                    fillBuffer(buf, rec);
+                    if (data != null)
+                        serializer.writeRecord(rec, data, buf);
+                    else
+                        fillBuffer(buf, rec);
 
                     if (mmap) {
                         // written field must grow only, but segment with greater position can be serialized
@@ -321,6 +339,41 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
         walWriter.flushBuffer(ptr.fileOffset() + ptr.length());
     }
 
+    /**
+     * Serializes the record data to the thread local buffer.
+     *
+     * @param rec Record.
+     * @return Buffer with the serialized data or {@code null} if the record should be serialized to the WAL buffer.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private ByteBuffer serializeData(WALRecord rec) throws IgniteCheckedException {
+        if (rec.size() > PRE_SERIALIZATION_MAX_RECORD_SIZE)
+            return null;
+
+        ByteBuffer data = PRE_SERIALIZATION_BUF.get();
+
+        if (data.capacity() < rec.size()) {
+            data = ByteBuffer.allocate(Math.min(PRE_SERIALIZATION_MAX_RECORD_SIZE, U.ceilPow2(rec.size())))
+                .order(ByteOrder.nativeOrder());
+
+            PRE_SERIALIZATION_BUF.set(data);
+        }
+
+        data.clear();
+
+        try {
+            if (!serializer.writeData(rec, data))
+                return null;
+        }
+        catch (RuntimeException e) {
+            throw new IllegalStateException("Failed to write record: " + rec, e);
+        }
+
+        data.flip();
+
+        return data;
+    }
+
     /**
      * @param buf Buffer.
      * @param rec WAL record.
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
@@ -34,6 +35,9 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.Re
  * Implementation of {@link FileWriteHandle} for FSYNC mode.
  */
 public class FsyncFileHandleManagerImpl implements FileHandleManager {
+    /** @see IgniteSystemProperties#IGNITE_WAL_FSYNC_GROUP_COMMIT_WINDOW */
+    public static final long DFLT_WAL_FSYNC_GROUP_COMMIT_WINDOW = 0;
+
     /** Context. */
     protected final GridCacheSharedContext cctx;
 
@@ -61,6 +65,9 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
     /** Thread local byte buffer size. */
     private final int tlbSize;
 
+    /** Group commit state shared by all write handles. */
+    private final FsyncGroupCommit grpCommit;
+
     /**
      * @param cctx Context.
      * @param metrics Data storage metrics.
@@ -70,6 +77,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
      * @param maxWalSegmentSize Max WAL segment size.
      * @param fsyncDelay Fsync delay.
      * @param tlbSize Thread local byte buffer size.
+     * @param grpCommitWindow Maximum time in nanoseconds a commit waits for concurrent commits to share an fsync.
      */
     public FsyncFileHandleManagerImpl(
         GridCacheSharedContext cctx,
@@ -79,7 +87,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         WALMode mode,
         long maxWalSegmentSize,
         long fsyncDelay,
-        int tlbSize
+        int tlbSize,
+        long grpCommitWindow
     ) {
         this.cctx = cctx;
         this.log = cctx.logger(FsyncFileHandleManagerImpl.class);
@@ -90,6 +99,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.fsyncDelay = fsyncDelay;
         this.tlbSize = tlbSize;
+
+        grpCommit = new FsyncGroupCommit(grpCommitWindow);
     }
 
     /** {@inheritDoc} */
@@ -97,7 +108,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         RecordSerializer serializer) throws IOException {
         return new FsyncFileWriteHandle(
             cctx, fileIO, metrics, serializer, position,
-            mode, maxWalSegmentSize, tlbSize, fsyncDelay
+            mode, maxWalSegmentSize, tlbSize, fsyncDelay, grpCommit
         );
     }
 
@@ -106,7 +117,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         RecordSerializer serializer) throws IOException {
         return new FsyncFileWriteHandle(
             cctx, fileIO, metrics, serializer, 0,
-            mode, maxWalSegmentSize, tlbSize, fsyncDelay
+            mode, maxWalSegmentSize, tlbSize, fsyncDelay, grpCommit
         );
     }
 
@@ -120,6 +120,9 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Group commit state. */
+    private final FsyncGroupCommit grpCommit;
+
     /** Switch segment record offset. */
     private int switchSegmentRecordOffset;
 
@@ -148,12 +151,13 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @param maxSegmentSize Max segment size.
      * @param size Thread local byte buffer size.
      * @param fsyncDelay Fsync delay.
+     * @param grpCommit Group commit state.
      * @throws IOException If failed.
      */
     FsyncFileWriteHandle(
         GridCacheSharedContext cctx, SegmentIO fileIO,
         DataStorageMetricsImpl metrics, RecordSerializer serializer, long pos,
-        WALMode mode, long maxSegmentSize, int size, long fsyncDelay) throws IOException {
+        WALMode mode, long maxSegmentSize, int size, long fsyncDelay, FsyncGroupCommit grpCommit) throws IOException {
         super(fileIO);
         assert serializer != null;
 
@@ -163,6 +167,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
         this.metrics = metrics;
         this.log = cctx.logger(FsyncFileWriteHandle.class);
         this.fsyncDelay = fsyncDelay;
+        this.grpCommit = grpCommit;
         this.maxSegmentSize = maxSegmentSize;
         this.serializer = serializer;
         this.written = pos;
@@ -566,6 +571,9 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @throws IgniteInterruptedCheckedException If interrupted.
      */
     protected void fsync(WALPointer ptr, boolean stop) throws StorageException, IgniteInterruptedCheckedException {
+        if (ptr != null && needFsync(ptr))
+            grpCommit.onCommit();
+
         lock.lock();
 
         try {
@@ -573,7 +581,18 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 if (!needFsync(ptr))
                     return;
 
-                if (fsyncDelay > 0 && !stopped()) {
+                if (grpCommit.enabled()) {
+                    long window = grpCommit.window();
+
+                    // Let concurrent commits join the fsync, the window is closed by the fsync of any of them.
+                    if (window > 0 && !stopped()) {
+                        U.await(fsync, window, TimeUnit.NANOSECONDS);
+
+                        if (!needFsync(ptr))
+                            return;
+                    }
+                }
+                else if (fsyncDelay > 0 && !stopped()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
                     U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
 
@@ -582,6 +601,9 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 }
             }
 
+            // All commits registered before the flush are covered by the following fsync.
+            int grpSize = grpCommit.onFsyncStart();
+
             flushOrWait(ptr, stop);
 
             if (stopped())
@@ -590,9 +612,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
             if (lastFsyncPos != written) {
                 assert lastFsyncPos < written; // Fsync position must be behind.
 
-                boolean metricsEnabled = metrics.metricsEnabled();
-
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 try {
                     fileIO.force();
@@ -603,13 +623,15 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
 
                 lastFsyncPos = written;
 
-                if (fsyncDelay > 0)
+                if (fsyncDelay > 0 || grpCommit.enabled())
                     fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                long duration = System.nanoTime() - start;
+
+                grpCommit.onFsyncEnd(grpSize, duration);
 
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                metrics.onFsync(duration);
+                metrics.onWalGroupCommit(grpSize);
             }
         }
         finally {
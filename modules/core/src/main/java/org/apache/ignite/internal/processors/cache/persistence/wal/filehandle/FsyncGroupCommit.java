@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Group commit state for FSYNC WAL mode, shared by all write handles of the WAL.
+ * <p>
+ * Commits waiting for an fsync are counted until an fsync is started, all of them are covered by that fsync. A commit
+ * waits for concurrent commits to join its fsync only if previous fsyncs covered several commits, the wait is limited
+ * by the average fsync duration and the configured maximum window, and finishes as soon as the expected number of
+ * commits is gathered. Single-threaded load is therefore fsync'ed without any delay.
+ */
+class FsyncGroupCommit {
+    /** Weight of a new sample in the moving averages. */
+    private static final double SAMPLE_WEIGHT = 0.125;
+
+    /** Maximum time in nanoseconds a commit waits for other commits, {@code 0} if group commit is disabled. */
+    private final long maxWindow;
+
+    /** Number of commits waiting for fsync which are not covered by a started fsync yet. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Moving average of number of commits covered by a single fsync. */
+    private volatile double avgGrpSize = 1;
+
+    /** Moving average of fsync duration in nanoseconds. */
+    private volatile double avgFsyncTime;
+
+    /**
+     * @param maxWindow Maximum time in nanoseconds a commit waits for other commits, {@code 0} disables waiting.
+     */
+    FsyncGroupCommit(long maxWindow) {
+        this.maxWindow = maxWindow;
+    }
+
+    /**
+     * @return {@code True} if commits may wait for each other.
+     */
+    boolean enabled() {
+        return maxWindow > 0;
+    }
+
+    /**
+     * Registers a commit waiting for fsync.
+     */
+    void onCommit() {
+        pending.incrementAndGet();
+    }
+
+    /**
+     * @return Time in nanoseconds to wait for concurrent commits before fsync, {@code 0} if fsync should be started
+     *      right away.
+     */
+    long window() {
+        if (!enabled() || avgGrpSize < 2 || pending.get() >= Math.round(avgGrpSize))
+            return 0;
+
+        return Math.min(maxWindow, (long)avgFsyncTime);
+    }
+
+    /**
+     * Called right before the flush of the WAL records preceding the fsync, all commits registered so far are covered
+     * by that fsync.
+     *
+     * @return Number of commits covered by the fsync.
+     */
+    int onFsyncStart() {
+        return Math.max(1, pending.getAndSet(0));
+    }
+
+    /**
+     * @param grpSize Number of commits covered by the fsync.
+     * @param duration Fsync duration in nanoseconds.
+     */
+    void onFsyncEnd(int grpSize, long duration) {
+        avgGrpSize += (grpSize - avgGrpSize) * SAMPLE_WEIGHT;
+
+        avgFsyncTime = avgFsyncTime == 0 ? duration : avgFsyncTime + (duration - avgFsyncTime) * SAMPLE_WEIGHT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(FsyncGroupCommit.class, this);
+    }
+}
@@ -51,6 +51,7 @@ import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -187,6 +188,7 @@ public class IgniteWalIteratorFactory {
                 iteratorParametersBuilder.ioFactory,
                 resolveWalFiles(iteratorParametersBuilder),
                 iteratorParametersBuilder.filter,
+                iteratorParametersBuilder.dataEntryFilter,
                 iteratorParametersBuilder.lowBound,
                 iteratorParametersBuilder.highBound,
                 iteratorParametersBuilder.keepBinary,
@@ -207,6 +209,7 @@ public class IgniteWalIteratorFactory {
                 iteratorParametersBuilder.ioFactory,
                 resolveWalFiles(iteratorParametersBuilder),
                 iteratorParametersBuilder.filter,
+                iteratorParametersBuilder.dataEntryFilter,
                 iteratorParametersBuilder.lowBound,
                 iteratorParametersBuilder.highBound,
                 iteratorParametersBuilder.keepBinary,
@@ -474,6 +477,9 @@ public class IgniteWalIteratorFactory {
         /** */
         @Nullable private IgniteBiPredicate<RecordType, WALPointer> filter;
 
+        /** Filter of cache IDs whose data entries are read. */
+        @Nullable private IgnitePredicate<Integer> dataEntryFilter;
+
         /** */
         private WALPointer lowBound = DFLT_LOW_BOUND;
 
@@ -628,6 +634,17 @@ public class IgniteWalIteratorFactory {
             return this;
         }
 
+        /**
+         * @param dataEntryFilter Filter of cache IDs whose data entries are read. Data entries of other caches are
+         * skipped without deserialization.
+         * @return IteratorParametersBuilder Self reference.
+         */
+        public IteratorParametersBuilder dataEntryFilter(IgnitePredicate<Integer> dataEntryFilter) {
+            this.dataEntryFilter = dataEntryFilter;
+
+            return this;
+        }
+
         /**
          * @param lowBound WAL pointer to start from.
          * @return IteratorParametersBuilder Self reference.
@@ -676,6 +693,7 @@ public class IgniteWalIteratorFactory {
                 .from(lowBound)
                 .to(highBound)
                 .filter(filter)
+                .dataEntryFilter(dataEntryFilter)
                 .strictBoundsCheck(strictBoundsCheck);
         }
 
@@ -60,6 +60,7 @@ import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -109,6 +110,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
      * @param keepBinary Keep binary. This flag disables converting of non primitive types (BinaryObjects will be used
      * instead)
      * @param walFiles Wal files.
+     * @param dataEntryFilter Filter of cache IDs whose data entries are read, {@code null} to read all data entries.
      */
     StandaloneWalRecordsIterator(
         @NotNull IgniteLogger log,
@@ -116,6 +118,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         @NotNull FileIOFactory ioFactory,
         @NotNull List<FileDescriptor> walFiles,
         IgniteBiPredicate<RecordType, WALPointer> readTypeFilter,
+        @Nullable IgnitePredicate<Integer> dataEntryFilter,
         WALPointer lowBound,
         WALPointer highBound,
         boolean keepBinary,
@@ -125,7 +128,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         super(
             log,
             sharedCtx,
-            new RecordSerializerFactoryImpl(sharedCtx, readTypeFilter),
+            new RecordSerializerFactoryImpl(sharedCtx, readTypeFilter).dataEntryFilter(dataEntryFilter),
             ioFactory,
             initialReadBufferSize,
             highBound,
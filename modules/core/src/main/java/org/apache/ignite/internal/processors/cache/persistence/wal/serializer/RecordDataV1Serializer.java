@@ -123,6 +123,7 @@ import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProces
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.lang.IgniteProductVersion;
 import org.apache.ignite.spi.encryption.EncryptionSpi;
 import org.apache.ignite.spi.encryption.noop.NoopEncryptionSpi;
@@ -174,6 +175,12 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
     /** */
     private final boolean encryptionDisabled;
 
+    /**
+     * Filter of cache IDs whose data entries are read, entries of other caches are skipped without deserialization.
+     * {@code Null} to read all data entries.
+     */
+    @Nullable private final IgnitePredicate<Integer> dataEntryFilter;
+
     /** */
     private static final byte ENCRYPTED = 1;
 
@@ -184,7 +191,16 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
      * @param cctx Cache shared context.
      */
     public RecordDataV1Serializer(GridCacheSharedContext cctx) {
+        this(cctx, null);
+    }
+
+    /**
+     * @param cctx Cache shared context.
+     * @param dataEntryFilter Filter of cache IDs whose data entries are read, {@code null} to read all data entries.
+     */
+    public RecordDataV1Serializer(GridCacheSharedContext cctx, @Nullable IgnitePredicate<Integer> dataEntryFilter) {
         this.cctx = cctx;
+        this.dataEntryFilter = dataEntryFilter;
         this.txRecordSerializer = new TxRecordSerializer();
         this.co = cctx.kernalContext().cacheObjects();
         this.pageSize = cctx.database().pageSize();
@@ -681,16 +697,7 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case DATA_RECORD_V2:
                 int entryCnt = in.readInt();
 
-                if (entryCnt == 1)
-                    res = new DataRecord(readPlainDataEntry(in, type), 0L);
-                else {
-                    List<DataEntry> entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readPlainDataEntry(in, type));
-
-                    res = new DataRecord(entries, 0L);
-                }
+                res = readDataRecord(in, type, entryCnt, 0L, false);
 
                 break;
 
@@ -699,16 +706,7 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case ENCRYPTED_DATA_RECORD_V3:
                 entryCnt = in.readInt();
 
-                if (entryCnt == 1)
-                    res = new DataRecord(readEncryptedDataEntry(in, type), 0L);
-                else {
-                    List<DataEntry> entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readEncryptedDataEntry(in, type));
-
-                    res = new DataRecord(entries, 0L);
-                }
+                res = readDataRecord(in, type, entryCnt, 0L, true);
 
                 break;
 
@@ -2151,11 +2149,11 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
     /**
      * @param in Input to read from.
      * @param recType Record type.
-     * @return Read entry.
+     * @return Read entry or {@code null} if the entry is rejected by the data entry filter.
      * @throws IOException If failed.
      * @throws IgniteCheckedException If failed.
      */
-    DataEntry readEncryptedDataEntry(ByteBufferBackedDataInput in, RecordType recType) throws IOException, IgniteCheckedException {
+    @Nullable DataEntry readEncryptedDataEntry(ByteBufferBackedDataInput in, RecordType recType) throws IOException, IgniteCheckedException {
         boolean needDecryption = in.readByte() == ENCRYPTED;
 
         RecordType dataRecordType = recType == ENCRYPTED_DATA_RECORD_V3 ? DATA_RECORD_V2 : DATA_RECORD;
@@ -2174,12 +2172,56 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
     }
 
     /**
+     * Reads data entries of a data record. Entries rejected by the data entry filter are skipped.
+     *
      * @param in Input to read from.
-     * @return Read entry.
+     * @param type Record type.
+     * @param entryCnt Number of entries in the record.
+     * @param timestamp Record timestamp.
+     * @param encrypted Whether entries may be encrypted.
+     * @return Data record.
+     * @throws IOException If failed.
+     * @throws IgniteCheckedException If failed.
      */
-    DataEntry readPlainDataEntry(ByteBufferBackedDataInput in, RecordType type) throws IOException, IgniteCheckedException {
+    DataRecord readDataRecord(
+        ByteBufferBackedDataInput in,
+        RecordType type,
+        int entryCnt,
+        long timestamp,
+        boolean encrypted
+    ) throws IOException, IgniteCheckedException {
+        if (entryCnt == 1) {
+            DataEntry entry = encrypted ? readEncryptedDataEntry(in, type) : readPlainDataEntry(in, type);
+
+            return entry != null ? new DataRecord(entry, timestamp) : new DataRecord(Collections.emptyList(), timestamp);
+        }
+
+        List<DataEntry> entries = new ArrayList<>(entryCnt);
+
+        for (int i = 0; i < entryCnt; i++) {
+            DataEntry entry = encrypted ? readEncryptedDataEntry(in, type) : readPlainDataEntry(in, type);
+
+            if (entry != null)
+                entries.add(entry);
+        }
+
+        return new DataRecord(entries, timestamp);
+    }
+
+    /**
+     * @param in Input to read from.
+     * @return Read entry or {@code null} if the entry is rejected by the data entry filter.
+     */
+    @Nullable DataEntry readPlainDataEntry(ByteBufferBackedDataInput in, RecordType type)
+        throws IOException, IgniteCheckedException {
         int cacheId = in.readInt();
 
+        if (dataEntryFilter != null && !dataEntryFilter.apply(cacheId)) {
+            skipPlainDataEntry(in, type);
+
+            return null;
+        }
+
         int keySize = in.readInt();
         byte keyType = in.readByte();
         byte[] keyBytes = new byte[keySize];
@@ -2251,6 +2293,60 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             );
     }
 
+    /**
+     * Skips the rest of a data entry following the cache ID without deserialization of its fields.
+     *
+     * @param in Input to read from.
+     * @param type Record type.
+     * @throws IOException If failed.
+     */
+    private void skipPlainDataEntry(ByteBufferBackedDataInput in, RecordType type) throws IOException {
+        int keySize = in.readInt();
+
+        skipBytes(in, 1 /* key type */ + keySize);
+
+        int valSize = in.readInt();
+
+        if (valSize >= 0)
+            skipBytes(in, 1 /* value type */ + valSize);
+
+        skipBytes(in, 1 /* operation */);
+
+        skipVersion(in, true);
+        skipVersion(in, false);
+
+        int flagsSize = type == DATA_RECORD_V2 || type == CDC_DATA_RECORD ? 1 : 0;
+
+        skipBytes(in, 4 /* partId */ + 8 /* partCntr */ + 8 /* expireTime */ + flagsSize);
+    }
+
+    /**
+     * @param in Input to read from.
+     * @param allowNull Is {@code null} version allowed.
+     * @throws IOException If failed.
+     */
+    private static void skipVersion(ByteBufferBackedDataInput in, boolean allowNull) throws IOException {
+        // To be able to read serialization protocol version.
+        in.ensure(1);
+
+        try {
+            skipBytes(in, CacheVersionIO.readSize(in.buffer(), allowNull));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * @param in Input to read from.
+     * @param len Number of bytes to skip.
+     * @throws IOException If failed.
+     */
+    private static void skipBytes(ByteBufferBackedDataInput in, int len) throws IOException {
+        if (in.skipBytes(len) < len)
+            throw new EOFException("Reached end of record while skipping data entry");
+    }
+
     /**
      * @param rec Record.
      * @return Real record type.
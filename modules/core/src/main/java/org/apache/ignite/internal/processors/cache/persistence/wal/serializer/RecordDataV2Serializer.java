@@ -55,6 +55,8 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBac
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.record.HeaderRecord;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Record data V2 serializer.
@@ -72,7 +74,17 @@ public class RecordDataV2Serializer extends RecordDataV1Serializer {
      * @param cctx Cache shared context.
      */
     public RecordDataV2Serializer(GridCacheSharedContext cctx) {
-        super(cctx);
+        this(cctx, null);
+    }
+
+    /**
+     * Create an instance of V2 data serializer.
+     *
+     * @param cctx Cache shared context.
+     * @param dataEntryFilter Filter of cache IDs whose data entries are read, {@code null} to read all data entries.
+     */
+    public RecordDataV2Serializer(GridCacheSharedContext cctx, @Nullable IgnitePredicate<Integer> dataEntryFilter) {
+        super(cctx, dataEntryFilter);
 
         this.txRecordSerializer = new TxRecordSerializer();
     }
@@ -167,16 +179,7 @@ public class RecordDataV2Serializer extends RecordDataV1Serializer {
                 int entryCnt = in.readInt();
                 long timeStamp = in.readLong();
 
-                if (entryCnt == 1)
-                    return new DataRecord(readPlainDataEntry(in, type), timeStamp);
-                else {
-                    List<DataEntry> entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readPlainDataEntry(in, type));
-
-                    return new DataRecord(entries, timeStamp);
-                }
+                return readDataRecord(in, type, entryCnt, timeStamp, false);
 
             case MVCC_DATA_RECORD:
                 entryCnt = in.readInt();
@@ -195,16 +198,7 @@ public class RecordDataV2Serializer extends RecordDataV1Serializer {
                 entryCnt = in.readInt();
                 timeStamp = in.readLong();
 
-                if (entryCnt == 1)
-                    return new DataRecord(readEncryptedDataEntry(in, type), timeStamp);
-                else {
-                    entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readEncryptedDataEntry(in, type));
-
-                    return new DataRecord(entries, timeStamp);
-                }
+                return readDataRecord(in, type, entryCnt, timeStamp, true);
 
             case SNAPSHOT:
                 long snpId = in.readLong();
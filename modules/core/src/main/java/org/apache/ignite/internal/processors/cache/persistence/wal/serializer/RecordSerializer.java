@@ -47,6 +47,32 @@ public interface RecordSerializer {
      */
     public void writeRecord(WALRecord record, ByteBuffer buf) throws IgniteCheckedException;
 
+    /**
+     * Writes the record data, which doesn't depend on the record position, to the buffer. Allows to serialize the
+     * record before the space for it is reserved in the WAL buffer.
+     *
+     * @param record Record.
+     * @param buf Buffer.
+     * @return {@code False} if the serializer doesn't support separate serialization of the record data.
+     * @throws IgniteCheckedException If failed.
+     * @see #writeRecord(WALRecord, ByteBuffer, ByteBuffer)
+     */
+    public default boolean writeData(WALRecord record, ByteBuffer buf) throws IgniteCheckedException {
+        return false;
+    }
+
+    /**
+     * Writes the record with the data serialized by {@link #writeData(WALRecord, ByteBuffer)}.
+     *
+     * @param record Record with the position set.
+     * @param data Serialized record data, from position to limit.
+     * @param buf Buffer.
+     * @throws IgniteCheckedException If failed.
+     */
+    public default void writeRecord(WALRecord record, ByteBuffer data, ByteBuffer buf) throws IgniteCheckedException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Loads record from input
      *
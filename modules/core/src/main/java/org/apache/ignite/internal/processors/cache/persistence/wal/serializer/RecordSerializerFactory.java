@@ -23,6 +23,7 @@ import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
 
 /**
  * Factory for creating {@link RecordSerializer}.
@@ -54,6 +55,14 @@ public interface RecordSerializerFactory {
      */
     public RecordSerializerFactory recordDeserializeFilter(IgniteBiPredicate<WALRecord.RecordType, WALPointer> readTypeFilter);
 
+    /**
+     * Specifies data entry filter. Created serializer will skip data entries of caches which don't satisfy the filter
+     * without deserialization, data records contain only accepted entries.
+     *
+     * @param dataEntryFilter Filter of cache IDs whose data entries are read.
+     */
+    public RecordSerializerFactory dataEntryFilter(IgnitePredicate<Integer> dataEntryFilter);
+
     /**
      * If marshalledMode is on, created serializer will read {@link MarshalledRecord} with raw binary data instead of
      * actual record.
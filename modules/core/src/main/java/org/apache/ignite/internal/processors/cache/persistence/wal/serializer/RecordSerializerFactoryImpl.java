@@ -22,6 +22,7 @@ import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -37,6 +38,9 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
     /** Read record filter. */
     private @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter;
 
+    /** Filter of cache IDs whose data entries are read. */
+    private @Nullable IgnitePredicate<Integer> dataEntryFilter;
+
     /**
      * Marshalled mode flag.
      * Records are not deserialized in this mode, {@link MarshalledRecord} with binary representation are read instead.
@@ -72,7 +76,7 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
         switch (ver) {
             case 1:
                 return new RecordV1Serializer(
-                    new RecordDataV1Serializer(cctx),
+                    new RecordDataV1Serializer(cctx, dataEntryFilter),
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
@@ -80,7 +84,7 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
 
             case 2:
                 return new RecordV2Serializer(
-                    new RecordDataV2Serializer(cctx),
+                    new RecordDataV2Serializer(cctx, dataEntryFilter),
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
@@ -123,6 +127,20 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
         return this;
     }
 
+    /**
+     * @return Filter of cache IDs whose data entries are read.
+     */
+    public IgnitePredicate<Integer> dataEntryFilter() {
+        return dataEntryFilter;
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordSerializerFactoryImpl dataEntryFilter(@Nullable IgnitePredicate<Integer> dataEntryFilter) {
+        this.dataEntryFilter = dataEntryFilter;
+
+        return this;
+    }
+
     /**
      * @return Marshalled mode. Records are not deserialized in this mode,  with binary representation are read instead.
      */
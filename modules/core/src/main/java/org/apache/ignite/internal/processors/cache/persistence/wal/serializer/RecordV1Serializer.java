@@ -423,6 +423,16 @@ public class RecordV1Serializer implements RecordSerializer {
         if (switchSegmentRec)
             return;
 
+        putCrc(buf, startPos);
+    }
+
+    /**
+     * Writes CRC of the record written to buffer {@code buf} from the given position up to the current position.
+     *
+     * @param buf Buffer.
+     * @param startPos Position of the record start.
+     */
+    static void putCrc(ByteBuffer buf, int startPos) {
         if (!skipCrc) {
             int curPos = buf.position();
 
@@ -27,6 +27,7 @@ import org.apache.ignite.internal.pagemem.wal.record.FilteredRecord;
 import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBackedDataInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBackedDataInputImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentEofException;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WalSegmentTailReachedException;
@@ -247,11 +248,60 @@ public class RecordV2Serializer implements RecordSerializer {
         RecordV1Serializer.writeWithCrc(record, buf, recordIO);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean writeData(WALRecord record, ByteBuffer buf) throws IgniteCheckedException {
+        if (record.type() == SWITCH_SEGMENT_RECORD)
+            return false;
+
+        dataSerializer.writeRecord(record, buf);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeRecord(WALRecord record, ByteBuffer data, ByteBuffer buf) throws IgniteCheckedException {
+        assert record.size() >= 0 && buf.remaining() >= record.size() : record.size();
+
+        int startPos = buf.position();
+
+        RecordV1Serializer.putRecordType(buf, dataSerializer.recordType(record));
+
+        putPositionOfRecord(buf, record);
+
+        buf.put(data);
+
+        RecordV1Serializer.putCrc(buf, startPos);
+    }
+
     /** {@inheritDoc} */
     @Override public WALRecord readRecord(FileInput in, WALPointer expPtr) throws IOException, IgniteCheckedException {
         return RecordV1Serializer.readWithCrc(in, expPtr, recordIO);
     }
 
+    /**
+     * Deserializes record read in marshalled mode. May be called by any thread if the record buffer is not shared
+     * with the thread that performs WAL iteration.
+     *
+     * @param rec Marshalled record.
+     * @return Deserialized record.
+     * @throws IOException If failed to read record.
+     * @throws IgniteCheckedException If failed to deserialize record.
+     */
+    public WALRecord readMarshalled(MarshalledRecord rec) throws IOException, IgniteCheckedException {
+        ByteBuffer buf = rec.buffer().duplicate().order(rec.buffer().order());
+
+        buf.position(buf.position() + REC_TYPE_SIZE + FILE_WAL_POINTER_SIZE);
+        buf.limit(buf.limit() - CRC_SIZE);
+
+        WALRecord res = dataSerializer.readRecord(rec.type(), new ByteBufferBackedDataInputImpl().buffer(buf),
+            buf.remaining());
+
+        res.position(rec.position());
+        res.size(rec.position().length());
+
+        return res;
+    }
+
     /**
      * @param in Data input to read pointer from.
      * @param skipPositionCheck Flag for skipping position check.
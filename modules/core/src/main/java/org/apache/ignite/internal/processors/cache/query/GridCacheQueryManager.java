@@ -62,6 +62,7 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteKernal;
 import org.apache.ignite.internal.NodeStoppingException;
+import org.apache.ignite.internal.cache.query.BinaryFieldScanFilter;
 import org.apache.ignite.internal.cache.query.index.IndexQueryResult;
 import org.apache.ignite.internal.cache.query.index.IndexQueryResultMeta;
 import org.apache.ignite.internal.managers.eventstorage.GridLocalEventListener;
@@ -3035,6 +3036,9 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
         /** */
         private final boolean keepBinary;
 
+        /** Whether the scan filter is applied to binary keys and values, so only matching entries are unmarshalled. */
+        private final boolean binaryFilter;
+
         /** */
         private final boolean readEvt;
 
@@ -3129,8 +3133,11 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
 
             subjId = securitySubjectId(cctx);
 
+            binaryFilter = scanFilter instanceof BinaryFieldScanFilter;
+
             // keep binary for remote scans if possible
-            keepBinary = (!locNode && scanFilter == null && transformer == null && !readEvt) || qry.keepBinary();
+            keepBinary = (!locNode && (scanFilter == null || binaryFilter) && transformer == null && !readEvt) ||
+                qry.keepBinary();
             transform = transformer;
             dht = cctx.isNear() ? cctx.near().dht() : cctx.dht();
             cache = dht != null ? dht : cctx.cache();
@@ -3259,8 +3266,10 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 }
 
                 if (val != null) {
-                    K key0 = (K)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, key, keepBinary, false);
-                    V val0 = (V)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, val, keepBinary, false);
+                    boolean keepBinary0 = keepBinary || binaryFilter;
+
+                    K key0 = (K)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, key, keepBinary0, false);
+                    V val0 = (V)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, val, keepBinary0, false);
 
                     if (statsEnabled) {
                         CacheMetricsImpl metrics = cctx.cache().metrics0();
@@ -3271,6 +3280,11 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                     }
 
                     if (intScanFilter == null || intScanFilter.apply(key0, val0)) {
+                        if (keepBinary0 != keepBinary) {
+                            key0 = (K)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, key, keepBinary, false);
+                            val0 = (V)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, val, keepBinary, false);
+                        }
+
                         if (readEvt) {
                             cctx.gridEvents().record(new CacheQueryReadEvent<>(
                                 cctx.localNode(),
@@ -53,6 +53,9 @@ public class ColumnStatistics {
     /** Created at time, milliseconds. */
     private final long createdAt;
 
+    /** Values histogram or {@code null} if column values are not comparable. */
+    private final Histogram hist;
+
     /**
      * Constructor.
      *
@@ -76,6 +79,35 @@ public class ColumnStatistics {
         byte[] raw,
         long ver,
         long createdAt
+    ) {
+        this(min, max, nulls, distinct, total, size, raw, ver, createdAt, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param min Min value in column or {@code null}.
+     * @param max Max value in column or {@code null}.
+     * @param nulls Number of null values in column.
+     * @param distinct Number of distinct values in column.
+     * @param total Total number of values in column.
+     * @param size Average size in bytes, for variable size only.
+     * @param raw Raw data to aggregate statistics.
+     * @param ver Statistics version.
+     * @param createdAt Created at time, milliseconds.
+     * @param hist Values histogram or {@code null}.
+     */
+    public ColumnStatistics(
+        BigDecimal min,
+        BigDecimal max,
+        long nulls,
+        long distinct,
+        long total,
+        int size,
+        byte[] raw,
+        long ver,
+        long createdAt,
+        Histogram hist
     ) {
         this.min = min;
         this.max = max;
@@ -86,6 +118,7 @@ public class ColumnStatistics {
         this.raw = raw;
         this.ver = ver;
         this.createdAt = createdAt;
+        this.hist = hist;
     }
 
     /**
@@ -151,6 +184,13 @@ public class ColumnStatistics {
         return createdAt;
     }
 
+    /**
+     * @return Values histogram or {@code null} if it wasn't collected.
+     */
+    public Histogram histogram() {
+        return hist;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o) return true;
@@ -164,12 +204,13 @@ public class ColumnStatistics {
             createdAt == that.createdAt &&
             (min == null ? that.min == null : min.compareTo(that.min) == 0) &&
             (max == null ? that.max == null : max.compareTo(that.max) == 0) &&
-            Arrays.equals(raw, that.raw);
+            Arrays.equals(raw, that.raw) &&
+            Objects.equals(hist, that.hist);
     }
 
     /** {@inheritDoc} */
     @Override public int hashCode() {
-        int result = Objects.hash(min, max, nulls, distinct, total, size, ver, createdAt);
+        int result = Objects.hash(min, max, nulls, distinct, total, size, ver, createdAt, hist);
         result = 31 * result + Arrays.hashCode(raw);
         return result;
     }
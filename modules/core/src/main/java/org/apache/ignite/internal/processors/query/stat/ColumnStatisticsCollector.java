@@ -25,12 +25,14 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.binary.BinaryObjectImpl;
@@ -69,6 +71,9 @@ public class ColumnStatisticsCollector {
         UUID.class
     ));
 
+    /** Maximum number of values sampled to build the histogram. */
+    private static final int HIST_SAMPLE_SIZE = 4096;
+
     /** Column name. */
     private final String colName;
 
@@ -93,6 +98,12 @@ public class ColumnStatisticsCollector {
     /** Null values counter. */
     private long nullsCnt;
 
+    /** Uniform sample of comparable values to build the histogram. */
+    private BigDecimal[] sample;
+
+    /** Number of comparable values offered to the sample. */
+    private long sampled;
+
     /** Is column has complex type. */
     private final boolean isComparable;
 
@@ -150,6 +161,8 @@ public class ColumnStatisticsCollector {
 
             if (null == max || max.compareTo(decVal) < 0)
                 max = decVal;
+
+            addToSample(decVal);
         }
     }
 
@@ -161,8 +174,32 @@ public class ColumnStatisticsCollector {
     public ColumnStatistics finish() {
         int averageSize = averageSize(size, total, nullsCnt);
 
+        Histogram hist = sample == null ? null
+            : Histogram.build(Arrays.copyOf(sample, (int)Math.min(sampled, sample.length)), Histogram.DFLT_BUCKETS);
+
         return new ColumnStatistics(toDecimal(min), toDecimal(max), nullsCnt, hll.cardinality(), total, averageSize,
-            hll.toBytes(), ver, U.currentTimeMillis());
+            hll.toBytes(), ver, U.currentTimeMillis(), hist);
+    }
+
+    /**
+     * Reservoir sampling: keeps a uniform sample of all values offered so far.
+     *
+     * @param val Value.
+     */
+    private void addToSample(BigDecimal val) {
+        if (sample == null)
+            sample = new BigDecimal[HIST_SAMPLE_SIZE];
+
+        if (sampled < sample.length)
+            sample[(int)sampled] = val;
+        else {
+            long idx = ThreadLocalRandom.current().nextLong(sampled + 1);
+
+            if (idx < sample.length)
+                sample[(int)idx] = val;
+        }
+
+        sampled++;
     }
 
     /**
@@ -227,6 +264,9 @@ public class ColumnStatisticsCollector {
         // Total size in bytes
         long totalSize = 0;
 
+        List<Histogram> hists = new ArrayList<>(partStats.size());
+        List<Long> histWeights = new ArrayList<>(partStats.size());
+
         ColumnStatistics firstStat = F.first(partStats);
         long ver = firstStat.version();
         long createdAt = firstStat.createdAt();
@@ -251,6 +291,9 @@ public class ColumnStatisticsCollector {
 
             if (createdAt < partStat.createdAt())
                 createdAt = partStat.createdAt();
+
+            hists.add(partStat.histogram());
+            histWeights.add(partStat.total() - partStat.nulls());
         }
 
         Integer overrideSize = (overrides == null) ? null : overrides.size();
@@ -264,7 +307,9 @@ public class ColumnStatisticsCollector {
         Long overrideTotal = (overrides == null) ? null : overrides.total();
         total = (overrideTotal == null) ? total : overrideTotal;
 
-        return new ColumnStatistics(min, max, nulls, distinct, total, averageSize, hll.toBytes(), ver, createdAt);
+        Histogram hist = Histogram.merge(hists, histWeights, Histogram.DFLT_BUCKETS);
+
+        return new ColumnStatistics(min, max, nulls, distinct, total, averageSize, hll.toBytes(), ver, createdAt, hist);
     }
 
     /**
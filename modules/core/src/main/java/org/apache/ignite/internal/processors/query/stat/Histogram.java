@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.stat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Equi-depth histogram of column values. Every bucket holds the same number of non null values, so the buckets
+ * are narrow in dense ranges and wide in sparse ones. Values are assumed to be uniformly distributed inside a bucket.
+ */
+public class Histogram {
+    /** Default number of buckets. */
+    public static final int DFLT_BUCKETS = 32;
+
+    /** Math context to interpolate bounds. */
+    private static final MathContext MATH_CTX = MathContext.DECIMAL64;
+
+    /** Bucket bounds: {@code bounds[i]} and {@code bounds[i + 1]} are the lowest and the highest values of i-th bucket. */
+    private final BigDecimal[] bounds;
+
+    /**
+     * Constructor.
+     *
+     * @param bounds Sorted bucket bounds, at least two.
+     */
+    public Histogram(BigDecimal[] bounds) {
+        assert bounds.length > 1 : "bounds=" + Arrays.toString(bounds);
+
+        this.bounds = bounds;
+    }
+
+    /**
+     * Builds histogram by values.
+     *
+     * @param vals Values, will be sorted.
+     * @param buckets Maximum number of buckets.
+     * @return Histogram or {@code null} if there are no values.
+     */
+    public static @Nullable Histogram build(BigDecimal[] vals, int buckets) {
+        if (vals.length == 0)
+            return null;
+
+        Arrays.sort(vals);
+
+        int n = Math.min(buckets, vals.length);
+
+        BigDecimal[] bounds = new BigDecimal[n + 1];
+
+        for (int i = 0; i <= n; i++)
+            bounds[i] = vals[(int)((long)i * (vals.length - 1) / n)];
+
+        return new Histogram(bounds);
+    }
+
+    /**
+     * Merges histograms (of partitions, for example) into the single one.
+     *
+     * @param hists Histograms to merge, {@code null} items are skipped.
+     * @param weights Number of non null values described by each histogram.
+     * @param buckets Maximum number of buckets.
+     * @return Merged histogram or {@code null} if there is nothing to merge.
+     */
+    public static @Nullable Histogram merge(List<Histogram> hists, List<Long> weights, int buckets) {
+        assert hists.size() == weights.size();
+
+        TreeSet<BigDecimal> pointsSet = new TreeSet<>();
+        double total = 0;
+
+        for (int i = 0; i < hists.size(); i++) {
+            Histogram hist = hists.get(i);
+
+            if (hist == null || weights.get(i) <= 0)
+                continue;
+
+            pointsSet.addAll(Arrays.asList(hist.bounds));
+            total += weights.get(i);
+        }
+
+        if (pointsSet.isEmpty())
+            return null;
+
+        BigDecimal[] points = pointsSet.toArray(new BigDecimal[0]);
+
+        if (points.length == 1)
+            return new Histogram(new BigDecimal[] {points[0], points[0]});
+
+        // Cumulative number of values less or equal to every point.
+        double[] cum = new double[points.length];
+
+        for (int i = 0; i < hists.size(); i++) {
+            Histogram hist = hists.get(i);
+
+            if (hist == null || weights.get(i) <= 0)
+                continue;
+
+            for (int k = 0; k < points.length; k++)
+                cum[k] += weights.get(i) * hist.fractionLessOrEqual(points[k]);
+        }
+
+        BigDecimal[] bounds = new BigDecimal[buckets + 1];
+
+        bounds[0] = points[0];
+        bounds[buckets] = points[points.length - 1];
+
+        int k = 0;
+
+        for (int j = 1; j < buckets; j++) {
+            double target = total * j / buckets;
+
+            while (k < points.length - 1 && cum[k] < target)
+                k++;
+
+            if (k == 0 || cum[k] <= cum[k - 1])
+                bounds[j] = points[k];
+            else {
+                double frac = (target - cum[k - 1]) / (cum[k] - cum[k - 1]);
+
+                bounds[j] = points[k - 1].add(points[k].subtract(points[k - 1]).multiply(BigDecimal.valueOf(frac)),
+                    MATH_CTX);
+            }
+        }
+
+        return new Histogram(bounds);
+    }
+
+    /**
+     * @return Number of buckets.
+     */
+    public int buckets() {
+        return bounds.length - 1;
+    }
+
+    /**
+     * @return Bucket bounds.
+     */
+    public BigDecimal[] bounds() {
+        return bounds;
+    }
+
+    /**
+     * @param val Value.
+     * @return Estimated fraction of non null values less than or equal to the given one.
+     */
+    public double fractionLessOrEqual(BigDecimal val) {
+        int n = buckets();
+
+        if (val.compareTo(bounds[0]) < 0)
+            return 0;
+
+        if (val.compareTo(bounds[n]) >= 0)
+            return 1;
+
+        // The last bound less than or equal to the value, bounds[j + 1] is greater than the value.
+        int j = n - 1;
+
+        while (bounds[j].compareTo(val) > 0)
+            j--;
+
+        return (j + interpolate(bounds[j], bounds[j + 1], val)) / n;
+    }
+
+    /**
+     * @param val Value.
+     * @return Estimated fraction of non null values less than the given one.
+     */
+    public double fractionLess(BigDecimal val) {
+        int n = buckets();
+
+        if (val.compareTo(bounds[0]) <= 0)
+            return 0;
+
+        if (val.compareTo(bounds[n]) > 0)
+            return 1;
+
+        // The first bound greater than or equal to the value, bounds[j - 1] is less than the value.
+        int j = 1;
+
+        while (bounds[j].compareTo(val) < 0)
+            j++;
+
+        return (j - 1 + interpolate(bounds[j - 1], bounds[j], val)) / n;
+    }
+
+    /**
+     * @param val Value.
+     * @return Estimated fraction of non null values equal to the given one. It is noticeable only for frequent
+     * values which occupy a whole bucket or more.
+     */
+    public double fractionEqual(BigDecimal val) {
+        return fractionLessOrEqual(val) - fractionLess(val);
+    }
+
+    /** Position of the value between the bounds as a fraction of the bucket width. */
+    private static double interpolate(BigDecimal lo, BigDecimal hi, BigDecimal val) {
+        BigDecimal width = hi.subtract(lo);
+
+        if (width.signum() == 0)
+            return 0;
+
+        return Math.min(1, Math.max(0, val.subtract(lo).divide(width, MATH_CTX).doubleValue()));
+    }
+
+    /**
+     * @return Serialized histogram.
+     */
+    public byte[] toBytes() {
+        byte[][] unscaled = new byte[bounds.length][];
+
+        int size = 4;
+
+        for (int i = 0; i < bounds.length; i++) {
+            unscaled[i] = bounds[i].unscaledValue().toByteArray();
+
+            size += 8 + unscaled[i].length;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size);
+
+        buf.putInt(bounds.length);
+
+        for (int i = 0; i < bounds.length; i++) {
+            buf.putInt(bounds[i].scale());
+            buf.putInt(unscaled[i].length);
+            buf.put(unscaled[i]);
+        }
+
+        return buf.array();
+    }
+
+    /**
+     * @param bytes Serialized histogram.
+     * @return Histogram or {@code null} if bytes are empty.
+     */
+    public static @Nullable Histogram fromBytes(byte[] bytes) {
+        if (F.isEmpty(bytes))
+            return null;
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+
+        BigDecimal[] bounds = new BigDecimal[buf.getInt()];
+
+        for (int i = 0; i < bounds.length; i++) {
+            int scale = buf.getInt();
+            byte[] unscaled = new byte[buf.getInt()];
+
+            buf.get(unscaled);
+
+            bounds[i] = new BigDecimal(new BigInteger(unscaled), scale);
+        }
+
+        return new Histogram(bounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        return Arrays.equals(bounds, ((Histogram)o).bounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(Histogram.class, this, "bounds", Arrays.toString(bounds));
+    }
+}
@@ -56,7 +56,8 @@ public class StatisticsUtils {
         StatisticsDecimalMessage msgMax = new StatisticsDecimalMessage(stat.max());
 
         return new StatisticsColumnData(msgMin, msgMax, stat.nulls(), stat.distinct(),
-            stat.total(), stat.size(), stat.raw(), stat.version(), stat.createdAt());
+            stat.total(), stat.size(), stat.raw(), stat.version(), stat.createdAt(),
+            stat.histogram() == null ? null : stat.histogram().toBytes());
     }
 
     /**
@@ -68,7 +69,8 @@ public class StatisticsUtils {
      */
     public static ColumnStatistics toColumnStatistics(GridKernalContext ctx, StatisticsColumnData data) {
         return new ColumnStatistics(data.min().value(), data.max().value(), data.nulls(), data.distinct(),
-            data.total(), data.size(), data.rawData(), data.version(), data.createdAt());
+            data.total(), data.size(), data.rawData(), data.version(), data.createdAt(),
+            Histogram.fromBytes(data.histogram()));
     }
 
     /**
@@ -59,6 +59,9 @@ public class StatisticsColumnData implements Message {
     /** Created at time, milliseconds. */
     private long createdAt;
 
+    /** Serialized values histogram. */
+    private byte[] histogram;
+
     /**
      * Default constructor.
      */
@@ -78,6 +81,7 @@ public class StatisticsColumnData implements Message {
      * @param rawData Raw data to make statistics aggregate.
      * @param ver Statistics version.
      * @param createdAt Created at time, milliseconds.
+     * @param histogram Serialized values histogram.
      */
     public StatisticsColumnData(
         StatisticsDecimalMessage min,
@@ -88,7 +92,8 @@ public class StatisticsColumnData implements Message {
         int size,
         byte[] rawData,
         long ver,
-        long createdAt
+        long createdAt,
+        byte[] histogram
     ) {
         this.min = min;
         this.max = max;
@@ -99,6 +104,7 @@ public class StatisticsColumnData implements Message {
         this.rawData = rawData;
         this.ver = ver;
         this.createdAt = createdAt;
+        this.histogram = histogram;
     }
 
     /**
@@ -164,6 +170,13 @@ public class StatisticsColumnData implements Message {
         return createdAt;
     }
 
+    /**
+     * @return Serialized values histogram.
+     */
+    public byte[] histogram() {
+        return histogram;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean writeTo(ByteBuffer buf, MessageWriter writer) {
         writer.setBuffer(buf);
@@ -189,42 +202,48 @@ public class StatisticsColumnData implements Message {
                 writer.incrementState();
 
             case 2:
-                if (!writer.writeMessage("max", max))
+                if (!writer.writeByteArray("histogram", histogram))
                     return false;
 
                 writer.incrementState();
 
             case 3:
-                if (!writer.writeMessage("min", min))
+                if (!writer.writeMessage("max", max))
                     return false;
 
                 writer.incrementState();
 
             case 4:
-                if (!writer.writeLong("nulls", nulls))
+                if (!writer.writeMessage("min", min))
                     return false;
 
                 writer.incrementState();
 
             case 5:
-                if (!writer.writeByteArray("rawData", rawData))
+                if (!writer.writeLong("nulls", nulls))
                     return false;
 
                 writer.incrementState();
 
             case 6:
-                if (!writer.writeInt("size", size))
+                if (!writer.writeByteArray("rawData", rawData))
                     return false;
 
                 writer.incrementState();
 
             case 7:
-                if (!writer.writeLong("total", total))
+                if (!writer.writeInt("size", size))
                     return false;
 
                 writer.incrementState();
 
             case 8:
+                if (!writer.writeLong("total", total))
+                    return false;
+
+                writer.incrementState();
+
+            case 9:
                 if (!writer.writeLong("ver", ver))
                     return false;
 
@@ -260,7 +279,7 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 2:
-                max = reader.readMessage("max");
+                histogram = reader.readByteArray("histogram");
 
                 if (!reader.isLastRead())
                     return false;
@@ -268,7 +287,7 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 3:
-                min = reader.readMessage("min");
+                max = reader.readMessage("max");
 
                 if (!reader.isLastRead())
                     return false;
@@ -276,7 +295,7 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 4:
-                nulls = reader.readLong("nulls");
+                min = reader.readMessage("min");
 
                 if (!reader.isLastRead())
                     return false;
@@ -284,7 +303,7 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 5:
-                rawData = reader.readByteArray("rawData");
+                nulls = reader.readLong("nulls");
 
                 if (!reader.isLastRead())
                     return false;
@@ -292,7 +311,7 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 6:
-                size = reader.readInt("size");
+                rawData = reader.readByteArray("rawData");
 
                 if (!reader.isLastRead())
                     return false;
@@ -300,7 +319,7 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 7:
-                total = reader.readLong("total");
+                size = reader.readInt("size");
 
                 if (!reader.isLastRead())
                     return false;
@@ -308,6 +327,14 @@ public class StatisticsColumnData implements Message {
                 reader.incrementState();
 
             case 8:
+                total = reader.readLong("total");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 9:
                 ver = reader.readLong("ver");
 
                 if (!reader.isLastRead())
@@ -327,7 +354,7 @@ public class StatisticsColumnData implements Message {
 
     /** {@inheritDoc} */
     @Override public byte fieldsCount() {
-        return 9;
+        return 10;
     }
 
     /** {@inheritDoc} */
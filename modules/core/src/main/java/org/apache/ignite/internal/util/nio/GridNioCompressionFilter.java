@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.lang.IgniteInClosure;
+
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.COMPRESSION;
+
+/**
+ * Filter decoding incoming data of sessions having {@link GridNioCompressor} in the
+ * {@link GridNioSessionMetaKey#COMPRESSION} meta. Data of other sessions is forwarded without any modification.
+ * <p>
+ * Outgoing data is compressed by {@link GridNioServer} when the batch of messages is written to the socket,
+ * so this filter should be placed right before the codec filter.
+ */
+public class GridNioCompressionFilter extends GridNioFilterAdapter {
+    /**
+     * Creates a filter instance.
+     */
+    public GridNioCompressionFilter() {
+        super("GridNioCompressionFilter");
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionOpened(GridNioSession ses) throws IgniteCheckedException {
+        proceedSessionOpened(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionClosed(GridNioSession ses) throws IgniteCheckedException {
+        proceedSessionClosed(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onExceptionCaught(
+        GridNioSession ses,
+        IgniteCheckedException ex
+    ) throws IgniteCheckedException {
+        proceedExceptionCaught(ses, ex);
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridNioFuture<?> onSessionWrite(
+        GridNioSession ses,
+        Object msg,
+        boolean fut,
+        IgniteInClosure<IgniteException> ackC
+    ) throws IgniteCheckedException {
+        return proceedSessionWrite(ses, msg, fut, ackC);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMessageReceived(GridNioSession ses, Object msg) throws IgniteCheckedException {
+        GridNioCompressor compressor = ses.meta(COMPRESSION.ordinal());
+
+        if (compressor == null) {
+            proceedMessageReceived(ses, msg);
+
+            return;
+        }
+
+        if (!(msg instanceof ByteBuffer))
+            throw new GridNioException("Failed to decode incoming message (message should be a byte buffer, is " +
+                "filter properly placed?): " + msg.getClass());
+
+        try {
+            ByteBuffer plain = compressor.decode((ByteBuffer)msg);
+
+            if (plain.hasRemaining())
+                proceedMessageReceived(ses, plain);
+        }
+        catch (IOException e) {
+            throw new GridNioException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridNioFuture<Boolean> onSessionClose(GridNioSession ses) throws IgniteCheckedException {
+        return proceedSessionClose(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionIdleTimeout(GridNioSession ses) throws IgniteCheckedException {
+        proceedSessionIdleTimeout(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionWriteTimeout(GridNioSession ses) throws IgniteCheckedException {
+        proceedSessionWriteTimeout(ses);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+/**
+ * Listener of compression events of NIO sessions.
+ */
+public interface GridNioCompressionListener {
+    /**
+     * Called when a batch of outgoing data has been passed to the compressor.
+     *
+     * @param srcLen Size of the batch before compression.
+     * @param dstLen Size of the frame actually written.
+     * @param time Time spent on compression in nanoseconds.
+     */
+    public void onCompressed(int srcLen, int dstLen, long time);
+
+    /**
+     * Called when a compressed frame has been decompressed.
+     *
+     * @param srcLen Size of the received frame.
+     * @param dstLen Size of the decompressed data.
+     * @param time Time spent on decompression in nanoseconds.
+     */
+    public void onDecompressed(int srcLen, int dstLen, long time);
+}
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression state of a NIO session working in direct mode.
+ * <p>
+ * Compressed data is sent as a sequence of frames. Each frame starts with the frame type and the payload length,
+ * compressed frames also contain the length of the original data. Every batch of messages written to the socket
+ * at once is sent as a single frame. Batches smaller than the threshold and batches that cannot be compressed are
+ * sent as raw frames.
+ * <p>
+ * Outgoing data can be sent uncompressed until the activation message is written (e.g. until the handshake
+ * response is sent), incoming data is always expected to be framed.
+ * <p>
+ * Write state is accessed by the thread writing to the session only, read state is accessed by the thread reading
+ * from the session only.
+ */
+public class GridNioCompressor {
+    /** Raw frame type. */
+    static final byte RAW_FRAME = 0;
+
+    /** Compressed frame type. */
+    static final byte COMPRESSED_FRAME = 1;
+
+    /** Header size of the raw frame: type and payload length. */
+    static final int RAW_HEADER_SIZE = 5;
+
+    /** Header size of the compressed frame: type, payload length and original length. */
+    static final int COMPRESSED_HEADER_SIZE = 9;
+
+    /** Minimal size of a batch to be compressed. */
+    private final int threshold;
+
+    /** Predicate activating compression of outgoing data, {@code null} if compression is active from the start. */
+    @Nullable private final IgnitePredicate<Message> writeActivationPred;
+
+    /** Compression listener. */
+    @Nullable private final GridNioCompressionListener lsnr;
+
+    /** Whether outgoing data is compressed. */
+    private boolean writeActive;
+
+    /** Compressor. */
+    private Deflater deflater;
+
+    /** Copy of the batch if the write buffer is not backed by an array. */
+    private byte[] src;
+
+    /** Encoded data pending to be written to the socket. */
+    private ByteBuffer out = ByteBuffer.allocate(0);
+
+    /** Decompressor. */
+    private Inflater inflater;
+
+    /** Header of the frame being read. */
+    private final ByteBuffer hdr = ByteBuffer.allocate(COMPRESSED_HEADER_SIZE);
+
+    /** Payload length of the frame being read, {@code -1} if the header is not read yet. */
+    private int payloadLen = -1;
+
+    /** Original length of the compressed frame being read. */
+    private int origLen;
+
+    /** Payload of the compressed frame being read. */
+    private byte[] payload;
+
+    /** Number of payload bytes of the frame being read. */
+    private int payloadPos;
+
+    /** Decoded data not consumed by the parser yet. */
+    private ByteBuffer plain;
+
+    /**
+     * @param threshold Minimal size of a batch to be compressed.
+     * @param writeActivationPred Predicate activating compression of outgoing data, {@code null} to compress
+     *      outgoing data from the start.
+     * @param lsnr Compression listener.
+     */
+    public GridNioCompressor(
+        int threshold,
+        @Nullable IgnitePredicate<Message> writeActivationPred,
+        @Nullable GridNioCompressionListener lsnr
+    ) {
+        this.threshold = threshold;
+        this.writeActivationPred = writeActivationPred;
+        this.lsnr = lsnr;
+
+        writeActive = writeActivationPred == null;
+    }
+
+    /**
+     * @return Encoded data pending to be written to the socket.
+     */
+    ByteBuffer output() {
+        return out;
+    }
+
+    /**
+     * @param msg Message completely written to the write buffer.
+     * @return {@code True} if outgoing data following the message should be compressed.
+     */
+    boolean activatesWrite(Message msg) {
+        return !writeActive && writeActivationPred != null && writeActivationPred.apply(msg);
+    }
+
+    /**
+     * Activates compression of outgoing data.
+     */
+    void activateWrite() {
+        writeActive = true;
+    }
+
+    /**
+     * Encodes a batch of outgoing data. Previously encoded data must be completely written to the socket.
+     *
+     * @param buf Batch of outgoing data, completely consumed by this method.
+     * @return Encoded data to be written to the socket.
+     */
+    ByteBuffer encode(ByteBuffer buf) {
+        assert !out.hasRemaining();
+
+        int len = buf.remaining();
+
+        if (out.capacity() < len + COMPRESSED_HEADER_SIZE)
+            out = ByteBuffer.allocate(len + COMPRESSED_HEADER_SIZE);
+        else
+            out.clear();
+
+        if (!writeActive)
+            out.put(buf);
+        else if (len < threshold || len <= COMPRESSED_HEADER_SIZE)
+            out.put(RAW_FRAME).putInt(len).put(buf);
+        else
+            compress(buf, len);
+
+        out.flip();
+
+        return out;
+    }
+
+    /**
+     * @param buf Batch of outgoing data.
+     * @param len Batch length.
+     */
+    private void compress(ByteBuffer buf, int len) {
+        long start = System.nanoTime();
+
+        byte[] arr;
+        int off;
+
+        if (buf.hasArray()) {
+            arr = buf.array();
+            off = buf.arrayOffset() + buf.position();
+        }
+        else {
+            if (src == null || src.length < len)
+                src = new byte[len];
+
+            buf.duplicate().get(src, 0, len);
+
+            arr = src;
+            off = 0;
+        }
+
+        if (deflater == null)
+            deflater = new Deflater(Deflater.BEST_SPEED, true);
+        else
+            deflater.reset();
+
+        deflater.setInput(arr, off, len);
+        deflater.finish();
+
+        // Compressed payload is accepted only if the frame is not bigger than the raw one.
+        int maxLen = len + RAW_HEADER_SIZE - COMPRESSED_HEADER_SIZE;
+
+        int cnt = deflater.deflate(out.array(), out.arrayOffset() + COMPRESSED_HEADER_SIZE, maxLen);
+
+        int frameLen;
+
+        if (deflater.finished()) {
+            out.put(COMPRESSED_FRAME).putInt(cnt).putInt(len);
+
+            out.position(COMPRESSED_HEADER_SIZE + cnt);
+
+            frameLen = COMPRESSED_HEADER_SIZE + cnt;
+        }
+        else {
+            out.put(RAW_FRAME).putInt(len).put(arr, off, len);
+
+            frameLen = RAW_HEADER_SIZE + len;
+        }
+
+        buf.position(buf.limit());
+
+        if (lsnr != null)
+            lsnr.onCompressed(len, frameLen, System.nanoTime() - start);
+    }
+
+    /**
+     * Decodes incoming data.
+     *
+     * @param in Incoming data, completely consumed by this method.
+     * @return Decoded data including the data not consumed by the parser on previous calls.
+     * @throws IOException If incoming data is malformed.
+     */
+    ByteBuffer decode(ByteBuffer in) throws IOException {
+        if (plain == null) {
+            plain = ByteBuffer.allocate(in.capacity()).order(in.order());
+
+            plain.limit(0);
+        }
+        else if (!plain.hasRemaining())
+            plain.clear().limit(0);
+
+        while (in.hasRemaining()) {
+            if (payloadLen < 0) {
+                if (!readHeader(in))
+                    break;
+            }
+
+            int cnt = Math.min(payloadLen - payloadPos, in.remaining());
+
+            if (origLen < 0) {
+                // Raw frame payload goes straight to the parser.
+                ensurePlainCapacity(cnt);
+
+                in.get(plain.array(), plain.arrayOffset() + plain.limit(), cnt);
+
+                plain.limit(plain.limit() + cnt);
+            }
+            else
+                in.get(payload, payloadPos, cnt);
+
+            payloadPos += cnt;
+
+            if (payloadPos == payloadLen) {
+                if (origLen >= 0)
+                    decompress();
+
+                payloadLen = -1;
+            }
+        }
+
+        return plain;
+    }
+
+    /**
+     * @param in Incoming data.
+     * @return {@code True} if frame header has been completely read.
+     * @throws IOException If header is malformed.
+     */
+    private boolean readHeader(ByteBuffer in) throws IOException {
+        if (hdr.position() == 0) {
+            byte type = in.get();
+
+            if (type != RAW_FRAME && type != COMPRESSED_FRAME)
+                throw new IOException("Unexpected compression frame type: " + type);
+
+            hdr.put(type);
+            hdr.limit(type == RAW_FRAME ? RAW_HEADER_SIZE : COMPRESSED_HEADER_SIZE);
+        }
+
+        while (hdr.hasRemaining() && in.hasRemaining())
+            hdr.put(in.get());
+
+        if (hdr.hasRemaining())
+            return false;
+
+        byte type = hdr.get(0);
+
+        payloadLen = hdr.getInt(1);
+        origLen = type == RAW_FRAME ? -1 : hdr.getInt(RAW_HEADER_SIZE);
+        payloadPos = 0;
+
+        if (payloadLen < 0 || (type == COMPRESSED_FRAME && origLen < 0))
+            throw new IOException("Invalid compression frame header [payloadLen=" + payloadLen +
+                ", origLen=" + origLen + ']');
+
+        if (type == COMPRESSED_FRAME && (payload == null || payload.length < payloadLen))
+            payload = new byte[payloadLen];
+
+        hdr.clear();
+
+        return true;
+    }
+
+    /**
+     * Decompresses the frame payload and appends the result to the decoded data.
+     *
+     * @throws IOException If payload is malformed.
+     */
+    private void decompress() throws IOException {
+        long start = System.nanoTime();
+
+        if (inflater == null)
+            inflater = new Inflater(true);
+        else
+            inflater.reset();
+
+        ensurePlainCapacity(origLen);
+
+        inflater.setInput(payload, 0, payloadLen);
+
+        try {
+            int cnt = inflater.inflate(plain.array(), plain.arrayOffset() + plain.limit(), origLen);
+
+            if (cnt != origLen || !inflater.finished())
+                throw new IOException("Failed to decompress frame [expected=" + origLen + ", actual=" + cnt + ']');
+        }
+        catch (DataFormatException e) {
+            throw new IOException("Failed to decompress frame.", e);
+        }
+
+        plain.limit(plain.limit() + origLen);
+
+        if (lsnr != null)
+            lsnr.onDecompressed(COMPRESSED_HEADER_SIZE + payloadLen, origLen, System.nanoTime() - start);
+    }
+
+    /**
+     * Makes sure the given number of bytes can be appended to the decoded data.
+     *
+     * @param cnt Bytes count.
+     */
+    private void ensurePlainCapacity(int cnt) {
+        if (plain.capacity() - plain.limit() >= cnt)
+            return;
+
+        int len = plain.remaining();
+
+        if (plain.capacity() >= len + cnt) {
+            plain.compact();
+            plain.flip();
+        }
+        else {
+            ByteBuffer buf = ByteBuffer.allocate(Math.max(len + cnt, plain.capacity() * 2)).order(plain.order());
+
+            buf.put(plain);
+            buf.flip();
+
+            plain = buf;
+        }
+    }
+}
@@ -93,6 +93,7 @@ import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.processors.tracing.SpanTags.SOCKET_WRITE_BYTES;
 import static org.apache.ignite.internal.processors.tracing.SpanType.COMMUNICATION_SOCKET_WRITE;
 import static org.apache.ignite.internal.processors.tracing.messages.TraceableMessagesTable.traceName;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.COMPRESSION;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.MSG_WRITER;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.NIO_OPERATION;
 
@@ -1403,8 +1404,14 @@ public class GridNioServer<T> {
         @Override protected void processWrite(SelectionKey key) throws IOException {
             if (sslFilter != null)
                 processWriteSsl(key);
-            else
-                processWrite0(key);
+            else {
+                GridNioCompressor compressor = ((GridNioSession)key.attachment()).meta(COMPRESSION.ordinal());
+
+                if (compressor != null)
+                    processWriteCompressed(key, compressor);
+                else
+                    processWrite0(key);
+            }
         }
 
         /**
@@ -1697,6 +1704,10 @@ public class GridNioServer<T> {
             while (finished) {
                 req.onMessageWritten();
 
+                // Compression has been set up for the session, the rest is written by processWriteCompressed().
+                if (ses.meta(COMPRESSION.ordinal()) != null)
+                    break;
+
                 req = systemMessage(ses);
 
                 if (req == null)
@@ -1743,6 +1754,104 @@ public class GridNioServer<T> {
                 buf.clear();
         }
 
+        /**
+         * Processes write-ready event on the key of the session with compression.
+         *
+         * @param key Key that is ready to be written.
+         * @param compressor Session compressor.
+         * @throws IOException If write failed.
+         */
+        private void processWriteCompressed(SelectionKey key, GridNioCompressor compressor) throws IOException {
+            WritableByteChannel sockCh = (WritableByteChannel)key.channel();
+
+            GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
+            ByteBuffer out = compressor.output();
+
+            // Encode the next batch only when the previous one is completely written.
+            if (!out.hasRemaining()) {
+                ByteBuffer buf = ses.writeBuffer();
+                SessionWriteRequest req = ses.removeMeta(NIO_OPERATION.ordinal());
+
+                MessageWriter writer = messageWriter(ses);
+
+                if (req == null) {
+                    req = systemMessage(ses);
+
+                    if (req == null) {
+                        req = ses.pollFuture();
+
+                        if (req == null && buf.position() == 0) {
+                            stopPollingForWrite(key, ses);
+
+                            return;
+                        }
+                    }
+                }
+
+                boolean finished = false;
+                boolean activate = false;
+
+                if (req != null)
+                    finished = writeToBuffer(ses, buf, req, writer);
+
+                // Fill up as many messages as possible to write buffer.
+                while (finished) {
+                    req.onMessageWritten();
+
+                    // Messages following the activating one must not be mixed with the uncompressed data.
+                    if (compressor.activatesWrite((Message)req.message())) {
+                        activate = true;
+
+                        break;
+                    }
+
+                    req = systemMessage(ses);
+
+                    if (req == null)
+                        req = ses.pollFuture();
+
+                    if (req == null)
+                        break;
+
+                    finished = writeToBuffer(ses, buf, req, writer);
+                }
+
+                buf.flip();
+
+                out = compressor.encode(buf);
+
+                buf.clear();
+
+                if (!finished)
+                    ses.addMeta(NIO_OPERATION.ordinal(), req);
+
+                if (activate)
+                    compressor.activateWrite();
+            }
+
+            if (!skipWrite) {
+                int cnt = sockCh.write(out);
+
+                if (log.isTraceEnabled())
+                    log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
+
+                if (sentBytesCntMetric != null)
+                    sentBytesCntMetric.add(cnt);
+
+                ses.bytesSent(cnt);
+                onWrite(cnt);
+            }
+            else {
+                // For test purposes only (skipWrite is set to true in tests only).
+                try {
+                    U.sleep(50);
+                }
+                catch (IgniteInterruptedCheckedException e) {
+                    throw new IOException("Thread has been interrupted.", e);
+                }
+            }
+        }
+
         /** */
         @Nullable private MessageWriter messageWriter(GridSelectorNioSessionImpl ses) throws IOException {
             if (writerFactory == null)
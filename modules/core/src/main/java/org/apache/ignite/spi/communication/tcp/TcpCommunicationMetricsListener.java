@@ -32,6 +32,7 @@ import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.collection.IntHashMap;
 import org.apache.ignite.internal.util.collection.IntMap;
+import org.apache.ignite.internal.util.nio.GridNioCompressionListener;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.plugin.extensions.communication.IgniteMessageFactory;
 import org.apache.ignite.plugin.extensions.communication.Message;
@@ -48,6 +49,16 @@ import static org.apache.ignite.internal.util.nio.GridNioServer.RECEIVED_BYTES_M
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_DESC;
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_INPUT_BYTES_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_INPUT_BYTES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_OUTPUT_BYTES_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_OUTPUT_BYTES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_RATIO_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_RATIO_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_TIME_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_TIME_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_TIME_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_TIME_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_DESC;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_TYPE_METRIC_DESC;
@@ -64,7 +75,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.SENT_M
 /**
  * Statistics for {@link org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi}.
  */
-public class TcpCommunicationMetricsListener {
+public class TcpCommunicationMetricsListener implements GridNioCompressionListener {
     /** SPI context. */
     private final IgniteSpiContext spiCtx;
 
@@ -104,6 +115,18 @@ public class TcpCommunicationMetricsListener {
     /** Received messages count metric. */
     private final LongAdderMetric rcvdMsgsMetric;
 
+    /** Compressor input bytes count metric. */
+    private final LongAdderMetric comprInBytesMetric;
+
+    /** Compressor output bytes count metric. */
+    private final LongAdderMetric comprOutBytesMetric;
+
+    /** Compression time metric. */
+    private final LongAdderMetric comprTimeMetric;
+
+    /** Decompression time metric. */
+    private final LongAdderMetric decomprTimeMetric;
+
     /** Counters of sent and received messages by direct type. */
     private final IntMap<IgniteBiTuple<LongAdderMetric, LongAdderMetric>> msgCntrsByType;
 
@@ -145,6 +168,16 @@ public class TcpCommunicationMetricsListener {
         sentMsgsMetric = mreg.longAdderMetric(SENT_MESSAGES_METRIC_NAME, SENT_MESSAGES_METRIC_DESC);
         rcvdMsgsMetric = mreg.longAdderMetric(RECEIVED_MESSAGES_METRIC_NAME, RECEIVED_MESSAGES_METRIC_DESC);
 
+        comprInBytesMetric = mreg.longAdderMetric(COMPRESSION_INPUT_BYTES_METRIC_NAME,
+            COMPRESSION_INPUT_BYTES_METRIC_DESC);
+        comprOutBytesMetric = mreg.longAdderMetric(COMPRESSION_OUTPUT_BYTES_METRIC_NAME,
+            COMPRESSION_OUTPUT_BYTES_METRIC_DESC);
+
+        mreg.register(COMPRESSION_RATIO_METRIC_NAME, this::compressionRatio, COMPRESSION_RATIO_METRIC_DESC);
+
+        comprTimeMetric = mreg.longAdderMetric(COMPRESSION_TIME_METRIC_NAME, COMPRESSION_TIME_METRIC_DESC);
+        decomprTimeMetric = mreg.longAdderMetric(DECOMPRESSION_TIME_METRIC_NAME, DECOMPRESSION_TIME_METRIC_DESC);
+
         spiCtx.addMetricRegistryCreationListener(mreg -> {
             // Metrics for the specific nodes.
             if (!mreg.name().startsWith(COMMUNICATION_METRICS_GROUP_NAME + SEPARATOR))
@@ -235,6 +268,31 @@ public class TcpCommunicationMetricsListener {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void onCompressed(int srcLen, int dstLen, long time) {
+        comprInBytesMetric.add(srcLen);
+        comprOutBytesMetric.add(dstLen);
+
+        comprTimeMetric.add(time);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onDecompressed(int srcLen, int dstLen, long time) {
+        decomprTimeMetric.add(time);
+    }
+
+    /**
+     * Gets compression ratio of the data sent by current node.
+     *
+     * @return Ratio of the compressor input bytes count to the compressor output bytes count, {@code 1} if nothing
+     *      was compressed.
+     */
+    public double compressionRatio() {
+        long out = comprOutBytesMetric.value();
+
+        return out == 0 ? 1 : (double)comprInBytesMetric.value() / out;
+    }
+
     /**
      * Gets sent messages count.
      *
@@ -371,6 +429,11 @@ public class TcpCommunicationMetricsListener {
         sentBytesMetric.reset();
         rcvdBytesMetric.reset();
 
+        comprInBytesMetric.reset();
+        comprOutBytesMetric.reset();
+        comprTimeMetric.reset();
+        decomprTimeMetric.reset();
+
         for (Metric metric : mreg) {
             if (metric.name().startsWith(SENT_MESSAGES_BY_TYPE_METRIC_NAME))
                 metric.reset();
@@ -220,6 +220,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Attr paired connection. */
     public static final String ATTR_PAIRED_CONN = "comm.tcp.pairedConnection";
 
+    /** Node attribute that is mapped to the compression support flag (value is <tt>comm.tcp.compression</tt>). */
+    public static final String ATTR_COMPRESSION = "comm.tcp.compression";
+
     /** Default port which node sets listener to (value is <tt>47100</tt>). */
     public static final int DFLT_PORT = 47100;
 
@@ -277,6 +280,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Default connections per node. */
     public static final int DFLT_CONN_PER_NODE = 1;
 
+    /** Default minimal size of the batch of outgoing data to be compressed (value is <tt>4096</tt>). */
+    public static final int DFLT_COMPRESSION_THRESHOLD = 4096;
+
     /** Node ID message type. */
     public static final short NODE_ID_MSG_TYPE = -1;
 
@@ -332,6 +338,41 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     public static final String RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_DESC =
         "Total number of messages received by current node from the given node";
 
+    /** Compressor input bytes metric name. */
+    public static final String COMPRESSION_INPUT_BYTES_METRIC_NAME = "compressionInputBytes";
+
+    /** Compressor input bytes metric description. */
+    public static final String COMPRESSION_INPUT_BYTES_METRIC_DESC =
+        "Total number of bytes passed to the compressor by current node";
+
+    /** Compressor output bytes metric name. */
+    public static final String COMPRESSION_OUTPUT_BYTES_METRIC_NAME = "compressionOutputBytes";
+
+    /** Compressor output bytes metric description. */
+    public static final String COMPRESSION_OUTPUT_BYTES_METRIC_DESC =
+        "Total number of bytes written by the compressor of current node";
+
+    /** Compression ratio metric name. */
+    public static final String COMPRESSION_RATIO_METRIC_NAME = "compressionRatio";
+
+    /** Compression ratio metric description. */
+    public static final String COMPRESSION_RATIO_METRIC_DESC =
+        "Ratio of the compressor input bytes count to the compressor output bytes count";
+
+    /** Compression time metric name. */
+    public static final String COMPRESSION_TIME_METRIC_NAME = "compressionTime";
+
+    /** Compression time metric description. */
+    public static final String COMPRESSION_TIME_METRIC_DESC =
+        "Total time spent by current node on compression of outgoing data, in nanoseconds";
+
+    /** Decompression time metric name. */
+    public static final String DECOMPRESSION_TIME_METRIC_NAME = "decompressionTime";
+
+    /** Decompression time metric description. */
+    public static final String DECOMPRESSION_TIME_METRIC_DESC =
+        "Total time spent by current node on decompression of incoming data, in nanoseconds";
+
     /** Client nodes might have port {@code 0} if they have no server socket opened. */
     public static final Integer DISABLED_CLIENT_PORT = 0;
 
@@ -642,7 +683,8 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             createSpiAttributeName(ATTR_HOST_NAMES),
             createSpiAttributeName(ATTR_EXT_ADDRS),
             createSpiAttributeName(ATTR_PORT),
-            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS));
+            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS),
+            createSpiAttributeName(ATTR_COMPRESSION));
 
         boolean client = Boolean.TRUE.equals(ignite().configuration().isClientMode());
 
@@ -871,6 +913,7 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
 
         srvLsnr.metricsListener(metricsLsnr);
         clientPool.metricsListener(metricsLsnr);
+        nioSrvWrapper.metricsListener(metricsLsnr);
         ((CommunicationDiscoveryEventListener)discoLsnr).metricsListener(metricsLsnr);
 
         ctxInitLatch.countDown();
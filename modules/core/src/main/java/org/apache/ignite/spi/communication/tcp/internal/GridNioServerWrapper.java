@@ -62,6 +62,8 @@ import org.apache.ignite.internal.util.nio.GridCommunicationClient;
 import org.apache.ignite.internal.util.nio.GridConnectionBytesVerifyFilter;
 import org.apache.ignite.internal.util.nio.GridDirectParser;
 import org.apache.ignite.internal.util.nio.GridNioCodecFilter;
+import org.apache.ignite.internal.util.nio.GridNioCompressionFilter;
+import org.apache.ignite.internal.util.nio.GridNioCompressor;
 import org.apache.ignite.internal.util.nio.GridNioFilter;
 import org.apache.ignite.internal.util.nio.GridNioMessageReaderFactory;
 import org.apache.ignite.internal.util.nio.GridNioMessageWriterFactory;
@@ -92,6 +94,7 @@ import org.apache.ignite.spi.IgniteSpiOperationTimeoutException;
 import org.apache.ignite.spi.TimeoutStrategy;
 import org.apache.ignite.spi.communication.CommunicationListener;
 import org.apache.ignite.spi.communication.tcp.AttributeNames;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationMetricsListener;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeMessage;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeMessage2;
 import org.apache.ignite.spi.communication.tcp.messages.NodeIdMessage;
@@ -103,6 +106,7 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static org.apache.ignite.internal.IgniteFeatures.CHANNEL_COMMUNICATION;
 import static org.apache.ignite.internal.IgniteFeatures.nodeSupports;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.COMPRESSION;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.SSL_META;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.CONN_IDX_META;
@@ -202,6 +206,9 @@ public class GridNioServerWrapper {
     /** Socket channel factory. */
     private volatile ThrowableSupplier<SocketChannel, IOException> socketChannelFactory = SocketChannel::open;
 
+    /** Metrics listener. */
+    private volatile TcpCommunicationMetricsListener metricsLsnr;
+
     /** Enable forcible node kill. */
     private boolean forcibleNodeKillEnabled = IgniteSystemProperties
         .getBoolean(IgniteSystemProperties.IGNITE_ENABLE_FORCIBLE_NODE_KILL);
@@ -522,6 +529,11 @@ public class GridNioServerWrapper {
                         meta.put(CONN_IDX_META, connKey);
                         meta.put(GridNioServer.RECOVERY_DESC_META_KEY, recoveryDesc);
 
+                        GridNioCompressor compressor = compressor(node, connIdx, false);
+
+                        if (compressor != null)
+                            meta.put(COMPRESSION.ordinal(), compressor);
+
                         ses = nioSrv.createSession(ch, meta, false, null).get();
                     }
                     finally {
@@ -878,6 +890,9 @@ public class GridNioServerWrapper {
                 filters.add(new GridNioCodecFilter(parser, log, true));
                 filters.add(new GridConnectionBytesVerifyFilter(log));
 
+                if (cfg.compressionEnabled() && !stateProvider.isSslEnabled())
+                    filters.add(new GridNioCompressionFilter());
+
                 if (stateProvider.isSslEnabled()) {
                     GridNioSslFilter sslFilter = new GridNioSslFilter(
                         igniteCfg.getSslContextFactory().create(),
@@ -1132,6 +1147,29 @@ public class GridNioServerWrapper {
         return connIdx > MAX_CONN_PER_NODE;
     }
 
+    /**
+     * Creates compressor for the connection with the given node if compression is enabled on both nodes.
+     *
+     * @param node Remote node.
+     * @param connIdx Connection index.
+     * @param accepted {@code True} if the connection is accepted by local node.
+     * @return Compressor or {@code null} if the connection should not be compressed.
+     */
+    @Nullable GridNioCompressor compressor(ClusterNode node, int connIdx, boolean accepted) {
+        if (!cfg.compressionEnabled() || stateProvider.isSslEnabled() || isChannelConnIdx(connIdx))
+            return null;
+
+        if (!Boolean.TRUE.equals(node.attribute(attrs.compression())))
+            return null;
+
+        // Accepted connection sends successful handshake response uncompressed.
+        IgnitePredicate<Message> writeActivationPred = accepted ?
+            msg -> msg instanceof RecoveryLastReceivedMessage && ((RecoveryLastReceivedMessage)msg).received() >= 0 :
+            null;
+
+        return new GridNioCompressor(cfg.compressionThreshold(), writeActivationPred, metricsLsnr);
+    }
+
     /**
      * @param key The connection key to cleanup descriptors on local node.
      */
@@ -1256,6 +1294,13 @@ public class GridNioServerWrapper {
         socketChannelFactory = sockChFactory;
     }
 
+    /**
+     * @param metricsLsnr New metrics listener.
+     */
+    public void metricsListener(@Nullable TcpCommunicationMetricsListener metricsLsnr) {
+        this.metricsLsnr = metricsLsnr;
+    }
+
     /**
      * @param node Node.
      * @return {@code True} if remote current node cannot receive TCP connections. Applicable for client nodes only.
@@ -36,6 +36,7 @@ import org.apache.ignite.internal.processors.tracing.Span;
 import org.apache.ignite.internal.processors.tracing.SpanTags;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.nio.GridCommunicationClient;
+import org.apache.ignite.internal.util.nio.GridNioCompressor;
 import org.apache.ignite.internal.util.nio.GridNioMessageTracker;
 import org.apache.ignite.internal.util.nio.GridNioRecoveryDescriptor;
 import org.apache.ignite.internal.util.nio.GridNioServerListenerAdapter;
@@ -61,6 +62,7 @@ import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.tracing.messages.TraceableMessagesTable.traceName;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.COMPRESSION;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.CONN_IDX_META;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.CONSISTENT_ID_META;
 import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.NOOP;
@@ -543,6 +545,12 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
                 ", msg=" + msg0 + ']');
         }
 
+        GridNioCompressor compressor = nioSrvWrapper.compressor(rmtNode, msg0.connectionIndex(), true);
+
+        // Remote node compresses all the data following the handshake.
+        if (compressor != null)
+            ses.addMeta(COMPRESSION.ordinal(), compressor);
+
         if (GridNioServerWrapper.isChannelConnIdx(msg0.connectionIndex()))
             ses.send(new RecoveryLastReceivedMessage(0));
         else if (cfg.usePairedConnections() && usePairedConnections(rmtNode, attributeNames.pairedConnection())) {
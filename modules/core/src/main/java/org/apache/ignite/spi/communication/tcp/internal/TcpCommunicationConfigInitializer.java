@@ -51,6 +51,7 @@ import static java.util.Collections.emptyList;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TCP_COMM_SET_ATTR_HOST_NAMES;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_ADDRS;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_COMPRESSION;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_EXT_ADDRS;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_FORCE_CLIENT_SERVER_CONNECTIONS;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_HOST_NAMES;
@@ -767,6 +768,60 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         return (TcpCommunicationSpi)this;
     }
 
+    /**
+     * See {@link #setCompressionEnabled(boolean)}.
+     *
+     * @return {@code True} if data sent between nodes is compressed.
+     */
+    public boolean isCompressionEnabled() {
+        return cfg.compressionEnabled();
+    }
+
+    /**
+     * Enables compression of the data sent between nodes. Compression is used for connections between nodes having
+     * it enabled and only if SSL is not used. Batches of messages written to the socket at once are compressed if
+     * their size is not less than {@link #getCompressionThreshold()}.
+     * <p>
+     * Compression reduces the amount of data sent over the network at the cost of CPU time, so it is reasonable
+     * for nodes connected by slow networks.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @param compressionEnabled {@code True} to compress data sent between nodes.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setCompressionEnabled(boolean compressionEnabled) {
+        cfg.compressionEnabled(compressionEnabled);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setCompressionThreshold(int)}.
+     *
+     * @return Minimal size of the batch of outgoing data to be compressed.
+     */
+    public int getCompressionThreshold() {
+        return cfg.compressionThreshold();
+    }
+
+    /**
+     * Sets minimal size of the batch of outgoing data to be compressed if compression is enabled
+     * (see {@link #setCompressionEnabled(boolean)}). Smaller batches are sent uncompressed.
+     * <p>
+     * If not provided, default value is {@link TcpCommunicationSpi#DFLT_COMPRESSION_THRESHOLD}.
+     *
+     * @param compressionThreshold Minimal size of the batch of outgoing data to be compressed.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setCompressionThreshold(int compressionThreshold) {
+        cfg.compressionThreshold(compressionThreshold);
+
+        return (TcpCommunicationSpi)this;
+    }
+
     /**
      * Sets slow client queue limit.
      * <p/>
@@ -828,6 +883,7 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
 
         assertParameter(cfg.socketWriteTimeout() >= 0, "sockWriteTimeout >= 0");
         assertParameter(cfg.ackSendThreshold() > 0, "ackSndThreshold > 0");
+        assertParameter(cfg.compressionThreshold() > 0, "compressionThreshold > 0");
         assertParameter(cfg.unackedMsgsBufferSize() >= 0, "unackedMsgsBufSize >= 0");
 
         if (cfg.unackedMsgsBufferSize() > 0) {
@@ -861,6 +917,7 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
             res.put(createSpiAttributeName(ATTR_EXT_ADDRS), extAddrs);
             res.put(createSpiAttributeName(ATTR_PAIRED_CONN), cfg.usePairedConnections());
             res.put(createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS), cfg.forceClientToSrvConnections());
+            res.put(createSpiAttributeName(ATTR_COMPRESSION), cfg.compressionEnabled());
 
             return res;
         }
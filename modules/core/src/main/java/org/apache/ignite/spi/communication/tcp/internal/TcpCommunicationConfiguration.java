@@ -28,6 +28,7 @@ import org.apache.ignite.spi.discovery.DiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_ACK_SND_THRESHOLD;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_COMPRESSION_THRESHOLD;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_CONN_PER_NODE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_CONN_TIMEOUT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_FILTER_REACHABLE_ADDRESSES;
@@ -156,6 +157,12 @@ public class TcpCommunicationConfiguration implements Serializable {
      */
     private boolean forceClientToSrvConnections;
 
+    /** Compression of the data sent between nodes. */
+    private boolean compressionEnabled;
+
+    /** Minimal size of the batch of outgoing data to be compressed. */
+    private int compressionThreshold = DFLT_COMPRESSION_THRESHOLD;
+
     /** Connection requestor. */
     private ConnectionRequestor connectionRequestor;
 
@@ -591,6 +598,34 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.forceClientToSrvConnections = forceClientToSrvConnections;
     }
 
+    /**
+     * @return Compression of the data sent between nodes.
+     */
+    public boolean compressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * @param compressionEnabled New compression of the data sent between nodes.
+     */
+    public void compressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    /**
+     * @return Minimal size of the batch of outgoing data to be compressed.
+     */
+    public int compressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * @param compressionThreshold New minimal size of the batch of outgoing data to be compressed.
+     */
+    public void compressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
     /**
      *
      */
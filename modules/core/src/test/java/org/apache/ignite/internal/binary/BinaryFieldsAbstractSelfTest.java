@@ -24,6 +24,7 @@ import java.util.Date;
 import java.util.UUID;
 import org.apache.ignite.binary.BinaryField;
 import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryTypeConfiguration;
 import org.apache.ignite.configuration.BinaryConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
@@ -31,6 +32,7 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.logger.NullLogger;
 import org.apache.ignite.marshaller.MarshallerContextTestImpl;
+import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
@@ -403,6 +405,44 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         checkNested(dfltMarsh, fieldName, false);
     }
 
+    /**
+     * Test reading of primitive values without deserialization.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPrimitiveValues() throws Exception {
+        BinaryObjectExImpl obj = toBinary(dfltMarsh, createObject());
+
+        assertEquals(1, field(obj, "fByte").longValue(obj));
+        assertEquals(2, field(obj, "fShort").longValue(obj));
+        assertEquals(3, field(obj, "fChar").longValue(obj));
+        assertEquals(4, field(obj, "fInt").longValue(obj));
+        assertEquals(5, field(obj, "fLong").longValue(obj));
+        assertEquals(6.6f, field(obj, "fFloat").doubleValue(obj), 0);
+        assertEquals(7.7, field(obj, "fDouble").doubleValue(obj), 0);
+        assertEquals(4, field(obj, "fInt").doubleValue(obj), 0);
+
+        assertEquals(GridBinaryMarshaller.INT, field(obj, "fInt").valueType(obj));
+        assertEquals(GridBinaryMarshaller.STRING, field(obj, "fString").valueType(obj));
+        assertEquals(GridBinaryMarshaller.NULL, field(obj, "fNull").valueType(obj));
+        assertEquals(GridBinaryMarshaller.NULL, field(obj, "fMissing").valueType(obj));
+
+        GridTestUtils.assertThrows(log, () -> field(obj, "fString").longValue(obj), BinaryObjectException.class, null);
+        GridTestUtils.assertThrows(log, () -> field(obj, "fBool").doubleValue(obj), BinaryObjectException.class, null);
+        GridTestUtils.assertThrows(log, () -> field(obj, "fMissing").longValue(obj), BinaryObjectException.class,
+            null);
+    }
+
+    /**
+     * @param obj Object.
+     * @param fieldName Field name.
+     * @return Field.
+     */
+    private static BinaryFieldEx field(BinaryObjectExImpl obj, String fieldName) {
+        return (BinaryFieldEx)obj.type().field(fieldName);
+    }
+
     /**
      * Check field resolution in both normal and nested modes.
      *
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Basic marshaller test with field accessors specialized for the field types.
+ */
+@WithSystemProperty(key = IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS, value = "true")
+public class BinaryMarshallerSpecializedAccessorsSelfTest extends BinaryMarshallerSelfTest {
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameBytesAsGenericAccessors() throws Exception {
+        TestObject obj = new TestObject();
+
+        obj.str = "str";
+        obj.intVal = 42;
+        obj.uuid = UUID.randomUUID();
+        obj.date = new Date();
+        obj.dec = BigDecimal.TEN;
+        obj.longArr = new long[] {1, 2, 3};
+        obj.strArr = new String[] {"a", null, "b"};
+        obj.color = TestColor.GREEN;
+        obj.nested = new TestNested(7);
+        obj.list = Arrays.asList(1, "2", 3L);
+
+        BinaryMarshaller marsh = binaryMarshaller();
+
+        byte[] specialized = marsh.marshal(obj);
+
+        byte[] generic;
+
+        System.clearProperty(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS);
+
+        try {
+            generic = binaryMarshaller().marshal(obj);
+        }
+        finally {
+            System.setProperty(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS, "true");
+        }
+
+        assertArrayEquals(generic, specialized);
+
+        TestObject res = marsh.unmarshal(specialized, null);
+
+        assertEquals(obj.str, res.str);
+        assertEquals(obj.intVal, res.intVal);
+        assertEquals(obj.uuid, res.uuid);
+        assertEquals(obj.date, res.date);
+        assertEquals(obj.dec, res.dec);
+        assertArrayEquals(obj.longArr, res.longArr);
+        assertArrayEquals(obj.strArr, res.strArr);
+        assertEquals(obj.color, res.color);
+        assertEquals(obj.nested.val, res.nested.val);
+        assertEquals(obj.list, res.list);
+        assertNull(res.nullStr);
+
+        BinaryObject po = new BinaryObjectImpl(binaryContext(marsh), specialized, 0);
+
+        assertEquals(obj.str, po.field("str"));
+        assertEquals(obj.color, po.<BinaryObject>field("color").deserialize());
+        assertEquals(obj.nested.val, (int)po.<BinaryObject>field("nested").field("val"));
+    }
+
+    /** */
+    private enum TestColor {
+        /** */
+        RED,
+
+        /** */
+        GREEN
+    }
+
+    /** */
+    private static final class TestNested {
+        /** */
+        private int val;
+
+        /**
+         * @param val Value.
+         */
+        private TestNested(int val) {
+            this.val = val;
+        }
+    }
+
+    /** */
+    private static class TestObject {
+        /** */
+        private String str;
+
+        /** */
+        private String nullStr;
+
+        /** */
+        private Integer intVal;
+
+        /** */
+        private UUID uuid;
+
+        /** */
+        private Date date;
+
+        /** */
+        private BigDecimal dec;
+
+        /** */
+        private long[] longArr;
+
+        /** */
+        private String[] strArr;
+
+        /** */
+        private TestColor color;
+
+        /** */
+        private TestNested nested;
+
+        /** */
+        private List<Object> list;
+    }
+}
@@ -45,7 +45,9 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStor
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.spi.metric.DoubleMetric;
 import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ObjectMetric;
 import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Assert;
@@ -344,6 +346,16 @@ public class IgnitePdsDataRegionMetricsTest extends GridCommonAbstractTest {
         assertEquals(0, replPages.value());
         assertEquals(0, replPagesTime.value());
 
+        LongMetric pageHits = mreg.findMetric("PageHits");
+        LongMetric pageMisses = mreg.findMetric("PageMisses");
+        DoubleMetric pageHitRatio = mreg.findMetric("PageHitRatio");
+        ObjectMetric<String> replacementMode = mreg.findMetric("PageReplacementMode");
+
+        assertTrue(pageHits.value() > 0);
+        assertTrue(pageMisses.value() >= readPages.value());
+        assertEquals((double)pageHits.value() / (pageHits.value() + pageMisses.value()), pageHitRatio.value(), 0.01);
+        assertEquals(DataRegionConfiguration.DFLT_PAGE_REPLACEMENT_MODE.name(), replacementMode.value());
+
         AtomicBoolean replacementStarted = new AtomicBoolean();
 
         ignite.events().remoteListen((uuid, evt) -> {
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.checkpoint;
+
+import java.util.Arrays;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_COALESCED_WRITE_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Checks checkpoint writes of adjacent pages coalesced into a single write.
+ */
+@WithSystemProperty(key = IGNITE_CHECKPOINT_COALESCED_WRITE_SIZE, value = "65536")
+public class CheckpointCoalescedWritesTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        // Data region is smaller than the data to make pages replaced before they are written by checkpoint.
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setMetricsEnabled(true)
+            .setCheckpointThreads(2)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(10 * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 4)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoalescedWrites() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, value(i));
+
+        forceCheckpoint();
+
+        long avgWriteSize = ignite.context().metric().registry(DATASTORAGE_METRIC_PREFIX)
+            .<LongMetric>findMetric("LastCheckpointAverageWriteSize").value();
+
+        int pageSize = ignite.configuration().getDataStorageConfiguration().getPageSize();
+
+        assertTrue("Average write size: " + avgWriteSize, avgWriteSize > pageSize);
+
+        for (int i = 0; i < KEYS; i += 2)
+            cache.put(i, value(i + 1));
+
+        forceCheckpoint();
+
+        checkData(cache);
+
+        stopAllGrids();
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        checkData(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private static void checkData(IgniteCache<Integer, byte[]> cache) {
+        for (int i = 0; i < KEYS; i++)
+            assertTrue("Unexpected value [key=" + i + ']', Arrays.equals(value(i % 2 == 0 ? i + 1 : i), cache.get(i)));
+    }
+
+    /**
+     * @param i Index.
+     * @return Value.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[1024];
+
+        Arrays.fill(val, (byte)i);
+
+        return val;
+    }
+}
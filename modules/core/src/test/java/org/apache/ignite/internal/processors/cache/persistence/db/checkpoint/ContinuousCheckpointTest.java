@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.checkpoint;
+
+import java.util.regex.Pattern;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE;
+
+/**
+ * Checks checkpoints triggered by the ratio of dirty pages and the size of WAL.
+ */
+public class ContinuousCheckpointTest extends GridCommonAbstractTest {
+    /** */
+    private final ListeningTestLogger testLog = new ListeningTestLogger(log);
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setGridLogger(testLog)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setCheckpointFrequency(60 * 60 * 1000L)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(64L * 1024 * 1024)
+                    .setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_CHECKPOINT_TRIGGER_DIRTY_PAGES_RATIO, value = "0.05")
+    public void testCheckpointOnDirtyPagesRatio() throws Exception {
+        checkContinuousCheckpoints("dirty pages ratio");
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_CHECKPOINT_TRIGGER_WAL_SIZE, value = "" + 2 * 1024 * 1024)
+    public void testCheckpointOnWalSize() throws Exception {
+        checkContinuousCheckpoints("WAL size since last checkpoint");
+    }
+
+    /**
+     * @param reason Expected reason of checkpoints.
+     * @throws Exception If failed.
+     */
+    private void checkContinuousCheckpoints(String reason) throws Exception {
+        LogListener lsnr = LogListener.matches(Pattern.compile("Checkpoint started .*reason='" + reason + "'"))
+            .atLeast(2)
+            .build();
+
+        testLog.registerListener(lsnr);
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 30_000; i++) {
+            cache.put(i, new byte[512]);
+
+            if (i % 1000 == 0)
+                doSleep(20);
+        }
+
+        assertTrue(lsnr.check(10_000));
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        assertEquals(30_000, ignite.cache(DEFAULT_CACHE_NAME).size());
+    }
+}
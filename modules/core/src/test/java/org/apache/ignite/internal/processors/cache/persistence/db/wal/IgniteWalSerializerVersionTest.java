@@ -19,8 +19,11 @@ package org.apache.ignite.internal.processors.cache.persistence.db.wal;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.configuration.DataRegionConfiguration;
@@ -28,8 +31,10 @@ import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.MetastoreDataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.TimeStampRecord;
 import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
@@ -44,9 +49,11 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.lang.IgniteCallable;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
 import static org.apache.ignite.transactions.TransactionState.PREPARED;
 
@@ -152,6 +159,71 @@ public class IgniteWalSerializerVersionTest extends GridCommonAbstractTest {
         ));
     }
 
+    /**
+     * Checks that records serialized before the WAL buffer reservation are read back intact, including the ones
+     * that exceed the pre-serialization limit and are written directly to the WAL buffer.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_PRE_SERIALIZATION_MAX_RECORD_SIZE, value = "1024")
+    public void testPreSerializedRecordsConcurrently() throws Exception {
+        IgniteEx ig = startGrid();
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+        int threads = 8;
+        int recsPerThread = 500;
+
+        WALPointer start = wal.log(new MetastoreDataRecord("start", null));
+
+        AtomicInteger idxGen = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int idx = idxGen.getAndIncrement();
+
+            for (int i = 0; i < recsPerThread; i++)
+                wal.log(new MetastoreDataRecord(idx + "-" + i, value(idx, i)));
+
+            return null;
+        }, threads, "wal-log");
+
+        wal.flush(null, true);
+
+        Map<String, byte[]> read = new HashMap<>();
+
+        try (WALIterator it = wal.replay(start)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                if (rec instanceof MetastoreDataRecord && ((MetastoreDataRecord)rec).value() != null)
+                    read.put(((MetastoreDataRecord)rec).key(), ((MetastoreDataRecord)rec).value());
+            }
+        }
+
+        assertEquals(threads * recsPerThread, read.size());
+
+        for (int idx = 0; idx < threads; idx++) {
+            for (int i = 0; i < recsPerThread; i++)
+                assertTrue(Arrays.equals(value(idx, i), read.get(idx + "-" + i)));
+        }
+    }
+
+    /**
+     * @param idx Thread index.
+     * @param i Record index.
+     * @return Record value, every tenth value is larger than the pre-serialization limit.
+     */
+    private static byte[] value(int idx, int i) {
+        byte[] val = new byte[i % 10 == 0 ? 2048 + i : 16 + i % 100];
+
+        Arrays.fill(val, (byte)(idx * 31 + i));
+
+        return val;
+    }
+
     /**
      *
      */
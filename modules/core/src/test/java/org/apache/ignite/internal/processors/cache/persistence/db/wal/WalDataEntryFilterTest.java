@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD_V2;
+
+/**
+ * Checks that data entries of filtered out caches are skipped on WAL replay.
+ */
+public class WalDataEntryFilterTest extends GridCommonAbstractTest {
+    /** */
+    private static final String CACHE_1 = "cache1";
+
+    /** */
+    private static final String CACHE_2 = "cache2";
+
+    /** */
+    private static final int KEYS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(name);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(
+            new CacheConfiguration<>(CACHE_1).setAtomicityMode(TRANSACTIONAL),
+            new CacheConfiguration<>(CACHE_2).setAtomicityMode(TRANSACTIONAL));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReplaySkipsDataEntriesOfFilteredCaches() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+        WALPointer start = wal.lastWritePointer();
+
+        IgniteCache<Integer, Integer> cache1 = ig.cache(CACHE_1);
+        IgniteCache<Integer, Integer> cache2 = ig.cache(CACHE_2);
+
+        for (int i = 0; i < KEYS; i++) {
+            // Single entry records of both caches.
+            cache1.put(i, i);
+            cache2.put(i, -i);
+
+            // Records with entries of both caches.
+            try (Transaction tx = ig.transactions().txStart()) {
+                cache2.put(KEYS + i, -i);
+                cache1.put(KEYS + i, i);
+
+                tx.commit();
+            }
+        }
+
+        wal.flush(null, true);
+
+        int cacheId = CU.cacheId(CACHE_1);
+
+        CacheObjectContext coCtx = ig.cachex(CACHE_1).context().cacheObjectContext();
+
+        Set<Integer> keys = new HashSet<>();
+
+        try (WALIterator it = wal.replay(start, (type, ptr) -> type == DATA_RECORD_V2, id -> id == cacheId)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                if (!(rec instanceof DataRecord))
+                    continue;
+
+                for (DataEntry e : ((DataRecord)rec).writeEntries()) {
+                    assertEquals(cacheId, e.cacheId());
+
+                    int key = e.key().value(coCtx, false);
+
+                    assertEquals(key % KEYS, (int)e.value().value(coCtx, false));
+
+                    assertTrue(keys.add(key));
+                }
+            }
+        }
+
+        assertEquals(2 * KEYS, keys.size());
+    }
+}
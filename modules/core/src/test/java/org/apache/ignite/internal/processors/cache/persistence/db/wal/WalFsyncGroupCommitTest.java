@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_FSYNC_GROUP_COMMIT_WINDOW;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.configuration.WALMode.FSYNC;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Checks group commit of concurrent transactions in FSYNC WAL mode.
+ */
+@WithSystemProperty(key = IGNITE_WAL_FSYNC_GROUP_COMMIT_WINDOW, value = "1000000")
+public class WalFsyncGroupCommitTest extends GridCommonAbstractTest {
+    /** Number of committing threads. */
+    private static final int THREADS = 16;
+
+    /** Number of transactions per thread. */
+    private static final int TXS_PER_THREAD = 200;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(name);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true))
+            .setWalMode(FSYNC)
+            .setMetricsEnabled(true));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setAtomicityMode(TRANSACTIONAL));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentCommitsShareFsync() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        AtomicInteger idxGen = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int idx = idxGen.getAndIncrement();
+
+            for (int i = 0; i < TXS_PER_THREAD; i++)
+                cache.put(idx * TXS_PER_THREAD + i, i);
+        }, THREADS, "committer");
+
+        HistogramMetricImpl grpCommit = ig.context().metric().registry(DATASTORAGE_METRIC_PREFIX)
+            .findMetric("WalGroupCommitHistogram");
+
+        HistogramMetricImpl fsync = ig.context().metric().registry(DATASTORAGE_METRIC_PREFIX)
+            .findMetric("WalFsyncHistogram");
+
+        long[] grpSizes = grpCommit.value();
+
+        long fsyncs = 0;
+        long grpFsyncs = 0;
+
+        for (int i = 0; i < grpSizes.length; i++) {
+            fsyncs += grpSizes[i];
+
+            // The first bucket holds fsyncs covering a single commit.
+            if (i > 0)
+                grpFsyncs += grpSizes[i];
+        }
+
+        assertTrue(fsyncs > 0);
+        assertTrue("Concurrent commits were not grouped: " + fsyncs, grpFsyncs > 0);
+        assertTrue("Too many fsyncs: " + fsyncs, fsyncs < THREADS * TXS_PER_THREAD);
+
+        long totalFsyncs = 0;
+
+        for (long cnt : fsync.value())
+            totalFsyncs += cnt;
+
+        assertTrue(totalFsyncs >= fsyncs);
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache0 = ig.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < THREADS * TXS_PER_THREAD; i++)
+            assertEquals(i % TXS_PER_THREAD, (int)cache0.get(i));
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.ignite.internal.processors.cache.persistence.StorageException;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -88,6 +89,15 @@ public class NoOpWALManager implements IgniteWriteAheadLogManager {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        @Nullable IgnitePredicate<Integer> dataEntryFilter
+    ) throws IgniteCheckedException, StorageException {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean reserve(WALPointer start) {
         return false;
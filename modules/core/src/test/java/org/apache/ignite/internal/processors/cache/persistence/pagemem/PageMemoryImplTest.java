@@ -21,9 +21,9 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,6 +32,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.failure.NoOpFailureHandler;
 import org.apache.ignite.internal.IgniteFutureTimeoutCheckedException;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
@@ -42,6 +43,7 @@ import org.apache.ignite.internal.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -70,12 +72,14 @@ import org.apache.ignite.spi.eventstorage.NoopEventStorageSpi;
 import org.apache.ignite.spi.metric.noop.NoopMetricExporterSpi;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.apache.ignite.testframework.junits.logger.GridTestLog4jLogger;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.CHECKPOINT_POOL_OVERFLOW_ERROR_MSG;
@@ -93,6 +97,9 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
     /** Max memory size. */
     private static final int MAX_SIZE = 128;
 
+    /** Page replacement mode. */
+    private PageReplacementMode replacementMode = DataRegionConfiguration.DFLT_PAGE_REPLACEMENT_MODE;
+
     /**
      * @throws Exception if failed.
      */
@@ -419,6 +426,234 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             }, null);
     }
 
+    /**
+     * Checks that pages acquired without the segment lock always have the expected content while other threads
+     * load and replace pages of the same segments.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentAcquireDuringPageReplacement() throws Exception {
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        PageMemoryImpl memory = createPageMemory(
+            1,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        List<FullPageId> pages = new ArrayList<>();
+
+        for (int batch = 0; batch < 10; batch++) {
+            for (int i = 0; i < 200; i++) {
+                FullPageId fullId = new FullPageId(memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX), 1);
+
+                writePage(memory, fullId, (byte)(pages.size() % 127 + 1));
+
+                pages.add(fullId);
+            }
+
+            for (FullPageId fullId : memory.beginCheckpoint(new GridFinishedFuture()))
+                memory.checkpointWritePage(fullId, ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder()),
+                    pageStoreMgr, null);
+
+            memory.finishCheckpoint();
+        }
+
+        long endTime = U.currentTimeMillis() + 5_000;
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            while (U.currentTimeMillis() < endTime) {
+                // Most of acquires hit a small set of hot pages, the rest force page replacement.
+                int idx = rnd.nextInt(10) == 0 ? rnd.nextInt(pages.size()) : rnd.nextInt(100);
+
+                FullPageId fullId = pages.get(idx);
+
+                long page = memory.acquirePage(fullId.groupId(), fullId.pageId());
+
+                try {
+                    long addr = memory.readLock(fullId.groupId(), fullId.pageId(), page);
+
+                    try {
+                        assertEquals(fullId.pageId(), PageIO.getPageId(addr));
+                        assertEquals((byte)(idx % 127 + 1), PageUtils.getByte(addr, PageIO.COMMON_HEADER_END));
+                        assertEquals((byte)(idx % 127 + 1), PageUtils.getByte(addr, PAGE_SIZE - 1));
+                    }
+                    finally {
+                        memory.readUnlock(fullId.groupId(), fullId.pageId(), page);
+                    }
+                }
+                finally {
+                    memory.releasePage(fullId.groupId(), fullId.pageId(), page);
+                }
+            }
+
+            return null;
+        }, 8, "page-reader");
+
+        assertTrue(memory.loadedPages() < pages.size());
+    }
+
+    /**
+     * Checks that pages which are referenced repeatedly stay in memory with 2Q replacement, when a large number of
+     * pages is touched once.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTwoQueueReplacementScanResistance() throws Exception {
+        replacementMode = PageReplacementMode.TWO_QUEUE;
+
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        PageMemoryImpl memory = createPageMemory(
+            1,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        List<FullPageId> pages = new ArrayList<>();
+
+        for (int batch = 0; batch < 20; batch++) {
+            for (int i = 0; i < 200; i++) {
+                FullPageId fullId = new FullPageId(memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX), 1);
+
+                writePage(memory, fullId, (byte)1);
+
+                pages.add(fullId);
+            }
+
+            for (FullPageId fullId : memory.beginCheckpoint(new GridFinishedFuture()))
+                memory.checkpointWritePage(fullId, ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder()),
+                    pageStoreMgr, null);
+
+            memory.finishCheckpoint();
+        }
+
+        List<FullPageId> hotPages = pages.subList(0, 100);
+
+        int coldIdx = hotPages.size();
+
+        // Interleave hot pages with cold ones, hot pages are replaced from the "in" queue and admitted to the main
+        // queue on the next reference.
+        for (int round = 0; round < 20; round++) {
+            for (FullPageId fullId : hotPages)
+                touchPage(memory, fullId);
+
+            for (int i = 0; i < 100; i++)
+                touchPage(memory, pages.get(coldIdx++));
+        }
+
+        for (FullPageId fullId : hotPages)
+            assertTrue("Hot page is not loaded before scan: " + fullId, memory.hasLoadedPage(fullId));
+
+        // Scan.
+        while (coldIdx < pages.size())
+            touchPage(memory, pages.get(coldIdx++));
+
+        for (FullPageId fullId : hotPages)
+            assertTrue("Hot page is replaced by scan: " + fullId, memory.hasLoadedPage(fullId));
+    }
+
+    /**
+     * Checks that pages following sequentially read pages are loaded in advance, and read-ahead continues when
+     * the prefetched pages are acquired.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_PAGE_READ_AHEAD_WINDOW, value = "16")
+    public void testReadAheadOfSequentiallyReadPages() throws Exception {
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        PageMemoryImpl memory = createPageMemory(
+            10,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        List<FullPageId> pages = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            FullPageId fullId = new FullPageId(memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX), 1);
+
+            writePage(memory, fullId, (byte)(i + 1));
+
+            pages.add(fullId);
+        }
+
+        for (FullPageId fullId : memory.beginCheckpoint(new GridFinishedFuture()))
+            memory.checkpointWritePage(fullId, ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder()),
+                pageStoreMgr, null);
+
+        memory.finishCheckpoint();
+
+        memory.stop(true);
+
+        memory = createPageMemory(
+            10,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        try {
+            touchPage(memory, pages.get(0));
+            touchPage(memory, pages.get(1));
+
+            PageMemoryImpl mem = memory;
+
+            assertTrue(GridTestUtils.waitForCondition(() -> mem.hasLoadedPage(pages.get(17)), 5_000));
+
+            assertFalse(memory.hasLoadedPage(pages.get(50)));
+
+            for (int i = 2; i < 12; i++)
+                touchPage(memory, pages.get(i));
+
+            assertTrue(GridTestUtils.waitForCondition(() -> mem.hasLoadedPage(pages.get(26)), 5_000));
+
+            for (int i = 0; i < pages.size(); i++) {
+                FullPageId fullId = pages.get(i);
+
+                long page = memory.acquirePage(fullId.groupId(), fullId.pageId());
+
+                try {
+                    long addr = memory.readLock(fullId.groupId(), fullId.pageId(), page);
+
+                    try {
+                        assertEquals(fullId.pageId(), PageIO.getPageId(addr));
+                        assertEquals((byte)(i + 1), PageUtils.getByte(addr, PAGE_SIZE - 1));
+                    }
+                    finally {
+                        memory.readUnlock(fullId.groupId(), fullId.pageId(), page);
+                    }
+                }
+                finally {
+                    memory.releasePage(fullId.groupId(), fullId.pageId(), page);
+                }
+            }
+        }
+        finally {
+            memory.stop(true);
+        }
+    }
+
+    /**
+     * @param mem Page memory.
+     * @param fullId Full page ID.
+     * @throws Exception If failed.
+     */
+    private void touchPage(PageMemoryImpl mem, FullPageId fullId) throws Exception {
+        long page = mem.acquirePage(fullId.groupId(), fullId.pageId());
+
+        mem.releasePage(fullId.groupId(), fullId.pageId(), page);
+    }
+
     /**
      * @param mem Page memory.
      * @param fullPageId Full page ID to write.
@@ -588,7 +823,7 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
 
         IgniteConfiguration igniteCfg = new IgniteConfiguration();
         igniteCfg.setDataStorageConfiguration(new DataStorageConfiguration().setDefaultDataRegionConfiguration(
-            new DataRegionConfiguration().setPersistenceEnabled(true)));
+            new DataRegionConfiguration().setPersistenceEnabled(true).setPageReplacementMode(replacementMode)));
         igniteCfg.setFailureHandler(new NoOpFailureHandler());
         igniteCfg.setEncryptionSpi(new NoopEncryptionSpi());
         igniteCfg.setMetricExporterSpi(new NoopMetricExporterSpi());
@@ -678,7 +913,7 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
      */
     private static class TestPageStoreManager extends NoOpPageStoreManager implements PageStoreWriter {
         /** */
-        public Map<FullPageId, byte[]> storedPages = new HashMap<>();
+        public Map<FullPageId, byte[]> storedPages = new ConcurrentHashMap<>();
 
         /** {@inheritDoc} */
         @Override public void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) throws IgniteCheckedException {
@@ -709,6 +944,18 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             return null;
         }
 
+        /** {@inheritDoc} */
+        @Override public int pages(int grpId, int partId) throws IgniteCheckedException {
+            int pages = 0;
+
+            for (FullPageId fullId : storedPages.keySet()) {
+                if (fullId.groupId() == grpId && PageIdUtils.partId(fullId.pageId()) == partId)
+                    pages = Math.max(pages, PageIdUtils.pageIndex(fullId.pageId()) + 1);
+            }
+
+            return pages;
+        }
+
         /** {@inheritDoc} */
         @Override public void writePage(FullPageId fullPageId, ByteBuffer pageBuf, int tag) throws IgniteCheckedException {
             byte[] data = new byte[PAGE_SIZE];
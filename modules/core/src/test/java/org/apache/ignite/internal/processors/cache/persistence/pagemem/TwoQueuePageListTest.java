@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageList.NULL_IDX;
+
+/**
+ * Test 2Q pages lists implementation.
+ */
+public class TwoQueuePageListTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 1024;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** Pages lists. */
+    private TwoQueuePageList lists;
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {TwoQueuePageList.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /** */
+    @Test
+    public void testAddAndRemove() {
+        lists = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        lists.addToIn(0);
+        lists.addToMain(1);
+        lists.addToIn(2);
+        lists.addToMain(3);
+        lists.addToIn(4);
+        lists.addToMain(5);
+
+        assertInQueue(0, 2, 4);
+        assertMainQueue(1, 3, 5);
+
+        lists.remove(0); // "In" queue head.
+        lists.remove(5); // Main queue tail.
+        lists.remove(3); // Main queue middle.
+
+        assertInQueue(2, 4);
+        assertMainQueue(1);
+
+        lists.remove(1);
+        lists.remove(4);
+        lists.remove(2);
+
+        assertInQueue();
+        assertMainQueue();
+
+        // Removed pages can be added again.
+        lists.addToMain(2);
+        lists.addToIn(1);
+
+        assertInQueue(1);
+        assertMainQueue(2);
+    }
+
+    /** */
+    @Test
+    public void testPoll() {
+        lists = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        assertEquals(NULL_IDX, lists.pollIn());
+        assertEquals(NULL_IDX, lists.pollMain());
+
+        lists.addToIn(0);
+        lists.addToMain(1);
+        lists.addToIn(2);
+        lists.addToMain(3);
+
+        assertEquals(0, lists.pollIn());
+        assertEquals(1, lists.pollMain());
+        assertEquals(2, lists.pollIn());
+        assertEquals(NULL_IDX, lists.pollIn());
+
+        assertFalse(lists.mainPage(1));
+
+        assertEquals(3, lists.pollMain());
+        assertEquals(NULL_IDX, lists.pollMain());
+
+        assertInQueue();
+        assertMainQueue();
+    }
+
+    /** */
+    @Test
+    public void testTouch() {
+        lists = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        lists.addToIn(0);
+        lists.addToIn(1);
+        lists.addToMain(2);
+        lists.addToMain(3);
+        lists.addToMain(4);
+
+        // "In" queue pages are not reordered.
+        lists.touch(0);
+        assertInQueue(0, 1);
+
+        lists.touch(2);
+        assertMainQueue(3, 4, 2);
+
+        lists.touch(4);
+        assertMainQueue(3, 2, 4);
+
+        lists.touch(4);
+        assertMainQueue(3, 2, 4);
+
+        assertInQueue(0, 1);
+    }
+
+    /** */
+    @Test
+    public void testOutQueue() {
+        lists = new TwoQueuePageList(8, region.address());
+
+        // Capacity of the "out" queue is 4 keys.
+        for (long key = 1; key <= 4; key++)
+            lists.addToOut(key);
+
+        for (long key = 1; key <= 4; key++)
+            assertTrue(lists.outContains(key));
+
+        lists.addToOut(5);
+
+        assertFalse("The oldest key must be forgotten", lists.outContains(1));
+        assertTrue(lists.outContains(5));
+
+        assertTrue(lists.removeFromOut(3));
+        assertFalse(lists.removeFromOut(3));
+        assertFalse(lists.outContains(3));
+
+        assertTrue(lists.outContains(2));
+        assertTrue(lists.outContains(4));
+    }
+
+    /** */
+    @Test
+    public void testOutQueueRandomized() {
+        int pagesCnt = MAX_PAGES_CNT;
+
+        lists = new TwoQueuePageList(pagesCnt, region.address());
+
+        int outCap = pagesCnt / 2;
+
+        Deque<Long> ring = new ArrayDeque<>();
+        Set<Long> removed = new HashSet<>();
+
+        Random rnd = new Random();
+
+        long seed = rnd.nextLong();
+
+        log.info("Seed: " + seed);
+
+        rnd.setSeed(seed);
+
+        for (int i = 0; i < 100_000; i++) {
+            // Small keys range to have many collisions in the hash table.
+            long key = TwoQueuePageList.key(rnd.nextInt(4), rnd.nextInt(pagesCnt));
+
+            if (rnd.nextBoolean()) {
+                if (ring.size() == outCap)
+                    ring.pollFirst();
+
+                ring.addLast(key);
+
+                removed.remove(key);
+
+                lists.addToOut(key);
+            }
+            else {
+                boolean exp = ring.contains(key) && !removed.contains(key);
+
+                assertEquals(exp, lists.removeFromOut(key));
+
+                if (exp)
+                    removed.add(key);
+            }
+        }
+
+        for (long key : ring)
+            assertEquals(!removed.contains(key), lists.outContains(key));
+    }
+
+    /**
+     * @param pageIdxs Expected pages of the "in" queue.
+     */
+    private void assertInQueue(int... pageIdxs) {
+        assertQueue(lists.inHeadIdx(), false, pageIdxs);
+
+        assertEquals(pageIdxs.length, lists.inPagesCount());
+    }
+
+    /**
+     * @param pageIdxs Expected pages of the main queue.
+     */
+    private void assertMainQueue(int... pageIdxs) {
+        assertQueue(lists.mainHeadIdx(), true, pageIdxs);
+
+        assertEquals(pageIdxs.length, lists.mainPagesCount());
+    }
+
+    /**
+     * @param headIdx Queue head.
+     * @param main Main queue flag.
+     * @param pageIdxs Expected pages.
+     */
+    private void assertQueue(int headIdx, boolean main, int... pageIdxs) {
+        int curIdx = headIdx;
+        int prevIdx = NULL_IDX;
+
+        for (int pageIdx : pageIdxs) {
+            assertEquals(pageIdx, curIdx);
+            assertEquals(prevIdx, lists.prev(curIdx));
+            assertEquals(main, lists.mainPage(curIdx));
+
+            prevIdx = curIdx;
+            curIdx = lists.next(curIdx);
+        }
+
+        assertEquals(NULL_IDX, curIdx);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ObjectMetric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_RECOVERY_DECODING_THREADS;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Tests for {@link ParallelDecodingWalIterator}.
+ */
+public class ParallelDecodingWalIteratorTest extends GridCommonAbstractTest {
+    /** Number of keys. */
+    private static final int KEYS = 5_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME))
+            .setDataStorageConfiguration(
+                new DataStorageConfiguration()
+                    .setWalSegmentSize(4 * (int)U.MB)
+                    .setMaxWalArchiveSize(DataStorageConfiguration.UNLIMITED_WAL_ARCHIVE)
+                    .setDefaultDataRegionConfiguration(
+                        new DataRegionConfiguration()
+                            .setPersistenceEnabled(true)
+                            .setMaxSize(256 * U.MB)
+                    )
+            );
+    }
+
+    /**
+     * Checks that records are returned in the same order and with the same content as by the regular iterator.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameRecords() throws Exception {
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        fillCache(n.cache(DEFAULT_CACHE_NAME));
+
+        forceCheckpoint();
+
+        WALPointer start = new WALPointer(0, 0, 0);
+
+        int cnt = 0;
+
+        try (
+            WALIterator exp = walMgr(n).replay(start, null);
+            WALIterator act = walMgr(n).replay(start, null, 4)
+        ) {
+            assertTrue(act instanceof ParallelDecodingWalIterator);
+
+            while (exp.hasNext()) {
+                IgniteBiTuple<WALPointer, WALRecord> expRec = exp.next();
+
+                assertTrue(act.hasNext());
+
+                IgniteBiTuple<WALPointer, WALRecord> actRec = act.next();
+
+                assertEquals(expRec.get1(), actRec.get1());
+                assertEquals(expRec.get2().type(), actRec.get2().type());
+                assertEquals(expRec.get2().size(), actRec.get2().size());
+                assertEquals(expRec.get2().position(), actRec.get2().position());
+                assertEquals(expRec.get2().toString(), actRec.get2().toString());
+                assertEquals(exp.lastRead(), act.lastRead());
+
+                cnt++;
+            }
+
+            assertFalse(act.hasNext());
+            assertEquals(exp.lastRead(), act.lastRead());
+        }
+
+        assertTrue(cnt > KEYS);
+    }
+
+    /**
+     * Checks that the iterator may be closed before all records are read.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCloseBeforeEnd() throws Exception {
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        fillCache(n.cache(DEFAULT_CACHE_NAME));
+
+        WALIterator it = walMgr(n).replay(new WALPointer(0, 0, 0), null, 2);
+
+        for (int i = 0; i < 10; i++)
+            it.next();
+
+        Optional<WALPointer> lastRead = it.lastRead();
+
+        it.close();
+
+        assertTrue(lastRead.isPresent());
+        assertTrue(it.isClosed());
+        assertFalse(it.hasNext());
+    }
+
+    /**
+     * Checks recovery with parallel decoding of WAL records.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_RECOVERY_DECODING_THREADS, value = "4")
+    public void testRecovery() throws Exception {
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        forceCheckpoint();
+
+        dbMgr(n).enableCheckpoints(false).get(getTestTimeout());
+
+        fillCache(n.cache(DEFAULT_CACHE_NAME));
+
+        stopGrid(0, true);
+
+        n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = n.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(valueLength(i), cache.get(i).length);
+
+        MetricRegistry mreg = n.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        assertEquals("logical", mreg.<ObjectMetric<String>>findMetric("WalRecoveryPhase").value());
+        assertTrue(mreg.<LongMetric>findMetric("WalRecoveryRecords").value() >= KEYS);
+        assertTrue(mreg.<LongMetric>findMetric("WalRecoveryReadBytes").value() > 0);
+        assertEquals(
+            mreg.<LongMetric>findMetric("WalRecoveryReadBytes").value(),
+            mreg.<LongMetric>findMetric("WalRecoveryTotalBytes").value()
+        );
+    }
+
+    /**
+     * @param cache Cache to fill.
+     */
+    private void fillCache(IgniteCache<Integer, byte[]> cache) {
+        for (int i = 0; i < KEYS; i++) {
+            byte[] val = new byte[valueLength(i)];
+
+            ThreadLocalRandom.current().nextBytes(val);
+
+            cache.put(i, val);
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return Length of the value for the key, some values are larger than a decoding batch.
+     */
+    private static int valueLength(int key) {
+        return key % 1000 == 0 ? 3 * (int)U.MB / 2 : 10 + key % 1000;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.apache.ignite.binary.BinaryWriter;
+import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.query.ScanQueryBinaryFilterBuilder.and;
+import static org.apache.ignite.cache.query.ScanQueryBinaryFilterBuilder.eq;
+import static org.apache.ignite.cache.query.ScanQueryBinaryFilterBuilder.gt;
+import static org.apache.ignite.cache.query.ScanQueryBinaryFilterBuilder.gte;
+import static org.apache.ignite.cache.query.ScanQueryBinaryFilterBuilder.lt;
+import static org.apache.ignite.cache.query.ScanQueryBinaryFilterBuilder.lte;
+
+/**
+ * Tests scan queries with filters evaluated on the binary form of the entries.
+ */
+public class ScanQueryBinaryFilterTest extends GridCommonAbstractTest {
+    /** Entries count. */
+    private static final int ENTRIES_CNT = 1000;
+
+    /** Number of deserialized values. */
+    private static final AtomicInteger DESERIALIZED_CNT = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        IgniteCache<Integer, Person> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, new Person(i));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        DESERIALIZED_CNT.set(0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilters() throws Exception {
+        checkFilter(eq("age", 10), p -> p.age == 10);
+        checkFilter(eq("age", 10L), p -> p.age == 10);
+        checkFilter(lt("age", 10), p -> p.age < 10);
+        checkFilter(lte("age", 10), p -> p.age <= 10);
+        checkFilter(gt("salary", 990_000L), p -> p.salary > 990_000L);
+        checkFilter(gte("salary", 990_000), p -> p.salary >= 990_000L);
+        checkFilter(lt("rating", 1.5d), p -> p.rating < 1.5d);
+        checkFilter(gt("age", 97.5d), p -> p.age > 97.5d);
+        checkFilter(eq("name", "name-42"), p -> "name-42".equals(p.name));
+        checkFilter(gte("name", "name-998"), p -> p.name.compareTo("name-998") >= 0);
+        checkFilter(eq("code", null), p -> p.code == null);
+        checkFilter(eq("code", 3), p -> p.code != null && p.code == 3);
+        checkFilter(eq("missing", null), p -> true);
+        checkFilter(eq("missing", 1), p -> false);
+        checkFilter(and(gte("age", 20), lt("age", 30), eq("code", 2)), p -> p.age >= 20 && p.age < 30 &&
+            p.code != null && p.code == 2);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOnlyMatchingEntriesDeserialized() throws Exception {
+        IgniteCache<Integer, Person> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        List<Cache.Entry<Integer, Person>> res = cache.query(new ScanQuery<Integer, Person>(lt("age", 10))).getAll();
+
+        assertEquals(100, res.size());
+        assertEquals(res.size(), DESERIALIZED_CNT.get());
+
+        DESERIALIZED_CNT.set(0);
+
+        res = cache.query(new ScanQuery<Integer, Person>(lt("age", 10)).setLocal(true)).getAll();
+
+        assertTrue(res.size() < 100);
+        assertEquals(res.size(), DESERIALIZED_CNT.get());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testKeepBinary() throws Exception {
+        IgniteCache<Integer, BinaryObject> cache = grid(1).cache(DEFAULT_CACHE_NAME).withKeepBinary();
+
+        List<Cache.Entry<Integer, BinaryObject>> res = cache.query(new ScanQuery<Integer, BinaryObject>(eq("age", 5))).getAll();
+
+        assertEquals(10, res.size());
+
+        for (Cache.Entry<Integer, BinaryObject> e : res)
+            assertEquals(5, (int)e.getValue().field("age"));
+
+        assertEquals(0, DESERIALIZED_CNT.get());
+    }
+
+    /**
+     * @param filter Filter.
+     * @param exp Expected condition.
+     */
+    private void checkFilter(IgniteBiPredicate<Integer, Person> filter, IgnitePredicate<Person> exp) {
+        for (IgniteEx ignite : new IgniteEx[] {grid(0), grid(1)}) {
+            IgniteCache<Integer, Person> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+            int expCnt = 0;
+
+            for (int i = 0; i < ENTRIES_CNT; i++) {
+                if (exp.apply(new Person(i)))
+                    expCnt++;
+            }
+
+            List<Cache.Entry<Integer, Person>> res = cache.query(new ScanQuery<>(filter)).getAll();
+
+            assertEquals(filter.toString(), expCnt, res.size());
+
+            for (Cache.Entry<Integer, Person> e : res) {
+                assertEquals(e.getKey().intValue(), e.getValue().id);
+                assertTrue(filter.toString(), exp.apply(e.getValue()));
+            }
+        }
+    }
+
+    /** */
+    private static class Person implements Binarylizable {
+        /** */
+        private int id;
+
+        /** */
+        private int age;
+
+        /** */
+        private long salary;
+
+        /** */
+        private double rating;
+
+        /** */
+        private String name;
+
+        /** */
+        private Integer code;
+
+        /**
+         * @param id ID.
+         */
+        private Person(int id) {
+            this.id = id;
+
+            age = id % 100;
+            salary = id * 1000L;
+            rating = id / 100d;
+            name = "name-" + id;
+            code = id % 2 == 0 ? null : id % 5;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void writeBinary(BinaryWriter writer) throws BinaryObjectException {
+            writer.writeInt("id", id);
+            writer.writeInt("age", age);
+            writer.writeLong("salary", salary);
+            writer.writeDouble("rating", rating);
+            writer.writeString("name", name);
+            writer.writeObject("code", code);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readBinary(BinaryReader reader) throws BinaryObjectException {
+            id = reader.readInt("id");
+            age = reader.readInt("age");
+            salary = reader.readLong("salary");
+            rating = reader.readDouble("rating");
+            name = reader.readString("name");
+            code = reader.readObject("code");
+
+            DESERIALIZED_CNT.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.spi.metric.DoubleMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_INPUT_BYTES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_OUTPUT_BYTES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_RATIO_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_TIME_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_TIME_METRIC_NAME;
+
+/**
+ * Tests compression of the data sent by {@link TcpCommunicationSpi}.
+ */
+public class TcpCommunicationSpiCompressionTest extends GridCommonAbstractTest {
+    /** Entries count. */
+    private static final int ENTRIES_CNT = 500;
+
+    /** Compression enabled flag. */
+    private boolean compression = true;
+
+    /** Paired connections flag. */
+    private boolean pairedConnections;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi()
+                .setCompressionEnabled(compression)
+                .setCompressionThreshold(256)
+                .setUsePairedConnections(pairedConnections))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompression() throws Exception {
+        startGrids(2);
+
+        startClientGrid(2);
+
+        checkCache(grid(2));
+
+        for (int i = 0; i < 3; i++) {
+            MetricRegistry mreg = metrics(grid(i));
+
+            long in = mreg.<LongMetric>findMetric(COMPRESSION_INPUT_BYTES_METRIC_NAME).value();
+            long out = mreg.<LongMetric>findMetric(COMPRESSION_OUTPUT_BYTES_METRIC_NAME).value();
+
+            assertTrue("Nothing compressed [node=" + i + ']', out > 0);
+            assertTrue("Data is not compressed [node=" + i + ", in=" + in + ", out=" + out + ']', in > out);
+
+            assertTrue(mreg.<DoubleMetric>findMetric(COMPRESSION_RATIO_METRIC_NAME).value() > 1);
+            assertTrue(mreg.<LongMetric>findMetric(COMPRESSION_TIME_METRIC_NAME).value() > 0);
+            assertTrue(mreg.<LongMetric>findMetric(DECOMPRESSION_TIME_METRIC_NAME).value() > 0);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompressionPairedConnections() throws Exception {
+        pairedConnections = true;
+
+        startGrids(2);
+
+        startClientGrid(2);
+
+        checkCache(grid(2));
+        checkCache(grid(1));
+
+        assertTrue(metrics(grid(0)).<LongMetric>findMetric(COMPRESSION_OUTPUT_BYTES_METRIC_NAME).value() > 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompressionDisabledOnRemoteNode() throws Exception {
+        startGrid(0);
+
+        compression = false;
+
+        startGrid(1);
+
+        compression = true;
+
+        startClientGrid(2);
+
+        checkCache(grid(2));
+
+        // Connections with the node not supporting compression are not compressed.
+        assertEquals(0, metrics(grid(1)).<LongMetric>findMetric(COMPRESSION_OUTPUT_BYTES_METRIC_NAME).value());
+
+        assertTrue(metrics(grid(2)).<LongMetric>findMetric(COMPRESSION_OUTPUT_BYTES_METRIC_NAME).value() > 0);
+    }
+
+    /**
+     * Puts entries of different sizes, some of them bigger than the socket buffer, and checks them on all nodes.
+     *
+     * @param ignite Node to put entries from.
+     */
+    private void checkCache(Ignite ignite) {
+        IgniteCache<Integer, String> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, String> expected = new HashMap<>();
+
+        for (int i = 0; i < ENTRIES_CNT; i++) {
+            StringBuilder sb = new StringBuilder();
+
+            int len = i % 50 == 0 ? 100_000 : i * 10;
+
+            for (int j = 0; j < len; j++)
+                sb.append((char)('a' + (i + j / 16) % 26));
+
+            expected.put(i, sb.toString());
+        }
+
+        for (Map.Entry<Integer, String> e : expected.entrySet())
+            cache.put(e.getKey(), e.getValue());
+
+        for (Ignite node : G.allGrids()) {
+            IgniteCache<Integer, String> nodeCache = node.cache(DEFAULT_CACHE_NAME);
+
+            for (Map.Entry<Integer, String> e : expected.entrySet())
+                assertEquals(e.getValue(), nodeCache.get(e.getKey()));
+        }
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Communication metrics of the node.
+     */
+    private MetricRegistry metrics(Ignite ignite) {
+        return ((IgniteEx)ignite).context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME);
+    }
+}
@@ -61,6 +61,7 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.Exponenti
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePoolTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.ProgressSpeedCalculationTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.SegmentedLruPageListTest;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageListTest;
 import org.apache.ignite.internal.processors.cache.transactions.AtomicOperationsInTxTest;
 import org.apache.ignite.internal.processors.cache.transactions.TransactionIntegrityWithSystemWorkerDeathTest;
 import org.apache.ignite.internal.processors.cluster.BaselineAutoAdjustMXBeanTest;
@@ -127,6 +128,7 @@ import org.junit.runners.Suite;
     // Basic DB data structures.
     PagePoolTest.class,
     SegmentedLruPageListTest.class,
+    TwoQueuePageListTest.class,
     ClockPageReplacementFlagsTest.class,
     BPlusTreeSelfTest.class,
     BPlusTreeFakeReuseSelfTest.class,
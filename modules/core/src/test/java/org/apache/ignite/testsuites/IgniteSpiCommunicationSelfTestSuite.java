@@ -43,6 +43,7 @@ import org.apache.ignite.spi.communication.tcp.IgniteTcpCommunicationHandshakeWa
 import org.apache.ignite.spi.communication.tcp.IgniteTcpCommunicationHandshakeWaitTest;
 import org.apache.ignite.spi.communication.tcp.IgniteTcpCommunicationRecoveryAckClosureSelfTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationHandshakeTimeoutTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiCompressionTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiDropNodesTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFaultyClientSslTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFaultyClientTest;
@@ -98,6 +99,7 @@ import org.junit.runners.Suite;
     GridTcpCommunicationSpiSkipWaitHandshakeOnClientTest.class,
 
     TcpCommunicationStatisticsTest.class,
+    TcpCommunicationSpiCompressionTest.class,
 
     IgniteTcpCommunicationHandshakeWaitTest.class,
     IgniteTcpCommunicationHandshakeWaitSslTest.class,
@@ -412,4 +412,53 @@ public class IgniteNativeIoLib {
      * @return  On error, the value -1 is returned and errno is set to indicate the error.
      */
     public static native long lseek(int fd, long off, int whence);
+
+    /**
+     * Invokes the system call with the given number and two arguments. Used for "io_uring_setup", see
+     * "man 2 io_uring_setup".
+     *
+     * @param num System call number.
+     * @param arg0 First argument.
+     * @param arg1 Second argument.
+     * @return System call result, on error -1 is returned and errno is set appropriately.
+     */
+    public static native NativeLong syscall(NativeLong num, int arg0, Pointer arg1);
+
+    /**
+     * Invokes the system call with the given number and six arguments. Used for "io_uring_enter", see
+     * "man 2 io_uring_enter".
+     *
+     * @param num System call number.
+     * @param arg0 First argument.
+     * @param arg1 Second argument.
+     * @param arg2 Third argument.
+     * @param arg3 Fourth argument.
+     * @param arg4 Fifth argument.
+     * @param arg5 Sixth argument.
+     * @return System call result, on error -1 is returned and errno is set appropriately.
+     */
+    public static native NativeLong syscall(NativeLong num, int arg0, int arg1, int arg2, int arg3, Pointer arg4,
+        NativeLong arg5);
+
+    /**
+     * Creates a new mapping in the virtual address space of the calling process. See "man 2 mmap".
+     *
+     * @param addr Hint for the mapping address, {@code null} to let the kernel choose it.
+     * @param len Length of the mapping.
+     * @param prot Desired memory protection of the mapping.
+     * @param flags Mapping flags.
+     * @param fd File descriptor of the mapped object.
+     * @param off Offset in the mapped object.
+     * @return Address of the mapping, on error {@code MAP_FAILED} ((void *) -1) is returned.
+     */
+    public static native Pointer mmap(Pointer addr, NativeLong len, int prot, int flags, int fd, NativeLong off);
+
+    /**
+     * Deletes the mappings for the specified address range. See "man 2 munmap".
+     *
+     * @param addr Address of the mapping.
+     * @param len Length of the mapping.
+     * @return On success, zero is returned. On error, -1 is returned, and errno is set appropriately.
+     */
+    public static native int munmap(Pointer addr, NativeLong len);
 }
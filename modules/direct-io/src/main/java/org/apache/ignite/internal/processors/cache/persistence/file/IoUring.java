@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.IOException;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import com.sun.jna.Pointer;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Linux io_uring instance: submission and completion queues shared with the kernel. See "man 7 io_uring".<br>
+ * Operations are prepared one by one and then submitted and waited for by a single system call.<br>
+ * <b>Note: </b> The ring is not thread safe, every thread should use its own instance.
+ */
+class IoUring implements AutoCloseable {
+    /** System call number of "io_uring_setup", the same for all architectures. */
+    private static final NativeLong SYS_IO_URING_SETUP = new NativeLong(425);
+
+    /** System call number of "io_uring_enter", the same for all architectures. */
+    private static final NativeLong SYS_IO_URING_ENTER = new NativeLong(426);
+
+    /** Vectored read operation, available since the first io_uring kernel. */
+    static final byte IORING_OP_READV = 1;
+
+    /** Vectored write operation, available since the first io_uring kernel. */
+    static final byte IORING_OP_WRITEV = 2;
+
+    /** File sync operation. */
+    static final byte IORING_OP_FSYNC = 3;
+
+    /** Flag of {@link #IORING_OP_FSYNC}: sync file data only, like "fdatasync". */
+    static final int IORING_FSYNC_DATASYNC = 1;
+
+    /** Flag of "io_uring_enter": wait for the specified number of completions. */
+    private static final int IORING_ENTER_GETEVENTS = 1;
+
+    /** Offset to map the submission queue ring. */
+    private static final long IORING_OFF_SQ_RING = 0L;
+
+    /** Offset to map the completion queue ring. */
+    private static final long IORING_OFF_CQ_RING = 0x8000000L;
+
+    /** Offset to map the submission queue entries. */
+    private static final long IORING_OFF_SQES = 0x10000000L;
+
+    /** Pages may be read and written. */
+    private static final int PROT_READ_WRITE = 0x1 | 0x2;
+
+    /** Share the mapping and populate page tables for it. */
+    private static final int MAP_SHARED_POPULATE = 0x01 | 0x8000;
+
+    /** Interrupted system call. */
+    private static final int E_INTR = 4;
+
+    /** Size of "struct io_uring_params". */
+    private static final int PARAMS_SIZE = 120;
+
+    /** Offset of "struct io_sqring_offsets" in "struct io_uring_params". */
+    private static final int SQ_OFF = 40;
+
+    /** Offset of "struct io_cqring_offsets" in "struct io_uring_params". */
+    private static final int CQ_OFF = 80;
+
+    /** Size of "struct io_uring_sqe". */
+    private static final int SQE_SIZE = 64;
+
+    /** Size of "struct io_uring_cqe". */
+    private static final int CQE_SIZE = 16;
+
+    /** Size of "struct iovec". */
+    private static final int IOVEC_SIZE = 16;
+
+    /** Ring file descriptor. */
+    private final int ringFd;
+
+    /** Number of submission queue entries. */
+    private final int entries;
+
+    /** Submission queue ring mapping. */
+    private final Pointer sqRing;
+
+    /** Submission queue ring mapping size. */
+    private final long sqRingSize;
+
+    /** Completion queue ring mapping. */
+    private final Pointer cqRing;
+
+    /** Completion queue ring mapping size. */
+    private final long cqRingSize;
+
+    /** Submission queue entries mapping. */
+    private final Pointer sqes;
+
+    /** Submission queue head address, updated by the kernel. */
+    private final long sqHeadAddr;
+
+    /** Submission queue tail address, updated by the application. */
+    private final long sqTailAddr;
+
+    /** Submission queue index array address. */
+    private final long sqArrayAddr;
+
+    /** Submission queue ring mask. */
+    private final int sqMask;
+
+    /** Submission queue entries address. */
+    private final long sqesAddr;
+
+    /** Completion queue head address, updated by the application. */
+    private final long cqHeadAddr;
+
+    /** Completion queue tail address, updated by the kernel. */
+    private final long cqTailAddr;
+
+    /** Completion queue ring mask. */
+    private final int cqMask;
+
+    /** Completion queue entries address. */
+    private final long cqesAddr;
+
+    /** IO vectors, one per submission queue entry. */
+    private final long iovecsAddr;
+
+    /** Results of the last submitted operations by their indexes. */
+    private final int[] results;
+
+    /** Local submission queue tail. */
+    private int sqTail;
+
+    /** Number of prepared and not submitted yet operations. */
+    private int prepared;
+
+    /** Closed flag. */
+    private boolean closed;
+
+    /**
+     * Creates a ring.
+     *
+     * @param entries Number of submission queue entries, a power of two.
+     * @throws IOException If the kernel doesn't support io_uring or failed to create the ring.
+     */
+    IoUring(int entries) throws IOException {
+        assert entries > 0 && (entries & (entries - 1)) == 0 : entries;
+
+        long params = GridUnsafe.allocateMemory(PARAMS_SIZE);
+
+        try {
+            GridUnsafe.setMemory(params, PARAMS_SIZE, (byte)0);
+
+            ringFd = IgniteNativeIoLib.syscall(SYS_IO_URING_SETUP, entries, new Pointer(params)).intValue();
+
+            if (ringFd < 0)
+                throw new IOException("Failed to create io_uring instance: " + lastError());
+
+            this.entries = GridUnsafe.getInt(params);
+
+            int cqEntries = GridUnsafe.getInt(params + 4);
+
+            sqRingSize = GridUnsafe.getInt(params + SQ_OFF + 24) + (long)this.entries * 4;
+            cqRingSize = GridUnsafe.getInt(params + CQ_OFF + 20) + (long)cqEntries * CQE_SIZE;
+
+            Pointer sqRing = null;
+            Pointer cqRing = null;
+            Pointer sqes = null;
+
+            try {
+                sqRing = map(sqRingSize, IORING_OFF_SQ_RING);
+                cqRing = map(cqRingSize, IORING_OFF_CQ_RING);
+                sqes = map((long)this.entries * SQE_SIZE, IORING_OFF_SQES);
+            }
+            catch (IOException e) {
+                unmap(sqRing, sqRingSize);
+                unmap(cqRing, cqRingSize);
+
+                IgniteNativeIoLib.close(ringFd);
+
+                throw e;
+            }
+
+            this.sqRing = sqRing;
+            this.cqRing = cqRing;
+            this.sqes = sqes;
+
+            long sq = Pointer.nativeValue(sqRing);
+            long cq = Pointer.nativeValue(cqRing);
+
+            sqHeadAddr = sq + GridUnsafe.getInt(params + SQ_OFF);
+            sqTailAddr = sq + GridUnsafe.getInt(params + SQ_OFF + 4);
+            sqMask = GridUnsafe.getInt(sq + GridUnsafe.getInt(params + SQ_OFF + 8));
+            sqArrayAddr = sq + GridUnsafe.getInt(params + SQ_OFF + 24);
+            sqesAddr = Pointer.nativeValue(sqes);
+
+            cqHeadAddr = cq + GridUnsafe.getInt(params + CQ_OFF);
+            cqTailAddr = cq + GridUnsafe.getInt(params + CQ_OFF + 4);
+            cqMask = GridUnsafe.getInt(cq + GridUnsafe.getInt(params + CQ_OFF + 8));
+            cqesAddr = cq + GridUnsafe.getInt(params + CQ_OFF + 20);
+        }
+        finally {
+            GridUnsafe.freeMemory(params);
+        }
+
+        iovecsAddr = GridUnsafe.allocateMemory((long)this.entries * IOVEC_SIZE);
+        results = new int[this.entries];
+        sqTail = GridUnsafe.getIntVolatile(null, sqTailAddr);
+    }
+
+    /**
+     * @return {@code True} if the ring is closed and can't be used anymore.
+     */
+    boolean closed() {
+        return closed;
+    }
+
+    /**
+     * @return Maximum number of operations which can be submitted at once.
+     */
+    int entries() {
+        return entries;
+    }
+
+    /**
+     * Prepares read or write operation.
+     *
+     * @param opcode Operation code, {@link #IORING_OP_READV} or {@link #IORING_OP_WRITEV}.
+     * @param fd File descriptor.
+     * @param addr Buffer address.
+     * @param len Number of bytes to read or write.
+     * @param off File offset.
+     * @return Index of the operation to get its result by {@link #result(int)}.
+     */
+    int prepareReadWrite(byte opcode, int fd, long addr, int len, long off) {
+        assert opcode == IORING_OP_READV || opcode == IORING_OP_WRITEV : opcode;
+
+        int idx = prepared;
+        long iovec = iovecsAddr + (long)idx * IOVEC_SIZE;
+
+        GridUnsafe.putLong(iovec, addr);
+        GridUnsafe.putLong(iovec + 8, len);
+
+        long sqe = nextSqe(opcode, fd, off);
+
+        GridUnsafe.putLong(sqe + 16, iovec);
+        GridUnsafe.putInt(sqe + 24, 1);
+
+        return idx;
+    }
+
+    /**
+     * Prepares file sync operation.
+     *
+     * @param fd File descriptor.
+     * @param flags Sync flags, {@code 0} or {@link #IORING_FSYNC_DATASYNC}.
+     * @return Index of the operation to get its result by {@link #result(int)}.
+     */
+    int prepareFsync(int fd, int flags) {
+        int idx = prepared;
+
+        long sqe = nextSqe(IORING_OP_FSYNC, fd, 0);
+
+        GridUnsafe.putInt(sqe + 28, flags);
+
+        return idx;
+    }
+
+    /**
+     * Fills common fields of the next submission queue entry.
+     *
+     * @param opcode Operation code.
+     * @param fd File descriptor.
+     * @param off File offset.
+     * @return Submission queue entry address.
+     */
+    private long nextSqe(byte opcode, int fd, long off) {
+        if (closed)
+            throw new IllegalStateException("io_uring instance is closed.");
+
+        if (prepared == entries)
+            throw new IllegalStateException("Submission queue is full: " + entries);
+
+        int idx = sqTail & sqMask;
+        long sqe = sqesAddr + (long)idx * SQE_SIZE;
+
+        GridUnsafe.setMemory(sqe, SQE_SIZE, (byte)0);
+
+        GridUnsafe.putByte(sqe, opcode);
+        GridUnsafe.putInt(sqe + 4, fd);
+        GridUnsafe.putLong(sqe + 8, off);
+        GridUnsafe.putLong(sqe + 32, prepared);
+
+        GridUnsafe.putInt(sqArrayAddr + (long)idx * 4, idx);
+
+        sqTail++;
+        prepared++;
+
+        return sqe;
+    }
+
+    /**
+     * Submits all prepared operations by a single system call and waits until all of them are completed.
+     *
+     * @throws IOException If failed to submit operations or to wait for completions.
+     */
+    void submitAndWait() throws IOException {
+        int total = prepared;
+
+        if (total == 0)
+            return;
+
+        prepared = 0;
+
+        // Publish the entries to the kernel.
+        GridUnsafe.putIntVolatile(null, sqTailAddr, sqTail);
+
+        int toSubmit = total;
+        int completed = 0;
+
+        while (completed < total) {
+            int res = IgniteNativeIoLib.syscall(SYS_IO_URING_ENTER, ringFd, toSubmit, total - completed,
+                IORING_ENTER_GETEVENTS, null, new NativeLong(0)).intValue();
+
+            if (res < 0) {
+                if (Native.getLastError() == E_INTR)
+                    continue;
+
+                // Entries might have been consumed partially, the ring can't be used anymore.
+                close();
+
+                throw new IOException("Failed to submit io_uring operations: " + lastError());
+            }
+
+            toSubmit -= res;
+            completed += reapCompletions();
+        }
+    }
+
+    /**
+     * @param idx Operation index.
+     * @return Result of the operation submitted by the last {@link #submitAndWait()}: a number of bytes read or
+     * written, or a negated error code.
+     */
+    int result(int idx) {
+        return results[idx];
+    }
+
+    /**
+     * Reads all available completion queue entries.
+     *
+     * @return Number of completed operations.
+     */
+    private int reapCompletions() {
+        int head = GridUnsafe.getIntVolatile(null, cqHeadAddr);
+        int tail = GridUnsafe.getIntVolatile(null, cqTailAddr);
+        int cnt = 0;
+
+        for (; head != tail; head++, cnt++) {
+            long cqe = cqesAddr + (long)(head & cqMask) * CQE_SIZE;
+
+            results[(int)GridUnsafe.getLong(cqe)] = GridUnsafe.getInt(cqe + 8);
+        }
+
+        // Release the entries to the kernel.
+        GridUnsafe.putIntVolatile(null, cqHeadAddr, head);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (closed)
+            return;
+
+        closed = true;
+
+        unmap(sqes, (long)entries * SQE_SIZE);
+        unmap(cqRing, cqRingSize);
+        unmap(sqRing, sqRingSize);
+
+        IgniteNativeIoLib.close(ringFd);
+
+        GridUnsafe.freeMemory(iovecsAddr);
+    }
+
+    /**
+     * Maps ring memory.
+     *
+     * @param size Size of the mapping.
+     * @param off Offset, one of {@link #IORING_OFF_SQ_RING}, {@link #IORING_OFF_CQ_RING}, {@link #IORING_OFF_SQES}.
+     * @return Mapping address.
+     * @throws IOException If failed.
+     */
+    private Pointer map(long size, long off) throws IOException {
+        Pointer ptr = IgniteNativeIoLib.mmap(null, new NativeLong(size), PROT_READ_WRITE, MAP_SHARED_POPULATE, ringFd,
+            new NativeLong(off));
+
+        if (ptr == null || Pointer.nativeValue(ptr) == -1L)
+            throw new IOException("Failed to map io_uring memory: " + lastError());
+
+        return ptr;
+    }
+
+    /**
+     * @param ptr Mapping address or {@code null}.
+     * @param size Size of the mapping.
+     */
+    private static void unmap(Pointer ptr, long size) {
+        if (ptr != null)
+            IgniteNativeIoLib.munmap(ptr, new NativeLong(size));
+    }
+
+    /**
+     * @return Displayable string with the last OS error.
+     */
+    private static String lastError() {
+        return IgniteNativeIoLib.strerror(Native.getLastError());
+    }
+}
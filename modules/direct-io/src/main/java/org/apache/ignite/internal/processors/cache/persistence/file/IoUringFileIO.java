@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.OpenOption;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * File IO which reads and writes direct buffers through Linux io_uring of the calling thread. Large buffers are split
+ * into chunks which are submitted by a single system call and processed by the kernel concurrently.<br>
+ * Heap buffers, memory mapping, truncation and other operations are served by the underlying
+ * {@link java.nio.channels.FileChannel}.
+ */
+public class IoUringFileIO extends RandomAccessFileIO {
+    /** Minimal size of a chunk a large buffer is split into. */
+    static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    /** File. */
+    private final File file;
+
+    /** Factory providing rings of the calling threads. */
+    private final IoUringFileIOFactory factory;
+
+    /** Native file descriptor. */
+    private final int fd;
+
+    /**
+     * Creates io_uring based file IO.
+     *
+     * @param file File to open.
+     * @param factory Factory providing rings of the calling threads.
+     * @param modes Open options.
+     * @throws IOException If file open failed.
+     */
+    IoUringFileIO(File file, IoUringFileIOFactory factory, OpenOption... modes) throws IOException {
+        super(file, modes);
+
+        this.file = file;
+        this.factory = factory;
+
+        fd = nativeFileDescriptor();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer destBuf) throws IOException {
+        if (!destBuf.isDirect())
+            return super.read(destBuf);
+
+        long pos = position();
+
+        int rd = read(destBuf, pos);
+
+        if (rd > 0)
+            position(pos + rd);
+
+        return rd;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer destBuf, long position) throws IOException {
+        IoUring ring = destBuf.isDirect() ? factory.ring() : null;
+
+        if (ring == null)
+            return super.read(destBuf, position);
+
+        return submit(ring, IoUring.IORING_OP_READV, destBuf, position);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int readFully(ByteBuffer destBuf, long position) throws IOException {
+        IoUring ring = destBuf.remaining() > MIN_CHUNK_SIZE && destBuf.isDirect() ? factory.ring() : null;
+
+        if (ring == null)
+            return super.readFully(destBuf, position);
+
+        int len = destBuf.remaining();
+        int done = submitChunked(ring, IoUring.IORING_OP_READV, destBuf, position);
+
+        if (done == len)
+            return len;
+
+        int rd = super.readFully(destBuf, position + done);
+
+        return rd < 0 ? (done > 0 ? done : -1) : done + rd;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf) throws IOException {
+        if (!srcBuf.isDirect())
+            return super.write(srcBuf);
+
+        long pos = position();
+
+        int wr = write(srcBuf, pos);
+
+        if (wr > 0)
+            position(pos + wr);
+
+        return wr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+        IoUring ring = srcBuf.isDirect() ? factory.ring() : null;
+
+        if (ring == null)
+            return super.write(srcBuf, position);
+
+        return submit(ring, IoUring.IORING_OP_WRITEV, srcBuf, position);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int writeFully(ByteBuffer srcBuf, long position) throws IOException {
+        IoUring ring = srcBuf.remaining() > MIN_CHUNK_SIZE && srcBuf.isDirect() ? factory.ring() : null;
+
+        if (ring == null)
+            return super.writeFully(srcBuf, position);
+
+        int len = srcBuf.remaining();
+        int done = submitChunked(ring, IoUring.IORING_OP_WRITEV, srcBuf, position);
+
+        if (done < len)
+            super.writeFully(srcBuf, position + done);
+
+        return len;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force(boolean withMetadata) throws IOException {
+        IoUring ring = factory.ring();
+
+        if (ring == null) {
+            super.force(withMetadata);
+
+            return;
+        }
+
+        int idx = ring.prepareFsync(fd, withMetadata ? 0 : IoUring.IORING_FSYNC_DATASYNC);
+
+        ring.submitAndWait();
+
+        int res = ring.result(idx);
+
+        if (res < 0) {
+            throw new IOException(String.format("Error fsync()'ing %s, got %s", file,
+                IgniteNativeIoLib.strerror(-res)));
+        }
+    }
+
+    /**
+     * Reads or writes the remaining bytes of the buffer by a single operation.
+     *
+     * @param ring Ring.
+     * @param opcode {@link IoUring#IORING_OP_READV} or {@link IoUring#IORING_OP_WRITEV}.
+     * @param buf Direct buffer.
+     * @param position File position.
+     * @return Number of bytes read or written, or {@code -1} if tried to read past EOF.
+     * @throws IOException If failed.
+     */
+    private int submit(IoUring ring, byte opcode, ByteBuffer buf, long position) throws IOException {
+        int pos = buf.position();
+        int len = buf.remaining();
+
+        if (len == 0)
+            return 0;
+
+        int idx = ring.prepareReadWrite(opcode, fd, GridUnsafe.bufferAddress(buf) + pos, len, position);
+
+        ring.submitAndWait();
+
+        int res = check(opcode, ring.result(idx), position);
+
+        if (res == 0 && opcode == IoUring.IORING_OP_READV)
+            return -1;
+
+        buf.position(pos + res);
+
+        return res;
+    }
+
+    /**
+     * Splits the remaining bytes of the buffer into chunks and reads or writes them by a single system call.
+     *
+     * @param ring Ring.
+     * @param opcode {@link IoUring#IORING_OP_READV} or {@link IoUring#IORING_OP_WRITEV}.
+     * @param buf Direct buffer.
+     * @param position File position.
+     * @return Number of bytes read or written without gaps from the beginning, the buffer position is moved
+     * accordingly.
+     * @throws IOException If failed.
+     */
+    private int submitChunked(IoUring ring, byte opcode, ByteBuffer buf, long position) throws IOException {
+        int pos = buf.position();
+        int len = buf.remaining();
+        long addr = GridUnsafe.bufferAddress(buf) + pos;
+
+        int chunks = Math.min(ring.entries(), (len + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+
+        // Keep chunk boundaries aligned to the minimal chunk size, which is a multiple of any page size.
+        int chunkSize = ((len + chunks - 1) / chunks + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE * MIN_CHUNK_SIZE;
+
+        for (int off = 0; off < len; off += chunkSize)
+            ring.prepareReadWrite(opcode, fd, addr + off, Math.min(chunkSize, len - off), position + off);
+
+        ring.submitAndWait();
+
+        int done = 0;
+
+        for (int i = 0, off = 0; off < len; i++, off += chunkSize) {
+            int res = check(opcode, ring.result(i), position + off);
+
+            done += res;
+
+            if (res < Math.min(chunkSize, len - off))
+                break;
+        }
+
+        buf.position(pos + done);
+
+        return done;
+    }
+
+    /**
+     * @param opcode Operation code.
+     * @param res Operation result.
+     * @param position File position.
+     * @return Number of bytes read or written.
+     * @throws IOException If the operation failed.
+     */
+    private int check(byte opcode, int res, long position) throws IOException {
+        if (res < 0) {
+            throw new IOException(String.format("Error during %s file [%s] %s position [%d]: %s",
+                opcode == IoUring.IORING_OP_READV ? "reading" : "writing", file,
+                opcode == IoUring.IORING_OP_READV ? "from" : "to", position, IgniteNativeIoLib.strerror(-res)));
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.OpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Linux io_uring based file IO factory. Every thread performing IO gets its own ring, so reads and writes don't
+ * contend with each other in user space. Falls back to the backup factory if io_uring isn't supported by the kernel
+ * or is forbidden for the process.
+ */
+public class IoUringFileIOFactory implements FileIOFactory {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Number of submission queue entries of every ring. */
+    static final int RING_ENTRIES = 32;
+
+    /** Logger. */
+    private final transient IgniteLogger log;
+
+    /** Backup factory for files in case io_uring is not available. */
+    private final FileIOFactory backupFactory;
+
+    /** Use backup factory, {@code true} if io_uring setup failed. */
+    private final boolean useBackupFactory;
+
+    /** Rings of the threads. Used to close the rings of the finished threads. */
+    private final transient ConcurrentHashMap<Thread, IoUring> rings = new ConcurrentHashMap<>();
+
+    /** Ring of the current thread, {@code null} if failed to create it. */
+    private final transient ThreadLocal<IoUring> threadRing = new ThreadLocal<IoUring>() {
+        @Override protected IoUring initialValue() {
+            return createRing();
+        }
+    };
+
+    /** Flag indicating that failure to create a ring was logged. */
+    private final transient AtomicBoolean ringFailureLogged = new AtomicBoolean();
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * Creates io_uring based file IO factory.
+     *
+     * @param log Logger.
+     * @param backupFactory Fallback factory if io_uring is not available.
+     */
+    public IoUringFileIOFactory(IgniteLogger log, FileIOFactory backupFactory) {
+        this.log = log;
+        this.backupFactory = backupFactory;
+
+        useBackupFactory = !checkAvailable(log);
+    }
+
+    /**
+     * @param log Logger.
+     * @return {@code True} if io_uring can be used by the process.
+     */
+    private static boolean checkAvailable(IgniteLogger log) {
+        if (!IgniteNativeIoLib.isJnaAvailable()) {
+            if (log.isInfoEnabled()) {
+                log.info(String.format("Native IO library is not available on current operating system [%s]." +
+                    " io_uring is not enabled.", System.getProperty("os.version")));
+            }
+
+            return false;
+        }
+
+        try (IoUring ignored = new IoUring(RING_ENTRIES)) {
+            if (log.isInfoEnabled())
+                log.info("io_uring is enabled for file IO operations [ringEntries=" + RING_ENTRIES + ']');
+
+            return true;
+        }
+        catch (IOException | LinkageError e) {
+            U.warn(log, "io_uring is not available, file IO falls back to the default implementation: " +
+                e.getMessage());
+
+            return false;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+        if (useBackupFactory)
+            return backupFactory.create(file, modes);
+
+        return new IoUringFileIO(file, this, modes);
+    }
+
+    /**
+     * @return {@code True} if io_uring can be used on current OS and kernel.
+     */
+    public boolean isIoUringAvailable() {
+        return !useBackupFactory;
+    }
+
+    /**
+     * @return Ring of the current thread or {@code null} if it can't be created.
+     */
+    @Nullable IoUring ring() {
+        IoUring ring = threadRing.get();
+
+        if (ring != null && (stopped || ring.closed())) {
+            rings.remove(Thread.currentThread(), ring);
+
+            ring.close();
+
+            threadRing.remove();
+
+            ring = threadRing.get();
+        }
+
+        return ring;
+    }
+
+    /**
+     * @return New ring of the current thread or {@code null} if failed to create it.
+     */
+    @Nullable private IoUring createRing() {
+        if (stopped)
+            return null;
+
+        closeRingsOfFinishedThreads();
+
+        try {
+            IoUring ring = new IoUring(RING_ENTRIES);
+
+            IoUring old = rings.put(Thread.currentThread(), ring);
+
+            if (old != null)
+                old.close();
+
+            return ring;
+        }
+        catch (IOException e) {
+            if (ringFailureLogged.compareAndSet(false, true)) {
+                U.warn(log, "Failed to create io_uring instance, file IO of the thread falls back to the default " +
+                    "implementation [thread=" + Thread.currentThread().getName() + ", err=" + e.getMessage() + ']');
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Closes rings of the finished threads.
+     */
+    private void closeRingsOfFinishedThreads() {
+        for (Map.Entry<Thread, IoUring> e : rings.entrySet()) {
+            if (!e.getKey().isAlive() && rings.remove(e.getKey(), e.getValue()))
+                e.getValue().close();
+        }
+    }
+
+    /**
+     * Stops the factory. Rings of the finished threads are closed immediately, the rings of the alive threads are
+     * closed by the threads themselves on the next IO operation, which then falls back to the default implementation.
+     */
+    public void stop() {
+        stopped = true;
+
+        closeRingsOfFinishedThreads();
+    }
+}
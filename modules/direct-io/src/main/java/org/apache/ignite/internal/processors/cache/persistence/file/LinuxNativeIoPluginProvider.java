@@ -26,6 +26,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
@@ -51,6 +52,9 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
     /** Managed buffers map from address to thread requested buffer. */
     @Nullable private ConcurrentHashMap<Long, Thread> managedBuffers;
 
+    /** io_uring file IO factory, {@code null} if io_uring is not enabled. */
+    @Nullable private IoUringFileIOFactory ioUringFactory;
+
     /** Logger. */
     private IgniteLogger log;
 
@@ -90,6 +94,9 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
     /** {@inheritDoc} */
     @Override public void stop(boolean cancel) {
         freeDirectBuffers();
+
+        if (ioUringFactory != null)
+            ioUringFactory.stop();
     }
 
     /**
@@ -189,6 +196,13 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
             });
         }
 
+        if (setupIoUring(ignite.log(), pageStore, walMgr, backupIoFactory)) {
+            if (factory.isDirectIoAvailable() && log.isInfoEnabled())
+                log.info("Direct IO is not used for page store files since io_uring is enabled.");
+
+            return null;
+        }
+
         if (!factory.isDirectIoAvailable())
             return null;
 
@@ -205,6 +219,49 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
         return factory.managedAlignedBuffers();
     }
 
+    /**
+     * Sets up io_uring based file IO for page store and WAL files if it's enabled by
+     * {@link IgniteSystemProperties#IGNITE_IO_URING_ENABLED}. Custom file IO factories are not replaced.
+     *
+     * @param log Logger.
+     * @param pageStore Page store manager.
+     * @param walMgr WAL manager.
+     * @param backupIoFactory Configured file IO factory.
+     * @return {@code True} if io_uring is used for page store files.
+     */
+    private boolean setupIoUring(
+        IgniteLogger log,
+        FilePageStoreManager pageStore,
+        IgniteWriteAheadLogManager walMgr,
+        FileIOFactory backupIoFactory
+    ) {
+        if (!IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_IO_URING_ENABLED))
+            return false;
+
+        Class<?> backupCls = backupIoFactory.getClass();
+
+        if (backupCls != AsyncFileIOFactory.class && backupCls != RandomAccessFileIOFactory.class) {
+            U.warn(log, "io_uring is not enabled since custom file IO factory is configured: " +
+                backupCls.getName());
+
+            return false;
+        }
+
+        IoUringFileIOFactory factory = new IoUringFileIOFactory(log, backupIoFactory);
+
+        if (!factory.isIoUringAvailable())
+            return false;
+
+        ioUringFactory = factory;
+
+        pageStore.setPageStoreFileIOFactories(factory, factory);
+
+        if (walMgr instanceof FileWriteAheadLogManager)
+            ((FileWriteAheadLogManager)walMgr).setFileIOFactory(factory);
+
+        return true;
+    }
+
     /**
      * Apply advice: The specified data will not be accessed in the near future.
      *
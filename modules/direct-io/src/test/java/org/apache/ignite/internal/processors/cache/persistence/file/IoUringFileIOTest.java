@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_URING_ENABLED;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks io_uring based file IO.
+ */
+public class IoUringFileIOTest extends GridCommonAbstractTest {
+    /** Page size. */
+    private static final int PAGE_SIZE = 4096;
+
+    /** Number of pages in the test file. */
+    private static final int PAGES = 1024;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalMode(WALMode.FSYNC)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(50L * 1024 * 1024)
+                    .setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks single page, chunked and heap buffer reads and writes.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadWrite() throws Exception {
+        IoUringFileIOFactory factory = new IoUringFileIOFactory(log, new RandomAccessFileIOFactory());
+
+        assumeTrue("io_uring is not available", factory.isIoUringAvailable());
+
+        File file = new File(U.defaultWorkDirectory(), "io-uring-test.bin");
+
+        byte[] expected = new byte[PAGES * PAGE_SIZE];
+
+        ThreadLocalRandom.current().nextBytes(expected);
+
+        try (FileIO io = factory.create(file, CREATE, READ, WRITE)) {
+            assertTrue(io instanceof IoUringFileIO);
+
+            ByteBuffer all = ByteBuffer.allocateDirect(expected.length).order(ByteOrder.nativeOrder());
+
+            all.put(expected).flip();
+
+            // Large buffer is split into chunks.
+            assertEquals(expected.length, io.writeFully(all, 0));
+            assertEquals(expected.length, io.size());
+
+            ByteBuffer page = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+            for (int i = 0; i < 100; i++) {
+                int idx = ThreadLocalRandom.current().nextInt(PAGES);
+
+                byte[] data = new byte[PAGE_SIZE];
+
+                ThreadLocalRandom.current().nextBytes(data);
+
+                System.arraycopy(data, 0, expected, idx * PAGE_SIZE, PAGE_SIZE);
+
+                page.clear();
+                page.put(data).flip();
+
+                assertEquals(PAGE_SIZE, io.writeFully(page, (long)idx * PAGE_SIZE));
+            }
+
+            io.force();
+
+            all.clear();
+
+            assertEquals(expected.length, io.readFully(all, 0));
+
+            byte[] actual = new byte[expected.length];
+
+            all.flip();
+            all.get(actual);
+
+            assertTrue(Arrays.equals(expected, actual));
+
+            for (int i = 0; i < 100; i++) {
+                int idx = ThreadLocalRandom.current().nextInt(PAGES);
+
+                ByteBuffer buf = i % 2 == 0 ? ByteBuffer.allocateDirect(PAGE_SIZE) : ByteBuffer.allocate(PAGE_SIZE);
+
+                assertEquals(PAGE_SIZE, io.readFully(buf, (long)idx * PAGE_SIZE));
+
+                buf.flip();
+
+                for (int j = 0; j < PAGE_SIZE; j++)
+                    assertEquals(expected[idx * PAGE_SIZE + j], buf.get(j));
+            }
+
+            page.clear();
+
+            assertEquals(-1, io.read(page, expected.length));
+
+            // Relative operations use the file position.
+            io.position(PAGE_SIZE);
+
+            page.clear();
+
+            assertEquals(PAGE_SIZE, io.readFully(page));
+            assertEquals(2 * PAGE_SIZE, io.position());
+            assertEquals(expected[PAGE_SIZE], page.get(0));
+        }
+        finally {
+            factory.stop();
+
+            U.delete(file);
+        }
+    }
+
+    /**
+     * Checks data survives node restart when page store and WAL files are accessed by io_uring.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_IO_URING_ENABLED, value = "true")
+    public void testRestart() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        FilePageStoreManager pageStoreMgr = (FilePageStoreManager)ignite.context().cache().context().pageStore();
+
+        assumeTrue("io_uring is not available",
+            pageStoreMgr.getPageStoreFileIoFactory() instanceof IoUringFileIOFactory);
+
+        IgniteCache<Integer, String> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 10_000; i++)
+            cache.put(i, "value-" + i);
+
+        forceCheckpoint();
+
+        for (int i = 0; i < 10_000; i += 2)
+            cache.put(i, "updated-" + i);
+
+        stopAllGrids();
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 10_000; i++)
+            assertEquals((i % 2 == 0 ? "updated-" : "value-") + i, cache.get(i));
+    }
+}
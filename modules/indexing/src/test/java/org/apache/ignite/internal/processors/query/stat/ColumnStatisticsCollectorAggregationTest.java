@@ -99,6 +99,44 @@ public class ColumnStatisticsCollectorAggregationTest extends GridCommonAbstract
         assertNotNull(res.raw());
     }
 
+    /**
+     * Test aggregation of partition histograms.
+     * Check that merged histogram reflects values distribution of all the partitions.
+     */
+    @Test
+    public void aggregateHistogramTest() {
+        BigDecimal[] vals1 = new BigDecimal[1000];
+        BigDecimal[] vals2 = new BigDecimal[3000];
+
+        for (int i = 0; i < vals1.length; i++)
+            vals1[i] = BigDecimal.valueOf(i);
+
+        for (int i = 0; i < vals2.length; i++)
+            vals2[i] = BigDecimal.valueOf(1000 + i);
+
+        Histogram hist1 = Histogram.build(vals1, Histogram.DFLT_BUCKETS);
+        Histogram hist2 = Histogram.build(vals2, Histogram.DFLT_BUCKETS);
+
+        List<ColumnStatistics> statistics = new ArrayList<>();
+
+        statistics.add(new ColumnStatistics(BigDecimal.ZERO, BigDecimal.valueOf(999), 0, 1000, 1000, 0,
+            getHLL(1000).toBytes(), 0, U.currentTimeMillis(), hist1));
+        statistics.add(new ColumnStatistics(BigDecimal.valueOf(1000), BigDecimal.valueOf(3999), 0, 3000, 3000, 0,
+            getHLL(3000).toBytes(), 0, U.currentTimeMillis(), hist2));
+
+        ColumnStatistics res = ColumnStatisticsCollector.aggregate(statistics, null);
+
+        Histogram hist = res.histogram();
+
+        assertNotNull(hist);
+        assertEquals(0.25, hist.fractionLessOrEqual(BigDecimal.valueOf(999)), 0.05);
+        assertEquals(0.5, hist.fractionLessOrEqual(BigDecimal.valueOf(2000)), 0.05);
+        assertEquals(0d, hist.fractionLess(BigDecimal.ZERO), 0.01);
+        assertEquals(1d, hist.fractionLessOrEqual(BigDecimal.valueOf(3999)), 0.01);
+
+        assertEquals(hist, Histogram.fromBytes(hist.toBytes()));
+    }
+
     /**
      * Generate HLL with specified number of unique values.
      *